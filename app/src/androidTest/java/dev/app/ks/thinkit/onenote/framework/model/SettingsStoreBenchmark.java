@@ -0,0 +1,122 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import dev.app.ks.thinkit.onenote.framework.ISettingsListener;
+import dev.app.ks.thinkit.onenote.framework.PreferenceKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 設定値の参照について、データベースを都度検索する経路とメモリ上の設定値を参照する経路の時間を比較し、
+ * 書き込みが通知及び永続化されることを確認するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class SettingsStoreBenchmark {
+
+    private static final String TAG = SettingsStoreBenchmark.class.getSimpleName();
+
+    private static final int COUNT_READS = 2000;
+
+    private static final long TIMEOUT_MILLIS = 5000L;
+
+    private CurrentApplicationInformation currentApplicationInformation;
+
+    private SettingsStore settingsStore;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        currentApplicationInformation = CurrentApplicationInformation.getInstance(context);
+        settingsStore = SettingsStore.getInstance(context);
+    }
+
+    @Test
+    public void databaseReadsVersusStoreReads() {
+        CurrentApplicationInformation.ConfigName configName = CurrentApplicationInformation.ConfigName.UsesWifiOnCommunicate;
+
+        // 初回の読み込みを計測から除外する
+        settingsStore.getConfigValue(configName);
+        currentApplicationInformation.getConfigValue(configName);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < COUNT_READS; i++) {
+            currentApplicationInformation.getConfigValue(configName);
+        }
+        long databaseElapsed = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < COUNT_READS; i++) {
+            settingsStore.getConfigValue(configName);
+        }
+        long storeElapsed = System.nanoTime() - start;
+
+        Log.i(TAG, String.format("database reads=%d elapsed=%dus", COUNT_READS, databaseElapsed / 1000));
+        Log.i(TAG, String.format("store reads=%d elapsed=%dus", COUNT_READS, storeElapsed / 1000));
+
+        assertTrue(storeElapsed < databaseElapsed);
+    }
+
+    @Test
+    public void writesAreNotifiedAndPersisted() throws InterruptedException {
+        final CurrentApplicationInformation.ConfigName configName = CurrentApplicationInformation.ConfigName.UsesWifiOnCommunicate;
+        final String configValue = "1".equals(settingsStore.getConfigValue(configName)) ? "0" : "1";
+        final CountDownLatch notified = new CountDownLatch(1);
+
+        ISettingsListener listener = new ISettingsListener() {
+            @Override
+            public void onSettingChanged(String keyName) {
+                if (configName.getKeyName().equals(keyName)) {
+                    notified.countDown();
+                }
+            }
+        };
+
+        settingsStore.registerListener(listener);
+
+        try {
+            settingsStore.putConfigValue(configName, configValue);
+            assertEquals(configValue, settingsStore.getConfigValue(configName));
+            assertTrue(notified.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+            settingsStore.flush();
+            long deadline = SystemClock.uptimeMillis() + TIMEOUT_MILLIS;
+
+            while (!configValue.equals(currentApplicationInformation.getConfigValue(configName))
+                    && SystemClock.uptimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertEquals(configValue, currentApplicationInformation.getConfigValue(configName));
+
+        } finally {
+            settingsStore.unregisterListener(listener);
+        }
+    }
+
+    @Test
+    public void countersAreServedFromMemory() {
+        int count = settingsStore.getInt(PreferenceKey.CountTransferForInterstitial, 0);
+
+        for (int i = 1; i <= COUNT_READS; i++) {
+            settingsStore.putInt(PreferenceKey.CountTransferForInterstitial, count + i);
+        }
+
+        assertEquals(count + COUNT_READS, settingsStore.getInt(PreferenceKey.CountTransferForInterstitial, 0));
+        settingsStore.putInt(PreferenceKey.CountTransferForInterstitial, count);
+        settingsStore.flush();
+    }
+}
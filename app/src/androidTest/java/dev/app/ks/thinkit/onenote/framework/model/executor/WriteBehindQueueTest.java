@@ -0,0 +1,93 @@
+package dev.app.ks.thinkit.onenote.framework.model.executor;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import dev.app.ks.thinkit.onenote.framework.IBatchWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 実行スレッドが飽和し一括反映の投入が拒否された場合でも、
+ * 書き込み要求が失われずに後から反映されることを確認するテストです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class WriteBehindQueueTest {
+
+    private static final String KEY = "write_behind_key";
+
+    private static final long FLUSH_DELAY_MILLIS = 100L;
+
+    private static final int MAXIMUM_SUBMITS = 1000;
+
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    private final CountDownLatch blocker = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        blocker.countDown();
+    }
+
+    @Test
+    public void rejectedFlushIsRescheduled() throws InterruptedException {
+        final Queue<String> written = new ConcurrentLinkedQueue<>();
+        final CountDownLatch writtenLatch = new CountDownLatch(1);
+
+        WriteBehindQueue<String> writeBehindQueue = new WriteBehindQueue<>(new IBatchWriter<String>() {
+            @Override
+            public void writeAll(List<String> holderList) {
+                written.addAll(holderList);
+                writtenLatch.countDown();
+            }
+        }, FLUSH_DELAY_MILLIS, 1);
+
+        saturateExecutor();
+
+        // 蓄積件数が上限に達するため即時に一括反映を試みるが、実行スレッドへの投入は拒否される
+        writeBehindQueue.enqueue(KEY, "value");
+        assertTrue(writeBehindQueue.hasPending());
+        assertFalse(writtenLatch.await(FLUSH_DELAY_MILLIS * 3, TimeUnit.MILLISECONDS));
+
+        blocker.countDown();
+
+        assertTrue(writtenLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, written.size());
+        assertEquals("value", written.peek());
+    }
+
+    /**
+     * 実行スレッドを全て待機状態にし、待機できる処理の数の上限まで処理を投入します。
+     */
+    private void saturateExecutor() {
+        DatabaseExecutor databaseExecutor = DatabaseExecutor.getInstance();
+
+        for (int i = 0; i < MAXIMUM_SUBMITS; i++) {
+            QueryTask<Void> queryTask = databaseExecutor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws InterruptedException {
+                    blocker.await();
+                    return null;
+                }
+            }, null);
+
+            if (queryTask.isRejected()) {
+                return;
+            }
+        }
+
+        throw new AssertionError("executor was not saturated");
+    }
+}
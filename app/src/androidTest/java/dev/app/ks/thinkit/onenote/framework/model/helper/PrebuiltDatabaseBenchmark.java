@@ -0,0 +1,106 @@
+package dev.app.ks.thinkit.onenote.framework.model.helper;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 初回起動時にデータベースを開くまでの時間を、SQLファイルを実行する場合とイメージを配置する場合で比較するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class PrebuiltDatabaseBenchmark {
+
+    private static final String TAG = PrebuiltDatabaseBenchmark.class.getSimpleName();
+
+    private static final String DATABASE_NAME_SCRIPTS = "benchmark_scripts.db";
+
+    private static final String DATABASE_NAME_PREBUILT = "benchmark_prebuilt.db";
+
+    private static final int COUNT_ITERATIONS = 20;
+
+    private static final String SQL_SELECT_SCHEMA =
+            "SELECT type, name, sql FROM sqlite_master WHERE name != 'android_metadata' ORDER BY name";
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+    }
+
+    @After
+    public void tearDown() {
+        context.deleteDatabase(DATABASE_NAME_SCRIPTS);
+        context.deleteDatabase(DATABASE_NAME_PREBUILT);
+    }
+
+    @Test
+    public void coldOpen() {
+        long[] scripts = measure(DATABASE_NAME_SCRIPTS, false);
+        long[] prebuilt = measure(DATABASE_NAME_PREBUILT, true);
+
+        Log.i(TAG, String.format("scripts p50=%dms max=%dms", scripts[scripts.length / 2], scripts[scripts.length - 1]));
+        Log.i(TAG, String.format("prebuilt p50=%dms max=%dms", prebuilt[prebuilt.length / 2], prebuilt[prebuilt.length - 1]));
+    }
+
+    @Test
+    public void prebuiltSchemaMatchesScripts() {
+        assertEquals(readSchema(DATABASE_NAME_SCRIPTS, false), readSchema(DATABASE_NAME_PREBUILT, true));
+    }
+
+    private long[] measure(String databaseName, boolean usePrebuiltDatabase) {
+
+        long[] latencies = new long[COUNT_ITERATIONS];
+
+        for (int i = 0; i < COUNT_ITERATIONS; i++) {
+            context.deleteDatabase(databaseName);
+
+            long start = SystemClock.elapsedRealtime();
+            DatabaseOpenHelper helper = new DatabaseOpenHelper(context, databaseName, usePrebuiltDatabase);
+            helper.getWritableDatabase();
+            latencies[i] = SystemClock.elapsedRealtime() - start;
+
+            helper.close();
+        }
+
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private List<String> readSchema(String databaseName, boolean usePrebuiltDatabase) {
+
+        context.deleteDatabase(databaseName);
+
+        DatabaseOpenHelper helper = new DatabaseOpenHelper(context, databaseName, usePrebuiltDatabase);
+        SQLiteDatabase database = helper.getWritableDatabase();
+        List<String> schema = new ArrayList<>();
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_SCHEMA, null);
+        try {
+            while (cursor.moveToNext()) {
+                schema.add(cursor.getString(0) + " " + cursor.getString(1) + " " + cursor.getString(2));
+            }
+        } finally {
+            cursor.close();
+            helper.close();
+        }
+
+        return schema;
+    }
+}
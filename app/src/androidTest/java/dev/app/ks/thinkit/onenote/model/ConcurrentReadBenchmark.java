@@ -0,0 +1,132 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 一括更新処理の実行中における検索処理の応答時間を計測するベンチマークです。
+ * 検索処理は読み取り専用の接続で実行されるため、
+ * 書き込み中のトランザクションの完了を待たずに応答することを確認します。
+ */
+@RunWith(AndroidJUnit4.class)
+public class ConcurrentReadBenchmark {
+
+    private static final String TAG = ConcurrentReadBenchmark.class.getSimpleName();
+
+    private static final String PREFIX_READ = "benchmark_read_";
+
+    private static final String PREFIX_WRITE = "benchmark_write_";
+
+    private static final int COUNT_READ_RECORDS = 200;
+
+    private static final int COUNT_WRITE_RECORDS = 5000;
+
+    private static final int SIZE_MEMO = 4096;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+        memoInformation.replace(createMemoHolderList(PREFIX_READ, COUNT_READ_RECORDS));
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_READ_RECORDS; i++) {
+            memoInformation.deleteByPrimaryKey(PREFIX_READ + i);
+        }
+
+        for (int i = 0; i < COUNT_WRITE_RECORDS; i++) {
+            memoInformation.deleteByPrimaryKey(PREFIX_WRITE + i);
+        }
+    }
+
+    @Test
+    public void selectWhileReplaceAll() throws InterruptedException {
+
+        long[] baseline = new long[COUNT_READ_RECORDS];
+        for (int i = 0; i < COUNT_READ_RECORDS; i++) {
+            baseline[i] = measureSelect(i);
+        }
+
+        final List<MemoHolder> writeList = createMemoHolderList(PREFIX_WRITE, COUNT_WRITE_RECORDS);
+        final long[] writeElapsed = new long[1];
+
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                memoInformation.replace(writeList);
+                writeElapsed[0] = System.nanoTime() - start;
+            }
+        });
+
+        List<Long> concurrent = new ArrayList<>();
+        writer.start();
+
+        for (int i = 0; writer.isAlive(); i = (i + 1) % COUNT_READ_RECORDS) {
+            concurrent.add(measureSelect(i));
+        }
+
+        writer.join();
+
+        long[] concurrentArray = new long[concurrent.size()];
+        for (int i = 0; i < concurrentArray.length; i++) {
+            concurrentArray[i] = concurrent.get(i);
+        }
+
+        Log.i(TAG, "baseline   " + summarize(baseline));
+        Log.i(TAG, "concurrent " + summarize(concurrentArray));
+        Log.i(TAG, "replaceAll " + COUNT_WRITE_RECORDS + " records in " + writeElapsed[0] / 1000000 + " ms");
+
+        // 読み取りが書き込みの完了を待っている場合は書き込み中に検索が完了しない
+        assertTrue(concurrentArray.length > 1);
+    }
+
+    private long measureSelect(int index) {
+        long start = System.nanoTime();
+        memoInformation.selectByPrimaryKey(PREFIX_READ + index);
+        return System.nanoTime() - start;
+    }
+
+    private static List<MemoHolder> createMemoHolderList(String prefix, int count) {
+
+        char[] body = new char[SIZE_MEMO];
+        Arrays.fill(body, 'a');
+        String memo = new String(body);
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            memoHolderList.add(new MemoHolder(prefix + i, memo));
+        }
+
+        return memoHolderList;
+    }
+
+    private static String summarize(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        return String.format("n=%d p50=%dus p95=%dus max=%dus",
+                sorted.length,
+                sorted[sorted.length / 2] / 1000,
+                sorted[(int) (sorted.length * 0.95)] / 1000,
+                sorted[sorted.length - 1] / 1000);
+    }
+}
@@ -0,0 +1,167 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 50,000件のメモに対する全文検索の応答時間を計測するベンチマークです。
+ * 出現頻度の異なる単語及び前方一致による検索を繰り返し、
+ * 関連度の算出と抜粋の取得を含めた応答時間が数ミリ秒に収まることを確認します。
+ */
+@RunWith(AndroidJUnit4.class)
+public class FullTextSearchBenchmark {
+
+    private static final String TAG = FullTextSearchBenchmark.class.getSimpleName();
+
+    private static final String PREFIX = "benchmark_fts_";
+
+    private static final String TARGET_MEMO_NAME = PREFIX + "target quasar";
+
+    private static final int COUNT_RECORDS = 50000;
+
+    private static final int COUNT_WORDS_PER_MEMO = 60;
+
+    private static final int SIZE_VOCABULARY = 5000;
+
+    private static final int COUNT_ITERATIONS = 50;
+
+    private static final int SEARCH_LIMIT = 20;
+
+    private static final long MAXIMUM_MEDIAN_MILLIS = 20;
+
+    private static final String[] QUERIES = {
+            "w1",
+            "w42 w43",
+            "w4999",
+            "w12",
+            "quasar",
+            "w7 w700 w77",
+    };
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        long start = System.nanoTime();
+        memoInformation.replace(createMemoHolderList());
+        Log.i(TAG, "indexed " + COUNT_RECORDS + " records in " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_RECORDS; i++) {
+            memoInformation.deleteByPrimaryKey(PREFIX + i);
+        }
+
+        memoInformation.deleteByPrimaryKey(TARGET_MEMO_NAME);
+    }
+
+    @Test
+    public void searchLatency() {
+
+        // 初回の検索でページキャッシュを温める
+        for (String query : QUERIES) {
+            memoInformation.search(query, SEARCH_LIMIT);
+        }
+
+        long[] latencies = new long[COUNT_ITERATIONS * QUERIES.length];
+        int index = 0;
+
+        for (int i = 0; i < COUNT_ITERATIONS; i++) {
+            for (String query : QUERIES) {
+                long start = System.nanoTime();
+                List<MemoSearchResult> results = memoInformation.search(query, SEARCH_LIMIT);
+                latencies[index++] = System.nanoTime() - start;
+
+                assertFalse(query, results.isEmpty());
+            }
+        }
+
+        for (String query : QUERIES) {
+            long[] perQuery = new long[COUNT_ITERATIONS];
+            for (int i = 0; i < COUNT_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                memoInformation.search(query, SEARCH_LIMIT);
+                perQuery[i] = System.nanoTime() - start;
+            }
+
+            Log.i(TAG, String.format("%-12s %s", query, summarize(perQuery)));
+        }
+
+        Log.i(TAG, "overall      " + summarize(latencies));
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        assertTrue(sorted[sorted.length / 2] / 1000000 < MAXIMUM_MEDIAN_MILLIS);
+    }
+
+    @Test
+    public void rankNameMatchFirst() {
+        List<MemoSearchResult> results = memoInformation.search("quasar", SEARCH_LIMIT);
+
+        assertFalse(results.isEmpty());
+        assertEquals(TARGET_MEMO_NAME, results.get(0).getMemoName());
+        assertTrue(results.get(0).getSnippet().contains(MemoSearchResult.HIGHLIGHT_START));
+
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getScore() >= results.get(i).getScore());
+        }
+    }
+
+    private static List<MemoHolder> createMemoHolderList() {
+
+        Random random = new Random(42);
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_RECORDS + 1);
+
+        for (int i = 0; i < COUNT_RECORDS; i++) {
+            StringBuilder memo = new StringBuilder();
+
+            for (int j = 0; j < COUNT_WORDS_PER_MEMO; j++) {
+                // 単語の出現頻度に偏りを持たせるため小さい番号ほど選ばれやすくする
+                int word = (int) (SIZE_VOCABULARY * Math.pow(random.nextDouble(), 3));
+                memo.append('w').append(word).append(' ');
+            }
+
+            if (i % 1000 == 0) {
+                memo.append("quasar");
+            }
+
+            memoHolderList.add(new MemoHolder(PREFIX + i, memo.toString()));
+        }
+
+        memoHolderList.add(new MemoHolder(TARGET_MEMO_NAME, "quasar quasar"));
+
+        return memoHolderList;
+    }
+
+    private static String summarize(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        return String.format("n=%d p50=%dus p95=%dus max=%dus",
+                sorted.length,
+                sorted[sorted.length / 2] / 1000,
+                sorted[(int) (sorted.length * 0.95)] / 1000,
+                sorted[sorted.length - 1] / 1000);
+    }
+}
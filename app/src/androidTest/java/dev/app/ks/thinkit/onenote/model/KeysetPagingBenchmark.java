@@ -0,0 +1,184 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IRowVisitor;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+import dev.app.ks.thinkit.onenote.framework.model.query.Condition;
+import dev.app.ks.thinkit.onenote.framework.model.query.QueryBuilder;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+import dev.app.ks.thinkit.onenote.model.property.Table;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 最近のメモを最後のページまで走査し、先頭と後方のページの検索時間を記録するベンチマークです。
+ * 検索時間は端末の状態に依存するため、後方のページが読み飛ばしを伴わないことは実行計画で検証します。
+ */
+@RunWith(AndroidJUnit4.class)
+public class KeysetPagingBenchmark {
+
+    private static final String TAG = KeysetPagingBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_keyset_";
+
+    private static final int COUNT_MEMOS = 50000;
+
+    private static final int COUNT_BATCH = 5000;
+
+    private static final int COUNT_SAME_DATETIME = 10;
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final int COUNT_SAMPLE_PAGES = 50;
+
+    private static final String INDEX_UPDATED_DATETIME = "memo_information_updated_datetime";
+
+    private Context context;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        long baseDatetime = System.currentTimeMillis();
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_BATCH);
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            // 並び替えキーが重複する行を含め、一意キーによる順序付けも走査の対象とする
+            long datetime = baseDatetime + i / COUNT_SAME_DATETIME;
+            memoHolderList.add(new MemoHolder(MEMO_NAME_PREFIX + i, "memo" + i, datetime, datetime));
+
+            if (memoHolderList.size() == COUNT_BATCH) {
+                memoInformation.replace(memoHolderList);
+                memoHolderList = new ArrayList<>(COUNT_BATCH);
+            }
+        }
+
+        if (!memoHolderList.isEmpty()) {
+            memoInformation.replace(memoHolderList);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + i);
+        }
+    }
+
+    @Test
+    public void scanAllPagesInOrder() {
+        final List<Long> pageStartList = new ArrayList<>();
+        final int[] countVisited = {0};
+        final long[] previousId = {Long.MAX_VALUE};
+        final long[] previousDatetime = {Long.MAX_VALUE};
+        final boolean[] ordered = {true};
+
+        pageStartList.add(System.nanoTime());
+        memoInformation.selectRecentEach(new IRowVisitor<MemoColumnKey>() {
+            @Override
+            public boolean visit(ModelMap<MemoColumnKey, Object> row) {
+                long id = row.getLong(MemoColumnKey.Id);
+                long datetime = row.getLong(MemoColumnKey.UpdatedDatetime);
+
+                ordered[0] &= datetime < previousDatetime[0]
+                        || (datetime == previousDatetime[0] && id < previousId[0]);
+                previousId[0] = id;
+                previousDatetime[0] = datetime;
+
+                if (++countVisited[0] % PAGE_SIZE == 0) {
+                    pageStartList.add(System.nanoTime());
+                }
+
+                return true;
+            }
+        });
+
+        int countPages = pageStartList.size() - 1;
+        long[] pageElapsed = new long[countPages];
+        for (int i = 0; i < countPages; i++) {
+            pageElapsed[i] = pageStartList.get(i + 1) - pageStartList.get(i);
+        }
+
+        long firstMedian = median(Arrays.copyOfRange(pageElapsed, 1, COUNT_SAMPLE_PAGES + 1));
+        long lastMedian = median(Arrays.copyOfRange(pageElapsed, countPages - COUNT_SAMPLE_PAGES, countPages));
+
+        Log.i(TAG, String.format("rows=%d pages=%d first=%dus last=%dus", countVisited[0], countPages, firstMedian / 1000, lastMedian / 1000));
+
+        assertTrue(ordered[0]);
+        assertTrue(countVisited[0] >= COUNT_MEMOS);
+    }
+
+    @Test
+    public void nextPageSearchesUpdatedDatetimeIndex() {
+        // 二ページ目以降の検索の形は、直前のページの最終行を起点とする範囲条件を先頭に持つ
+        String sql = QueryBuilder.select(Table.MemoInformation, MemoColumnKey.class)
+                .where(Condition.and(
+                        Condition.lessThanOrEqual(MemoColumnKey.UpdatedDatetime),
+                        Condition.or(
+                                Condition.lessThan(MemoColumnKey.UpdatedDatetime),
+                                Condition.and(Condition.equal(MemoColumnKey.UpdatedDatetime), Condition.lessThan(MemoColumnKey.Id)))))
+                .orderByDescending(MemoColumnKey.UpdatedDatetime)
+                .orderByDescending(MemoColumnKey.Id)
+                .limit()
+                .build()
+                .getSql();
+
+        String queryPlan = explainQueryPlan(sql);
+        Log.i(TAG, queryPlan);
+
+        assertTrue(queryPlan.startsWith("SEARCH"));
+        assertTrue(queryPlan.contains("USING INDEX " + INDEX_UPDATED_DATETIME));
+        assertFalse(queryPlan.contains("TEMP B-TREE"));
+    }
+
+    private String explainQueryPlan(String sql) {
+        StringBuilder queryPlan = new StringBuilder();
+
+        SQLiteDatabase database = DatabaseOpenHelper.openReadOnlyDatabase(context);
+        try {
+            Cursor cursor = database.rawQuery("EXPLAIN QUERY PLAN " + sql, null);
+            try {
+                int detailIndex = cursor.getColumnIndexOrThrow("detail");
+                while (cursor.moveToNext()) {
+                    if (queryPlan.length() > 0) {
+                        queryPlan.append('\n');
+                    }
+
+                    queryPlan.append(cursor.getString(detailIndex));
+                }
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+
+        return queryPlan.toString();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,197 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteConstraintException;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IRowVisitor;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 長期間更新されていないメモをアーカイブへ移動した前後で、最近のメモの検索時間を比較し、
+ * 移動したメモが引き続き参照、全文検索及び保存できることを検証するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoArchiveBenchmark {
+
+    private static final String TAG = MemoArchiveBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_STALE = "benchmark_archive_stale_";
+
+    private static final String MEMO_NAME_RECENT = "benchmark_archive_recent_";
+
+    private static final int COUNT_STALE = 10000;
+
+    private static final int COUNT_RECENT = 200;
+
+    private static final int LENGTH_MEMO = 1024;
+
+    private static final int COUNT_RECENT_ROWS = 50;
+
+    private static final int COUNT_REPEATS = 20;
+
+    private static final long DAY_MILLIS = 24L * 60L * 60L * 1000L;
+
+    private MemoInformation memoInformation;
+
+    private long staleBeforeMillis;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        char[] body = new char[LENGTH_MEMO];
+        Arrays.fill(body, 'a');
+        String memo = new String(body);
+
+        long now = System.currentTimeMillis();
+        long staleDatetime = now - 400L * DAY_MILLIS;
+        staleBeforeMillis = now - 300L * DAY_MILLIS;
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_STALE + COUNT_RECENT);
+        for (int i = 0; i < COUNT_STALE; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_STALE + i, i + memo, staleDatetime + i, staleDatetime + i));
+        }
+        for (int i = 0; i < COUNT_RECENT; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_RECENT + i, i + memo));
+        }
+
+        memoInformation.replace(memoHolderList);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_STALE; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_STALE + i);
+        }
+        for (int i = 0; i < COUNT_RECENT; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_RECENT + i);
+        }
+    }
+
+    @Test
+    public void recentQueriesBeforeAndAfterArchiving() {
+        int countBefore = memoInformation.countMemos();
+        long recentBefore = measureRecentQuery();
+
+        long start = System.nanoTime();
+        int countArchived = memoInformation.archiveStaleMemos(staleBeforeMillis);
+        long archiveElapsed = System.nanoTime() - start;
+
+        long recentAfter = measureRecentQuery();
+
+        Log.i(TAG, String.format("archived=%d elapsed=%dms", countArchived, archiveElapsed / 1000000));
+        Log.i(TAG, String.format("recent rows=%d before=%dus after=%dus", COUNT_RECENT_ROWS, recentBefore / 1000, recentAfter / 1000));
+
+        assertTrue(countArchived >= COUNT_STALE);
+        assertEquals(countBefore, memoInformation.countMemos());
+        assertEquals(countBefore, memoInformation.selectAllSummaries().size());
+    }
+
+    @Test
+    public void archivedMemoIsStillReadable() {
+        long memoId = selectMemoId(MEMO_NAME_STALE + 0);
+        memoInformation.archiveStaleMemos(staleBeforeMillis);
+
+        ModelResult<MemoColumnKey> result = memoInformation.selectById(memoId);
+        assertEquals(1, result.size());
+        assertEquals(MEMO_NAME_STALE + 0, result.getString(0, MemoColumnKey.MemoName));
+        assertTrue(memoInformation.readMemo(memoId).startsWith("0a"));
+        assertTrue(memoInformation.selectRevisions(memoId).isEmpty());
+
+        final boolean[] visited = {false};
+        memoInformation.selectRecentEach(new IRowVisitor<MemoColumnKey>() {
+            @Override
+            public boolean visit(ModelMap<MemoColumnKey, Object> row) {
+                visited[0] |= row.getString(MemoColumnKey.MemoName).startsWith(MEMO_NAME_STALE);
+                return true;
+            }
+        });
+        assertFalse(visited[0]);
+    }
+
+    @Test
+    public void archivedMemoIsStillSearchable() {
+        long memoId = selectMemoId(MEMO_NAME_STALE + 3);
+        memoInformation.archiveStaleMemos(staleBeforeMillis);
+
+        // 最近のメモも同じ本文を持つため、アーカイブのメモが重複せずに結合されることを検証する
+        assertEquals(1, countSearchResults(memoInformation.search("3aaa", 10), memoId));
+    }
+
+    @Test
+    public void writeRestoresArchivedMemo() {
+        String memoName = MEMO_NAME_STALE + 1;
+        long memoId = selectMemoId(memoName);
+        String original = memoInformation.readMemo(memoId);
+        memoInformation.archiveStaleMemos(staleBeforeMillis);
+
+        memoInformation.replace(new MemoHolder(memoId, memoName, "restored"));
+
+        // 登録時の本文は最初の編集で初めて版として記録される
+        assertEquals("restored", memoInformation.readMemo(memoId));
+        assertEquals(2, memoInformation.selectRevisions(memoId).size());
+        assertEquals(original, memoInformation.readRevision(memoId, 1));
+        assertEquals(0, memoInformation.archiveStaleMemos(staleBeforeMillis));
+        assertEquals(1, countSearchResults(memoInformation.search("restored", 10), memoId));
+        assertEquals(0, countSearchResults(memoInformation.search("1aaa", 10), memoId));
+    }
+
+    @Test(expected = SQLiteConstraintException.class)
+    public void insertRejectsArchivedMemoName() {
+        memoInformation.archiveStaleMemos(staleBeforeMillis);
+        memoInformation.insert(new MemoHolder(MEMO_NAME_STALE + 2, "duplicated"));
+    }
+
+    private long measureRecentQuery() {
+        final int[] countVisited = {0};
+        long start = System.nanoTime();
+
+        for (int i = 0; i < COUNT_REPEATS; i++) {
+            countVisited[0] = 0;
+            memoInformation.selectRecentEach(new IRowVisitor<MemoColumnKey>() {
+                @Override
+                public boolean visit(ModelMap<MemoColumnKey, Object> row) {
+                    return ++countVisited[0] < COUNT_RECENT_ROWS;
+                }
+            });
+        }
+
+        return (System.nanoTime() - start) / COUNT_REPEATS;
+    }
+
+    private static int countSearchResults(List<MemoSearchResult> results, long memoId) {
+        int count = 0;
+
+        for (MemoSearchResult result : results) {
+            if (result.getId() == memoId) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private long selectMemoId(String memoName) {
+        return memoInformation.selectByPrimaryKey(memoName).getLong(0, MemoColumnKey.Id);
+    }
+}
@@ -0,0 +1,191 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.net.Uri;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 差分方式のバックアップについて、全件及び差分の反映時間と反映中の保存の待ち時間を計測するベンチマークです。
+ * 待ち時間は端末の状態に依存するため記録のみ行い、反映中の保存が即時に参照できることと
+ * スナップショットが反映前の状態と一致することを検証します。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoBackupBenchmark {
+
+    private static final String TAG = MemoBackupBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_backup_";
+
+    private static final String CONCURRENT_MEMO_NAME_PREFIX = MEMO_NAME_PREFIX + "concurrent_";
+
+    private static final int COUNT_MEMOS = 20000;
+
+    private static final int COUNT_UPDATED = 50;
+
+    private static final int LENGTH_MEMO = 2048;
+
+    private MemoInformation memoInformation;
+
+    private MemoBackup memoBackup;
+
+    private File destinationFile;
+
+    private String memo;
+
+    private final AtomicInteger countConcurrent = new AtomicInteger();
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+        memoBackup = new MemoBackup(context);
+        destinationFile = new File(context.getCacheDir(), "memo_backup_benchmark.db");
+        SQLiteDatabase.deleteDatabase(memoBackup.getSnapshotFile());
+
+        char[] body = new char[LENGTH_MEMO];
+        Arrays.fill(body, 'a');
+        memo = new String(body);
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_MEMOS);
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_PREFIX + i, i + memo));
+        }
+
+        memoInformation.replace(memoHolderList);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + i);
+        }
+
+        for (int i = 0; i < countConcurrent.get(); i++) {
+            memoInformation.deleteByPrimaryKey(CONCURRENT_MEMO_NAME_PREFIX + i);
+        }
+
+        SQLiteDatabase.deleteDatabase(memoBackup.getSnapshotFile());
+        destinationFile.delete();
+    }
+
+    @Test
+    public void fullThenIncremental() throws IOException {
+        BackupStatistics full = memoBackup.backup(Uri.fromFile(destinationFile));
+        Log.i(TAG, "full " + full);
+
+        for (int i = 0; i < COUNT_UPDATED; i++) {
+            memoInformation.replace(new MemoHolder(MEMO_NAME_PREFIX + i, "updated " + i));
+        }
+        memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + (COUNT_MEMOS - 1));
+
+        BackupStatistics incremental = memoBackup.backup(Uri.fromFile(destinationFile));
+        Log.i(TAG, "incremental " + incremental);
+
+        assertTrue(full.getCopiedCount() >= COUNT_MEMOS);
+        assertEquals(COUNT_UPDATED, incremental.getCopiedCount());
+        assertTrue(incremental.getDeletedCount() >= 1);
+        assertEquals(destinationFile.length(), incremental.getBytesWritten());
+
+        SQLiteDatabase snapshot = SQLiteDatabase.openDatabase(destinationFile.getPath(), null, SQLiteDatabase.OPEN_READONLY);
+        try {
+            assertEquals(memoInformation.countMemos(), (int) DatabaseUtils.queryNumEntries(snapshot, "memo_information"));
+        } finally {
+            snapshot.close();
+        }
+    }
+
+    @Test
+    public void writesAreNotBlockedDuringSnapshot() throws InterruptedException {
+        final AtomicBoolean snapshotRunning = new AtomicBoolean(true);
+        final AtomicLong longestWrite = new AtomicLong();
+        final AtomicInteger countWrittenDuringSnapshot = new AtomicInteger();
+        final AtomicReference<String> invisibleWrite = new AtomicReference<>();
+
+        // 反映前のメモは書き換えず新しいメモのみを保存し、スナップショットに反映前のメモが変わらず含まれることを確認する
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (snapshotRunning.get()) {
+                    String memoName = CONCURRENT_MEMO_NAME_PREFIX + countConcurrent.getAndIncrement();
+
+                    long start = System.nanoTime();
+                    memoInformation.replace(new MemoHolder(memoName, "concurrent"));
+                    long elapsed = System.nanoTime() - start;
+
+                    if (elapsed > longestWrite.get()) {
+                        longestWrite.set(elapsed);
+                    }
+
+                    ModelResult<MemoColumnKey> result = memoInformation.selectByPrimaryKey(memoName);
+                    if (result.isEmpty() || !"concurrent".equals(result.getString(0, MemoColumnKey.Memo))) {
+                        invisibleWrite.compareAndSet(null, memoName);
+                    }
+
+                    if (snapshotRunning.get()) {
+                        countWrittenDuringSnapshot.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        writer.start();
+        BackupStatistics statistics = memoBackup.updateSnapshot();
+        snapshotRunning.set(false);
+        writer.join();
+
+        Log.i(TAG, "snapshot " + statistics
+                + " longestWrite=" + longestWrite.get() / 1000000 + "ms"
+                + " writesDuringSnapshot=" + countWrittenDuringSnapshot.get());
+
+        assertTrue(countWrittenDuringSnapshot.get() > 0);
+        assertNull(invisibleWrite.get());
+
+        SQLiteDatabase snapshot = SQLiteDatabase.openDatabase(memoBackup.getSnapshotFile().getPath(), null, SQLiteDatabase.OPEN_READONLY);
+        try {
+            assertEquals(COUNT_MEMOS, DatabaseUtils.longForQuery(snapshot,
+                    "SELECT COUNT(*) FROM memo_information WHERE memo_name LIKE ? AND memo_name NOT LIKE ?",
+                    new String[]{MEMO_NAME_PREFIX + "%", CONCURRENT_MEMO_NAME_PREFIX + "%"}));
+
+            for (int i : new int[]{0, COUNT_MEMOS / 2, COUNT_MEMOS - 1}) {
+                Cursor cursor = snapshot.rawQuery(
+                        "SELECT memo FROM memo_information WHERE memo_name = ?", new String[]{MEMO_NAME_PREFIX + i});
+                try {
+                    assertTrue(cursor.moveToFirst());
+                    assertEquals(i + memo, cursor.getString(0));
+                } finally {
+                    cursor.close();
+                }
+            }
+        } finally {
+            snapshot.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import dev.app.ks.thinkit.onenote.framework.model.CacheStatistics;
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 二つのメモを交互に開く操作について、メモ名による検索結果のキャッシュの適合率及び検索時間を計測するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoCacheBenchmark {
+
+    private static final String TAG = MemoCacheBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_FIRST = "benchmark_cache_first";
+
+    private static final String MEMO_NAME_SECOND = "benchmark_cache_second";
+
+    private static final int COUNT_SWITCHES = 1000;
+
+    private MemoInformation memoInformation;
+
+    private long firstMemoId;
+
+    private long secondMemoId;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        char[] body = new char[16 * 1024];
+        Arrays.fill(body, 'a');
+
+        firstMemoId = memoInformation.insert(new MemoHolder(MEMO_NAME_FIRST, new String(body)));
+        secondMemoId = memoInformation.insert(new MemoHolder(MEMO_NAME_SECOND, "second memo"));
+    }
+
+    @After
+    public void tearDown() {
+        memoInformation.deleteById(firstMemoId);
+        memoInformation.deleteById(secondMemoId);
+    }
+
+    @Test
+    public void switchBetweenTwoMemos() {
+        CacheStatistics before = memoInformation.getCacheStatistics();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < COUNT_SWITCHES; i++) {
+            memoInformation.selectById(i % 2 == 0 ? firstMemoId : secondMemoId);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        CacheStatistics after = memoInformation.getCacheStatistics();
+        long hits = after.getHitCount() - before.getHitCount();
+        long misses = after.getMissCount() - before.getMissCount();
+
+        Log.i(TAG, String.format("switches=%d hits=%d misses=%d average=%dus", COUNT_SWITCHES, hits, misses, elapsed / COUNT_SWITCHES / 1000));
+        Log.i(TAG, after.toString());
+
+        assertEquals(2, misses);
+        assertEquals(COUNT_SWITCHES - 2, hits);
+    }
+
+    @Test
+    public void writeInvalidatesCachedMemo() {
+        memoInformation.selectById(secondMemoId);
+        memoInformation.replace(new MemoHolder(secondMemoId, MEMO_NAME_SECOND, "updated memo"));
+        ModelResult<MemoColumnKey> result = memoInformation.selectById(secondMemoId);
+
+        assertEquals("updated memo", result.getString(0, MemoColumnKey.Memo));
+
+        memoInformation.autosave(new MemoHolder(secondMemoId, MEMO_NAME_SECOND, "autosaved memo"));
+        result = memoInformation.selectById(secondMemoId);
+
+        assertEquals("autosaved memo", result.getString(0, MemoColumnKey.Memo));
+        assertTrue(memoInformation.getCacheStatistics().getSize() <= memoInformation.getCacheStatistics().getMaximumSize());
+    }
+}
@@ -0,0 +1,125 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * CursorWindowの上限を超える大きさのメモを分割して保存し、
+ * 一部を編集した際の保存時間と分割単位での読み込みを計測するベンチマークです。
+ * 所要時間は端末の状態に依存するため記録のみ行い、編集で書き換えられた分割単位の数を検証します。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoChunkStorageBenchmark {
+
+    private static final String TAG = MemoChunkStorageBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME = "benchmark_chunk";
+
+    private static final int SIZE_MEMO = 2 * 1024 * 1024;
+
+    private Context context;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+    }
+
+    @After
+    public void tearDown() {
+        memoInformation.deleteByPrimaryKey(MEMO_NAME);
+    }
+
+    @Test
+    public void editLargeMemo() {
+
+        char[] body = new char[SIZE_MEMO];
+        Random random = new Random(42);
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (char) ('a' + random.nextInt(26));
+        }
+
+        String original = new String(body);
+
+        long start = System.nanoTime();
+        long memoId = memoInformation.insert(new MemoHolder(MEMO_NAME, original));
+        long initialElapsed = System.nanoTime() - start;
+
+        // 末尾付近の一文字だけを変更する
+        body[SIZE_MEMO - 10] = '#';
+        String edited = new String(body);
+        Map<Long, Long> rowIdsBefore = selectChunkRowIds(memoId);
+
+        start = System.nanoTime();
+        memoInformation.replace(new MemoHolder(memoId, MEMO_NAME, edited));
+        long editElapsed = System.nanoTime() - start;
+
+        // 置換された分割単位は新しい行IDで挿入されるため、行IDの変化した分割単位が書き換えられた分割単位となる
+        Map<Long, Long> rowIdsAfter = selectChunkRowIds(memoId);
+        int rewrittenChunks = 0;
+        for (Map.Entry<Long, Long> entry : rowIdsAfter.entrySet()) {
+            if (!entry.getValue().equals(rowIdsBefore.get(entry.getKey()))) {
+                rewrittenChunks++;
+            }
+        }
+
+        MemoChunkReader reader = memoInformation.openChunkReader(memoId);
+
+        start = System.nanoTime();
+        String firstChunk = reader.readChunk(0);
+        long firstChunkElapsed = System.nanoTime() - start;
+
+        Log.i(TAG, String.format("initial=%dms edit=%dms firstChunk=%dus chunks=%d rewritten=%d",
+                initialElapsed / 1000000,
+                editElapsed / 1000000,
+                firstChunkElapsed / 1000,
+                reader.getChunkCount(),
+                rewrittenChunks));
+
+        assertEquals(edited.substring(0, firstChunk.length()), firstChunk);
+        assertEquals(edited, memoInformation.readMemo(memoId));
+        assertEquals(rowIdsBefore.size(), rowIdsAfter.size());
+        assertEquals(1, rewrittenChunks);
+    }
+
+    private Map<Long, Long> selectChunkRowIds(long memoId) {
+        Map<Long, Long> rowIds = new HashMap<>();
+
+        SQLiteDatabase database = DatabaseOpenHelper.openReadOnlyDatabase(context);
+        try {
+            Cursor cursor = database.rawQuery(
+                    "SELECT sequence, rowid FROM memo_chunk WHERE memo_id = ?", new String[]{String.valueOf(memoId)});
+            try {
+                while (cursor.moveToNext()) {
+                    rowIds.put(cursor.getLong(0), cursor.getLong(1));
+                }
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+
+        return rowIds;
+    }
+}
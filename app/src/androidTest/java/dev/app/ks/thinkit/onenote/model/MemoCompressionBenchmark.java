@@ -0,0 +1,162 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Random;
+
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 閾値の前後の大きさのメモについて、圧縮の有無による保存及び読み込みの時間とデータベースの増分を比較するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoCompressionBenchmark {
+
+    private static final String TAG = MemoCompressionBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_compression_";
+
+    private static final int COUNT_MEMOS = 100;
+
+    private static final String[] WORDS = {
+            "memo", "note", "today", "meeting", "todo", "idea", "draft", "review", "メモ", "会議", "予定", "確認"
+    };
+
+    private Context context;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + "plain_" + i);
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + "compressed_" + i);
+        }
+
+        memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + "searchable");
+    }
+
+    @Test
+    public void compressedMemoIsSearchable() {
+        String memoName = MEMO_NAME_PREFIX + "searchable";
+        String body = createBody(MemoColumnKey.THRESHOLD_COMPRESSION * 2, new Random(7));
+        String original = body + " zephyrine";
+
+        memoInformation.replace(new MemoHolder(memoName, original));
+        long memoId = memoInformation.selectByPrimaryKey(memoName).getLong(0, MemoColumnKey.Id);
+
+        List<MemoSearchResult> results = memoInformation.search("zephyrine", 1);
+        assertEquals(1, results.size());
+        assertEquals(memoId, results.get(0).getId());
+        assertEquals(MemoColumnKey.createSnippet(original), results.get(0).getSnippet());
+
+        memoInformation.replace(new MemoHolder(memoId, memoName, body + " aquamarine"));
+
+        assertTrue(memoInformation.search("zephyrine", 1).isEmpty());
+        assertEquals(1, memoInformation.search("aquamarine", 1).size());
+        assertEquals(original, memoInformation.readRevision(memoId, 1));
+    }
+
+    @Test
+    public void plainVersusCompressed() {
+        Random random = new Random(42);
+
+        // 圧縮されない最大の大きさと圧縮される大きさで文字数当たりの性能を比較する
+        double plainGrowth = measure("plain", MemoColumnKey.THRESHOLD_COMPRESSION, random);
+        double compressedGrowth = measure("compressed", MemoColumnKey.THRESHOLD_COMPRESSION * 2, random);
+
+        assertTrue(compressedGrowth < plainGrowth);
+    }
+
+    private double measure(String label, int size, Random random) {
+
+        String[] bodies = new String[COUNT_MEMOS];
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            bodies[i] = createBody(size, random);
+        }
+
+        long sizeBefore = getDatabaseSize();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.replace(new MemoHolder(MEMO_NAME_PREFIX + label + "_" + i, bodies[i]));
+        }
+        long writeElapsed = System.nanoTime() - start;
+
+        // 増分には全文検索用の索引も含まれ、索引を含めた正味の使用量を圧縮の有無で比較する
+        long growth = getDatabaseSize() - sizeBefore;
+
+        start = System.nanoTime();
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            ModelResult<MemoColumnKey> result = memoInformation.selectByPrimaryKey(MEMO_NAME_PREFIX + label + "_" + i);
+            assertEquals(bodies[i], result.getString(0, MemoColumnKey.Memo));
+        }
+        long readElapsed = System.nanoTime() - start;
+
+        long totalLength = (long) size * COUNT_MEMOS;
+
+        Log.i(TAG, String.format("%s size=%d write=%.1fus/KB read=%.1fus/KB growth=%.2fbytes/char",
+                label,
+                size,
+                writeElapsed / 1000.0 / (totalLength / 1024.0),
+                readElapsed / 1000.0 / (totalLength / 1024.0),
+                (double) growth / totalLength));
+
+        return (double) growth / totalLength;
+    }
+
+    private static String createBody(int size, Random random) {
+        StringBuilder body = new StringBuilder(size + 16);
+
+        while (body.length() < size) {
+            body.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+
+        body.setLength(size);
+        return body.toString();
+    }
+
+    private long getDatabaseSize() {
+        // ファイルの長さは空きページやWALの残存分を含むため、使用中のページのみを数える
+        SQLiteDatabase database = DatabaseOpenHelper.openReadOnlyDatabase(context);
+        try {
+            return (queryLong(database, "PRAGMA page_count") - queryLong(database, "PRAGMA freelist_count"))
+                    * queryLong(database, "PRAGMA page_size");
+        } finally {
+            database.close();
+        }
+    }
+
+    private static long queryLong(SQLiteDatabase database, String sql) {
+        Cursor cursor = database.rawQuery(sql, null);
+        try {
+            cursor.moveToFirst();
+            return cursor.getLong(0);
+        } finally {
+            cursor.close();
+        }
+    }
+}
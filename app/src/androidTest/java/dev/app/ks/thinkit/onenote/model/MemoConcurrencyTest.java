@@ -0,0 +1,172 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 複数のスレッドから同一のモデルで検索及び保存を同時に行った場合に、
+ * 各スレッドが自身の検索結果のみを受け取ることを確認するテストです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoConcurrencyTest {
+
+    private static final String MEMO_NAME_PREFIX = "concurrency_";
+
+    private static final int COUNT_THREADS = 8;
+
+    private static final int COUNT_MEMOS_PER_THREAD = 4;
+
+    private static final int COUNT_ITERATIONS = 300;
+
+    private static final long TIMEOUT_SECONDS = 120L;
+
+    private Context context;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+    }
+
+    @After
+    public void tearDown() {
+        for (int thread = 0; thread < COUNT_THREADS; thread++) {
+            for (int memo = 0; memo < COUNT_MEMOS_PER_THREAD; memo++) {
+                memoInformation.deleteByPrimaryKey(createMemoName(thread, memo));
+            }
+        }
+    }
+
+    @Test
+    public void getInstanceReturnsSingleInstance() throws InterruptedException {
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final Queue<MemoInformation> instances = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>(COUNT_THREADS);
+
+        for (int i = 0; i < COUNT_THREADS; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startGate.await();
+                        instances.add(MemoInformation.getInstance(context));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        startGate.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(COUNT_THREADS, instances.size());
+        for (MemoInformation instance : instances) {
+            assertSame(memoInformation, instance);
+        }
+    }
+
+    @Test
+    public void concurrentSelectAndReplaceSeeOwnResults() throws InterruptedException {
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(COUNT_THREADS);
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < COUNT_THREADS; i++) {
+            final int thread = i;
+
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        startGate.await();
+                        hammer(thread);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            }).start();
+        }
+
+        startGate.countDown();
+        assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " threads failed");
+            error.initCause(failures.peek());
+            throw error;
+        }
+    }
+
+    @Test
+    public void replaceDoesNotResurrectDeletedMemo() {
+        String memoName = createMemoName(0, 0);
+        memoInformation.replace(new MemoHolder(memoName, "original"));
+        long memoId = memoInformation.selectByPrimaryKey(memoName).getLong(0, MemoColumnKey.Id);
+
+        // 編集中に他の処理からメモが削除された場合を再現する
+        memoInformation.deleteByPrimaryKey(memoName);
+        memoInformation.replace(new MemoHolder(memoId, memoName, "edited"));
+
+        assertEquals(0, memoInformation.selectByPrimaryKey(memoName).size());
+        assertEquals(0, memoInformation.selectById(memoId).size());
+    }
+
+    /**
+     * 自身が所有するメモのみを保存し、直後の検索で自身が保存した内容が得られることを確認します。
+     * 他のスレッドの検索結果が混入した場合はメモ名または本文が一致しません。
+     */
+    private void hammer(int thread) {
+        for (int iteration = 0; iteration < COUNT_ITERATIONS; iteration++) {
+            String memoName = createMemoName(thread, iteration % COUNT_MEMOS_PER_THREAD);
+            String memo = memoName + ":" + iteration;
+
+            memoInformation.replace(new MemoHolder(memoName, memo));
+
+            ModelResult<MemoColumnKey> result = memoInformation.selectByPrimaryKey(memoName);
+            assertEquals(1, result.size());
+            assertEquals(memoName, result.getString(0, MemoColumnKey.MemoName));
+            assertEquals(memo, result.getString(0, MemoColumnKey.Memo));
+
+            // 全件の検索も他のスレッドの検索と結果を共有しないことを確認する
+            if (iteration % 50 == 0) {
+                ModelResult<MemoColumnKey> all = memoInformation.selectAll();
+                assertTrue(all.size() >= 1);
+            }
+        }
+    }
+
+    private static String createMemoName(int thread, int memo) {
+        return MEMO_NAME_PREFIX + thread + "_" + memo;
+    }
+}
@@ -0,0 +1,133 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.os.Debug;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IRecordVisitor;
+import dev.app.ks.thinkit.onenote.framework.IRowVisitor;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 全行の走査について、モデルマップを生成する経路と型付きの行を再利用する経路のメモリ確保の回数及び時間を比較するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoRowAllocationBenchmark {
+
+    private static final String TAG = MemoRowAllocationBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_row_";
+
+    private static final int COUNT_MEMOS = 5000;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_MEMOS);
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_PREFIX + i, "memo body " + i));
+        }
+
+        memoInformation.replace(memoHolderList);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + i);
+        }
+    }
+
+    @Test
+    public void modelMapVersusFlyweight() {
+        final long[] lengths = new long[2];
+
+        // 初回の走査に伴うクラスの読み込み等を計測から除外する
+        scanModelMap(lengths);
+        scanFlyweight(lengths);
+
+        Debug.startAllocCounting();
+        try {
+            Debug.resetThreadAllocCount();
+            long start = System.nanoTime();
+            scanModelMap(lengths);
+            long modelMapElapsed = System.nanoTime() - start;
+            int modelMapAllocations = Debug.getThreadAllocCount();
+
+            Debug.resetThreadAllocCount();
+            start = System.nanoTime();
+            scanFlyweight(lengths);
+            long flyweightElapsed = System.nanoTime() - start;
+            int flyweightAllocations = Debug.getThreadAllocCount();
+
+            Log.i(TAG, String.format("modelMap allocations=%d elapsed=%dms", modelMapAllocations, modelMapElapsed / 1000000));
+            Log.i(TAG, String.format("flyweight allocations=%d elapsed=%dms", flyweightAllocations, flyweightElapsed / 1000000));
+
+            assertEquals(lengths[0], lengths[1]);
+            assertTrue(flyweightAllocations < modelMapAllocations);
+
+        } finally {
+            Debug.stopAllocCounting();
+        }
+    }
+
+    @Test
+    public void typedRowsMatchModelMap() {
+        ModelResult<MemoColumnKey> result = memoInformation.selectAll();
+        List<MemoRow> rows = memoInformation.selectAllRows();
+
+        assertEquals(result.size(), rows.size());
+
+        for (int i = 0; i < rows.size(); i++) {
+            ModelMap<MemoColumnKey, Object> modelMap = result.copyRow(i);
+            MemoRow row = rows.get(i);
+
+            assertEquals(modelMap.getLong(MemoColumnKey.Id).longValue(), row.getId());
+            assertEquals(modelMap.getString(MemoColumnKey.MemoName), row.getMemoName());
+            assertEquals(modelMap.getString(MemoColumnKey.Memo), row.getMemo());
+            assertEquals(modelMap.getLong(MemoColumnKey.UpdatedDatetime).longValue(), row.getUpdatedDatetime());
+        }
+    }
+
+    private void scanModelMap(final long[] lengths) {
+        lengths[0] = 0;
+        memoInformation.selectEach(new IRowVisitor<MemoColumnKey>() {
+            @Override
+            public boolean visit(ModelMap<MemoColumnKey, Object> row) {
+                lengths[0] += row.getString(MemoColumnKey.MemoName).length();
+                return true;
+            }
+        });
+    }
+
+    private void scanFlyweight(final long[] lengths) {
+        lengths[1] = 0;
+        memoInformation.selectEachRow(new IRecordVisitor<MemoRowCursor>() {
+            @Override
+            public boolean visit(MemoRowCursor record) {
+                lengths[1] += record.getMemoName().length();
+                return true;
+            }
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.os.Debug;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * メモの一覧の取得について、全カラムを取得する経路と一覧用の項目のみを取得する経路の時間及びメモリ確保量を比較するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoSummaryBenchmark {
+
+    private static final String TAG = MemoSummaryBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_summary_";
+
+    private static final int COUNT_MEMOS = 20000;
+
+    private static final int LENGTH_MEMO = 2048;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+
+        char[] body = new char[LENGTH_MEMO];
+        Arrays.fill(body, 'a');
+        body[10] = '\n';
+        String memo = new String(body);
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(COUNT_MEMOS);
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_PREFIX + i, i + memo));
+        }
+
+        memoInformation.replace(memoHolderList);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + i);
+        }
+    }
+
+    @Test
+    public void fullRowsVersusSummaries() {
+        // 初回の取得に伴うクラスの読み込み等を計測から除外する
+        memoInformation.selectAll();
+        memoInformation.selectAllSummaries();
+
+        Debug.startAllocCounting();
+        try {
+            Debug.resetThreadAllocSize();
+            long start = System.nanoTime();
+            int fullCount = memoInformation.selectAll().size();
+            long fullElapsed = System.nanoTime() - start;
+            int fullAllocated = Debug.getThreadAllocSize();
+
+            Debug.resetThreadAllocSize();
+            start = System.nanoTime();
+            List<MemoSummary> summaries = memoInformation.selectAllSummaries();
+            long summaryElapsed = System.nanoTime() - start;
+            int summaryAllocated = Debug.getThreadAllocSize();
+
+            Log.i(TAG, String.format("full rows=%d allocated=%dKiB elapsed=%dms", fullCount, fullAllocated / 1024, fullElapsed / 1000000));
+            Log.i(TAG, String.format("summaries rows=%d allocated=%dKiB elapsed=%dms", summaries.size(), summaryAllocated / 1024, summaryElapsed / 1000000));
+
+            assertEquals(fullCount, summaries.size());
+            assertTrue(summaryAllocated < fullAllocated);
+
+        } finally {
+            Debug.stopAllocCounting();
+        }
+    }
+
+    @Test
+    public void snippetFollowsWrites() {
+        String memoName = MEMO_NAME_PREFIX + 0;
+        memoInformation.replace(new MemoHolder(memoName, "updated\nsnippet"));
+
+        MemoSummary summary = findSummary(memoName);
+        assertEquals("updated snippet", summary.getSnippet());
+        assertEquals(MemoColumnKey.createSnippet("updated\nsnippet"), summary.getSnippet());
+    }
+
+    @Test
+    public void summariesAreNewestFirst() {
+        String memoName = MEMO_NAME_PREFIX + (COUNT_MEMOS - 1);
+        memoInformation.replace(new MemoHolder(memoName, "touched"));
+
+        List<MemoSummary> summaries = memoInformation.selectAllSummaries();
+        assertEquals(memoName, summaries.get(0).getMemoName());
+
+        for (int i = 1; i < summaries.size(); i++) {
+            assertTrue(summaries.get(i - 1).getUpdatedDatetime() >= summaries.get(i).getUpdatedDatetime());
+        }
+    }
+
+    private MemoSummary findSummary(String memoName) {
+        for (MemoSummary summary : memoInformation.selectAllSummaries()) {
+            if (summary.getMemoName().equals(memoName)) {
+                return summary;
+            }
+        }
+
+        throw new AssertionError(memoName);
+    }
+}
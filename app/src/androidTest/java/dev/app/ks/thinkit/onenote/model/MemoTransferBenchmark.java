@@ -0,0 +1,161 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IProgressListener;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * メモのJSON形式での書き出し及び取り込みについて、時間及びヒープの使用量を計測するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoTransferBenchmark {
+
+    private static final String TAG = MemoTransferBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME_PREFIX = "benchmark_transfer_";
+
+    private static final int COUNT_MEMOS = 100000;
+
+    private static final int LENGTH_MEMO = 512;
+
+    private Context context;
+
+    private MemoInformation memoInformation;
+
+    private File exportFile;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+        exportFile = new File(context.getCacheDir(), "memo_transfer_benchmark.json");
+
+        char[] body = new char[LENGTH_MEMO];
+        Arrays.fill(body, 'a');
+        String memo = new String(body);
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(MemoImporter.DEFAULT_BATCH_SIZE);
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoHolderList.add(new MemoHolder(MEMO_NAME_PREFIX + i, i + memo));
+
+            if (memoHolderList.size() == MemoImporter.DEFAULT_BATCH_SIZE) {
+                memoInformation.replace(memoHolderList);
+                memoHolderList.clear();
+            }
+        }
+
+        memoInformation.replace(memoHolderList);
+    }
+
+    @After
+    public void tearDown() {
+        for (int i = 0; i < COUNT_MEMOS; i++) {
+            memoInformation.deleteByPrimaryKey(MEMO_NAME_PREFIX + i);
+        }
+
+        exportFile.delete();
+    }
+
+    @Test
+    public void exportThenImport() throws IOException {
+        int countMemos = memoInformation.countMemos();
+        Runtime runtime = Runtime.getRuntime();
+
+        runtime.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+
+        int countExported;
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(exportFile), StandardCharsets.UTF_8)) {
+            countExported = new MemoExporter(context).export(writer, null);
+        }
+
+        long exportElapsed = System.nanoTime() - start;
+        long exportHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+
+        final int[] lastProcessed = {0};
+        IProgressListener listener = new IProgressListener() {
+            @Override
+            public void onProgress(int processed, int total) {
+                lastProcessed[0] = processed;
+            }
+        };
+
+        runtime.gc();
+        heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        start = System.nanoTime();
+
+        int countImported;
+        try (Reader reader = new InputStreamReader(new FileInputStream(exportFile), StandardCharsets.UTF_8)) {
+            countImported = new MemoImporter(context).importFrom(reader, MemoImporter.DEFAULT_BATCH_SIZE, listener);
+        }
+
+        long importElapsed = System.nanoTime() - start;
+        long importHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+
+        Log.i(TAG, String.format("export memos=%d bytes=%dKiB heap=%dKiB elapsed=%dms",
+                countExported, exportFile.length() / 1024, exportHeap / 1024, exportElapsed / 1000000));
+        Log.i(TAG, String.format("import memos=%d heap=%dKiB elapsed=%dms",
+                countImported, importHeap / 1024, importElapsed / 1000000));
+
+        assertEquals(countMemos, countExported);
+        assertEquals(countExported, countImported);
+        assertEquals(countMemos, memoInformation.countMemos());
+        assertTrue(exportHeap < exportFile.length());
+        assertTrue(importHeap < exportFile.length());
+    }
+
+    @Test
+    public void importKeepsTimestamps() throws IOException {
+        String memoName = MEMO_NAME_PREFIX + 0;
+        String json = "{\"format\":\"one_note_memos\",\"version\":1,\"count\":1,\"memos\":["
+                + "{\"memo_name\":\"" + memoName + "\",\"memo\":\"imported\","
+                + "\"registered_datetime\":1000,\"updated_datetime\":2000,\"unknown\":[1,2]}]}";
+
+        int countImported = new MemoImporter(context).importFrom(new StringReader(json), 1, null);
+        assertEquals(1, countImported);
+        long memoId = memoInformation.selectByPrimaryKey(memoName).getLong(0, MemoColumnKey.Id);
+        assertEquals("imported", memoInformation.readMemo(memoId));
+
+        for (MemoSummary summary : memoInformation.selectAllSummaries()) {
+            if (summary.getMemoName().equals(memoName)) {
+                assertEquals(2000L, summary.getUpdatedDatetime());
+                return;
+            }
+        }
+
+        throw new AssertionError(memoName);
+    }
+
+    @Test(expected = IOException.class)
+    public void importRejectsUnknownFormat() throws IOException {
+        new MemoImporter(context).importFrom(new StringReader("{\"format\":\"other\",\"memos\":[]}"), 1, null);
+    }
+}
@@ -0,0 +1,133 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 数千の版を持つメモについて、版の保存に要する容量の増幅率と任意の版の復元に要する時間を計測するベンチマークです。
+ */
+@RunWith(AndroidJUnit4.class)
+public class RevisionHistoryBenchmark {
+
+    private static final String TAG = RevisionHistoryBenchmark.class.getSimpleName();
+
+    private static final String MEMO_NAME = "benchmark_revision";
+
+    private static final int SIZE_MEMO = 20000;
+
+    private static final int COUNT_REVISIONS = 3000;
+
+    private static final int COUNT_RECONSTRUCTIONS = 200;
+
+    private MemoInformation memoInformation;
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        memoInformation = MemoInformation.getInstance(context);
+        memoInformation.setRevisionPolicy(new RevisionPolicy(32, COUNT_REVISIONS));
+    }
+
+    @After
+    public void tearDown() {
+        memoInformation.deleteByPrimaryKey(MEMO_NAME);
+        memoInformation.setRevisionPolicy(RevisionPolicy.DEFAULT);
+    }
+
+    @Test
+    public void amplificationAndReconstruction() {
+
+        Random random = new Random(42);
+        List<String> versions = new ArrayList<>(COUNT_REVISIONS);
+        long totalLength = 0;
+
+        StringBuilder body = new StringBuilder(SIZE_MEMO);
+        for (int i = 0; i < SIZE_MEMO; i++) {
+            body.append((char) ('a' + random.nextInt(26)));
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < COUNT_REVISIONS; i++) {
+            // 入力中の編集を模して任意の位置に数文字を挿入する
+            int position = random.nextInt(body.length());
+            body.insert(position, "edit" + i);
+
+            String version = body.toString();
+            versions.add(version);
+            totalLength += version.length();
+
+            memoInformation.replace(new MemoHolder(MEMO_NAME, version));
+        }
+
+        long saveElapsed = System.nanoTime() - start;
+        long memoId = selectMemoId();
+        long payloadLength = memoInformation.getRevisionPayloadLength(memoId);
+        String latest = versions.get(versions.size() - 1);
+
+        long[] latencies = new long[COUNT_RECONSTRUCTIONS];
+        for (int i = 0; i < COUNT_RECONSTRUCTIONS; i++) {
+            int revision = random.nextInt(COUNT_REVISIONS) + 1;
+
+            start = System.nanoTime();
+            String text = memoInformation.readRevision(memoId, revision);
+            latencies[i] = System.nanoTime() - start;
+
+            assertEquals(versions.get(revision - 1), text);
+        }
+
+        Arrays.sort(latencies);
+
+        Log.i(TAG, String.format("revisions=%d save=%dms payload=%d latest=%d fullCopies=%d",
+                COUNT_REVISIONS, saveElapsed / 1000000, payloadLength, latest.length(), totalLength));
+        Log.i(TAG, String.format("amplification vs latest=%.2f vs full copies=%.4f",
+                (double) payloadLength / latest.length(), (double) payloadLength / totalLength));
+        Log.i(TAG, String.format("reconstruct p50=%dus p95=%dus max=%dus",
+                latencies[latencies.length / 2] / 1000,
+                latencies[(int) (latencies.length * 0.95)] / 1000,
+                latencies[latencies.length - 1] / 1000));
+
+        // チェックポイントの間隔が32版であれば全文の保存の1/16を大きく下回る
+        assertTrue(payloadLength * 16 < totalLength);
+    }
+
+    @Test
+    public void compactionKeepsLatestRevisions() {
+        memoInformation.setRevisionPolicy(new RevisionPolicy(8, 50));
+
+        for (int i = 0; i < 200; i++) {
+            memoInformation.replace(new MemoHolder(MEMO_NAME, "memo revision " + i));
+        }
+
+        long memoId = selectMemoId();
+        List<MemoRevision> revisions = memoInformation.selectRevisions(memoId);
+
+        assertTrue(revisions.size() <= 50 + 8);
+        assertTrue(revisions.get(0).isCheckpoint());
+        assertEquals(200, revisions.get(revisions.size() - 1).getRevision());
+        assertEquals("memo revision " + (200 - revisions.size()), memoInformation.readRevision(memoId, revisions.get(0).getRevision()));
+        assertEquals("memo revision 199", memoInformation.readRevision(memoId, 200));
+    }
+
+    private long selectMemoId() {
+        return memoInformation.selectByPrimaryKey(MEMO_NAME).getLong(0, MemoColumnKey.Id);
+    }
+}
@@ -0,0 +1,16 @@
+-- アーカイブへ移動したメモ情報を保持する
+-- IDは元のデータベースで採番された値を維持するため自動採番しない
+-- 分割して保存されたメモは移動の対象外である
+create table if not exists memo_information(
+    id INTEGER NOT NULL PRIMARY KEY,
+    memo_name TEXT NOT NULL UNIQUE,
+    memo TEXT,
+    registered_datetime INTEGER NOT NULL,
+    updated_datetime INTEGER NOT NULL,
+    memo_format INTEGER NOT NULL DEFAULT 0,
+    memo_compressed BLOB,
+    memo_snippet TEXT
+)
+;
+create index if not exists memo_information_updated_datetime on memo_information(updated_datetime)
+;
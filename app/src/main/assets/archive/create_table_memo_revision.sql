@@ -0,0 +1,11 @@
+create table if not exists memo_revision(
+    memo_id INTEGER NOT NULL,
+    revision INTEGER NOT NULL,
+    checkpoint_revision INTEGER NOT NULL,
+    prefix_length INTEGER NOT NULL,
+    suffix_length INTEGER NOT NULL,
+    payload TEXT NOT NULL,
+    registered_datetime TEXT NOT NULL,
+    PRIMARY KEY (memo_id, revision)
+)
+;
@@ -0,0 +1,17 @@
+-- アーカイブへ移動したメモを全文検索の対象とするため、元のデータベースと同一の構成の索引を作成する
+-- 作成前に移動したメモは、アプリケーションの起動後に未登録の索引として登録される
+-- アーカイブの全文検索用の索引も本文を保持せず、圧縮して保存されたメモの平文を重複して保存しない
+-- 索引の内容とするテーブルは索引から行を削除する間に限り削除する内容を保持し、通常は空である
+-- 索引への登録及び削除はメモの書き込みと同一のトランザクションでアプリケーションから行う
+create table if not exists memo_information_fts_staging(
+    id INTEGER NOT NULL PRIMARY KEY,
+    memo_name TEXT,
+    memo TEXT
+)
+;
+create virtual table if not exists memo_information_fts using fts4(
+    content="memo_information_fts_staging",
+    memo_name,
+    memo
+)
+;
@@ -0,0 +1,22 @@
+-- 一覧の表示に使用するメモの先頭部分を生成する
+-- 改行及びタブを空白に置き換えた先頭100文字とし、MemoColumnKey.createSnippetと同一の結果とする
+-- 分割して保存されたメモは先頭の分割単位から生成する
+-- 圧縮して保存されたメモはSQL文で展開できないため、MemoInformation.fillMissingSnippetsで生成する
+update memo_information
+set memo_snippet = coalesce(
+    substr(
+        replace(replace(replace(
+            case
+                when chunk_count = 0 then memo
+                else (select chunk from memo_chunk where memo_id = memo_information.id and sequence = 0)
+            end,
+            X'0D', ' '), X'0A', ' '), X'09', ' '),
+        1, 100),
+    '')
+where id in (
+    select id from memo_information
+    where memo_snippet is null
+      and (memo is not null or chunk_count > 0)
+    limit 500
+)
+;
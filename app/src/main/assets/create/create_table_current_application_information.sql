@@ -0,0 +1,6 @@
+create table if not exists current_application_information(
+    config_name TEXT NOT NULL PRIMARY KEY,
+    config_value TEXT NOT NULL,
+    modified_datetime TEXT NOT NULL
+)
+;
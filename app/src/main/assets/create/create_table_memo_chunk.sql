@@ -0,0 +1,9 @@
+create table if not exists memo_chunk(
+    memo_id INTEGER NOT NULL,
+    sequence INTEGER NOT NULL,
+    chunk TEXT NOT NULL,
+    length INTEGER NOT NULL,
+    crc INTEGER NOT NULL,
+    PRIMARY KEY (memo_id, sequence)
+)
+;
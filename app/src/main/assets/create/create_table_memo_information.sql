@@ -2,7 +2,13 @@ create table if not exists memo_information(
     id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT,
     memo_name TEXT NOT NULL UNIQUE,
     memo TEXT,
-    registered_datetime TEXT NOT NULL,
-    updated_datetime TEXT NOT NULL
+    registered_datetime INTEGER NOT NULL,
+    updated_datetime INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    memo_format INTEGER NOT NULL DEFAULT 0,
+    memo_compressed BLOB,
+    memo_snippet TEXT
 )
-;
\ No newline at end of file
+;
+create index if not exists memo_information_updated_datetime on memo_information(updated_datetime)
+;
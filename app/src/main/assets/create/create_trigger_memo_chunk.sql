@@ -0,0 +1,5 @@
+create trigger if not exists memo_chunk_after_delete after delete on memo_information
+begin
+    delete from memo_chunk where memo_id = old.id;
+end
+;
@@ -0,0 +1,28 @@
+-- 圧縮して保存されたメモを全文検索の対象とするため、元のテーブルを内容とする索引を本文を保持しない索引へ置き換える
+-- 索引からの削除には登録時の平文が必要となるため、トリガーを廃止しアプリケーションから削除する
+drop trigger if exists memo_information_fts_before_update
+;
+drop trigger if exists memo_information_fts_after_update
+;
+drop trigger if exists memo_information_fts_after_insert
+;
+drop trigger if exists memo_information_fts_before_delete
+;
+drop table if exists memo_information_fts
+;
+create table if not exists memo_information_fts_staging(
+    id INTEGER NOT NULL PRIMARY KEY,
+    memo_name TEXT,
+    memo TEXT
+)
+;
+create virtual table if not exists memo_information_fts using fts4(
+    content="memo_information_fts_staging",
+    memo_name,
+    memo
+)
+;
+-- 圧縮して保存されたメモはSQL文で展開できないため、起動後にアプリケーションで登録する
+insert into memo_information_fts(docid, memo_name, memo)
+select id, memo_name, memo from memo_information where memo_format = 0
+;
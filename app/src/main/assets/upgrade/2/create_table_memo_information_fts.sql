@@ -0,0 +1,28 @@
+create virtual table if not exists memo_information_fts using fts4(
+    content="memo_information",
+    memo_name,
+    memo
+)
+;
+create trigger if not exists memo_information_fts_before_update before update on memo_information
+begin
+    delete from memo_information_fts where docid = old.id;
+end
+;
+create trigger if not exists memo_information_fts_before_delete before delete on memo_information
+begin
+    delete from memo_information_fts where docid = old.id;
+end
+;
+create trigger if not exists memo_information_fts_after_update after update on memo_information
+begin
+    insert into memo_information_fts(docid, memo_name, memo) values (new.id, new.memo_name, new.memo);
+end
+;
+create trigger if not exists memo_information_fts_after_insert after insert on memo_information
+begin
+    insert into memo_information_fts(docid, memo_name, memo) values (new.id, new.memo_name, new.memo);
+end
+;
+insert into memo_information_fts(memo_information_fts) values ('rebuild')
+;
@@ -0,0 +1,16 @@
+alter table memo_information add column chunk_count INTEGER NOT NULL DEFAULT 0
+;
+create table if not exists memo_chunk(
+    memo_id INTEGER NOT NULL,
+    sequence INTEGER NOT NULL,
+    chunk TEXT NOT NULL,
+    length INTEGER NOT NULL,
+    crc INTEGER NOT NULL,
+    PRIMARY KEY (memo_id, sequence)
+)
+;
+create trigger if not exists memo_chunk_after_delete after delete on memo_information
+begin
+    delete from memo_chunk where memo_id = old.id;
+end
+;
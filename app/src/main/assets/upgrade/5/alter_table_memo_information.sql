@@ -0,0 +1,4 @@
+alter table memo_information add column memo_format INTEGER NOT NULL DEFAULT 0
+;
+alter table memo_information add column memo_compressed BLOB
+;
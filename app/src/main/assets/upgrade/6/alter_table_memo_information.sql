@@ -0,0 +1,2 @@
+alter table memo_information add column memo_snippet TEXT
+;
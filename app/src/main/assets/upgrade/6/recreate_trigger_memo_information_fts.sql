@@ -0,0 +1,15 @@
+-- 全文検索の索引に含まれないカラムの更新で索引を再作成しないよう、更新時のトリガーの対象カラムを限定する
+drop trigger if exists memo_information_fts_before_update
+;
+drop trigger if exists memo_information_fts_after_update
+;
+create trigger if not exists memo_information_fts_before_update before update of memo_name, memo on memo_information
+begin
+    delete from memo_information_fts where docid = old.id;
+end
+;
+create trigger if not exists memo_information_fts_after_update after update of memo_name, memo on memo_information
+begin
+    insert into memo_information_fts(docid, memo_name, memo) values (new.id, new.memo_name, new.memo);
+end
+;
@@ -0,0 +1,72 @@
+-- 登録日時及び更新日時をyyyyMMddHHmmss形式の文字列からエポックミリ秒の整数へ変換する
+-- SQLiteはカラムの型を変更できないため、テーブルを作り直して既存の行を移し替える
+-- 変換元の日時はクライアントのタイムゾーンの日時であるため、utc修飾子でUTCへ変換する
+create table memo_information_migration(
+    id INTEGER NOT NULL PRIMARY KEY AUTOINCREMENT,
+    memo_name TEXT NOT NULL UNIQUE,
+    memo TEXT,
+    registered_datetime INTEGER NOT NULL,
+    updated_datetime INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    memo_format INTEGER NOT NULL DEFAULT 0,
+    memo_compressed BLOB,
+    memo_snippet TEXT
+)
+;
+insert into memo_information_migration(
+    id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_format, memo_compressed, memo_snippet)
+select
+    id,
+    memo_name,
+    memo,
+    coalesce(cast(strftime('%s',
+        substr(registered_datetime, 1, 4) || '-' || substr(registered_datetime, 5, 2) || '-' || substr(registered_datetime, 7, 2) || ' '
+        || substr(registered_datetime, 9, 2) || ':' || substr(registered_datetime, 11, 2) || ':' || substr(registered_datetime, 13, 2),
+        'utc') as integer) * 1000, 0),
+    coalesce(cast(strftime('%s',
+        substr(updated_datetime, 1, 4) || '-' || substr(updated_datetime, 5, 2) || '-' || substr(updated_datetime, 7, 2) || ' '
+        || substr(updated_datetime, 9, 2) || ':' || substr(updated_datetime, 11, 2) || ':' || substr(updated_datetime, 13, 2),
+        'utc') as integer) * 1000, 0),
+    chunk_count,
+    memo_format,
+    memo_compressed,
+    memo_snippet
+from memo_information
+;
+-- 削除済みのメモのIDを再利用しないよう採番の状態を引き継ぐ
+delete from sqlite_sequence where name = 'memo_information_migration'
+;
+insert into sqlite_sequence(name, seq) select 'memo_information_migration', seq from sqlite_sequence where name = 'memo_information'
+;
+-- テーブルの削除ではトリガーは実行されず、全文検索の索引はIDを維持したまま引き継がれる
+drop table memo_information
+;
+alter table memo_information_migration rename to memo_information
+;
+create index if not exists memo_information_updated_datetime on memo_information(updated_datetime)
+;
+create trigger if not exists memo_chunk_after_delete after delete on memo_information
+begin
+    delete from memo_chunk where memo_id = old.id;
+end
+;
+create trigger if not exists memo_information_fts_before_update before update of memo_name, memo on memo_information
+begin
+    delete from memo_information_fts where docid = old.id;
+end
+;
+create trigger if not exists memo_information_fts_before_delete before delete on memo_information
+begin
+    delete from memo_information_fts where docid = old.id;
+end
+;
+create trigger if not exists memo_information_fts_after_update after update of memo_name, memo on memo_information
+begin
+    insert into memo_information_fts(docid, memo_name, memo) values (new.id, new.memo_name, new.memo);
+end
+;
+create trigger if not exists memo_information_fts_after_insert after insert on memo_information
+begin
+    insert into memo_information_fts(docid, memo_name, memo) values (new.id, new.memo_name, new.memo);
+end
+;
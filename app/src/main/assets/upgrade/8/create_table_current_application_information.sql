@@ -0,0 +1,7 @@
+-- 設定値を保持するテーブルはモデルのみ定義され作成されていなかったため、既存のデータベースへ追加する
+create table if not exists current_application_information(
+    config_name TEXT NOT NULL PRIMARY KEY,
+    config_value TEXT NOT NULL,
+    modified_datetime TEXT NOT NULL
+)
+;
@@ -0,0 +1,22 @@
+-- 版をメモ名ではなくメモ情報のIDに紐付けるため、主キーをメモ情報のIDへ置き換えたテーブルへ移行する
+-- 紐付くメモ情報が存在しない版は参照できないため移行しない
+create table memo_revision_migrated(
+    memo_id INTEGER NOT NULL,
+    revision INTEGER NOT NULL,
+    checkpoint_revision INTEGER NOT NULL,
+    prefix_length INTEGER NOT NULL,
+    suffix_length INTEGER NOT NULL,
+    payload TEXT NOT NULL,
+    registered_datetime TEXT NOT NULL,
+    PRIMARY KEY (memo_id, revision)
+)
+;
+insert into memo_revision_migrated
+select m.id, r.revision, r.checkpoint_revision, r.prefix_length, r.suffix_length, r.payload, r.registered_datetime
+from memo_revision r
+inner join memo_information m on m.memo_name = r.memo_name
+;
+drop table memo_revision
+;
+alter table memo_revision_migrated rename to memo_revision
+;
@@ -1,6 +1,8 @@
 package dev.app.ks.thinkit.onenote;
 
 import android.app.AlertDialog;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
@@ -12,6 +14,7 @@ import com.google.android.material.snackbar.Snackbar;
 
 import androidx.appcompat.widget.Toolbar;
 import dev.app.ks.thinkit.onenote.framework.BaseActivity;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
 import dev.app.ks.thinkit.onenote.framework.Logger;
 import dev.app.ks.thinkit.onenote.framework.StringChecker;
 import dev.app.ks.thinkit.onenote.model.MemoHolder;
@@ -54,6 +57,12 @@ public final class MemoActivity extends BaseActivity {
      */
     private AlertDialog registerMemoNameDialog;
 
+    /**
+     * 編集中のメモのID。
+     * メモ名が登録されるまでは{@link MemoHolder#ID_UNASSIGNED}となります。
+     */
+    private long memoId = MemoHolder.ID_UNASSIGNED;
+
     /**
      * 当該アクティビティのコンストラクタ。
      * 基底クラスにレイアウトIDを渡すことで画面を構築します。
@@ -71,6 +80,12 @@ public final class MemoActivity extends BaseActivity {
         toolbar.setTitle(NEW_MEMO_NAME);
         setSupportActionBar(toolbar);
 
+        // 圧縮の導入前に保存された大きなメモを画面の操作と並行して圧縮する
+        MemoInformation.getInstance(this).compressExistingMemosInBackground();
+
+        // 長期間更新されていないメモをアーカイブへ移動し、最近のメモを保持するデータベースを小さく保つ
+        MemoInformation.getInstance(this).archiveStaleMemosInBackground();
+
         Logger.Debug.write(TAG, methodName, "END");
     }
 
@@ -87,6 +102,39 @@ public final class MemoActivity extends BaseActivity {
             }
         });
 
+        ((EditText) findViewById(R.id.one_note_input_field)).addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                Toolbar toolbar = findViewById(R.id.toolbar);
+                String memoTitle = toolbar.getTitle().toString();
+
+                // メモ名が登録されるまではIDが採番されず保存先が存在しないため自動保存しない
+                if (memoId != MemoHolder.ID_UNASSIGNED) {
+                    MemoInformation.getInstance(MemoActivity.this).autosave(new MemoHolder(memoId, memoTitle, s.toString()));
+                }
+            }
+        });
+
+        Logger.Debug.write(TAG, methodName, "END");
+    }
+
+    @Override
+    protected void onPause() {
+        String methodName = "onPause";
+        Logger.Debug.write(TAG, methodName, "START");
+
+        // 画面の破棄時に取り消されないよう反映処理は管理対象に含めない
+        MemoInformation.getInstance(this).flushAutosave(null);
+        super.onPause();
+
         Logger.Debug.write(TAG, methodName, "END");
     }
 
@@ -133,29 +181,60 @@ public final class MemoActivity extends BaseActivity {
         buttonRegister.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                EditText editTextMemoName = viewDialog.findViewById(R.id.input_field_memo_name);
-                String memoName = editTextMemoName.getText().toString();
+                final EditText editTextMemoName = viewDialog.findViewById(R.id.input_field_memo_name);
+                final String memoName = editTextMemoName.getText().toString();
 
                 if (StringChecker.isEffectiveString(memoName)) {
-                    MemoHolder memoHolder = new MemoHolder(memoName, memo);
                     MemoInformation memoInformation = MemoInformation.getInstance(MemoActivity.this);
 
-                    Toolbar toolbar = findViewById(R.id.toolbar);
+                    final Toolbar toolbar = findViewById(R.id.toolbar);
                     String memoTitle = toolbar.getTitle().toString();
 
-                    if (MemoActivity.NEW_MEMO_NAME.equals(memoTitle)) {
-                        memoInformation.insert(memoHolder);
+                    // 登録が完了するまで重複して登録されないよう入力を抑止する
+                    buttonRegister.setEnabled(false);
+                    editTextMemoName.setEnabled(false);
+
+                    final View snackbarAnchor = v;
+                    final IQueryCallback<Void> callback = new IQueryCallback<Void>() {
+                        @Override
+                        public void onSuccess(Void result) {
+                            toolbar.setTitle(memoName);
+                            Snackbar.make(snackbarAnchor, "Registered successfully", Snackbar.LENGTH_LONG).show();
+
+                            buttonCancel.setText(R.string.button_leave);
+                            LinearLayout linearLayoutButton = viewDialog.findViewById(R.id.linear_layout_button_memo_name_dialog);
+                            linearLayoutButton.removeView(buttonRegister);
+                        }
+
+                        @Override
+                        public void onFailure(Exception exception) {
+                            Snackbar.make(snackbarAnchor, "Failed to register", Snackbar.LENGTH_LONG).show();
+
+                            buttonRegister.setEnabled(true);
+                            editTextMemoName.setEnabled(true);
+                        }
+                    };
+
+                    if (memoId == MemoHolder.ID_UNASSIGNED) {
+                        manageQueryTask(memoInformation.insertAsync(new MemoHolder(memoName, memo), new IQueryCallback<Long>() {
+                            @Override
+                            public void onSuccess(Long result) {
+                                // 以降の保存はメモ名ではなく採番されたIDで行う
+                                memoId = result;
+                                callback.onSuccess(null);
+                            }
+
+                            @Override
+                            public void onFailure(Exception exception) {
+                                callback.onFailure(exception);
+                            }
+                        }));
+                    } else if (!memoTitle.equals(memoName)) {
+                        // 本文は自動保存で反映されるため、メモ名のみを変更する
+                        manageQueryTask(memoInformation.renameAsync(memoId, memoName, callback));
                     } else {
-                        memoInformation.replace(memoHolder);
+                        manageQueryTask(memoInformation.replaceAsync(new MemoHolder(memoId, memoName, memo), callback));
                     }
-
-                    toolbar.setTitle(memoName);
-                    Snackbar.make(v, "Registered successfully", Snackbar.LENGTH_LONG).show();
-
-                    editTextMemoName.setEnabled(false);
-                    buttonCancel.setText(R.string.button_leave);
-                    LinearLayout linearLayoutButton = viewDialog.findViewById(R.id.linear_layout_button_memo_name_dialog);
-                    linearLayoutButton.removeView(buttonRegister);
                 } else {
                     Snackbar.make(v, "Memo name is required", Snackbar.LENGTH_LONG).show();
                 }
@@ -5,7 +5,6 @@ import android.content.ClipData;
 import android.content.ClipboardManager;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.content.pm.ActivityInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.ResolveInfo;
@@ -27,6 +26,7 @@ import java.net.CookieManager;
 import java.net.CookiePolicy;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +34,8 @@ import java.util.Set;
 import androidx.appcompat.app.AppCompatActivity;
 import dev.app.ks.thinkit.onenote.BuildConfig;
 import dev.app.ks.thinkit.onenote.framework.model.CurrentApplicationInformation;
+import dev.app.ks.thinkit.onenote.framework.model.SettingsStore;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
 
 /**
  * ======================================================================
@@ -76,15 +78,23 @@ public abstract class BaseActivity extends AppCompatActivity {
     private final ProgressDialogHandler progressDialogHandler;
 
     /**
-     * 共有情報へアクセスするためのオブジェクト。
+     * 共有情報及びコンフィグ値をメモリ上に保持するオブジェクト。
      */
-    private SharedPreferences sharedPreferences;
+    private SettingsStore settingsStore;
 
     /**
      * インテースティシャル広告のオブジェクト。
      */
     private InterstitialAd mInterstitialAd;
 
+    /**
+     * 当該アクティビティから実行スレッドへ投入したデータベース操作のリスト。
+     * アクティビティの破棄時に未完了の操作は取り消されます。
+     *
+     * @see #manageQueryTask(QueryTask)
+     */
+    private final List<QueryTask<?>> queryTaskList = new ArrayList<>();
+
     /**
      * 当該基底クラスのコンストラクタ。
      * 当該基底クラスを継承した子クラスは必ず当該コンストラクタを実行する必要があります。
@@ -96,16 +106,6 @@ public abstract class BaseActivity extends AppCompatActivity {
         progressDialogHandler = new ProgressDialogHandler(this);
     }
 
-    /**
-     * 共有情報のデフォルトファイル名を返却します。
-     *
-     * @param context アプリケーション情報。
-     * @return デフォルトファイル名。
-     */
-    private static String getDefaultSharedPreferencesName(Context context) {
-        return context.getPackageName() + "_preferences";
-    }
-
     /**
      * アプリケーションがデバッグモードで起動しているか判定します。
      * リリース版の場合は常にfalseが返却されます。
@@ -206,8 +206,9 @@ public abstract class BaseActivity extends AppCompatActivity {
         String methodName = "onCreate";
         Logger.Info.write(TAG, methodName, "START");
 
-        // Activityが生成されてからインスタンスを取得する
-        sharedPreferences = getSharedPreferences(getDefaultSharedPreferencesName(this), Context.MODE_PRIVATE);
+        // Activityが生成されてからインスタンスを取得し、画面の初期化と並行して設定値を読み込む
+        settingsStore = SettingsStore.getInstance(this);
+        settingsStore.preload(null);
 
         initializeView();
         setListeners();
@@ -215,6 +216,55 @@ public abstract class BaseActivity extends AppCompatActivity {
         Logger.Info.write(TAG, methodName, "END");
     }
 
+    @Override
+    protected void onPause() {
+        super.onPause();
+
+        // プロセスが終了する前に未反映の設定値を永続化する
+        settingsStore.flush();
+    }
+
+    @Override
+    protected void onDestroy() {
+        String methodName = "onDestroy";
+        Logger.Info.write(TAG, methodName, "START");
+
+        // 破棄されたアクティビティへ処理結果が通知されないよう未完了の操作を取り消す
+        for (QueryTask<?> queryTask : queryTaskList) {
+            queryTask.cancel();
+        }
+
+        queryTaskList.clear();
+        super.onDestroy();
+
+        Logger.Info.write(TAG, methodName, "END");
+    }
+
+    /**
+     * 実行スレッドへ投入したデータベース操作を当該アクティビティのライフサイクルに紐付けます。
+     * 紐付けた操作はアクティビティの破棄時に自動的に取り消され、
+     * 処理結果はコールバックへ通知されなくなります。
+     * 当該メソッドはメインスレッドから呼び出す必要があります。
+     *
+     * @param queryTask 実行スレッドへ投入したデータベース操作。
+     * @param <T>       処理結果の型。
+     * @return 引数として渡されたデータベース操作。
+     * @see QueryTask#cancel()
+     */
+    protected final <T> QueryTask<T> manageQueryTask(QueryTask<T> queryTask) {
+
+        // 完了済みの操作は取り消す必要がないため除外する
+        for (Iterator<QueryTask<?>> iterator = queryTaskList.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().isDone()) {
+                iterator.remove();
+            }
+        }
+
+        queryTaskList.add(queryTask);
+
+        return queryTask;
+    }
+
     /**
      * 引数として渡されたタイトルとメッセージを基にプログレスダイアログを表示します。
      * ダイアログの表示が不要になった際には必ず{@code dismissDialog()}を実行してください。
@@ -240,14 +290,15 @@ public abstract class BaseActivity extends AppCompatActivity {
     /**
      * キーを基に共有情報の保存処理を行います。
      * 保存情報は外部の定義体内で管理されます。
+     * 値は即時に参照可能となり、永続化は非同期で一括して行われます。
      *
      * @param key   保存する値に紐付くキー。
      * @param value 保存する値。
      * @see IPreferenceKey
+     * @see SettingsStore#putString(IPreferenceKey, String)
      */
     protected final void saveSharedPreference(IPreferenceKey key, String value) {
-        SharedPreferences.Editor editor = sharedPreferences.edit();
-        editor.putString(key.getKeyName(), value).apply();
+        settingsStore.putString(key, value);
     }
 
     /**
@@ -256,24 +307,22 @@ public abstract class BaseActivity extends AppCompatActivity {
      *
      * @param key 保存情報に紐付くキー。
      * @see IPreferenceKey
+     * @see SettingsStore#getString(IPreferenceKey)
      */
     protected final String getSharedPreference(IPreferenceKey key) {
-        return sharedPreferences.getString(key.getKeyName(), "");
+        return settingsStore.getString(key);
     }
 
     /**
-     * 入力情報を基にカレントアプリケーション情報を参照し、
-     * 入力に紐付くコンフィグ値を返却します。
+     * 入力に紐付くコンフィグ値をメモリ上に保持された設定値から返却します。
+     * 当該メソッドはデータベースへの入出力を伴いません。
      *
      * @param config 取得対象の値に紐付くコンフィグ名
-     * @return 検索処理が正常終了した場合はコンフィグ名に紐付くコンフィグ値。
-     * @see CurrentApplicationInformation
-     * @see CurrentApplicationInformation#selectByPrimaryKey(CurrentApplicationInformation.ConfigName)
+     * @return コンフィグ名に紐付くコンフィグ値。存在しない場合は空文字列。
+     * @see SettingsStore#getConfigValue(CurrentApplicationInformation.ConfigName)
      */
     protected final String getConfigValue(CurrentApplicationInformation.ConfigName config) {
-        CurrentApplicationInformation currentApplicationInformation = getCurrentApplicationInformation();
-        currentApplicationInformation.selectByPrimaryKey(config);
-        return currentApplicationInformation.getConfigValue();
+        return settingsStore.getConfigValue(config);
     }
 
     /**
@@ -321,20 +370,14 @@ public abstract class BaseActivity extends AppCompatActivity {
      */
     protected void showInterstitialAd(int threshold) {
 
-        String countTransfer = getSharedPreference(PreferenceKey.CountTransferForInterstitial);
+        // 画面遷移の度に呼び出されるため、回数はメモリ上で加算し永続化は一括して行う
+        int countTransferForInterstitial = settingsStore.getInt(PreferenceKey.CountTransferForInterstitial, 0);
 
-        if (StringChecker.isEffectiveString(countTransfer)) {
-            int countTransferForInterstitial = Integer.parseInt(countTransfer);
-
-            if (countTransferForInterstitial > threshold && mInterstitialAd.isLoaded()) {
-                saveSharedPreference(PreferenceKey.CountTransferForInterstitial, "1");
-                mInterstitialAd.show();
-            } else {
-                countTransferForInterstitial++;
-                saveSharedPreference(PreferenceKey.CountTransferForInterstitial, String.valueOf(countTransferForInterstitial));
-            }
+        if (countTransferForInterstitial > threshold && mInterstitialAd.isLoaded()) {
+            settingsStore.putInt(PreferenceKey.CountTransferForInterstitial, 1);
+            mInterstitialAd.show();
         } else {
-            saveSharedPreference(PreferenceKey.CountTransferForInterstitial, "1");
+            settingsStore.putInt(PreferenceKey.CountTransferForInterstitial, countTransferForInterstitial + 1);
         }
     }
 
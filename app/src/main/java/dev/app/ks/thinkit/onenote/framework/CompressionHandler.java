@@ -0,0 +1,125 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : CompressionHandler.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 文字列に対する圧縮および展開を行う機能を定義したユーティリティクラスです。
+ * 文字列はUTF-8で符号化した後にDeflate形式で圧縮されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public final class CompressionHandler {
+
+    /**
+     * 圧縮及び展開時に使用する文字コード。
+     */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * 圧縮及び展開時に使用するバッファの大きさ。
+     */
+    private static final int SIZE_BUFFER = 8192;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private CompressionHandler() {
+    }
+
+    /**
+     * 入力として渡された文字列をDeflate形式で圧縮し返却します。
+     *
+     * @param source 圧縮対象の文字列。
+     * @return 圧縮後のバイト列。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static byte[] compress(String source) {
+
+        if (source == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        byte[] input = source.getBytes(CHARSET);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(input.length / 4 + 64);
+            byte[] buffer = new byte[SIZE_BUFFER];
+
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+
+            return outputStream.toByteArray();
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Deflate形式で圧縮されたバイト列を展開し文字列として返却します。
+     *
+     * @param source 展開対象のバイト列。
+     * @return 展開後の文字列。
+     * @throws IllegalArgumentException 不正な入力を検知した際及びバイト列が破損している場合に発生します。
+     */
+    public static String decompress(byte[] source) {
+
+        if (source == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(source);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.length * 4);
+            byte[] buffer = new byte[SIZE_BUFFER];
+
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    // 終端に達する前に入力が尽きた場合は破損している
+                    throw new IllegalArgumentException();
+                }
+
+                outputStream.write(buffer, 0, length);
+            }
+
+            return new String(outputStream.toByteArray(), CHARSET);
+
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
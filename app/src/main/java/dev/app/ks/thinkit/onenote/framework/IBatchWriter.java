@@ -0,0 +1,35 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import java.util.List;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IBatchWriter.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 蓄積された複数のデータクラスを一括で永続化する処理を定義するインターフェースです。
+ * 実装クラスでは渡された全てのデータクラスを単一のトランザクションで書き込む必要があります。
+ *
+ * @param <H> 永続化するデータクラスの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IBatchWriter<H> {
+
+    /**
+     * 渡された全てのデータクラスを一括で永続化します。
+     * 当該メソッドはデータベース操作用のスレッドで呼び出されます。
+     *
+     * @param holderList 永続化するデータクラスのリスト。
+     */
+    void writeAll(List<H> holderList);
+}
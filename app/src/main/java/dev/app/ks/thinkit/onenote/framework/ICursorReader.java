@@ -0,0 +1,36 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import android.database.Cursor;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ICursorReader.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 任意のSQL文で取得したカーソルから検索結果を読み取る処理を定義するインターフェースです。
+ * カーソルは当該インターフェースの呼び出し元で閉じられるため、
+ * 実装クラスではカーソルを閉じたり外部へ保持したりしてはいけません。
+ *
+ * @param <T> 読み取った検索結果の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ICursorReader<T> {
+
+    /**
+     * カーソルから検索結果を読み取り返却します。
+     *
+     * @param cursor カーソルオブジェクト。
+     * @return 読み取った検索結果。
+     */
+    T read(Cursor cursor);
+}
@@ -0,0 +1,32 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IProgressListener.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 長時間の処理の進捗を受け取る処理を定義するインターフェースです。
+ * 各メソッドは必ずメインスレッドで呼び出されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IProgressListener {
+
+    /**
+     * 処理の進捗が更新された際に呼び出されます。
+     *
+     * @param processed 処理済みの件数。
+     * @param total     処理対象の全件数。全件数が不明な場合は0。
+     */
+    void onProgress(int processed, int total);
+}
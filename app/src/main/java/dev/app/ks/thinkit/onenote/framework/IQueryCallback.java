@@ -0,0 +1,39 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IQueryCallback.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 非同期で実行したデータベース操作の結果を受け取る処理を定義するインターフェースです。
+ * 各メソッドは必ずメインスレッドで呼び出されます。
+ *
+ * @param <T> 処理結果の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IQueryCallback<T> {
+
+    /**
+     * データベース操作が正常終了した際に呼び出されます。
+     *
+     * @param result 処理結果。
+     */
+    void onSuccess(T result);
+
+    /**
+     * データベース操作が異常終了した際に呼び出されます。
+     *
+     * @param exception 処理中に発生した例外。
+     */
+    void onFailure(Exception exception);
+}
@@ -0,0 +1,38 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import android.database.Cursor;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IRecordBinder.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * カーソルの現在行を型付きで参照するオブジェクトを生成する処理を定義するインターフェースです。
+ * 生成されたオブジェクトはカーソル毎に一度だけ生成され、カーソルの移動に従って参照する行が切り替わります。
+ * カラムの位置は生成時に一度だけ解決する必要があります。
+ *
+ * @param <R> 現在行を参照するオブジェクトの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see IRecordVisitor
+ * @since 1.0
+ */
+public interface IRecordBinder<R> {
+
+    /**
+     * カーソルの現在行を参照するオブジェクトを生成し返却します。
+     * 返却したオブジェクトはカーソルが閉じられた後に使用してはいけません。
+     *
+     * @param cursor カーソルオブジェクト。
+     * @return カーソルの現在行を参照するオブジェクト。
+     */
+    R bind(Cursor cursor);
+}
@@ -0,0 +1,36 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IRecordVisitor.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 検索結果を型付きの行として一行ずつ受け取る処理を定義するインターフェースです。
+ * 渡される行は同一のオブジェクトが次の行の参照に再利用されるため、
+ * 行の値を保持する場合は{@code visit}の中で値を取り出す必要があります。
+ *
+ * @param <R> 行の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see IRecordBinder
+ * @since 1.0
+ */
+public interface IRecordVisitor<R> {
+
+    /**
+     * 検索結果の一行を受け取ります。
+     * 以降の行が不要な場合は{@code false}を返却することで検索処理を終了できます。
+     *
+     * @param record 検索結果の現在行を参照するオブジェクト。
+     * @return 検索処理を継続する場合は {@code true}、終了する場合は{@code false}。
+     */
+    boolean visit(R record);
+}
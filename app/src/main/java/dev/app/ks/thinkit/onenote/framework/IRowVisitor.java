@@ -0,0 +1,34 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IRowVisitor.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 検索結果を一行ずつ受け取る処理を定義するインターフェースです。
+ * 検索結果をモデルリストへ展開せずに逐次処理する場合は当該インターフェースを実装する必要があります。
+ *
+ * @param <E> カラム項目の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IRowVisitor<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * 検索結果の一行を受け取ります。
+     * 以降の行が不要な場合は{@code false}を返却することで検索処理を終了できます。
+     *
+     * @param row 検索結果の一行。
+     * @return 検索処理を継続する場合は {@code true}、終了する場合は{@code false}。
+     */
+    boolean visit(ModelMap<E, Object> row);
+}
@@ -0,0 +1,33 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ISettingsListener.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 設定値の変更を受け取るリスナーを定義するインターフェースです。
+ * 通知はメインスレッドで行われます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see dev.app.ks.thinkit.onenote.framework.model.SettingsStore
+ * @since 1.0
+ */
+public interface ISettingsListener {
+
+    /**
+     * 設定値が変更された際に呼び出されます。
+     * 設定値は通知の時点で既に参照できますが、永続化は完了していない場合があります。
+     *
+     * @param keyName 変更された設定値のキー。
+     */
+    void onSettingChanged(String keyName);
+}
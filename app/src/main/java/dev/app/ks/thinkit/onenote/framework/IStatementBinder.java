@@ -0,0 +1,36 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import android.database.sqlite.SQLiteStatement;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : IStatementBinder.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * コンパイル済みのステートメントへデータクラスの値を設定する処理を定義するインターフェースです。
+ * ContentValuesを介さずにステートメントへ直接値を設定する場合は当該インターフェースを実装する必要があります。
+ *
+ * @param <H> 値を保持するデータクラスの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IStatementBinder<H> {
+
+    /**
+     * データクラスの値をステートメントへ設定します。
+     * ステートメントのインデックスは1から始まります。
+     *
+     * @param statement コンパイル済みのステートメント。
+     * @param holder    値を保持するデータクラス。
+     */
+    void bind(SQLiteStatement statement, H holder);
+}
@@ -0,0 +1,37 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import android.database.sqlite.SQLiteDatabase;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ITransaction.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 単一のトランザクション内で実行するデータベース操作を定義するインターフェースです。
+ * 検索条件クラスで表現できない複数の操作を不可分に行う場合は当該インターフェースを実装する必要があります。
+ * 渡されたデータベースオブジェクトを閉じたり、トランザクションを操作したりしてはいけません。
+ *
+ * @param <T> 処理結果の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public interface ITransaction<T> {
+
+    /**
+     * トランザクション内でデータベース操作を行います。
+     * 例外が発生した場合はトランザクション内の全ての操作が取り消されます。
+     *
+     * @param database 書き込み用のSQLiteデータベースのオブジェクト。
+     * @return 処理結果。
+     */
+    T execute(SQLiteDatabase database);
+}
@@ -19,6 +19,10 @@ public final class ModelMap<E extends Enum<E> & IModelMapKey, V> extends EnumMap
         return (Integer) get(key);
     }
 
+    public Long getLong(IModelMapKey key) {
+        return (Long) get(key);
+    }
+
     public Double getDouble(IModelMapKey key) {
         return (Double) get(key);
     }
@@ -3,7 +3,7 @@ package dev.app.ks.thinkit.onenote.framework;
 import android.app.ProgressDialog;
 import android.content.Context;
 
-public final class ProgressDialogHandler {
+public final class ProgressDialogHandler implements IProgressListener {
 
     private final Context context;
     private ProgressDialog progressDialog;
@@ -50,6 +50,27 @@ public final class ProgressDialogHandler {
         progressDialog.incrementProgressBy(1);
     }
 
+    /**
+     * 表示中のダイアログの進捗を更新します。
+     * 全件数が判明している場合はダイアログの最大値も合わせて更新します。
+     *
+     * @param processed 処理済みの件数。
+     * @param total     処理対象の全件数。全件数が不明な場合は0。
+     */
+    @Override
+    public void onProgress(int processed, int total) {
+
+        if (progressDialog == null) {
+            return;
+        }
+
+        if (total > 0 && progressDialog.getMax() != total) {
+            progressDialog.setMax(total);
+        }
+
+        progressDialog.setProgress(processed);
+    }
+
     public void dismissDialog() {
 
         if (progressDialog != null && progressDialog.isShowing()) {
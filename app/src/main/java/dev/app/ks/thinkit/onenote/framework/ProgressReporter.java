@@ -0,0 +1,69 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ProgressReporter.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 実行スレッドで行う処理の進捗をメインスレッドのリスナーへ通知するクラスです。
+ * 通知はメインスレッドのメッセージキューを介して行われるため、
+ * 呼び出し側は一定件数毎に通知するなど通知の頻度を抑える必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see IProgressListener
+ * @since 1.0
+ */
+public final class ProgressReporter {
+
+    /**
+     * メインスレッドへ処理を投入するハンドラー。
+     */
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 進捗を受け取るリスナー。通知が不要な場合は{@code null}。
+     */
+    private final IProgressListener listener;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param listener 進捗を受け取るリスナー。通知が不要な場合は{@code null}。
+     */
+    public ProgressReporter(IProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 処理の進捗をメインスレッドのリスナーへ通知します。
+     * リスナーが設定されていない場合は何も行いません。
+     *
+     * @param processed 処理済みの件数。
+     * @param total     処理対象の全件数。全件数が不明な場合は0。
+     */
+    public void report(final int processed, final int total) {
+
+        if (listener == null) {
+            return;
+        }
+
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                listener.onProgress(processed, total);
+            }
+        });
+    }
+}
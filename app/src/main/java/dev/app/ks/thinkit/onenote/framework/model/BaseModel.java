@@ -1,255 +1,1763 @@
 package dev.app.ks.thinkit.onenote.framework.model;
 
+import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.SQLException;
+import android.database.sqlite.SQLiteStatement;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
+import dev.app.ks.thinkit.onenote.framework.ICursorReader;
 import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.IRecordBinder;
+import dev.app.ks.thinkit.onenote.framework.IRecordVisitor;
+import dev.app.ks.thinkit.onenote.framework.IRowVisitor;
+import dev.app.ks.thinkit.onenote.framework.IStatementBinder;
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+import dev.app.ks.thinkit.onenote.framework.ITransaction;
 import dev.app.ks.thinkit.onenote.framework.ModelList;
 import dev.app.ks.thinkit.onenote.framework.ModelMap;
 import dev.app.ks.thinkit.onenote.framework.StringChecker;
 import dev.app.ks.thinkit.onenote.framework.model.adapter.DatabaseAdapter;
-import dev.app.ks.thinkit.onenote.framework.model.holder.DeleteHolder;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.DatabaseConnectionManager;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.StatementKey;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
 import dev.app.ks.thinkit.onenote.framework.model.holder.InsertHolder;
-import dev.app.ks.thinkit.onenote.framework.model.holder.SelectHolder;
+import dev.app.ks.thinkit.onenote.framework.model.holder.KeysetHolder;
+import dev.app.ks.thinkit.onenote.framework.model.monitor.QueryMonitor;
+import dev.app.ks.thinkit.onenote.framework.model.query.Condition;
+import dev.app.ks.thinkit.onenote.framework.model.query.Query;
+import dev.app.ks.thinkit.onenote.framework.model.query.QueryBuilder;
 import dev.app.ks.thinkit.onenote.model.property.Table;
 
 public abstract class BaseModel<E extends Enum<E> & IModelMapKey> {
 
     /**
-     * 定数 : where句のフォーマットを保持する。
+     * 定数 : クラス名を保持する。
+     */
+    private static final String TAG = BaseModel.class.getName();
+    /**
+     * 変数 : 操作するモデル情報を保持する。
+     */
+    private final Table TABLE;
+    /**
+     * 変数 : アプリケーション情報を保持する。
+     * データベース操作を行うアダプターは操作毎に当該情報から生成する。
+     */
+    private final Context context;
+    /**
+     * 変数 : モデルマップのキーの型を保持する。
+     */
+    private final Class<E> keyType;
+    /**
+     * 変数 : 主キーによる検索結果のキャッシュを保持する。
+     * キャッシュを使用しない場合は{@code null}。
+     */
+    private volatile ModelCache<E> modelCache = null;
+    /**
+     * 変数 : 保存層を横断する検索でテーブルの代わりに参照する副問い合わせを保持する。
+     * アーカイブを使用しない場合は{@code null}。
+     */
+    private volatile String tierSource = null;
+
+    /**
+     * 当該基底クラスのコンストラクタ。
+     *
+     * @param context アプリケーション情報。
+     * @param table   操作するテーブルの情報。
+     * @param keyType モデルマップのキーの型。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see Table
+     */
+    protected BaseModel(Context context, Table table, Class<E> keyType) {
+
+        if (context == null
+                || table == null
+                || keyType == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.context = context.getApplicationContext();
+        TABLE = table;
+        this.keyType = keyType;
+    }
+
+    /**
+     * 検索処理後に実行する処理を定義する抽象メソッドです。
+     * 当該基底クラスを継承するクラスは当該メソッドを実装する必要があります。
+     *
+     * @param cursor 検索処理の結果。
+     * @return 検索後処理が成功した場合は {@code true}、失敗した場合は {@code false}を返却します。
+     */
+    protected abstract ModelList<ModelMap<E, Object>> onPostSelect(Cursor cursor);
+
+    /**
+     * カーソルが指している一行をモデルマップへ変換する抽象メソッドです。
+     * 当該基底クラスを継承するクラスは当該メソッドを実装する必要があります。
+     * 当該メソッドはカーソルの位置を移動してはいけません。
+     *
+     * @param cursor 検索結果の行を指しているカーソル。
+     * @return 一行分のモデルマップ。
+     */
+    protected abstract ModelMap<E, Object> onPostSelectRow(Cursor cursor);
+
+    /**
+     * IDによる検索結果をキャッシュするよう設定します。
+     * 当該基底クラスの挿入系及び削除系の処理はキャッシュを自動的に無効化しますが、
+     * {@link #executeInsert(StatementKey, IStatementBinder, Object)}及び
+     * {@link #executeTransaction(ITransaction)}内で更新及び削除した行は、
+     * 継承するクラスがコミット後に{@link #invalidateCache(long)}で無効化する必要があります。
+     *
+     * @param modelCache 検索結果のキャッシュ。キャッシュを使用しない場合は{@code null}。
+     * @see #selectById(StatementKey, long)
+     */
+    protected final void setModelCache(ModelCache<E> modelCache) {
+        this.modelCache = modelCache;
+    }
+
+    /**
+     * 長期間参照されていない行をアーカイブへ移動するテーブルとして設定します。
+     * <p>
+     * 設定後は主キーによる検索が元のテーブルで適合しなかった場合に限りアーカイブを検索し、
+     * 保存層を横断する検索はアーカイブの行を含めて行われます。
+     * 元のテーブルとアーカイブの両方に存在する行は元のテーブルの行を優先します。
+     * アーカイブのテーブルはモデルマップのキーに対応するカラムのみを保持する必要があります。
+     *
+     * @param idColumn 両方の保存層で行を識別するIDのカラム。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #rawQueryAllTiers(String, String[], ICursorReader)
+     * @see #executeArchiveTransaction(ITransaction)
+     */
+    protected final void enableArchiveTier(E idColumn) {
+
+        if (idColumn == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        StringBuilder columns = new StringBuilder();
+
+        for (E column : keyType.getEnumConstants()) {
+            if (columns.length() > 0) {
+                columns.append(", ");
+            }
+
+            columns.append(column.getKeyName());
+        }
+
+        String tableName = TABLE.getName();
+        String hotTable = "main." + tableName;
+        String archiveTable = DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME + "." + tableName;
+
+        tierSource = "(SELECT " + columns + " FROM " + hotTable
+                + " UNION ALL SELECT " + columns + " FROM " + archiveTable
+                + " WHERE " + idColumn.getKeyName() + " NOT IN (SELECT " + idColumn.getKeyName() + " FROM " + hotTable + "))"
+                + " AS " + tableName;
+    }
+
+    /**
+     * アーカイブが存在し、読み取り専用の接続にアタッチされているか判定します。
+     * アーカイブのファイルが存在する場合、読み取り専用の接続を開いた時点でアタッチされます。
+     *
+     * @return アーカイブを使用しており、アタッチされている場合は {@code true}、それ以外は{@code false}。
+     * @see #enableArchiveTier(Enum)
+     */
+    protected final boolean hasArchive() {
+
+        if (tierSource == null) {
+            return false;
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+            return readOnlyDatabaseAdapter.isArchiveAttached();
+
+        } finally {
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * 保存層を横断する検索で参照するテーブルを返却します。
+     * アーカイブが読み取り専用の接続にアタッチされていない場合は元のテーブルのみを参照します。
+     *
+     * @param readOnlyDatabaseAdapter 読み取り専用の接続を開いたアダプター。
+     * @return テーブル名または保存層を横断する副問い合わせ。
+     */
+    private String getTierSource(DatabaseAdapter readOnlyDatabaseAdapter) {
+
+        String source = tierSource;
+
+        if (source == null || !readOnlyDatabaseAdapter.isArchiveAttached()) {
+            return TABLE.getName();
+        }
+
+        return source;
+    }
+
+    /**
+     * 保存層を横断する検索で参照するテーブルを{@link QueryBuilder}へ渡す形式で返却します。
+     *
+     * @param readOnlyDatabaseAdapter 読み取り専用の接続を開いたアダプター。
+     * @return テーブルまたは保存層を横断する副問い合わせ。
+     * @see #getTierSource(DatabaseAdapter)
+     */
+    private ITableInfo createTierSource(DatabaseAdapter readOnlyDatabaseAdapter) {
+
+        final String source = getTierSource(readOnlyDatabaseAdapter);
+
+        if (source.equals(TABLE.getName())) {
+            return TABLE;
+        }
+
+        return new ITableInfo() {
+            @Override
+            public String getName() {
+                return source;
+            }
+        };
+    }
+
+    /**
+     * IDに紐付く検索結果のキャッシュを無効化します。
+     * キャッシュを使用していない場合は何も行いません。
+     *
+     * @param id ID。
+     */
+    protected final void invalidateCache(long id) {
+
+        ModelCache<E> cache = modelCache;
+
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * 全ての検索結果のキャッシュを無効化します。
+     * キャッシュを使用していない場合は何も行いません。
+     */
+    protected final void invalidateCache() {
+
+        ModelCache<E> cache = modelCache;
+
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 検索結果のキャッシュの統計情報を返却します。
+     *
+     * @return キャッシュの統計情報。キャッシュを使用していない場合は{@code null}。
+     */
+    public final CacheStatistics getCacheStatistics() {
+
+        ModelCache<E> cache = modelCache;
+
+        return cache == null ? null : cache.getStatistics();
+    }
+
+    /**
+     * プライマリキーを基に検索処理を行い、検索結果を返却します。
+     *
+     * @param primaryKeyName 主キーのカラム。
+     * @param primaryKey     主キー。
+     * @return 呼び出し毎に生成された検索結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #select(Query, Object...)
+     */
+    protected final ModelResult<E> selectByPrimaryKey(E primaryKeyName, String primaryKey) {
+
+        if (!StringChecker.isEffectiveString(primaryKey)) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return select(createPrimaryKeyQuery(QueryBuilder.select(TABLE, keyType), primaryKeyName), primaryKey);
+    }
+
+    /**
+     * プライマリキーを基に非同期で検索処理を行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param primaryKeyName 主キーのカラム。
+     * @param primaryKey     主キー。
+     * @param callback       検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #selectByPrimaryKey(Enum, String)
+     */
+    protected final QueryTask<ModelResult<E>> selectByPrimaryKeyAsync(
+            final E primaryKeyName,
+            final String primaryKey,
+            IQueryCallback<ModelResult<E>> callback) {
+
+        return executeAsync(new Callable<ModelResult<E>>() {
+            @Override
+            public ModelResult<E> call() {
+                return selectByPrimaryKey(primaryKeyName, primaryKey);
+            }
+        }, callback);
+    }
+
+    /**
+     * キーセット方式のページングで検索処理を行い、検索結果を一行ずつビジターへ渡します。
+     * 検索結果はモデルリストへ展開されないため、
+     * 対象の行数に関わらず保持する行は一ページ分に限られます。
+     * <p>
+     * ビジターが{@code false}を返却した時点で検索処理は終了します。
+     * 各ページのカーソルは処理の成否に関わらず必ず閉じられます。
+     *
+     * @param keysetHolder 検索条件。
+     * @param visitor      検索結果を受け取るビジター。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see KeysetHolder
+     */
+    protected final void selectEach(KeysetHolder<E> keysetHolder, final IRowVisitor<E> visitor) {
+
+        if (visitor == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        selectEach(keysetHolder, new IRecordBinder<Cursor>() {
+            @Override
+            public Cursor bind(Cursor cursor) {
+                return cursor;
+            }
+        }, new IRecordVisitor<Cursor>() {
+            @Override
+            public boolean visit(Cursor cursor) {
+                return visitor.visit(onPostSelectRow(cursor));
+            }
+        });
+    }
+
+    /**
+     * キーセット方式のページングで検索処理を行い、検索結果を型付きの行として一行ずつビジターへ渡します。
+     * 行を参照するオブジェクトはページのカーソル毎に一度だけ生成され、同一ページの全行で再利用されます。
+     * そのため、行毎のモデルマップの生成及びカラムの位置の解決は発生しません。
+     * <p>
+     * ビジターが{@code false}を返却した時点で検索処理は終了します。
+     * 各ページのカーソルは処理の成否に関わらず必ず閉じられます。
+     *
+     * @param keysetHolder 検索条件。
+     * @param binder       カーソルの現在行を参照するオブジェクトを生成する処理。
+     * @param visitor      検索結果を受け取るビジター。
+     * @param <R>          行を参照するオブジェクトの型。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see KeysetHolder
+     * @see IRecordBinder
+     */
+    protected final <R> void selectEach(KeysetHolder<E> keysetHolder, IRecordBinder<R> binder, IRecordVisitor<R> visitor) {
+
+        if (keysetHolder == null
+                || keysetHolder.getUniqueKey() == null
+                || keysetHolder.getPageSize() <= 0
+                || binder == null
+                || visitor == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        String lastSortValue = null;
+        String lastUniqueValue = null;
+        boolean hasNextPage = true;
+
+        while (hasNextPage) {
+            DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+            Cursor cursor = null;
+
+            try {
+                readOnlyDatabaseAdapter.openReadOnly();
+
+                ITableInfo source = keysetHolder.isAllTiers() ? createTierSource(readOnlyDatabaseAdapter) : TABLE;
+                Query<E> query = createKeysetPage(source, keysetHolder, lastUniqueValue != null);
+                List<Object> args = new ArrayList<>();
+
+                if (keysetHolder.getConditionArgs() != null) {
+                    args.addAll(Arrays.asList(keysetHolder.getConditionArgs()));
+                }
+
+                if (lastUniqueValue != null) {
+                    if (keysetHolder.getSortKey() != null) {
+                        args.add(lastSortValue);
+                        args.add(lastSortValue);
+                        args.add(lastSortValue);
+                    }
+
+                    args.add(lastUniqueValue);
+                }
+
+                args.add(keysetHolder.getPageSize());
+
+                long startNanos = System.nanoTime();
+                cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(query.getSql(), query.toSelectionArgs(args.toArray()));
+
+                if (cursor == null) {
+                    // should not be happened
+                    throw new SQLException();
+                }
+
+                readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, query.getSql(), startNanos, cursor.getCount());
+
+                IModelMapKey sortKey = keysetHolder.getSortKey();
+                int sortIndex = sortKey == null ? -1 : cursor.getColumnIndexOrThrow(sortKey.getKeyName());
+                int uniqueIndex = cursor.getColumnIndexOrThrow(keysetHolder.getUniqueKey().getKeyName());
+                int countRows = 0;
+                R record = binder.bind(cursor);
+
+                while (cursor.moveToNext()) {
+                    countRows++;
+
+                    if (sortIndex >= 0) {
+                        lastSortValue = cursor.getString(sortIndex);
+                    }
+
+                    lastUniqueValue = cursor.getString(uniqueIndex);
+
+                    if (!visitor.visit(record)) {
+                        return;
+                    }
+                }
+
+                hasNextPage = countRows == keysetHolder.getPageSize();
+
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                }
+
+                readOnlyDatabaseAdapter.close();
+            }
+        }
+    }
+
+    /**
+     * 次のページの検索の形を生成します。
+     * 直前のページが存在する場合は、直前のページの最終行のキーより後の行に限る条件を追加します。
+     * 値は追加の条件、直前のページの最終行のキー、ページの行数の順に渡します。
+     * 並び替えキーを使用する場合、最終行のキーは並び替えキーの値を三回、一意キーの値を一回渡します。
+     *
+     * @param source       検索するテーブルまたは保存層を横断する副問い合わせ。
+     * @param keysetHolder 検索条件。
+     * @param hasLastRow   直前のページが存在する場合は {@code true}。
+     * @return 次のページの検索の形。
+     */
+    private Query<E> createKeysetPage(ITableInfo source, KeysetHolder<E> keysetHolder, boolean hasLastRow) {
+
+        QueryBuilder<E> queryBuilder = QueryBuilder.select(source, keyType);
+        boolean descending = keysetHolder.isDescending();
+        E sortKey = keysetHolder.getSortKey();
+        E uniqueKey = keysetHolder.getUniqueKey();
+
+        if (keysetHolder.getColumns() != null) {
+            queryBuilder.columns(keysetHolder.getColumns());
+        }
+
+        if (keysetHolder.getCondition() != null) {
+            queryBuilder.where(keysetHolder.getCondition());
+        }
+
+        if (hasLastRow) {
+            Condition<E> uniqueBound = descending ? Condition.lessThan(uniqueKey) : Condition.greaterThan(uniqueKey);
+
+            if (sortKey == null) {
+                queryBuilder.where(uniqueBound);
+            } else {
+                // (sort, unique) < (?, ?) を行値比較を使わずに表現する
+                // 先頭の範囲条件により、並び替えキーのインデックスを直前のページの最終行から走査できる
+                queryBuilder.where(Condition.and(
+                        descending ? Condition.lessThanOrEqual(sortKey) : Condition.greaterThanOrEqual(sortKey),
+                        Condition.or(
+                                descending ? Condition.lessThan(sortKey) : Condition.greaterThan(sortKey),
+                                Condition.and(Condition.equal(sortKey), uniqueBound))));
+            }
+        }
+
+        if (sortKey != null) {
+            orderBy(queryBuilder, sortKey, descending);
+        }
+
+        return orderBy(queryBuilder, uniqueKey, descending)
+                .limit()
+                .build();
+    }
+
+    /**
+     * 渡された方向の並び替えをビルダーへ追加します。
+     *
+     * @param queryBuilder ビルダー。
+     * @param key          並び替えるカラムのキー。
+     * @param descending   降順の場合は {@code true}。
+     * @return 渡されたビルダー。
+     */
+    private QueryBuilder<E> orderBy(QueryBuilder<E> queryBuilder, E key, boolean descending) {
+        return descending ? queryBuilder.orderByDescending(key) : queryBuilder.orderBy(key);
+    }
+
+    /**
+     * 主キー検索用のステートメントキーを基に検索処理を行います。
+     * SQL文はステートメントキーの生成時に一度だけ組み立てられ、
+     * 同一のSQL文は接続のステートメントキャッシュにより再解析されません。
+     * 検索結果のキャッシュはIDによる検索に限り使用するため、当該メソッドはキャッシュを使用しません。
+     *
+     * @param statementKey 主キー検索用のステートメントキー。
+     * @param primaryKey   主キー。
+     * @return 呼び出し毎に生成された検索結果。
+     * @see StatementKey.Operation#SelectByPrimaryKey
+     * @see #selectById(StatementKey, long)
+     */
+    protected final ModelResult<E> selectByPrimaryKey(StatementKey statementKey, String primaryKey) {
+        return createResult(queryByPrimaryKey(statementKey, primaryKey));
+    }
+
+    /**
+     * 主キー検索用のステートメントキーを基に非同期で検索処理を行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param statementKey 主キー検索用のステートメントキー。
+     * @param primaryKey   主キー。
+     * @param callback     検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #selectByPrimaryKey(StatementKey, String)
+     */
+    protected final QueryTask<ModelResult<E>> selectByPrimaryKeyAsync(
+            final StatementKey statementKey,
+            final String primaryKey,
+            IQueryCallback<ModelResult<E>> callback) {
+
+        return executeAsync(new Callable<ModelResult<E>>() {
+            @Override
+            public ModelResult<E> call() {
+                return selectByPrimaryKey(statementKey, primaryKey);
+            }
+        }, callback);
+    }
+
+    /**
+     * ID検索用のステートメントキーを基に検索処理を行います。
+     * キャッシュを使用している場合は、キャッシュに適合した検索結果を検索処理を行わずに返却します。
+     *
+     * @param statementKey ID検索用のステートメントキー。先頭のカラムはIDである必要があります。
+     * @param id           ID。
+     * @return 呼び出し毎に生成された検索結果。
+     * @see #setModelCache(ModelCache)
+     */
+    protected final ModelResult<E> selectById(StatementKey statementKey, long id) {
+        return createResult(queryByIdCached(statementKey, id));
+    }
+
+    /**
+     * ID検索用のステートメントキーを基に非同期で検索処理を行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param statementKey ID検索用のステートメントキー。
+     * @param id           ID。
+     * @param callback     検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #selectById(StatementKey, long)
+     */
+    protected final QueryTask<ModelResult<E>> selectByIdAsync(
+            final StatementKey statementKey,
+            final long id,
+            IQueryCallback<ModelResult<E>> callback) {
+
+        return executeAsync(new Callable<ModelResult<E>>() {
+            @Override
+            public ModelResult<E> call() {
+                return selectById(statementKey, id);
+            }
+        }, callback);
+    }
+
+    /**
+     * キャッシュを使用している場合はキャッシュから検索結果を返却し、
+     * 適合しない場合は検索処理を行い単一の行が得られた場合に限り検索結果をキャッシュへ格納します。
+     * 検索中にキャッシュが無効化された場合は検索結果を格納しません。
+     *
+     * @param statementKey ID検索用のステートメントキー。
+     * @param id           ID。
+     * @return 検索結果。
+     * @see ModelCache
+     */
+    private ModelList<ModelMap<E, Object>> queryByIdCached(StatementKey statementKey, long id) {
+
+        String primaryKey = String.valueOf(id);
+        ModelCache<E> cache = modelCache;
+
+        if (cache == null) {
+            return queryByPrimaryKey(statementKey, primaryKey);
+        }
+
+        ModelMap<E, Object> cached = cache.get(id);
+
+        if (cached != null) {
+            ModelList<ModelMap<E, Object>> modelList = new ModelList<>(1);
+            modelList.add(cached);
+            return modelList;
+        }
+
+        long generation = cache.getGeneration();
+        ModelList<ModelMap<E, Object>> modelList = queryByPrimaryKey(statementKey, primaryKey);
+
+        if (modelList.size() == 1) {
+            cache.put(id, modelList.get(0), generation);
+        }
+
+        return modelList;
+    }
+
+    /**
+     * 主キー検索用のステートメントキーを基に読み取り専用の接続で検索処理を行い、検索結果を返却します。
+     * アーカイブを使用している場合、元のテーブルで適合しなかった行はアーカイブから検索します。
+     *
+     * @param statementKey 主キー検索用のステートメントキー。
+     * @param primaryKey   主キー。
+     * @return 検索結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    private ModelList<ModelMap<E, Object>> queryByPrimaryKey(StatementKey statementKey, String primaryKey) {
+
+        if (statementKey == null
+                || statementKey.getOperation() != StatementKey.Operation.SelectByPrimaryKey
+                || !StringChecker.isEffectiveString(primaryKey)) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+        Cursor cursor = null;
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+
+            long startNanos = System.nanoTime();
+            cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(
+                    statementKey.getSql(),
+                    new String[]{primaryKey}
+            );
+
+            if (cursor == null) {
+                // should not be happened
+                throw new SQLException();
+            }
+
+            readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, statementKey.getSql(), startNanos, cursor.getCount());
+
+            if (cursor.getCount() > 0 || tierSource == null || !readOnlyDatabaseAdapter.isArchiveAttached()) {
+                return onPostSelect(cursor);
+            }
+
+            // 元のテーブルで適合しなかった場合に限りアーカイブを検索する
+            cursor.close();
+
+            String archiveSql = statementKey.getSql(DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+            startNanos = System.nanoTime();
+            cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(archiveSql, new String[]{primaryKey});
+
+            if (cursor == null) {
+                // should not be happened
+                throw new SQLException();
+            }
+
+            readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, archiveSql, startNanos, cursor.getCount());
+
+            return onPostSelect(cursor);
+
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * 任意のSQL文を読み取り専用の接続で実行し、
+     * 取得したカーソルを渡されたリーダーで読み取った結果を返却します。
+     * 複数のテーブルを結合する検索や仮想テーブルに対する検索など、
+     * 検索条件クラスで表現できない検索に使用します。
+     * カーソルはリーダーの処理が終了した後に必ず閉じられます。
+     *
+     * @param sql           SQL文。
+     * @param selectionArgs SQL文のプレースホルダへ設定する値。
+     * @param reader        カーソルから検索結果を読み取るリーダー。
+     * @param <T>           読み取った検索結果の型。
+     * @return 読み取った検索結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    protected final <T> T rawQuery(String sql, String[] selectionArgs, ICursorReader<T> reader) {
+
+        if (!StringChecker.isEffectiveString(sql) || reader == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+        Cursor cursor = null;
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+
+            long startNanos = System.nanoTime();
+            cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(sql, selectionArgs);
+
+            if (cursor == null) {
+                // should not be happened
+                throw new SQLException();
+            }
+
+            readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, sql, startNanos, cursor.getCount());
+
+            return reader.read(cursor);
+
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * 保存層を横断する任意のSQL文を読み取り専用の接続で実行し、
+     * 取得したカーソルを渡されたリーダーで読み取った結果を返却します。
+     * SQL文の書式の{@code %s}には、アーカイブを含めて行を参照する副問い合わせがテーブルの別名付きで設定されます。
+     * アーカイブが存在しない場合は元のテーブル名が設定されるため、元のテーブルのみを参照します。
+     * <p>
+     * 副問い合わせに対する並び替えはインデックスを使用できないため、
+     * 件数の多い一覧の表示など元のテーブルのみで足りる検索には{@link #rawQuery(String, String[], ICursorReader)}を使用します。
+     *
+     * @param sqlFormat     テーブルを{@code %s}としたSQL文の書式。
+     * @param selectionArgs SQL文のプレースホルダへ設定する値。
+     * @param reader        カーソルから検索結果を読み取るリーダー。
+     * @param <T>           読み取った検索結果の型。
+     * @return 読み取った検索結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #enableArchiveTier(Enum)
+     */
+    protected final <T> T rawQueryAllTiers(String sqlFormat, String[] selectionArgs, ICursorReader<T> reader) {
+
+        if (!StringChecker.isEffectiveString(sqlFormat) || reader == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+
+            String sql = String.format(sqlFormat, getTierSource(readOnlyDatabaseAdapter));
+            return readCursor(readOnlyDatabaseAdapter, sql, selectionArgs, reader);
+
+        } finally {
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * アーカイブのテーブルのみを対象とする任意のSQL文を読み取り専用の接続で実行し、
+     * 取得したカーソルを渡されたリーダーで読み取った結果を返却します。
+     * SQL文ではアーカイブのテーブルを{@link DatabaseConnectionManager#ARCHIVE_SCHEMA_NAME}で修飾して参照します。
+     * アーカイブが存在しない場合はSQL文を実行せずに{@code null}を返却します。
+     *
+     * @param sql           SQL文。
+     * @param selectionArgs SQL文のプレースホルダへ設定する値。
+     * @param reader        カーソルから検索結果を読み取るリーダー。
+     * @param <T>           読み取った検索結果の型。
+     * @return 読み取った検索結果。アーカイブが存在しない場合は{@code null}。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #enableArchiveTier(Enum)
+     */
+    protected final <T> T rawQueryArchive(String sql, String[] selectionArgs, ICursorReader<T> reader) {
+
+        if (!StringChecker.isEffectiveString(sql) || reader == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+
+            if (!readOnlyDatabaseAdapter.isArchiveAttached()) {
+                return null;
+            }
+
+            return readCursor(readOnlyDatabaseAdapter, sql, selectionArgs, reader);
+
+        } finally {
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * 接続済みのアダプターでSQL文を実行し、取得したカーソルを渡されたリーダーで読み取った結果を返却します。
+     * カーソルはリーダーの処理が終了した後に必ず閉じられます。
+     *
+     * @param readOnlyDatabaseAdapter 読み取り専用の接続を開いたアダプター。
+     * @param sql                     SQL文。
+     * @param selectionArgs           SQL文のプレースホルダへ設定する値。
+     * @param reader                  カーソルから検索結果を読み取るリーダー。
+     * @param <T>                     読み取った検索結果の型。
+     * @return 読み取った検索結果。
+     */
+    private static <T> T readCursor(
+            DatabaseAdapter readOnlyDatabaseAdapter,
+            String sql,
+            String[] selectionArgs,
+            ICursorReader<T> reader) {
+
+        Cursor cursor = null;
+
+        try {
+            long startNanos = System.nanoTime();
+            cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(sql, selectionArgs);
+
+            if (cursor == null) {
+                // should not be happened
+                throw new SQLException();
+            }
+
+            readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, sql, startNanos, cursor.getCount());
+
+            return reader.read(cursor);
+
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * 主キーの一致を条件とする検索または削除の形を生成します。
+     * 生成されるSQL文は主キーのカラム毎に常に同一となります。
+     *
+     * @param queryBuilder   組み立てを開始したビルダー。
+     * @param primaryKeyName 主キーのカラム。
+     * @return 検索または削除の形。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    private Query<E> createPrimaryKeyQuery(QueryBuilder<E> queryBuilder, E primaryKeyName) {
+
+        if (primaryKeyName == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return queryBuilder.where(Condition.equal(primaryKeyName)).build();
+    }
+
+    /**
+     * 組み立て済みの検索の形と値を基に検索処理を行い、検索結果を返却します。
+     * SQL文は組み立て時に生成済みであるため、実行毎に組み立てられることはなく、
+     * 同一のSQL文は接続のステートメントキャッシュにより再解析されません。
+     * 検索結果はモデルのインスタンスに保持されないため、複数のスレッドから同時に呼び出すことができます。
+     *
+     * @param query 検索の形。
+     * @param args  プレースホルダへ設定する値。条件、LIMIT、OFFSETの順に渡します。
+     * @return 呼び出し毎に生成された検索結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see QueryBuilder
+     */
+    protected final ModelResult<E> select(Query<E> query, Object... args) {
+
+        if (query == null
+                || query.getKind() != Query.Kind.Select) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter readOnlyDatabaseAdapter = new DatabaseAdapter(context, TABLE);
+        Cursor cursor = null;
+
+        try {
+            readOnlyDatabaseAdapter.openReadOnly();
+
+            long startNanos = System.nanoTime();
+            cursor = readOnlyDatabaseAdapter.getDatabase().rawQuery(
+                    query.getSql(),
+                    query.toSelectionArgs(args)
+            );
+
+            if (cursor == null) {
+                // should not be happened
+                throw new SQLException();
+            }
+
+            readOnlyDatabaseAdapter.record(QueryMonitor.Operation.Select, query.getSql(), startNanos, cursor.getCount());
+
+            return createResult(onPostSelect(cursor));
+
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+
+            readOnlyDatabaseAdapter.close();
+        }
+    }
+
+    /**
+     * 組み立て済みの検索の形と値を基に非同期で検索処理を行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param query    検索の形。
+     * @param callback 検索結果を受け取るコールバック。
+     * @param args     プレースホルダへ設定する値。
+     * @return 実行スレッドへ投入した処理。
+     * @see #select(Query, Object...)
+     */
+    protected final QueryTask<ModelResult<E>> selectAsync(
+            final Query<E> query,
+            IQueryCallback<ModelResult<E>> callback,
+            final Object... args) {
+
+        return executeAsync(new Callable<ModelResult<E>>() {
+            @Override
+            public ModelResult<E> call() {
+                return select(query, args);
+            }
+        }, callback);
+    }
+
+    /**
+     * 検索処理で生成したモデルリストを不変の検索結果へ変換します。
+     *
+     * @param modelList 検索処理で生成したモデルリスト。
+     * @return 検索結果。
+     */
+    protected final ModelResult<E> createResult(ModelList<ModelMap<E, Object>> modelList) {
+        return new ModelResult<>(keyType, modelList);
+    }
+
+    protected final void replaceAll(List<InsertHolder> insertHolderList) {
+
+        if (insertHolderList == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+            databaseAdapter.beginTransaction();
+
+            for (InsertHolder insertHolder : insertHolderList) {
+                long startNanos = System.nanoTime();
+                long rowId = databaseAdapter.getDatabase().replace(
+                        TABLE.getName(),
+                        insertHolder.getNullColumnHack(),
+                        insertHolder.getContentValues()
+                );
+                databaseAdapter.record(QueryMonitor.Operation.Replace, null, startNanos, rowId == -1 ? 0 : 1);
+            }
+
+            databaseAdapter.setTransactionSuccessful();
+
+        } finally {
+            databaseAdapter.endTransaction();
+            databaseAdapter.close();
+        }
+
+        invalidateCache();
+    }
+
+    protected final void replace(InsertHolder insertHolder) {
+
+        if (insertHolder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+            databaseAdapter.beginTransaction();
+
+            long startNanos = System.nanoTime();
+            long rowId = databaseAdapter.getDatabase().replace(
+                    TABLE.getName(),
+                    insertHolder.getNullColumnHack(),
+                    insertHolder.getContentValues()
+            );
+            databaseAdapter.record(QueryMonitor.Operation.Replace, null, startNanos, rowId == -1 ? 0 : 1);
+
+            databaseAdapter.setTransactionSuccessful();
+
+        } finally {
+            databaseAdapter.endTransaction();
+            databaseAdapter.close();
+        }
+
+        invalidateCache();
+    }
+
+    /**
+     * 主キーを基に既存のレコードを更新し、存在しない場合に限り挿入します。
+     * 置換処理とは異なり既存のレコードを削除しないため、行IDは維持されます。
+     *
+     * @param primaryKeyName 主キーのカラム。
+     * @param insertHolder   更新及び挿入する値を保持するデータクラス。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #upsertAll(Enum, List)
+     */
+    protected final void upsert(E primaryKeyName, InsertHolder insertHolder) {
+
+        if (primaryKeyName == null
+                || insertHolder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        upsertAll(primaryKeyName, Collections.singletonList(insertHolder));
+    }
+
+    /**
+     * 主キーを基に既存のレコードを更新し、存在しない場合に限り挿入する処理を単一のトランザクションで行います。
+     * 最低限サポートするAPIレベルのSQLiteは{@code ON CONFLICT DO UPDATE}構文に対応していないため、
+     * 同等の処理を更新処理と挿入処理の組み合わせで実現します。
+     *
+     * @param primaryKeyName   主キーのカラム。
+     * @param insertHolderList 更新及び挿入する値を保持するデータクラスのリスト。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    protected final void upsertAll(E primaryKeyName, List<InsertHolder> insertHolderList) {
+
+        if (primaryKeyName == null
+                || insertHolderList == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        String whereClause = primaryKeyName.getKeyName() + " = ?";
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+            databaseAdapter.beginTransaction();
+
+            for (InsertHolder insertHolder : insertHolderList) {
+                ContentValues contentValues = insertHolder.getContentValues();
+                String primaryKey = contentValues.getAsString(primaryKeyName.getKeyName());
+
+                if (!StringChecker.isEffectiveString(primaryKey)) {
+                    // should not be happened
+                    throw new IllegalArgumentException();
+                }
+
+                long startNanos = System.nanoTime();
+                int countUpdated = databaseAdapter.getDatabase().update(
+                        TABLE.getName(),
+                        contentValues,
+                        whereClause,
+                        new String[]{primaryKey}
+                );
+                databaseAdapter.record(QueryMonitor.Operation.Update, null, startNanos, countUpdated);
+
+                if (countUpdated == 0) {
+                    startNanos = System.nanoTime();
+                    long rowId = databaseAdapter.getDatabase().insertOrThrow(
+                            TABLE.getName(),
+                            insertHolder.getNullColumnHack(),
+                            contentValues
+                    );
+                    databaseAdapter.record(QueryMonitor.Operation.Insert, null, startNanos, rowId == -1 ? 0 : 1);
+                }
+            }
+
+            databaseAdapter.setTransactionSuccessful();
+
+        } finally {
+            databaseAdapter.endTransaction();
+            databaseAdapter.close();
+        }
+
+        invalidateCache();
+    }
+
+    protected final void insert(InsertHolder insertHolder) {
+
+        if (insertHolder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+            databaseAdapter.beginTransaction();
+
+            long startNanos = System.nanoTime();
+            long rowId = databaseAdapter.getDatabase().insert(
+                    TABLE.getName(),
+                    insertHolder.getNullColumnHack(),
+                    insertHolder.getContentValues()
+            );
+            databaseAdapter.record(QueryMonitor.Operation.Insert, null, startNanos, rowId == -1 ? 0 : 1);
+
+            databaseAdapter.setTransactionSuccessful();
+
+        } finally {
+            databaseAdapter.endTransaction();
+            databaseAdapter.close();
+        }
+
+        invalidateCache();
+    }
+
+    /**
+     * プライマリキーを基に削除処理を行います。
+     *
+     * @param primaryKeyName 主キーのカラム。
+     * @param primaryKey     主キー。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #delete(Query, Object...)
      */
-    protected static final String FORMAT_WHERE_CLAUSE = "%s = ?";
+    protected final void deleteByPrimaryKey(E primaryKeyName, String primaryKey) {
+
+        if (!StringChecker.isEffectiveString(primaryKey)) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        executeDelete(createPrimaryKeyQuery(QueryBuilder.delete(TABLE, keyType), primaryKeyName), primaryKey);
+    }
+
     /**
-     * 定数 : クラス名を保持する。
+     * プライマリキーを基に非同期で削除処理を行います。
+     *
+     * @param primaryKeyName 主キーのカラム。
+     * @param primaryKey     主キー。
+     * @param callback       処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #deleteByPrimaryKey(Enum, String)
      */
-    private static final String TAG = BaseModel.class.getName();
+    protected final QueryTask<Void> deleteByPrimaryKeyAsync(
+            final E primaryKeyName,
+            final String primaryKey,
+            IQueryCallback<Void> callback) {
+
+        return executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                deleteByPrimaryKey(primaryKeyName, primaryKey);
+                return null;
+            }
+        }, callback);
+    }
+
     /**
-     * 変数 : 操作するモデル情報を保持する。
+     * 組み立て済みの削除の形と値を基に削除処理を行います。
+     * 削除の形は共有接続でコンパイル済みのステートメントとしてキャッシュされるため、
+     * 同一の形による二回目以降の削除ではSQL文の解析が行われません。
+     *
+     * @param query 削除の形。
+     * @param args  プレースホルダへ設定する値。
+     * @return 削除した行数。
+     * @see QueryBuilder
      */
-    private final Table TABLE;
+    protected final int delete(Query<E> query, Object... args) {
+        return executeDelete(query, args);
+    }
+
     /**
-     * 変数 : データベース操作を行うアダプターを保持する。
+     * 組み立て済みの削除の形と値を基に非同期で削除処理を行います。
+     *
+     * @param query    削除の形。
+     * @param callback 削除した行数を受け取るコールバック。
+     * @param args     プレースホルダへ設定する値。
+     * @return 実行スレッドへ投入した処理。
+     * @see #delete(Query, Object...)
      */
-    private final DatabaseAdapter databaseAdapter;
-    protected ModelList<ModelMap<E, Object>> modelInfo = new ModelList<>(0);
+    protected final QueryTask<Integer> deleteAsync(
+            final Query<E> query,
+            IQueryCallback<Integer> callback,
+            final Object... args) {
+
+        return executeAsync(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return delete(query, args);
+            }
+        }, callback);
+    }
 
     /**
-     * 当該基底クラスのコンストラクタ。
+     * コンパイル済みのステートメントを使用して削除処理を行います。
+     * ステートメントは複数のスレッドで共有されるため、接続を確保した後に値の設定から実行までを同期して行います。
+     * 呼び出し元のトランザクション外で削除した場合は削除後にキャッシュを無効化し、
+     * トランザクション内で削除した場合は呼び出し元がコミット後に無効化する必要があります。
      *
-     * @param context アプリケーション情報。
-     * @param table   操作するテーブルの情報。
+     * @param query 削除の形。
+     * @param args  プレースホルダへ設定する値。
+     * @return 削除した行数。
      * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
-     * @see Table
      */
-    protected BaseModel(Context context, Table table) {
+    private int executeDelete(Query<E> query, Object... args) {
 
-        if (context == null
-                || table == null) {
+        if (query == null
+                || query.getKind() != Query.Kind.Delete) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
-        databaseAdapter = new DatabaseAdapter(context);
-        TABLE = table;
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+
+            SQLiteStatement statement = databaseAdapter.getStatement(query.getSql());
+
+            int countDeleted;
+            boolean acquired = databaseAdapter.acquireConnection();
+            boolean successful = false;
+
+            try {
+                synchronized (statement) {
+                    try {
+                        query.bind(statement, args);
+
+                        long startNanos = System.nanoTime();
+                        countDeleted = statement.executeUpdateDelete();
+                        databaseAdapter.record(QueryMonitor.Operation.Delete, query.getSql(), startNanos, countDeleted);
+
+                    } finally {
+                        statement.clearBindings();
+                    }
+                }
+
+                successful = true;
+
+            } finally {
+                databaseAdapter.releaseConnection(acquired, successful);
+            }
+
+            // コミット前に無効化すると、並行する検索がコミット前の内容を再びキャッシュする可能性がある
+            if (!databaseAdapter.getDatabase().inTransaction()) {
+                invalidateCache();
+            }
+
+            return countDeleted;
+
+        } finally {
+            databaseAdapter.close();
+        }
     }
 
     /**
-     * 検索処理後に実行する処理を定義する抽象メソッドです。
-     * 当該基底クラスを継承するクラスは当該メソッドを実装する必要があります。
+     * 当該モデルのテーブルに対するステートメントキーを生成します。
+     * 生成したステートメントキーは使い回すことで、
+     * SQL文の組み立て及び解析を省略できます。
      *
-     * @param cursor 検索処理の結果。
-     * @return 検索後処理が成功した場合は {@code true}、失敗した場合は {@code false}を返却します。
+     * @param operation 操作の種類。
+     * @param columns   操作するカラム。
+     * @return ステートメントキー。
+     * @see StatementKey
      */
-    protected abstract ModelList<ModelMap<E, Object>> onPostSelect(Cursor cursor);
-
-    public abstract ModelList<ModelMap<E, Object>> getModelInfo();
-
-    private void setModelInfo(ModelList<ModelMap<E, Object>> modelInfo) {
-        this.modelInfo = modelInfo;
+    protected final StatementKey createStatementKey(StatementKey.Operation operation, IModelMapKey... columns) {
+        return new StatementKey(operation, TABLE, columns);
     }
 
-    protected final void selectByPrimaryKey(IModelMapKey primaryKeyName, String primaryKey) {
+    /**
+     * コンパイル済みのステートメントを使用して挿入系の処理を行います。
+     * 値はContentValuesを介さずにデータクラスから直接ステートメントへ設定されます。
+     *
+     * @param statementKey 挿入系のステートメントキー。
+     * @param binder       ステートメントへ値を設定する処理。
+     * @param holder       値を保持するデータクラス。
+     * @param <H>          値を保持するデータクラスの型。
+     * @return 挿入したレコードの行ID。
+     * @see StatementKey.Operation#Insert
+     * @see StatementKey.Operation#Replace
+     */
+    protected final <H> long executeInsert(StatementKey statementKey, IStatementBinder<H> binder, H holder) {
 
-        if (primaryKeyName == null
-                || !StringChecker.isEffectiveString(primaryKey)) {
+        if (statementKey == null
+                || binder == null
+                || holder == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
-        SelectHolder selectHolder = new SelectHolder();
-        selectHolder.setColumns(null);
-        selectHolder.setSelection(String.format(FORMAT_WHERE_CLAUSE, primaryKeyName.getKeyName()));
-        selectHolder.setSelectionArgs(new String[]{primaryKey});
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+            return executeInsert(databaseAdapter, statementKey, binder, holder);
 
-        select(selectHolder);
+        } finally {
+            databaseAdapter.close();
+        }
     }
 
-    protected final void select(SelectHolder selectHolder) {
+    /**
+     * コンパイル済みのステートメントを使用して複数レコードの挿入系の処理を単一のトランザクションで行います。
+     *
+     * @param statementKey 挿入系のステートメントキー。
+     * @param binder       ステートメントへ値を設定する処理。
+     * @param holderList   値を保持するデータクラスのリスト。
+     * @param <H>          値を保持するデータクラスの型。
+     * @see #executeInsert(StatementKey, IStatementBinder, Object)
+     */
+    protected final <H> void executeInsertAll(
+            StatementKey statementKey,
+            IStatementBinder<H> binder,
+            List<? extends H> holderList) {
 
-        if (selectHolder == null) {
+        if (statementKey == null
+                || binder == null
+                || holderList == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
         try {
             databaseAdapter.open();
+            databaseAdapter.beginTransaction();
 
-            Cursor cursor = databaseAdapter.getDatabase().query(
-                    TABLE.getName(),
-                    selectHolder.getColumns(),
-                    selectHolder.getSelection(),
-                    selectHolder.getSelectionArgs(),
-                    selectHolder.getGroupBy(),
-                    selectHolder.getHaving(),
-                    selectHolder.getOrderBy(),
-                    selectHolder.getLimit()
-            );
-
-            if (cursor == null) {
-                // should not be happened
-                throw new SQLException();
+            for (H holder : holderList) {
+                executeInsert(databaseAdapter, statementKey, binder, holder);
             }
 
-            ModelList<ModelMap<E, Object>> modelInfo = onPostSelect(cursor);
-            setModelInfo(modelInfo);
+            databaseAdapter.setTransactionSuccessful();
 
         } finally {
+            databaseAdapter.endTransaction();
             databaseAdapter.close();
         }
     }
 
-    protected final void replaceAll(List<InsertHolder> insertHolderList) {
+    /**
+     * コンパイル済みのステートメントを使用して主キーを基にした更新処理を行います。
+     * 更新するカラムのみをステートメントへ設定するため、変更の無いカラムは書き換えられません。
+     *
+     * @param statementKey 更新処理のステートメントキー。
+     * @param binder       ステートメントへ値を設定する処理。
+     * @param holder       値を保持するデータクラス。
+     * @param <H>          値を保持するデータクラスの型。
+     * @return 更新した行数。
+     * @see StatementKey.Operation#Update
+     */
+    protected final <H> int executeUpdate(StatementKey statementKey, IStatementBinder<H> binder, H holder) {
 
-        if (insertHolderList == null) {
+        if (statementKey == null
+                || statementKey.getOperation() != StatementKey.Operation.Update
+                || binder == null
+                || holder == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
         try {
             databaseAdapter.open();
-            databaseAdapter.beginTransaction();
+            return executeUpdate(databaseAdapter, statementKey, binder, holder);
 
-            for (InsertHolder insertHolder : insertHolderList) {
-                databaseAdapter.getDatabase().replace(
-                        TABLE.getName(),
-                        insertHolder.getNullColumnHack(),
-                        insertHolder.getContentValues()
-                );
+        } finally {
+            databaseAdapter.close();
+        }
+    }
+
+    /**
+     * コンパイル済みのステートメントを使用して更新処理を行い、更新対象が存在しない場合に限り挿入処理を行います。
+     * 置換処理とは異なり既存のレコードを削除しないため、IDや更新しないカラムの値は維持され、
+     * 削除時のトリガーも実行されません。
+     * <p>
+     * 最低限サポートするAPIレベルのSQLiteは{@code ON CONFLICT DO UPDATE}構文に対応していないため、
+     * 同等の処理を更新処理と挿入処理の組み合わせで実現します。
+     * 更新処理と挿入処理の間に他の書き込みが行われないよう、当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param updateKey    更新処理のステートメントキー。
+     * @param updateBinder 更新処理のステートメントへ値を設定する処理。
+     * @param insertKey    挿入処理のステートメントキー。
+     * @param insertBinder 挿入処理のステートメントへ値を設定する処理。
+     * @param holder       値を保持するデータクラス。
+     * @param <H>          値を保持するデータクラスの型。
+     * @return 既存のレコードを更新した場合は {@code true}、新たに挿入した場合は{@code false}。
+     * @see #executeUpdate(StatementKey, IStatementBinder, Object)
+     * @see #executeInsert(StatementKey, IStatementBinder, Object)
+     */
+    protected final <H> boolean executeUpsert(
+            StatementKey updateKey,
+            IStatementBinder<H> updateBinder,
+            StatementKey insertKey,
+            IStatementBinder<H> insertBinder,
+            H holder) {
+
+        if (updateKey == null
+                || updateKey.getOperation() != StatementKey.Operation.Update
+                || updateBinder == null
+                || insertKey == null
+                || insertKey.getOperation() != StatementKey.Operation.Insert
+                || insertBinder == null
+                || holder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
+        try {
+            databaseAdapter.open();
+
+            if (executeUpdate(databaseAdapter, updateKey, updateBinder, holder) > 0) {
+                return true;
             }
 
-            databaseAdapter.setTransactionSuccessful();
+            executeInsert(databaseAdapter, insertKey, insertBinder, holder);
+            return false;
 
         } finally {
-            databaseAdapter.endTransaction();
             databaseAdapter.close();
         }
     }
 
-    protected final void replace(InsertHolder insertHolder) {
+    /**
+     * 渡されたデータベース操作を書き込み用の接続で単一のトランザクション内で実行します。
+     * データベース操作が例外を送出した場合はトランザクションを取り消し、例外をそのまま送出します。
+     * 同一スレッドで既にトランザクションを開始している場合は入れ子のトランザクションとして扱われます。
+     *
+     * @param transaction トランザクション内で実行するデータベース操作。
+     * @param <T>         処理結果の型。
+     * @return 処理結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    protected final <T> T executeTransaction(ITransaction<T> transaction) {
 
-        if (insertHolder == null) {
+        if (transaction == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
         try {
             databaseAdapter.open();
             databaseAdapter.beginTransaction();
 
-            databaseAdapter.getDatabase().replace(
-                    TABLE.getName(),
-                    insertHolder.getNullColumnHack(),
-                    insertHolder.getContentValues()
-            );
-
+            T result = transaction.execute(databaseAdapter.getDatabase());
             databaseAdapter.setTransactionSuccessful();
 
+            return result;
+
         } finally {
             databaseAdapter.endTransaction();
             databaseAdapter.close();
         }
     }
 
-    protected final void insert(InsertHolder insertHolder) {
+    /**
+     * 渡されたデータベース操作をアーカイブの接続で単一のトランザクション内で実行します。
+     * アーカイブが存在しない場合は当該メソッド内で作成されます。
+     * データベース操作が例外を送出した場合はトランザクションを取り消し、例外をそのまま送出します。
+     * <p>
+     * アーカイブと元のデータベースは別の接続であるため、両方を単一のトランザクションで更新することはできません。
+     * 行を移動する際はアーカイブへの複製をコミットした後に元のテーブルから削除する必要があります。
+     *
+     * @param transaction トランザクション内で実行するデータベース操作。
+     * @param <T>         処理結果の型。
+     * @return 処理結果。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #enableArchiveTier(Enum)
+     */
+    protected final <T> T executeArchiveTransaction(ITransaction<T> transaction) {
 
-        if (insertHolder == null) {
+        if (transaction == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
 
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
+
         try {
-            databaseAdapter.open();
+            databaseAdapter.openArchive();
             databaseAdapter.beginTransaction();
 
-            databaseAdapter.getDatabase().insert(
-                    TABLE.getName(),
-                    insertHolder.getNullColumnHack(),
-                    insertHolder.getContentValues()
-            );
-
+            T result = transaction.execute(databaseAdapter.getDatabase());
             databaseAdapter.setTransactionSuccessful();
 
+            return result;
+
         } finally {
             databaseAdapter.endTransaction();
             databaseAdapter.close();
         }
     }
 
-    protected final void deleteByPrimaryKey(IModelMapKey primaryKeyName, String primaryKey) {
+    /**
+     * 接続済みのアダプターからコンパイル済みのステートメントを取得し挿入系の処理を行います。
+     * ステートメントは複数のスレッドで共有されるため、接続を確保した後に値の設定から実行までを同期して行います。
+     *
+     * @param databaseAdapter 接続済みのアダプター。
+     * @param statementKey    挿入系のステートメントキー。
+     * @param binder          ステートメントへ値を設定する処理。
+     * @param holder          値を保持するデータクラス。
+     * @param <H>             値を保持するデータクラスの型。
+     * @return 挿入したレコードの行ID。
+     */
+    private static <H> long executeInsert(
+            DatabaseAdapter databaseAdapter,
+            StatementKey statementKey,
+            IStatementBinder<H> binder,
+            H holder) {
+
+        SQLiteStatement statement = databaseAdapter.getStatement(statementKey);
 
-        if (primaryKeyName == null
-                || !StringChecker.isEffectiveString(primaryKey)) {
-            // should not be happened
-            throw new IllegalArgumentException();
+        QueryMonitor.Operation operation = statementKey.getOperation() == StatementKey.Operation.Replace
+                ? QueryMonitor.Operation.Replace
+                : QueryMonitor.Operation.Insert;
+
+        boolean acquired = databaseAdapter.acquireConnection();
+        boolean successful = false;
+
+        try {
+            long rowId;
+
+            synchronized (statement) {
+                try {
+                    binder.bind(statement, holder);
+
+                    long startNanos = System.nanoTime();
+                    rowId = statement.executeInsert();
+                    databaseAdapter.record(operation, statementKey.getSql(), startNanos, rowId == -1 ? 0 : 1);
+
+                } finally {
+                    statement.clearBindings();
+                }
+            }
+
+            successful = true;
+            return rowId;
+
+        } finally {
+            databaseAdapter.releaseConnection(acquired, successful);
         }
+    }
+
+    /**
+     * 接続済みのアダプターからコンパイル済みのステートメントを取得し更新処理を行います。
+     * ステートメントは複数のスレッドで共有されるため、接続を確保した後に値の設定から実行までを同期して行います。
+     *
+     * @param databaseAdapter 接続済みのアダプター。
+     * @param statementKey    更新処理のステートメントキー。
+     * @param binder          ステートメントへ値を設定する処理。
+     * @param holder          値を保持するデータクラス。
+     * @param <H>             値を保持するデータクラスの型。
+     * @return 更新した行数。
+     */
+    private static <H> int executeUpdate(
+            DatabaseAdapter databaseAdapter,
+            StatementKey statementKey,
+            IStatementBinder<H> binder,
+            H holder) {
+
+        SQLiteStatement statement = databaseAdapter.getStatement(statementKey);
+
+        boolean acquired = databaseAdapter.acquireConnection();
+        boolean successful = false;
 
-        DeleteHolder deleteHolder = new DeleteHolder();
-        deleteHolder.setWhereClause(String.format(FORMAT_WHERE_CLAUSE, primaryKeyName.getKeyName()));
-        deleteHolder.setWhereArgs(new String[]{primaryKey});
+        try {
+            int countUpdated;
+
+            synchronized (statement) {
+                try {
+                    binder.bind(statement, holder);
+
+                    long startNanos = System.nanoTime();
+                    countUpdated = statement.executeUpdateDelete();
+                    databaseAdapter.record(QueryMonitor.Operation.Update, statementKey.getSql(), startNanos, countUpdated);
+
+                } finally {
+                    statement.clearBindings();
+                }
+            }
+
+            successful = true;
+            return countUpdated;
 
-        delete(deleteHolder);
+        } finally {
+            databaseAdapter.releaseConnection(acquired, successful);
+        }
     }
 
+    /**
+     * コンパイル済みのステートメントを使用して、ステートメントキーで表現できない更新系のSQL文を実行します。
+     * 関連テーブルや全文検索用の仮想テーブルに対する挿入、更新及び削除に使用し、
+     * SQL文の解析は接続毎に一度のみ行われます。
+     *
+     * @param sql  プレースホルダを使用した更新系のSQL文。
+     * @param args プレースホルダへ設定する値。
+     * @return 挿入、更新または削除した行数。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see DatabaseAdapter#getStatement(String)
+     */
+    protected final int executeUpdateDelete(String sql, Object... args) {
+
+        if (sql == null || sql.isEmpty()) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        QueryMonitor.Operation operation;
+
+        if (sql.regionMatches(true, 0, "INSERT", 0, 6)) {
+            operation = QueryMonitor.Operation.Insert;
+        } else if (sql.regionMatches(true, 0, "DELETE", 0, 6)) {
+            operation = QueryMonitor.Operation.Delete;
+        } else {
+            operation = QueryMonitor.Operation.Update;
+        }
 
-    protected final void delete(DeleteHolder deleteHolder) {
+        DatabaseAdapter databaseAdapter = new DatabaseAdapter(context, TABLE);
 
         try {
             databaseAdapter.open();
 
-            databaseAdapter.getDatabase().delete(
-                    TABLE.getName(),
-                    deleteHolder.getWhereClause(),
-                    deleteHolder.getWhereArgs()
-            );
+            SQLiteStatement statement = databaseAdapter.getStatement(sql);
+
+            int countUpdated;
+            boolean acquired = databaseAdapter.acquireConnection();
+            boolean successful = false;
+
+            try {
+                synchronized (statement) {
+                    try {
+                        for (int i = 0; i < args.length; i++) {
+                            Object value = args[i];
+                            int index = i + 1;
+
+                            if (value == null) {
+                                statement.bindNull(index);
+                            } else if (value instanceof Long || value instanceof Integer) {
+                                statement.bindLong(index, ((Number) value).longValue());
+                            } else if (value instanceof String) {
+                                statement.bindString(index, (String) value);
+                            } else if (value instanceof byte[]) {
+                                statement.bindBlob(index, (byte[]) value);
+                            } else {
+                                // should not be happened
+                                throw new IllegalArgumentException();
+                            }
+                        }
+
+                        long startNanos = System.nanoTime();
+                        countUpdated = statement.executeUpdateDelete();
+                        databaseAdapter.record(operation, sql, startNanos, countUpdated);
+
+                    } finally {
+                        statement.clearBindings();
+                    }
+                }
+
+                successful = true;
+                return countUpdated;
+
+            } finally {
+                databaseAdapter.releaseConnection(acquired, successful);
+            }
 
         } finally {
             databaseAdapter.close();
         }
     }
 
-    public final boolean isEmpty() {
-        return modelInfo.isEmpty();
+    /**
+     * 非同期で複数レコードの置換処理を単一のトランザクションで行います。
+     *
+     * @param insertHolderList 置換処理を行う際に必要な情報のリスト。
+     * @param callback         処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #replaceAll(List)
+     */
+    protected final QueryTask<Void> replaceAllAsync(
+            final List<InsertHolder> insertHolderList,
+            IQueryCallback<Void> callback) {
+
+        return executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                replaceAll(insertHolderList);
+                return null;
+            }
+        }, callback);
     }
 
     /**
-     * 検索条件で使用するオペランドを保持する。
-     * 処理中で検索条件を作成する際に使用する。
+     * 非同期でレコードの置換処理を行います。
+     *
+     * @param insertHolder 置換処理を行う際に必要な情報。
+     * @param callback     処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #replace(InsertHolder)
      */
-    protected enum Operand {
-        AND(" and "),
-        OR(" or ");
+    protected final QueryTask<Void> replaceAsync(
+            final InsertHolder insertHolder,
+            IQueryCallback<Void> callback) {
 
-        private final String value;
+        return executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                replace(insertHolder);
+                return null;
+            }
+        }, callback);
+    }
 
-        Operand(String value) {
-            this.value = value;
-        }
+    /**
+     * 非同期でレコードの挿入処理を行います。
+     *
+     * @param insertHolder 挿入処理を行う際に必要な情報。
+     * @param callback     処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #insert(InsertHolder)
+     */
+    protected final QueryTask<Void> insertAsync(
+            final InsertHolder insertHolder,
+            IQueryCallback<Void> callback) {
 
-        public String getValue() {
-            return value;
-        }
+        return executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                insert(insertHolder);
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * 渡された処理をデータベース実行スレッドで実行します。
+     * 処理結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param callable 実行する処理。
+     * @param callback 処理結果を受け取るコールバック。
+     * @param <T>      処理結果の型。
+     * @return 実行スレッドへ投入した処理。
+     * @see DatabaseExecutor
+     */
+    protected final <T> QueryTask<T> executeAsync(Callable<T> callable, IQueryCallback<T> callback) {
+        return DatabaseExecutor.getInstance().submit(callable, callback);
     }
 }
@@ -0,0 +1,146 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : CacheStatistics.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * キャッシュの統計情報を保持するデータクラスです。
+ * 取得した時点の値を保持し、以降のキャッシュの操作によって値は変わりません。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see ModelCache#getStatistics()
+ * @since 1.0
+ */
+public final class CacheStatistics {
+
+    /**
+     * キャッシュに適合した回数。
+     */
+    private final long hitCount;
+
+    /**
+     * キャッシュに適合しなかった回数。
+     */
+    private final long missCount;
+
+    /**
+     * 容量の上限を超えたために破棄した回数。
+     */
+    private final long evictionCount;
+
+    /**
+     * 保持している検索結果の件数。
+     */
+    private final int entryCount;
+
+    /**
+     * 保持している検索結果の文字数の合計。
+     */
+    private final int size;
+
+    /**
+     * 保持できる文字数の上限。
+     */
+    private final int maximumSize;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param hitCount      キャッシュに適合した回数。
+     * @param missCount     キャッシュに適合しなかった回数。
+     * @param evictionCount 容量の上限を超えたために破棄した回数。
+     * @param entryCount    保持している検索結果の件数。
+     * @param size          保持している検索結果の文字数の合計。
+     * @param maximumSize   保持できる文字数の上限。
+     */
+    CacheStatistics(long hitCount, long missCount, long evictionCount, int entryCount, int size, int maximumSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * キャッシュに適合した回数を返却します。
+     *
+     * @return キャッシュに適合した回数。
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * キャッシュに適合しなかった回数を返却します。
+     *
+     * @return キャッシュに適合しなかった回数。
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 容量の上限を超えたために破棄した回数を返却します。
+     *
+     * @return 容量の上限を超えたために破棄した回数。
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 保持している検索結果の件数を返却します。
+     *
+     * @return 保持している検索結果の件数。
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * 保持している検索結果の文字数の合計を返却します。
+     *
+     * @return 保持している検索結果の文字数の合計。
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * 保持できる文字数の上限を返却します。
+     *
+     * @return 保持できる文字数の上限。
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 参照した回数に対する適合した回数の割合を返却します。
+     *
+     * @return 適合率。一度も参照されていない場合は0。
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "hit=%d miss=%d eviction=%d entries=%d size=%d/%d hitRate=%.3f",
+                hitCount, missCount, evictionCount, entryCount, size, maximumSize, getHitRate());
+    }
+}
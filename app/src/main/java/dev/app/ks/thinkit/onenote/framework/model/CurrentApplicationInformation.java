@@ -4,25 +4,44 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
 import dev.app.ks.thinkit.onenote.framework.ModelList;
 import dev.app.ks.thinkit.onenote.framework.ModelMap;
 import dev.app.ks.thinkit.onenote.framework.model.holder.CurrentApplicationHolder;
 import dev.app.ks.thinkit.onenote.framework.model.holder.InsertHolder;
 import dev.app.ks.thinkit.onenote.framework.model.property.CurrentApplicationColumnKey;
+import dev.app.ks.thinkit.onenote.framework.model.query.Query;
+import dev.app.ks.thinkit.onenote.framework.model.query.QueryBuilder;
 import dev.app.ks.thinkit.onenote.model.property.Table;
 
-public final class CurrentApplicationInformation extends BaseModel {
+public final class CurrentApplicationInformation extends BaseModel<CurrentApplicationColumnKey> {
 
     private static final String TAG = CurrentApplicationInformation.class.getName();
 
+    /**
+     * 全てのコンフィグを取得する検索の形を保持する。
+     */
+    private static final Query<CurrentApplicationColumnKey> QUERY_SELECT_ALL = QueryBuilder
+            .select(Table.CurrentApplicationInformation, CurrentApplicationColumnKey.class)
+            .build();
+
     private static CurrentApplicationInformation thisInstance = null;
 
     private CurrentApplicationInformation(Context context) {
-        super(context, Table.CurrentApplicationInformation);
+        super(context, Table.CurrentApplicationInformation, CurrentApplicationColumnKey.class);
     }
 
-    public static CurrentApplicationInformation getInstance(Context context) {
+    /**
+     * 当該クラスのインスタンスを返却します。
+     * 複数のスレッドから同時に呼び出された場合でもインスタンスは一つのみ生成されます。
+     *
+     * @param context アプリケーション情報。
+     * @return 当該クラスのインスタンス。
+     */
+    public static synchronized CurrentApplicationInformation getInstance(Context context) {
 
         if (thisInstance == null) {
             thisInstance = new CurrentApplicationInformation(context);
@@ -31,8 +50,24 @@ public final class CurrentApplicationInformation extends BaseModel {
         return thisInstance;
     }
 
-    public void selectByPrimaryKey(ConfigName primaryKey) {
-        super.selectByPrimaryKey(CurrentApplicationColumnKey.ConfigName, primaryKey.getKeyName());
+    /**
+     * コンフィグ名を基に検索処理を行い、検索結果を返却します。
+     *
+     * @param primaryKey コンフィグ名。
+     * @return 呼び出し毎に生成された検索結果。
+     */
+    public ModelResult<CurrentApplicationColumnKey> selectByPrimaryKey(ConfigName primaryKey) {
+        return super.selectByPrimaryKey(CurrentApplicationColumnKey.ConfigName, primaryKey.getKeyName());
+    }
+
+    /**
+     * 全てのコンフィグを検索し、検索結果を返却します。
+     *
+     * @return 呼び出し毎に生成された検索結果。
+     * @see SettingsStore
+     */
+    public ModelResult<CurrentApplicationColumnKey> selectAll() {
+        return super.select(QUERY_SELECT_ALL);
     }
 
     @Override
@@ -40,22 +75,55 @@ public final class CurrentApplicationInformation extends BaseModel {
 
         ModelList<ModelMap<CurrentApplicationColumnKey, Object>> modelInfo = new ModelList<>(cursor.getCount());
 
-        if (cursor.moveToFirst()) {
-            ModelMap<CurrentApplicationColumnKey, Object> modelMap = new ModelMap<>(CurrentApplicationColumnKey.class);
-            CurrentApplicationColumnKey[] currentApplicationColumnKeys = CurrentApplicationColumnKey.values();
+        while (cursor.moveToNext()) {
+            modelInfo.add(onPostSelectRow(cursor));
+        }
+
+        return modelInfo;
+    }
+
+    @Override
+    protected ModelMap<CurrentApplicationColumnKey, Object> onPostSelectRow(Cursor cursor) {
 
-            // 一意制約検索のため検索結果は一件のみ
-            for (CurrentApplicationColumnKey column : currentApplicationColumnKeys) {
-                column.setModelMap(cursor, modelMap);
-            }
+        ModelMap<CurrentApplicationColumnKey, Object> modelMap = new ModelMap<>(CurrentApplicationColumnKey.class);
+        CurrentApplicationColumnKey[] currentApplicationColumnKeys = CurrentApplicationColumnKey.values();
 
-            modelInfo.add(modelMap);
+        for (CurrentApplicationColumnKey column : currentApplicationColumnKeys) {
+            column.setModelMap(cursor, modelMap);
         }
 
-        return modelInfo;
+        return modelMap;
     }
 
     public void replace(CurrentApplicationHolder currentApplicationHolder) {
+        super.upsert(CurrentApplicationColumnKey.ConfigName, createInsertHolder(currentApplicationHolder));
+    }
+
+    /**
+     * 複数のコンフィグを単一のトランザクションで置換します。
+     * 登録済みのコンフィグは削除せずに更新し、未登録のコンフィグのみを挿入します。
+     *
+     * @param currentApplicationHolderList 置換するコンフィグのリスト。
+     * @see SettingsStore
+     */
+    public void replace(List<CurrentApplicationHolder> currentApplicationHolderList) {
+
+        List<InsertHolder> insertHolderList = new ArrayList<>(currentApplicationHolderList.size());
+
+        for (CurrentApplicationHolder currentApplicationHolder : currentApplicationHolderList) {
+            insertHolderList.add(createInsertHolder(currentApplicationHolder));
+        }
+
+        super.upsertAll(CurrentApplicationColumnKey.ConfigName, insertHolderList);
+    }
+
+    /**
+     * コンフィグを基に置換処理を行う際に必要な情報を生成します。
+     *
+     * @param currentApplicationHolder コンフィグ。
+     * @return 置換処理を行う際に必要な情報。
+     */
+    private static InsertHolder createInsertHolder(CurrentApplicationHolder currentApplicationHolder) {
 
         InsertHolder insertHolder = new InsertHolder();
         ContentValues contentValues = insertHolder.getContentValues();
@@ -65,16 +133,20 @@ public final class CurrentApplicationInformation extends BaseModel {
             column.setContentValues(contentValues, currentApplicationHolder);
         }
 
-        super.replace(insertHolder);
+        return insertHolder;
     }
 
-    @Override
-    public ModelList<ModelMap<CurrentApplicationColumnKey, Object>> getModelInfo() {
-        return super.modelInfo;
-    }
+    /**
+     * コンフィグ名に紐付くコンフィグ値を返却します。
+     *
+     * @param configName コンフィグ名。
+     * @return コンフィグ値。コンフィグ名に紐付く情報が存在しない場合は空文字列。
+     */
+    public String getConfigValue(ConfigName configName) {
+
+        ModelResult<CurrentApplicationColumnKey> result = selectByPrimaryKey(configName);
 
-    public String getConfigValue() {
-        return getModelInfo().get(0).getString(CurrentApplicationColumnKey.ConfigValue);
+        return result.isEmpty() ? "" : result.getString(0, CurrentApplicationColumnKey.ConfigValue);
     }
 
     public enum ConfigName implements IModelMapKey {
@@ -0,0 +1,275 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.StringChecker;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : FullTextSearchHandler.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * FTS4の仮想テーブルを使用した全文検索に関する汎用的な機能を定義したユーティリティクラスです。
+ * 入力文字列からMATCH句に渡す検索式を生成する処理、適合箇所を強調する処理と、
+ * matchinfo関数の戻り値からBM25による関連度を算出する処理を提供します。
+ * <p>
+ * Android端末に同梱されているSQLiteはFTS5及びFTS4のランキング関数を含まないため、
+ * 関連度はmatchinfo関数の戻り値を基にアプリケーション側で算出します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FullTextSearchHandler {
+
+    /**
+     * BM25の算出に必要な情報を取得するmatchinfo関数の書式。
+     * p:フレーズ数、c:カラム数、n:総行数、a:カラム毎の平均トークン数、
+     * l:行のカラム毎のトークン数、x:フレーズ及びカラム毎の出現数を表します。
+     */
+    public static final String MATCH_INFO_FORMAT = "pcnalx";
+
+    /**
+     * BM25の単語頻度に対する飽和の度合いを表すパラメータ。
+     */
+    private static final double BM25_K1 = 1.2;
+
+    /**
+     * BM25の文書長による正規化の度合いを表すパラメータ。
+     */
+    private static final double BM25_B = 0.75;
+
+    /**
+     * 全ての行に出現する単語の逆文書頻度が0以下とならないための下限値。
+     */
+    private static final double MINIMUM_IDF = 1e-6;
+
+    /**
+     * 検索式の単語を囲む引用符。
+     */
+    private static final char QUOTE = '"';
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private FullTextSearchHandler() {
+    }
+
+    /**
+     * 入力された文字列からMATCH句に渡す検索式を生成し返却します。
+     * 空白で区切られた単語は全てを含む行を検索するAND条件として扱われ、
+     * 各単語は入力途中の検索に対応するため前方一致で検索されます。
+     * 単語中の引用符は除去されるため、入力文字列に検索演算子が含まれていても構文エラーは発生しません。
+     *
+     * @param input 入力された文字列。
+     * @return MATCH句に渡す検索式。検索可能な単語が存在しない場合は空文字列。
+     */
+    public static String createMatchExpression(String input) {
+
+        StringBuilder sb = new StringBuilder();
+
+        for (String term : extractTerms(input)) {
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+
+            sb.append(QUOTE).append(term).append('*').append(QUOTE);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 渡された文字列のうち、入力された文字列の各単語に前方一致する語を強調した文字列を返却します。
+     * 語の区切りは仮想テーブルの既定のトークナイザーと同様にASCIIの英数字以外のASCII文字とし、
+     * ASCIIの英字の大文字と小文字は区別しません。
+     * 全文検索用の索引が本文を保持せずsnippet関数を使用できない場合に、保存済みの抜粋へ強調を付与するために使用します。
+     *
+     * @param text  強調の対象とする文字列。
+     * @param input 入力された文字列。
+     * @param start 適合箇所の開始を表す文字列。
+     * @param end   適合箇所の終了を表す文字列。
+     * @return 適合箇所を強調した文字列。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #createMatchExpression(String)
+     */
+    public static String highlight(String text, String input, String start, String end) {
+
+        if (text == null || start == null || end == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        List<String> terms = extractTerms(input);
+
+        for (int i = 0; i < terms.size(); i++) {
+            terms.set(i, foldCase(terms.get(i)));
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        int index = 0;
+
+        while (index < text.length()) {
+            if (!isTokenCharacter(text.charAt(index))) {
+                sb.append(text.charAt(index++));
+                continue;
+            }
+
+            int tokenEnd = index + 1;
+            while (tokenEnd < text.length() && isTokenCharacter(text.charAt(tokenEnd))) {
+                tokenEnd++;
+            }
+
+            String token = text.substring(index, tokenEnd);
+            String foldedToken = foldCase(token);
+            boolean matched = false;
+
+            for (String term : terms) {
+                if (foldedToken.startsWith(term)) {
+                    matched = true;
+                    break;
+                }
+            }
+
+            if (matched) {
+                sb.append(start).append(token).append(end);
+            } else {
+                sb.append(token);
+            }
+
+            index = tokenEnd;
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 入力された文字列を空白で区切り、引用符を除去した単語のリストを返却します。
+     *
+     * @param input 入力された文字列。
+     * @return 検索可能な単語のリスト。検索可能な単語が存在しない場合は空のリスト。
+     */
+    private static List<String> extractTerms(String input) {
+
+        List<String> terms = new ArrayList<>();
+
+        if (!StringChecker.isEffectiveString(input)) {
+            return terms;
+        }
+
+        for (String term : input.trim().split("\\s+")) {
+            String sanitizedTerm = term.replace(String.valueOf(QUOTE), "");
+
+            if (!sanitizedTerm.isEmpty()) {
+                terms.add(sanitizedTerm);
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * 仮想テーブルの既定のトークナイザーにおいて語を構成する文字であるか判定します。
+     * ASCIIの英数字及びASCII以外の全ての文字が語を構成します。
+     *
+     * @param c 判定する文字。
+     * @return 語を構成する文字の場合は {@code true}、それ以外は{@code false}。
+     */
+    private static boolean isTokenCharacter(char c) {
+        return c >= 0x80
+                || (c >= '0' && c <= '9')
+                || (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * 仮想テーブルの既定のトークナイザーと同様に、ASCIIの英字のみを小文字へ変換します。
+     *
+     * @param value 変換する文字列。
+     * @return 変換後の文字列。
+     */
+    private static String foldCase(String value) {
+
+        char[] characters = value.toCharArray();
+
+        for (int i = 0; i < characters.length; i++) {
+            if (characters[i] >= 'A' && characters[i] <= 'Z') {
+                characters[i] += 'a' - 'A';
+            }
+        }
+
+        return new String(characters);
+    }
+
+    /**
+     * 書式{@link #MATCH_INFO_FORMAT}で取得したmatchinfo関数の戻り値から、
+     * 行の関連度をBM25で算出し返却します。
+     * 関連度はカラム毎に算出した値へ重みを掛けて合計したもので、値が大きい程検索条件に適合します。
+     *
+     * @param matchInfo matchinfo関数の戻り値。
+     * @param weights   カラム毎の重み。仮想テーブルのカラム順に指定します。
+     * @return 行の関連度。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static double computeBm25(byte[] matchInfo, double[] weights) {
+
+        if (matchInfo == null || weights == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        // matchinfo関数の戻り値は端末のバイト順で格納された32bit整数の配列
+        IntBuffer values = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer();
+
+        final int countPhrases = values.get(0);
+        final int countColumns = values.get(1);
+        final int countRows = values.get(2);
+        final int averageLengthOffset = 3;
+        final int lengthOffset = averageLengthOffset + countColumns;
+        final int hitsOffset = lengthOffset + countColumns;
+
+        if (weights.length != countColumns) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        double score = 0.0;
+
+        for (int phrase = 0; phrase < countPhrases; phrase++) {
+            for (int column = 0; column < countColumns; column++) {
+                int hitsIndex = hitsOffset + 3 * (column + phrase * countColumns);
+                int termFrequency = values.get(hitsIndex);
+
+                if (termFrequency == 0 || weights[column] == 0.0) {
+                    continue;
+                }
+
+                int countRowsWithHits = values.get(hitsIndex + 2);
+                double idf = Math.max(
+                        Math.log((countRows - countRowsWithHits + 0.5) / (countRowsWithHits + 0.5)),
+                        MINIMUM_IDF);
+
+                double averageLength = Math.max(values.get(averageLengthOffset + column), 1);
+                double length = values.get(lengthOffset + column);
+                double normalization = BM25_K1 * (1 - BM25_B + BM25_B * length / averageLength);
+
+                score += weights[column] * idf * (termFrequency * (BM25_K1 + 1)) / (termFrequency + normalization);
+            }
+        }
+
+        return score;
+    }
+}
@@ -0,0 +1,248 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ModelCache.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 整数の主キーによる検索結果をメモリ上に保持する容量制限付きのキャッシュです。
+ * <p>
+ * 容量は保持するモデルマップの文字列の値の文字数の合計で計算され、
+ * 上限を超えた場合は最も長く参照されていない検索結果から破棄されます。
+ * 呼び出し元による変更がキャッシュへ波及しないよう、格納及び取得の際にモデルマップを複製します。
+ * なお、複製は浅い複製であるため、モデルマップの値は不変のオブジェクトである必要があります。
+ * <p>
+ * 検索中に書き込みが行われた場合に古い検索結果を格納しないよう、
+ * 無効化の度に世代を更新し、検索前に取得した世代が変わっていない場合に限り格納します。
+ *
+ * @param <E> モデルマップのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see BaseModel
+ * @see CacheStatistics
+ * @since 1.0
+ */
+public final class ModelCache<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * モデルマップのキーの型。
+     */
+    private final Class<E> keyType;
+
+    /**
+     * 保持できる文字数の上限。
+     */
+    private final int maximumSize;
+
+    /**
+     * 主キーと検索結果の対応。参照順に並べて保持します。
+     */
+    private final LinkedHashMap<Long, ModelMap<E, Object>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 保持している検索結果の文字数の合計。
+     */
+    private int size = 0;
+
+    /**
+     * 無効化の度に更新される世代。
+     */
+    private long generation = 0L;
+
+    /**
+     * キャッシュに適合した回数。
+     */
+    private long hitCount = 0L;
+
+    /**
+     * キャッシュに適合しなかった回数。
+     */
+    private long missCount = 0L;
+
+    /**
+     * 容量の上限を超えたために破棄した回数。
+     */
+    private long evictionCount = 0L;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param keyType     モデルマップのキーの型。
+     * @param maximumSize 保持できる文字数の上限。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public ModelCache(Class<E> keyType, int maximumSize) {
+
+        if (keyType == null
+                || maximumSize <= 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.keyType = keyType;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 主キーに紐付く検索結果の複製を返却します。
+     *
+     * @param key 主キー。
+     * @return 検索結果の複製。保持していない場合は{@code null}。
+     */
+    public synchronized ModelMap<E, Object> get(long key) {
+
+        ModelMap<E, Object> modelMap = entries.get(key);
+
+        if (modelMap == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        return copyOf(modelMap);
+    }
+
+    /**
+     * 現在の世代を返却します。
+     * 検索結果を格納する場合は検索を開始する前に取得する必要があります。
+     *
+     * @return 現在の世代。
+     * @see #put(long, ModelMap, long)
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 検索の開始から無効化が行われていない場合に限り、主キーに紐付く検索結果の複製を格納します。
+     * 単独で容量の上限を超える検索結果は格納しません。
+     *
+     * @param key        主キー。
+     * @param modelMap   検索結果。
+     * @param generation 検索を開始する前に取得した世代。
+     * @return 格納した場合は {@code true}、それ以外は{@code false}。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #getGeneration()
+     */
+    public synchronized boolean put(long key, ModelMap<E, Object> modelMap, long generation) {
+
+        if (modelMap == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        int entrySize = sizeOf(modelMap);
+
+        if (generation != this.generation || entrySize > maximumSize) {
+            return false;
+        }
+
+        ModelMap<E, Object> previous = entries.put(key, copyOf(modelMap));
+
+        if (previous != null) {
+            size -= sizeOf(previous);
+        }
+
+        size += entrySize;
+        trimToSize();
+
+        return true;
+    }
+
+    /**
+     * 主キーに紐付く検索結果を破棄し、世代を更新します。
+     *
+     * @param key 主キー。
+     */
+    public synchronized void invalidate(long key) {
+
+        ModelMap<E, Object> previous = entries.remove(key);
+
+        if (previous != null) {
+            size -= sizeOf(previous);
+        }
+
+        generation++;
+    }
+
+    /**
+     * 全ての検索結果を破棄し、世代を更新します。
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        size = 0;
+        generation++;
+    }
+
+    /**
+     * 現在までの適合及び破棄の回数と保持している容量を返却します。
+     *
+     * @return キャッシュの統計情報。
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount, missCount, evictionCount, entries.size(), size, maximumSize);
+    }
+
+    /**
+     * 保持している文字数の合計が上限以下になるまで、最も長く参照されていない検索結果から破棄します。
+     */
+    private void trimToSize() {
+
+        Iterator<Map.Entry<Long, ModelMap<E, Object>>> iterator = entries.entrySet().iterator();
+
+        while (size > maximumSize && iterator.hasNext()) {
+            size -= sizeOf(iterator.next().getValue());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * 検索結果が占める容量を計算します。
+     * 文字列の値の文字数の合計に、値を持たない検索結果でも容量を消費するよう1を加えます。
+     *
+     * @param modelMap 検索結果。
+     * @return 検索結果が占める容量。
+     */
+    private static int sizeOf(ModelMap<?, Object> modelMap) {
+
+        int entrySize = 1;
+
+        for (Object value : modelMap.values()) {
+            if (value instanceof String) {
+                entrySize += ((String) value).length();
+            }
+        }
+
+        return entrySize;
+    }
+
+    /**
+     * 検索結果の浅い複製を生成します。
+     *
+     * @param modelMap 検索結果。
+     * @return 検索結果の複製。
+     */
+    private ModelMap<E, Object> copyOf(ModelMap<E, Object> modelMap) {
+
+        ModelMap<E, Object> copy = new ModelMap<>(keyType);
+        copy.putAll(modelMap);
+
+        return copy;
+    }
+}
@@ -0,0 +1,145 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ModelResult.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 一回の検索処理の結果を保持する不変のクラスです。
+ * <p>
+ * 検索結果は呼び出し毎に生成され、モデルのインスタンスには保持されません。
+ * そのため、複数のスレッドから同一のモデルで同時に検索した場合でも、
+ * 各スレッドは自身の検索結果のみを参照します。
+ * 保持するモデルマップは外部へ公開せず、値の取得または行の複製のみを提供します。
+ *
+ * @param <E> モデルマップのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see BaseModel
+ * @since 1.0
+ */
+public final class ModelResult<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * モデルマップのキーの型。
+     */
+    private final Class<E> keyType;
+
+    /**
+     * 検索結果の各行。
+     */
+    private final List<ModelMap<E, Object>> rows;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 渡されたリストは複製して保持しますが、各行のモデルマップは複製しないため、
+     * 検索毎に生成されたモデルマップを渡し、以降は変更しない必要があります。
+     *
+     * @param keyType モデルマップのキーの型。
+     * @param rows    検索結果の各行。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public ModelResult(Class<E> keyType, List<ModelMap<E, Object>> rows) {
+
+        if (keyType == null
+                || rows == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.keyType = keyType;
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
+    /**
+     * 検索結果の行数を返却します。
+     *
+     * @return 検索結果の行数。
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * 検索結果が存在しないか判定します。
+     *
+     * @return 検索結果が存在しない場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /**
+     * 指定された行の文字列の値を返却します。
+     *
+     * @param index 行の位置。
+     * @param key   カラムのキー。
+     * @return 文字列の値。値が存在しない場合は{@code null}。
+     * @throws IndexOutOfBoundsException 行の位置が範囲外の場合に発生します。
+     */
+    public String getString(int index, E key) {
+        return rows.get(index).getString(key);
+    }
+
+    /**
+     * 指定された行の整数の値を返却します。
+     *
+     * @param index 行の位置。
+     * @param key   カラムのキー。
+     * @return 整数の値。値が存在しない場合は{@code null}。
+     * @throws IndexOutOfBoundsException 行の位置が範囲外の場合に発生します。
+     */
+    public Integer getInteger(int index, E key) {
+        return rows.get(index).getInteger(key);
+    }
+
+    /**
+     * 指定された行の長整数の値を返却します。
+     *
+     * @param index 行の位置。
+     * @param key   カラムのキー。
+     * @return 長整数の値。値が存在しない場合は{@code null}。
+     * @throws IndexOutOfBoundsException 行の位置が範囲外の場合に発生します。
+     */
+    public Long getLong(int index, E key) {
+        return rows.get(index).getLong(key);
+    }
+
+    /**
+     * 指定された行の複製を返却します。
+     * 返却したモデルマップを変更しても検索結果には影響しません。
+     *
+     * @param index 行の位置。
+     * @return 行の複製。
+     * @throws IndexOutOfBoundsException 行の位置が範囲外の場合に発生します。
+     */
+    public ModelMap<E, Object> copyRow(int index) {
+
+        ModelMap<E, Object> copy = new ModelMap<>(keyType);
+        copy.putAll(rows.get(index));
+
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "ModelResult{" +
+                "rows=" + rows +
+                '}';
+    }
+}
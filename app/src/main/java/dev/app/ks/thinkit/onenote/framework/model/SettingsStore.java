@@ -0,0 +1,467 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import dev.app.ks.thinkit.onenote.framework.IBatchWriter;
+import dev.app.ks.thinkit.onenote.framework.IPreferenceKey;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.ISettingsListener;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+import dev.app.ks.thinkit.onenote.framework.model.executor.WriteBehindQueue;
+import dev.app.ks.thinkit.onenote.framework.model.holder.CurrentApplicationHolder;
+import dev.app.ks.thinkit.onenote.framework.model.property.CurrentApplicationColumnKey;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : SettingsStore.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * カレントアプリケーション情報及び共有情報の設定値をメモリ上に保持するクラスです。
+ * <p>
+ * 設定値は初回の参照時または{@link #preload(IQueryCallback)}の実行時に一度だけ読み込まれ、
+ * 以降の参照はデータベース及び共有情報への入出力を伴わずにメモリ上の値を返却します。
+ * 書き込みはメモリ上の値へ即時に反映され、永続化は{@link WriteBehindQueue}により
+ * 同一のキーへの書き込みをまとめた上でデータベース実行スレッドから一括で行われます。
+ * 設定値が変更された場合は登録されたリスナーへメインスレッドで通知されます。
+ * <p>
+ * 当該クラスはプロセス全体で単一のインスタンスを共有し、複数のスレッドから同時に使用できます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see CurrentApplicationInformation
+ * @see ISettingsListener
+ * @since 1.0
+ */
+public final class SettingsStore {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = SettingsStore.class.getName();
+
+    /**
+     * 最初の書き込みから一括反映を開始するまでのミリ秒。
+     */
+    private static final long FLUSH_DELAY_MILLIS = 500L;
+
+    /**
+     * 一括反映を即時に開始する蓄積件数。
+     */
+    private static final int FLUSH_THRESHOLD = 16;
+
+    /**
+     * 当該クラスのインスタンス。
+     */
+    private static SettingsStore thisInstance = null;
+
+    /**
+     * アプリケーション情報。
+     */
+    private final Context context;
+
+    /**
+     * リスナーへの通知を行うメインスレッドのハンドラ。
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 設定値を保護するロック。
+     * データベース及び共有情報への入出力の間は保持しません。
+     */
+    private final Object lock = new Object();
+
+    /**
+     * 設定値の読み込みを一つのスレッドに限定するロック。
+     */
+    private final Object loadLock = new Object();
+
+    /**
+     * キーに紐付く共有情報の値。
+     */
+    private final Map<String, String> preferences = new HashMap<>();
+
+    /**
+     * コンフィグ名に紐付くコンフィグ値。
+     */
+    private final Map<String, String> configs = new HashMap<>();
+
+    /**
+     * 設定値の変更を受け取るリスナー。
+     */
+    private final List<ISettingsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 共有情報の遅延書き込み用のキュー。
+     */
+    private final WriteBehindQueue<Map.Entry<String, String>> preferenceQueue;
+
+    /**
+     * コンフィグの遅延書き込み用のキュー。
+     */
+    private final WriteBehindQueue<CurrentApplicationHolder> configQueue;
+
+    /**
+     * 設定値を読み込み済みか否か。
+     */
+    private volatile boolean loaded = false;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスにシングルトンパターンを適用するため修飾子をprivate指定します。
+     *
+     * @param context アプリケーション情報。
+     * @see #getInstance(Context)
+     */
+    private SettingsStore(Context context) {
+        this.context = context.getApplicationContext();
+
+        preferenceQueue = new WriteBehindQueue<>(new IBatchWriter<Map.Entry<String, String>>() {
+            @Override
+            public void writeAll(List<Map.Entry<String, String>> entryList) {
+                SharedPreferences.Editor editor = getSharedPreferences().edit();
+
+                for (Map.Entry<String, String> entry : entryList) {
+                    editor.putString(entry.getKey(), entry.getValue());
+                }
+
+                // データベース実行スレッドで呼び出されるため同期して書き込む
+                editor.commit();
+            }
+        }, FLUSH_DELAY_MILLIS, FLUSH_THRESHOLD);
+
+        configQueue = new WriteBehindQueue<>(new IBatchWriter<CurrentApplicationHolder>() {
+            @Override
+            public void writeAll(List<CurrentApplicationHolder> currentApplicationHolderList) {
+                CurrentApplicationInformation.getInstance(SettingsStore.this.context).replace(currentApplicationHolderList);
+            }
+        }, FLUSH_DELAY_MILLIS, FLUSH_THRESHOLD);
+    }
+
+    /**
+     * 当該クラスのインスタンスを返却します。
+     * 複数のスレッドから同時に呼び出された場合でもインスタンスは一つのみ生成されます。
+     * 設定値は当該メソッドでは読み込まれません。
+     *
+     * @param context アプリケーション情報。
+     * @return 当該クラスのインスタンス。
+     */
+    public static synchronized SettingsStore getInstance(Context context) {
+
+        if (thisInstance == null) {
+            thisInstance = new SettingsStore(context);
+        }
+
+        return thisInstance;
+    }
+
+    /**
+     * 共有情報のファイル名を返却します。
+     *
+     * @param context アプリケーション情報。
+     * @return 共有情報のファイル名。
+     */
+    public static String getSharedPreferencesName(Context context) {
+        return context.getPackageName() + "_preferences";
+    }
+
+    /**
+     * 設定値の読み込みをデータベース実行スレッドで開始します。
+     * 読み込みの完了前に参照された場合は、参照したスレッドで読み込みの完了を待ちます。
+     *
+     * @param callback 処理結果を受け取るコールバック。不要な場合は{@code null}。
+     * @return 実行スレッドへ投入した処理。
+     */
+    public QueryTask<Void> preload(IQueryCallback<Void> callback) {
+        return DatabaseExecutor.getInstance().submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                ensureLoaded();
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * キーに紐付く共有情報の値を返却します。
+     *
+     * @param key 共有情報のキー。
+     * @return 共有情報の値。存在しない場合は空文字列。
+     */
+    public String getString(IPreferenceKey key) {
+        return getOrEmpty(preferences, key.getKeyName());
+    }
+
+    /**
+     * キーに紐付く共有情報の値を整数として返却します。
+     *
+     * @param key          共有情報のキー。
+     * @param defaultValue 値が存在しないまたは整数でない場合に返却する値。
+     * @return 共有情報の値。
+     */
+    public int getInt(IPreferenceKey key, int defaultValue) {
+
+        String value = getString(key);
+
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            Logger.Warn.write(TAG, "getInt", "not an integer: " + key.getKeyName());
+            return defaultValue;
+        }
+    }
+
+    /**
+     * キーに紐付く共有情報の値を真偽値として返却します。
+     *
+     * @param key 共有情報のキー。
+     * @return 値が{@code "true"}の場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean getBoolean(IPreferenceKey key) {
+        return Boolean.valueOf(getString(key));
+    }
+
+    /**
+     * コンフィグ名に紐付くコンフィグ値を返却します。
+     *
+     * @param configName コンフィグ名。
+     * @return コンフィグ値。存在しない場合は空文字列。
+     */
+    public String getConfigValue(CurrentApplicationInformation.ConfigName configName) {
+        return getOrEmpty(configs, configName.getKeyName());
+    }
+
+    /**
+     * キーに紐付く共有情報の値を設定します。
+     * 値はメモリ上へ即時に反映され、永続化は非同期で一括して行われます。
+     *
+     * @param key   共有情報のキー。
+     * @param value 共有情報の値。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void putString(IPreferenceKey key, String value) {
+
+        if (key == null
+                || value == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        String keyName = key.getKeyName();
+        ensureLoaded();
+
+        // 永続化の順序がメモリ上の値の更新順と一致するよう、更新と蓄積を同期して行う
+        synchronized (lock) {
+            if (value.equals(preferences.put(keyName, value))) {
+                return;
+            }
+
+            preferenceQueue.enqueue(keyName, new AbstractMap.SimpleImmutableEntry<>(keyName, value));
+        }
+
+        notifyChanged(keyName);
+    }
+
+    /**
+     * キーに紐付く共有情報の値を整数で設定します。
+     *
+     * @param key   共有情報のキー。
+     * @param value 共有情報の値。
+     * @see #putString(IPreferenceKey, String)
+     */
+    public void putInt(IPreferenceKey key, int value) {
+        putString(key, String.valueOf(value));
+    }
+
+    /**
+     * コンフィグ名に紐付くコンフィグ値を設定します。
+     * 値はメモリ上へ即時に反映され、永続化は非同期で一括して行われます。
+     *
+     * @param configName  コンフィグ名。
+     * @param configValue コンフィグ値。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void putConfigValue(CurrentApplicationInformation.ConfigName configName, String configValue) {
+
+        if (configName == null
+                || configValue == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        String keyName = configName.getKeyName();
+        ensureLoaded();
+
+        CurrentApplicationHolder currentApplicationHolder = new CurrentApplicationHolder();
+        currentApplicationHolder.setConfigName(configName);
+        currentApplicationHolder.setConfigValue(configValue);
+
+        synchronized (lock) {
+            if (configValue.equals(configs.put(keyName, configValue))) {
+                return;
+            }
+
+            configQueue.enqueue(keyName, currentApplicationHolder);
+        }
+
+        notifyChanged(keyName);
+    }
+
+    /**
+     * 未反映の書き込みの永続化を非同期で開始します。
+     * 画面の停止時など、プロセスが終了する可能性がある契機で呼び出します。
+     */
+    public void flush() {
+
+        if (preferenceQueue.hasPending()) {
+            preferenceQueue.flush(null);
+        }
+
+        if (configQueue.hasPending()) {
+            configQueue.flush(null);
+        }
+    }
+
+    /**
+     * 設定値の変更を受け取るリスナーを登録します。
+     *
+     * @param listener リスナー。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void registerListener(ISettingsListener listener) {
+
+        if (listener == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * 登録したリスナーを解除します。
+     *
+     * @param listener リスナー。
+     */
+    public void unregisterListener(ISettingsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 設定値を読み込んだ上で、キーに紐付く値を返却します。
+     *
+     * @param values  設定値。
+     * @param keyName キー。
+     * @return 値。存在しない場合は空文字列。
+     */
+    private String getOrEmpty(Map<String, String> values, String keyName) {
+
+        ensureLoaded();
+
+        synchronized (lock) {
+            String value = values.get(keyName);
+            return value == null ? "" : value;
+        }
+    }
+
+    /**
+     * 設定値を読み込んでいない場合は共有情報及びカレントアプリケーション情報から読み込みます。
+     * 読み込み中に他のスレッドから呼び出された場合は読み込みの完了を待ちます。
+     * 入出力は設定値のロックを保持せずに行い、読み込んだ値のみをロックを保持して反映します。
+     */
+    private void ensureLoaded() {
+        String methodName = "ensureLoaded";
+
+        if (loaded) {
+            return;
+        }
+
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+
+            long startMillis = System.currentTimeMillis();
+            Map<String, String> loadedPreferences = new HashMap<>();
+
+            for (Map.Entry<String, ?> entry : getSharedPreferences().getAll().entrySet()) {
+                if (entry.getValue() != null) {
+                    loadedPreferences.put(entry.getKey(), String.valueOf(entry.getValue()));
+                }
+            }
+
+            Map<String, String> loadedConfigs = new HashMap<>();
+            ModelResult<CurrentApplicationColumnKey> result = CurrentApplicationInformation.getInstance(context).selectAll();
+
+            for (int i = 0; i < result.size(); i++) {
+                loadedConfigs.put(
+                        result.getString(i, CurrentApplicationColumnKey.ConfigName),
+                        result.getString(i, CurrentApplicationColumnKey.ConfigValue));
+            }
+
+            synchronized (lock) {
+                preferences.putAll(loadedPreferences);
+                configs.putAll(loadedConfigs);
+                loaded = true;
+            }
+
+            Logger.Info.write(TAG, methodName, String.format("loaded %d preferences and %d configs in %dms",
+                    loadedPreferences.size(), loadedConfigs.size(), System.currentTimeMillis() - startMillis));
+        }
+    }
+
+    /**
+     * 共有情報へアクセスするためのオブジェクトを返却します。
+     *
+     * @return 共有情報へアクセスするためのオブジェクト。
+     */
+    private SharedPreferences getSharedPreferences() {
+        return context.getSharedPreferences(getSharedPreferencesName(context), Context.MODE_PRIVATE);
+    }
+
+    /**
+     * 登録されたリスナーへ設定値の変更をメインスレッドで通知します。
+     *
+     * @param keyName 変更された設定値のキー。
+     */
+    private void notifyChanged(final String keyName) {
+
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                for (ISettingsListener listener : listeners) {
+                    listener.onSettingChanged(keyName);
+                }
+            }
+        });
+    }
+}
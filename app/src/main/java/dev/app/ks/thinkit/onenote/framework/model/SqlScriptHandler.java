@@ -0,0 +1,154 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : SqlScriptHandler.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * SQLファイルの内容を個々のSQL文へ分割する機能を定義したユーティリティクラスです。
+ * <p>
+ * SQL文は文末のセミコロンで区切られます。
+ * 引用符で囲まれた文字列及び識別子の中のセミコロンは区切りとして扱わず、
+ * トリガーの本体に含まれるセミコロンはトリガーの終端を表すENDまで区切りとして扱いません。
+ * 行コメント及びブロックコメントは分割の際に取り除かれます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SqlScriptHandler {
+
+    /**
+     * トリガーの作成文であることを判定するパターン。
+     */
+    private static final Pattern PATTERN_CREATE_TRIGGER =
+            Pattern.compile("^CREATE\\s+(TEMP\\s+|TEMPORARY\\s+)?TRIGGER\\s", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * トリガーの終端を表すキーワード。
+     */
+    private static final String KEYWORD_END = "END";
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private SqlScriptHandler() {
+    }
+
+    /**
+     * 渡されたSQLファイルの内容を個々のSQL文へ分割し返却します。
+     * 空白及びコメントのみで構成される文は返却しません。
+     * 最後のSQL文は文末のセミコロンが省略されていても一つのSQL文として返却します。
+     *
+     * @param script SQLファイルの内容。
+     * @return 記述順に並べたSQL文のリスト。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static List<String> split(String script) {
+
+        if (script == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        List<String> statements = new ArrayList<>();
+        StringBuilder statement = new StringBuilder();
+        int length = script.length();
+        int index = 0;
+
+        while (index < length) {
+            char current = script.charAt(index);
+            char next = index + 1 < length ? script.charAt(index + 1) : '\0';
+
+            if (current == '\'' || current == '"' || current == '`' || current == '[') {
+                // 二重化された引用符は閉じた直後に再び開いたものとして扱われるため特別な処理は不要
+                char close = current == '[' ? ']' : current;
+                int end = script.indexOf(close, index + 1);
+                end = end < 0 ? length : end + 1;
+
+                statement.append(script, index, end);
+                index = end;
+
+            } else if (current == '-' && next == '-') {
+                int end = script.indexOf('\n', index);
+                index = end < 0 ? length : end;
+
+            } else if (current == '/' && next == '*') {
+                int end = script.indexOf("*/", index + 2);
+                index = end < 0 ? length : end + 2;
+                statement.append(' ');
+
+            } else if (current == ';') {
+                statement.append(current);
+                index++;
+
+                if (isComplete(statement)) {
+                    addIfNotEmpty(statements, statement);
+                    statement.setLength(0);
+                }
+
+            } else {
+                statement.append(current);
+                index++;
+            }
+        }
+
+        addIfNotEmpty(statements, statement);
+
+        return statements;
+    }
+
+    /**
+     * セミコロンまで読み込んだSQL文が完結しているか判定します。
+     * トリガーの作成文はENDの直後のセミコロンで完結します。
+     *
+     * @param statement セミコロンまで読み込んだSQL文。
+     * @return SQL文が完結している場合は {@code true}、それ以外は{@code false}。
+     */
+    private static boolean isComplete(StringBuilder statement) {
+
+        String trimmed = statement.toString().trim();
+
+        if (!PATTERN_CREATE_TRIGGER.matcher(trimmed).find()) {
+            return true;
+        }
+
+        // 文末のセミコロンと空白を除いた末尾の単語がENDであればトリガーの終端とする
+        String body = trimmed.substring(0, trimmed.length() - 1).trim();
+        int start = body.length() - KEYWORD_END.length();
+
+        return start > 0
+                && body.substring(start).toUpperCase(Locale.ROOT).equals(KEYWORD_END)
+                && !Character.isLetterOrDigit(body.charAt(start - 1))
+                && body.charAt(start - 1) != '_';
+    }
+
+    /**
+     * 空白のみで構成されていない場合に限りSQL文をリストへ追加します。
+     *
+     * @param statements SQL文のリスト。
+     * @param statement  追加するSQL文。
+     */
+    private static void addIfNotEmpty(List<String> statements, StringBuilder statement) {
+
+        String trimmed = statement.toString().trim();
+
+        if (!trimmed.isEmpty() && !trimmed.equals(";")) {
+            statements.add(trimmed);
+        }
+    }
+}
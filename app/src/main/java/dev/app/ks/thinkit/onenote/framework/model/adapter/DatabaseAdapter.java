@@ -2,8 +2,10 @@ package dev.app.ks.thinkit.onenote.framework.model.adapter;
 
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 
-import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+import dev.app.ks.thinkit.onenote.framework.model.monitor.QueryMonitor;
 
 /**
  * ======================================================================
@@ -20,23 +22,44 @@ import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
  * <p>
  * SQLiteデータベースの接続に関わる汎用的な処理を定義したアダプタクラスです。
  * データベースの接続・切断は当該クラスを介して行われます。
+ * <p>
+ * 接続はプロセス全体で共有されているため、
+ * 当該クラスの接続・切断は共有接続の貸し出しと返却を意味します。
+ * <p>
+ * トランザクションの所要時間は{@link QueryMonitor}へ自動的に記録されます。
+ * 個々の処理の所要時間は{@link #record(QueryMonitor.Operation, String, long, int)}で記録します。
  *
  * @author Kato Shinya
  * @version 1.0
- * @see DatabaseOpenHelper
+ * @see DatabaseConnectionManager
  * @since 1.0
  */
 public final class DatabaseAdapter {
 
     /**
-     * アプリケーションの情報。
+     * テーブルに紐付かない操作を記録する際のテーブル名。
+     */
+    private static final String TABLE_NAME_UNSPECIFIED = "*";
+
+    /**
+     * プロセス全体で共有する接続を管理するオブジェクト。
      */
-    private final Context context;
+    private final DatabaseConnectionManager connectionManager;
 
     /**
-     * データベースを操作するヘルパークラスのオブジェクト。
+     * 所要時間を記録する際のテーブル名。
      */
-    private DatabaseOpenHelper databaseHelper;
+    private final String tableName;
+
+    /**
+     * 開始したトランザクションの入れ子の深さ。
+     */
+    private int transactionDepth = 0;
+
+    /**
+     * 最も外側のトランザクションを開始した時点のナノ秒。
+     */
+    private long transactionStartNanos = 0L;
 
     /**
      * SQLiteデータベースのオブジェクト。
@@ -49,7 +72,19 @@ public final class DatabaseAdapter {
      * @param context アプリケーションの情報。
      */
     public DatabaseAdapter(Context context) {
-        this.context = context;
+        this(context, null);
+    }
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 所要時間は渡されたテーブル毎に記録されます。
+     *
+     * @param context アプリケーションの情報。
+     * @param table   操作するテーブル。特定のテーブルに紐付かない場合は{@code null}。
+     */
+    public DatabaseAdapter(Context context, ITableInfo table) {
+        connectionManager = DatabaseConnectionManager.getInstance(context);
+        tableName = table == null ? TABLE_NAME_UNSPECIFIED : table.getName();
     }
 
     /**
@@ -57,31 +92,70 @@ public final class DatabaseAdapter {
      * 当該メソッドを初回時に実行する前にトランザクション処理を開始しないでください。
      */
     public void initializeDatabase() {
-        databaseHelper = new DatabaseOpenHelper(context);
-        databaseHelper.getWritableDatabase();
+        connectionManager.acquire();
+        connectionManager.release();
     }
 
     /**
      * データベースへ接続する処理を定義したメソッドです。
      * データベース接続を行う際は一番初めに当該メソッドを呼び出す必要があります。
+     * 共有接続が既に確立されている場合は再接続を行わずに既存の接続を使用します。
      *
      * @see #close()
      */
     public void open() {
-        databaseHelper = new DatabaseOpenHelper(context);
-        setDatabase(databaseHelper.getWritableDatabase());
+        setDatabase(connectionManager.acquire());
+    }
+
+    /**
+     * 読み取り専用のデータベースへ接続する処理を定義したメソッドです。
+     * 読み取り専用の接続は書き込み中のトランザクションの完了を待たずに検索を行えますが、
+     * 当該接続に対して更新処理及びトランザクション処理を行うことはできません。
+     *
+     * @see #close()
+     */
+    public void openReadOnly() {
+        setDatabase(connectionManager.acquireReadOnly());
+    }
+
+    /**
+     * 長期間参照されていない行を移動するアーカイブへ接続する処理を定義したメソッドです。
+     * アーカイブが存在しない場合は当該メソッド内で作成されます。
+     * アーカイブの接続ではステートメントのキャッシュを使用できないため、
+     * {@link #getStatement(StatementKey)}を呼び出さずに直接SQL文を実行する必要があります。
+     *
+     * @see #close()
+     * @see #isArchiveAttached()
+     */
+    public void openArchive() {
+        setDatabase(connectionManager.acquireArchive());
+    }
+
+    /**
+     * 読み取り専用の接続にアーカイブがアタッチされているか判定します。
+     * アタッチされている場合、読み取り専用の接続では
+     * {@link DatabaseConnectionManager#ARCHIVE_SCHEMA_NAME}のスキーマ名でアーカイブを参照できます。
+     *
+     * @return アタッチされている場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isArchiveAttached() {
+        return connectionManager.isArchiveAttached();
     }
 
     /**
      * データベース接続を切る処理を定義したメソッドです。
      * メモリリークを防ぐために、
      * データベース接続を行った後には必ず当該メソッドを呼び出す必要があります。
+     * 共有接続は他の処理からも使用されるため物理的な切断は行いません。
      *
      * @see #open()
+     * @see #openReadOnly()
+     * @see #openArchive()
      */
     public void close() {
-        if (databaseHelper != null) {
-            databaseHelper.close();
+        if (database != null) {
+            connectionManager.release();
+            setDatabase(null);
         }
     }
 
@@ -94,6 +168,10 @@ public final class DatabaseAdapter {
      */
     public void beginTransaction() {
         database.beginTransaction();
+
+        if (transactionDepth++ == 0) {
+            transactionStartNanos = System.nanoTime();
+        }
     }
 
     /**
@@ -117,6 +195,98 @@ public final class DatabaseAdapter {
      */
     public void endTransaction() {
         database.endTransaction();
+
+        if (--transactionDepth == 0) {
+            QueryMonitor.getInstance().record(
+                    tableName,
+                    QueryMonitor.Operation.Transaction,
+                    null,
+                    System.nanoTime() - transactionStartNanos,
+                    0,
+                    null);
+        }
+    }
+
+    /**
+     * 共有されたステートメントを使用する前に、書き込み用の接続を現在のスレッドに確保します。
+     * 接続の取得を待つ間にステートメントを同期すると、トランザクション内で接続を保持したまま
+     * 同一のステートメントを待つスレッドと相互に待機するため、ステートメントの同期より前に呼び出す必要があります。
+     * トランザクション内で呼び出した場合は既に接続を確保しているため、何もしません。
+     *
+     * @return 接続を確保した場合は {@code true}、既に確保していた場合は{@code false}。
+     * @see #releaseConnection(boolean, boolean)
+     * @see StatementCache
+     */
+    public boolean acquireConnection() {
+
+        if (database.inTransaction()) {
+            return false;
+        }
+
+        database.beginTransactionNonExclusive();
+        return true;
+    }
+
+    /**
+     * {@link #acquireConnection()}で確保した接続を解放します。
+     * 処理が正常終了しなかった場合は、確保した間に行った処理を取り消します。
+     *
+     * @param acquired   {@link #acquireConnection()}の戻り値。
+     * @param successful 処理が正常終了した場合は {@code true}。
+     */
+    public void releaseConnection(boolean acquired, boolean successful) {
+
+        if (!acquired) {
+            return;
+        }
+
+        if (successful) {
+            database.setTransactionSuccessful();
+        }
+
+        database.endTransaction();
+    }
+
+    /**
+     * 当該接続で実行した処理の所要時間を記録します。
+     * 低速な処理の実行計画を取得するため、当該メソッドは接続を切る前に呼び出す必要があります。
+     *
+     * @param operation  操作の種類。
+     * @param sql        実行したSQL文。
+     * @param startNanos 処理を開始した時点の{@link System#nanoTime()}の値。
+     * @param rowCount   取得または更新した行数。
+     * @see QueryMonitor
+     */
+    public void record(QueryMonitor.Operation operation, String sql, long startNanos, int rowCount) {
+        QueryMonitor.getInstance().record(tableName, operation, sql, System.nanoTime() - startNanos, rowCount, database);
+    }
+
+    /**
+     * キーに紐付くコンパイル済みのステートメントを返却します。
+     * ステートメントは共有接続に紐付けてキャッシュされるため、
+     * 同一のキーに対するSQL文の解析は接続毎に一度のみ行われます。
+     * また、当該メソッドを呼び出すためには必ず書き込み用の接続が確立されている必要があります。
+     *
+     * @param statementKey ステートメントのキー。
+     * @return コンパイル済みのステートメント。
+     * @see StatementCache
+     */
+    public SQLiteStatement getStatement(StatementKey statementKey) {
+        return connectionManager.getStatementCache().get(database, statementKey);
+    }
+
+    /**
+     * SQL文に紐付くコンパイル済みのステートメントを返却します。
+     * 組み立て済みの形から生成したSQL文を渡すことで、
+     * 同一の形に対するSQL文の解析は接続毎に一度のみ行われます。
+     * また、当該メソッドを呼び出すためには必ず書き込み用の接続が確立されている必要があります。
+     *
+     * @param sql プレースホルダを使用したSQL文。
+     * @return コンパイル済みのステートメント。
+     * @see StatementCache
+     */
+    public SQLiteStatement getStatement(String sql) {
+        return connectionManager.getStatementCache().get(database, sql);
     }
 
     /**
@@ -0,0 +1,409 @@
+package dev.app.ks.thinkit.onenote.framework.model.adapter;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.SystemClock;
+
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.model.helper.ArchiveDatabaseOpenHelper;
+import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : DatabaseConnectionManager.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * プロセス全体で共有するデータベース接続を管理するクラスです。
+ * データベースは初回の接続要求時に一度だけ開かれ、
+ * 以降はプロセスが終了するまで同一の接続を参照カウント方式で貸し出します。
+ * <p>
+ * 書き込み用の接続とは別に読み取り専用の接続を保持しており、
+ * WALを有効化したデータベースに対して書き込み中のトランザクションを待たずに検索を行えます。
+ * <p>
+ * 長期間参照されていない行を移動するアーカイブは、読み取り専用の接続にのみアタッチします。
+ * アタッチした接続ではWALが無効化されるため、書き込み用の接続にはアタッチせず、
+ * アーカイブへの書き込みはアーカイブ用の接続を別に貸し出して行います。
+ * <p>
+ * 接続の取得及び返却の回数は統計情報として保持され、
+ * 接続の開閉が繰り返されていないことを確認する際に使用します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseAdapter
+ * @see DatabaseOpenHelper
+ * @see ArchiveDatabaseOpenHelper
+ * @since 1.0
+ */
+public final class DatabaseConnectionManager {
+
+    /**
+     * 読み取り専用の接続にアタッチしたアーカイブのスキーマ名。
+     */
+    public static final String ARCHIVE_SCHEMA_NAME = "archive";
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = DatabaseConnectionManager.class.getName();
+
+    /**
+     * アーカイブを読み取り専用の接続にアタッチするSQL文。
+     */
+    private static final String SQL_ATTACH_ARCHIVE = "ATTACH DATABASE ? AS " + ARCHIVE_SCHEMA_NAME;
+
+    /**
+     * 当該クラスのインスタンス。
+     * 当該クラスにシングルトンパターンを適用するためnullで初期化する。
+     *
+     * @see #getInstance(Context)
+     */
+    private static DatabaseConnectionManager thisInstance = null;
+
+    /**
+     * アプリケーションの情報。
+     */
+    private final Context context;
+
+    /**
+     * データベースを操作するヘルパークラスのオブジェクト。
+     */
+    private final DatabaseOpenHelper databaseHelper;
+
+    /**
+     * アーカイブを操作するヘルパークラスのオブジェクト。
+     */
+    private final ArchiveDatabaseOpenHelper archiveHelper;
+
+    /**
+     * 共有している書き込み用のSQLiteデータベースのオブジェクト。
+     */
+    private SQLiteDatabase database;
+
+    /**
+     * 共有している読み取り専用のSQLiteデータベースのオブジェクト。
+     */
+    private SQLiteDatabase readOnlyDatabase;
+
+    /**
+     * 共有しているアーカイブの書き込み用のSQLiteデータベースのオブジェクト。
+     */
+    private SQLiteDatabase archiveDatabase;
+
+    /**
+     * 読み取り専用の接続にアーカイブをアタッチしているか。
+     */
+    private boolean archiveAttached = false;
+
+    /**
+     * 書き込み用の接続でコンパイルしたステートメントのキャッシュ。
+     */
+    private final StatementCache statementCache = new StatementCache();
+
+    /**
+     * 現在貸し出している接続の参照数。
+     */
+    private int referenceCount = 0;
+
+    /**
+     * データベースを物理的に開いた回数。
+     */
+    private long countOpened = 0;
+
+    /**
+     * データベースを物理的に閉じた回数。
+     */
+    private long countClosed = 0;
+
+    /**
+     * 接続を貸し出した回数。
+     */
+    private long countAcquired = 0;
+
+    /**
+     * 接続が返却された回数。
+     */
+    private long countReleased = 0;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスにシングルトンパターンを適用するため修飾子をprivate指定しています。
+     *
+     * @param context アプリケーションの情報。
+     * @see #getInstance(Context)
+     */
+    private DatabaseConnectionManager(Context context) {
+        this.context = context;
+        databaseHelper = new DatabaseOpenHelper(context);
+        archiveHelper = new ArchiveDatabaseOpenHelper(context);
+    }
+
+    /**
+     * 当該クラスのインスタンスを返却します。
+     * アクティビティのリークを防ぐため、
+     * インスタンスはアプリケーションコンテキストを基に生成されます。
+     *
+     * @param context アプリケーションの情報。
+     * @return 当該クラスのインスタンス。
+     */
+    public static synchronized DatabaseConnectionManager getInstance(Context context) {
+
+        if (thisInstance == null) {
+            thisInstance = new DatabaseConnectionManager(context.getApplicationContext());
+        }
+
+        return thisInstance;
+    }
+
+    /**
+     * 共有している書き込み用のデータベース接続を貸し出します。
+     * データベースが開かれていない場合は当該メソッド内で接続を確立します。
+     * 貸し出した接続は使用後に必ず{@code release()}で返却する必要があります。
+     *
+     * @return SQLiteデータベースのオブジェクト。
+     * @see #release()
+     */
+    public synchronized SQLiteDatabase acquire() {
+
+        openIfNeeded();
+
+        referenceCount++;
+        countAcquired++;
+
+        return database;
+    }
+
+    /**
+     * 共有している読み取り専用のデータベース接続を貸し出します。
+     * 読み取り専用の接続はスキーマの作成及び更新が完了した後に開く必要があるため、
+     * 書き込み用の接続が確立されていない場合は先に書き込み用の接続を確立します。
+     * 貸し出した接続は使用後に必ず{@code release()}で返却する必要があります。
+     *
+     * @return 読み取り専用のSQLiteデータベースのオブジェクト。
+     * @see #release()
+     */
+    public synchronized SQLiteDatabase acquireReadOnly() {
+        String methodName = "acquireReadOnly";
+
+        openIfNeeded();
+
+        if (readOnlyDatabase == null || !readOnlyDatabase.isOpen()) {
+            readOnlyDatabase = DatabaseOpenHelper.openReadOnlyDatabase(context);
+            archiveAttached = false;
+            countOpened++;
+            Logger.Debug.write(TAG, methodName, "read-only database opened");
+        }
+
+        // アーカイブへ一度も移動していない場合はファイルを作成せず、元のデータベースのみを参照する
+        if (!archiveAttached && ArchiveDatabaseOpenHelper.getDatabaseFile(context).exists()) {
+            openArchiveIfNeeded();
+            attachArchive();
+        }
+
+        referenceCount++;
+        countAcquired++;
+
+        return readOnlyDatabase;
+    }
+
+    /**
+     * 共有しているアーカイブの書き込み用のデータベース接続を貸し出します。
+     * アーカイブが存在しない場合は当該メソッド内でファイルを作成し、
+     * 読み取り専用の接続が開かれている場合はアーカイブをアタッチします。
+     * 貸し出した接続は使用後に必ず{@code release()}で返却する必要があります。
+     *
+     * @return アーカイブのSQLiteデータベースのオブジェクト。
+     * @see #release()
+     */
+    public synchronized SQLiteDatabase acquireArchive() {
+
+        openArchiveIfNeeded();
+
+        if (!archiveAttached && readOnlyDatabase != null && readOnlyDatabase.isOpen()) {
+            attachArchive();
+        }
+
+        referenceCount++;
+        countAcquired++;
+
+        return archiveDatabase;
+    }
+
+    /**
+     * 読み取り専用の接続にアーカイブがアタッチされているか判定します。
+     * アタッチされていない場合、アーカイブには一度も行が移動されていません。
+     *
+     * @return アタッチされている場合は {@code true}、それ以外は{@code false}。
+     */
+    public synchronized boolean isArchiveAttached() {
+        return archiveAttached;
+    }
+
+    /**
+     * アーカイブの書き込み用のデータベースが開かれていない場合に接続を確立します。
+     * アーカイブのスキーマはアタッチする前に当該接続で作成されます。
+     */
+    private void openArchiveIfNeeded() {
+        String methodName = "openArchiveIfNeeded";
+
+        if (archiveDatabase == null || !archiveDatabase.isOpen()) {
+            archiveDatabase = archiveHelper.getWritableDatabase();
+            countOpened++;
+            Logger.Debug.write(TAG, methodName, "archive database opened");
+        }
+    }
+
+    /**
+     * 読み取り専用の接続にアーカイブをアタッチします。
+     */
+    private void attachArchive() {
+        String methodName = "attachArchive";
+
+        String path = ArchiveDatabaseOpenHelper.getDatabaseFile(context).getPath();
+        readOnlyDatabase.execSQL(SQL_ATTACH_ARCHIVE, new Object[]{path});
+        archiveAttached = true;
+        Logger.Debug.write(TAG, methodName, "archive database attached");
+    }
+
+    /**
+     * 書き込み用のデータベースが開かれていない場合に接続を確立します。
+     */
+    private void openIfNeeded() {
+        String methodName = "openIfNeeded";
+
+        if (database == null || !database.isOpen()) {
+            long start = SystemClock.elapsedRealtime();
+            database = databaseHelper.getWritableDatabase();
+            countOpened++;
+            // 初回起動時はスキーマの作成を含むため、起動時間の計測の指標として出力する
+            Logger.Info.write(TAG, methodName, "database opened in " + (SystemClock.elapsedRealtime() - start) + "ms");
+        }
+    }
+
+    /**
+     * 貸し出した接続を返却します。
+     * 参照数が0になった場合でも接続は閉じずにプロセスの終了まで保持します。
+     *
+     * @throws IllegalStateException 貸し出していない接続を返却した際に発生します。
+     * @see #acquire()
+     * @see #acquireReadOnly()
+     * @see #acquireArchive()
+     */
+    public synchronized void release() {
+
+        if (referenceCount <= 0) {
+            // should not be happened
+            throw new IllegalStateException();
+        }
+
+        referenceCount--;
+        countReleased++;
+    }
+
+    /**
+     * 接続が使用されていない場合に限りデータベースを物理的に閉じます。
+     * 通常の処理では呼び出す必要はありません。
+     *
+     * @return データベースを閉じた場合は {@code true}、それ以外は{@code false}。
+     */
+    public synchronized boolean closeIfUnused() {
+        String methodName = "closeIfUnused";
+
+        if (referenceCount > 0 || database == null) {
+            return false;
+        }
+
+        if (readOnlyDatabase != null) {
+            readOnlyDatabase.close();
+            readOnlyDatabase = null;
+            archiveAttached = false;
+            countClosed++;
+        }
+
+        if (archiveDatabase != null) {
+            archiveHelper.close();
+            archiveDatabase = null;
+            countClosed++;
+        }
+
+        statementCache.clear();
+        databaseHelper.close();
+        database = null;
+        countClosed++;
+        Logger.Debug.write(TAG, methodName, "database closed");
+
+        return true;
+    }
+
+    /**
+     * 書き込み用の接続でコンパイルしたステートメントのキャッシュを返却します。
+     *
+     * @return ステートメントのキャッシュ。
+     */
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * データベースを物理的に開いた回数を返却します。
+     *
+     * @return データベースを開いた回数。
+     */
+    public synchronized long getCountOpened() {
+        return countOpened;
+    }
+
+    /**
+     * データベースを物理的に閉じた回数を返却します。
+     *
+     * @return データベースを閉じた回数。
+     */
+    public synchronized long getCountClosed() {
+        return countClosed;
+    }
+
+    /**
+     * 接続を貸し出した回数を返却します。
+     *
+     * @return 接続を貸し出した回数。
+     */
+    public synchronized long getCountAcquired() {
+        return countAcquired;
+    }
+
+    /**
+     * 接続が返却された回数を返却します。
+     *
+     * @return 接続が返却された回数。
+     */
+    public synchronized long getCountReleased() {
+        return countReleased;
+    }
+
+    /**
+     * 現在貸し出している接続の参照数を返却します。
+     *
+     * @return 接続の参照数。
+     */
+    public synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DatabaseConnectionManager{" +
+                "referenceCount=" + referenceCount +
+                ", countOpened=" + countOpened +
+                ", countClosed=" + countClosed +
+                ", countAcquired=" + countAcquired +
+                ", countReleased=" + countReleased +
+                '}';
+    }
+}
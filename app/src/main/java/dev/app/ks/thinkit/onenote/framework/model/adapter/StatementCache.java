@@ -0,0 +1,97 @@
+package dev.app.ks.thinkit.onenote.framework.model.adapter;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : StatementCache.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * コンパイル済みのステートメントを保持するキャッシュクラスです。
+ * ステートメントはデータベース接続に紐付くため、
+ * 接続を閉じる際には必ず{@code clear()}を呼び出す必要があります。
+ * <p>
+ * 同一のステートメントを複数のスレッドで同時に使用することはできないため、
+ * 値の設定から実行までの処理はステートメントを同期した上で行ってください。
+ * ステートメントの同期は{@link DatabaseAdapter#acquireConnection()}で接続を確保した後に行う必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see StatementKey
+ * @see dev.app.ks.thinkit.onenote.framework.model.query.Query
+ * @see DatabaseConnectionManager
+ * @since 1.0
+ */
+public final class StatementCache {
+
+    /**
+     * SQL文に紐付くコンパイル済みのステートメント。
+     * 異なる経路で組み立てた同一のSQL文が同一のステートメントを共有するよう、SQL文をキーとします。
+     */
+    private final Map<String, SQLiteStatement> statementMap = new HashMap<>();
+
+    /**
+     * キーに紐付くコンパイル済みのステートメントを返却します。
+     * キャッシュに存在しない場合はステートメントをコンパイルしキャッシュへ格納します。
+     *
+     * @param database     ステートメントをコンパイルするデータベース。
+     * @param statementKey ステートメントのキー。
+     * @return コンパイル済みのステートメント。
+     */
+    public SQLiteStatement get(SQLiteDatabase database, StatementKey statementKey) {
+        return get(database, statementKey.getSql());
+    }
+
+    /**
+     * SQL文に紐付くコンパイル済みのステートメントを返却します。
+     * キャッシュに存在しない場合はステートメントをコンパイルしキャッシュへ格納します。
+     *
+     * @param database ステートメントをコンパイルするデータベース。
+     * @param sql      プレースホルダを使用したSQL文。
+     * @return コンパイル済みのステートメント。
+     */
+    public synchronized SQLiteStatement get(SQLiteDatabase database, String sql) {
+
+        SQLiteStatement statement = statementMap.get(sql);
+
+        if (statement == null) {
+            statement = database.compileStatement(sql);
+            statementMap.put(sql, statement);
+        }
+
+        return statement;
+    }
+
+    /**
+     * 保持している全てのステートメントを解放します。
+     */
+    public synchronized void clear() {
+
+        for (SQLiteStatement statement : statementMap.values()) {
+            statement.close();
+        }
+
+        statementMap.clear();
+    }
+
+    /**
+     * 保持しているステートメントの数を返却します。
+     *
+     * @return 保持しているステートメントの数。
+     */
+    public synchronized int size() {
+        return statementMap.size();
+    }
+}
@@ -0,0 +1,237 @@
+package dev.app.ks.thinkit.onenote.framework.model.adapter;
+
+import java.util.Arrays;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : StatementKey.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * コンパイル済みステートメントを識別するキークラスです。
+ * 操作の種類、テーブル及びカラムの組み合わせからSQL文を生成し、
+ * 生成したSQL文は当該クラスのインスタンスが破棄されるまで再利用されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see StatementCache
+ * @since 1.0
+ */
+public final class StatementKey {
+
+    /**
+     * 操作の種類。
+     */
+    private final Operation operation;
+
+    /**
+     * 操作するテーブル名。
+     */
+    private final String tableName;
+
+    /**
+     * 操作するカラムの物理名。
+     */
+    private final String[] columnNames;
+
+    /**
+     * 当該キーに紐付くSQL文。
+     */
+    private final String sql;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param operation 操作の種類。
+     * @param table     操作するテーブル。
+     * @param columns   操作するカラム。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public StatementKey(Operation operation, ITableInfo table, IModelMapKey... columns) {
+
+        if (operation == null
+                || table == null
+                || columns == null
+                || columns.length == 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.operation = operation;
+        this.tableName = table.getName();
+        this.columnNames = new String[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            columnNames[i] = columns[i].getKeyName();
+        }
+
+        this.sql = operation.createSql(tableName, columnNames);
+    }
+
+    /**
+     * 操作の種類を返却します。
+     *
+     * @return 操作の種類。
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * 当該キーに紐付くSQL文を返却します。
+     *
+     * @return SQL文。
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 当該キーに紐付くSQL文を、アタッチしたデータベースの同名のテーブルに対するSQL文として返却します。
+     * 返却するSQL文は呼び出し毎に生成されるため、呼び出し側で保持する必要があります。
+     *
+     * @param schemaName アタッチしたデータベースのスキーマ名。
+     * @return SQL文。
+     */
+    public String getSql(String schemaName) {
+        return operation.createSql(schemaName + "." + tableName, columnNames);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementKey{" +
+                "operation=" + operation +
+                ", sql='" + sql + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        StatementKey that = (StatementKey) o;
+        return operation == that.operation &&
+                tableName.equals(that.tableName) &&
+                Arrays.equals(columnNames, that.columnNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return sql.hashCode();
+    }
+
+    /**
+     * コンパイル済みステートメントの操作の種類を定義したEnumクラスです。
+     * 各項目は操作に対応するSQL文の生成処理を定義します。
+     */
+    public enum Operation {
+
+        /**
+         * 挿入処理を表す項目です。
+         * 一意制約に違反した場合は例外が発生します。
+         */
+        Insert {
+            @Override
+            String createSql(String tableName, String[] columnNames) {
+                return createInsertSql("INSERT INTO ", tableName, columnNames);
+            }
+        },
+
+        /**
+         * 置換処理を表す項目です。
+         * 一意制約に違反した場合は既存のレコードを削除した後に挿入します。
+         */
+        Replace {
+            @Override
+            String createSql(String tableName, String[] columnNames) {
+                return createInsertSql("INSERT OR REPLACE INTO ", tableName, columnNames);
+            }
+        },
+
+        /**
+         * 主キーを基にした更新処理を表す項目です。
+         * 先頭のカラムを主キーとして扱い、2番目以降のカラムのみを更新します。
+         * 主キーの値は1番目、更新する値は2番目以降のプレースホルダへ設定します。
+         * レコードを削除しないため、IDの採番や削除時のトリガーを伴わずに更新できます。
+         */
+        Update {
+            @Override
+            String createSql(String tableName, String[] columnNames) {
+
+                if (columnNames.length < 2) {
+                    // should not be happened
+                    throw new IllegalArgumentException();
+                }
+
+                StringBuilder sql = new StringBuilder("UPDATE ");
+                sql.append(tableName).append(" SET ");
+
+                for (int i = 1; i < columnNames.length; i++) {
+                    sql.append(i == 1 ? "" : ", ").append(columnNames[i]).append(" = ?").append(i + 1);
+                }
+
+                return sql.append(" WHERE ").append(columnNames[0]).append(" = ?1").toString();
+            }
+        },
+
+        /**
+         * 主キーを基にした検索処理を表す項目です。
+         * 先頭のカラムを主キーとして扱います。
+         */
+        SelectByPrimaryKey {
+            @Override
+            String createSql(String tableName, String[] columnNames) {
+                return "SELECT * FROM " + tableName + " WHERE " + columnNames[0] + " = ?";
+            }
+        };
+
+        /**
+         * 挿入系のSQL文を生成します。
+         *
+         * @param prefix      SQL文の接頭辞。
+         * @param tableName   テーブル名。
+         * @param columnNames カラムの物理名。
+         * @return 挿入系のSQL文。
+         */
+        private static String createInsertSql(String prefix, String tableName, String[] columnNames) {
+
+            StringBuilder sql = new StringBuilder(prefix);
+            sql.append(tableName).append(" (");
+
+            for (int i = 0; i < columnNames.length; i++) {
+                sql.append(i == 0 ? "" : ", ").append(columnNames[i]);
+            }
+
+            sql.append(") VALUES (");
+
+            for (int i = 0; i < columnNames.length; i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+
+            return sql.append(')').toString();
+        }
+
+        /**
+         * 操作に対応するSQL文を生成します。
+         *
+         * @param tableName   テーブル名。
+         * @param columnNames カラムの物理名。
+         * @return SQL文。
+         */
+        abstract String createSql(String tableName, String[] columnNames);
+    }
+}
@@ -0,0 +1,215 @@
+package dev.app.ks.thinkit.onenote.framework.model.executor;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : DatabaseExecutor.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * データベース操作を専用のスレッドで実行するクラスです。
+ * スレッド数及び待機できる処理の数には上限が設けられており、
+ * 上限を超えて投入された処理は実行されずに異常終了としてコールバックへ通知されます。
+ * <p>
+ * 処理結果は常にメインスレッドでコールバックへ通知されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryTask
+ * @see IQueryCallback
+ * @since 1.0
+ */
+public final class DatabaseExecutor {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = DatabaseExecutor.class.getName();
+
+    /**
+     * 実行スレッドの数。
+     * 書き込みはSQLiteにより直列化されるため読み取りと書き込みを並行できる数としています。
+     */
+    private static final int COUNT_THREADS = 2;
+
+    /**
+     * 実行を待機できる処理の数。
+     */
+    private static final int CAPACITY_QUEUE = 64;
+
+    /**
+     * 実行スレッドの名前の接頭辞。
+     */
+    private static final String PREFIX_THREAD_NAME = "database-executor-";
+
+    /**
+     * 当該クラスのインスタンス。
+     * 当該クラスにシングルトンパターンを適用するためnullで初期化する。
+     *
+     * @see #getInstance()
+     */
+    private static DatabaseExecutor thisInstance = null;
+
+    /**
+     * 処理を実行するスレッドプール。
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * メインスレッドへ処理結果を通知するハンドラ。
+     */
+    private final Handler mainHandler;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスにシングルトンパターンを適用するため修飾子をprivate指定しています。
+     *
+     * @see #getInstance()
+     */
+    private DatabaseExecutor() {
+        executor = new ThreadPoolExecutor(
+                COUNT_THREADS,
+                COUNT_THREADS,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(CAPACITY_QUEUE),
+                new DatabaseThreadFactory());
+        mainHandler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * 当該クラスのインスタンスを返却します。
+     *
+     * @return 当該クラスのインスタンス。
+     */
+    public static synchronized DatabaseExecutor getInstance() {
+
+        if (thisInstance == null) {
+            thisInstance = new DatabaseExecutor();
+        }
+
+        return thisInstance;
+    }
+
+    /**
+     * データベース操作を実行スレッドへ投入します。
+     * 処理結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param callable 実行するデータベース操作。
+     * @param callback 処理結果を受け取るコールバック。
+     * @param <T>      処理結果の型。
+     * @return 投入した処理を表すオブジェクト。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public <T> QueryTask<T> submit(final Callable<T> callable, IQueryCallback<T> callback) {
+        final String methodName = "submit";
+
+        if (callable == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        final QueryTask<T> queryTask = new QueryTask<>(callback);
+
+        try {
+            Future<T> future = executor.submit(new Callable<T>() {
+                @Override
+                public T call() throws Exception {
+
+                    if (queryTask.isCancelled()) {
+                        return null;
+                    }
+
+                    try {
+                        final T result = callable.call();
+                        mainHandler.post(new Runnable() {
+                            @Override
+                            public void run() {
+                                queryTask.deliverSuccess(result);
+                            }
+                        });
+
+                        return result;
+
+                    } catch (final Exception e) {
+                        Logger.Error.write(TAG, methodName, e.toString());
+                        postFailure(queryTask, e);
+                        throw e;
+                    }
+                }
+            });
+
+            queryTask.setFuture(future);
+
+        } catch (RejectedExecutionException e) {
+            Logger.Warn.write(TAG, methodName, "database executor is saturated");
+            postFailure(queryTask, e);
+        }
+
+        return queryTask;
+    }
+
+    /**
+     * 処理中に発生した例外をメインスレッドでコールバックへ通知します。
+     *
+     * @param queryTask 通知対象の処理。
+     * @param exception 処理中に発生した例外。
+     * @param <T>       処理結果の型。
+     */
+    private <T> void postFailure(final QueryTask<T> queryTask, final Exception exception) {
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                queryTask.deliverFailure(exception);
+            }
+        });
+    }
+
+    /**
+     * データベース操作を実行するスレッドを生成するファクトリクラスです。
+     * 描画処理を妨げないよう生成するスレッドの優先度をバックグラウンドに設定します。
+     */
+    private static final class DatabaseThreadFactory implements ThreadFactory {
+
+        /**
+         * 生成したスレッドの数。
+         */
+        private final AtomicInteger countThreads = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                    runnable.run();
+                }
+            }, PREFIX_THREAD_NAME + countThreads.incrementAndGet());
+
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package dev.app.ks.thinkit.onenote.framework.model.executor;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : QueryTask.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * データベース実行スレッドへ投入したデータベース操作を表すクラスです。
+ * 取り消された操作の結果はコールバックへ通知されません。
+ * <p>
+ * 実行中のSQLiteの処理を割り込みで中断するとデータベースの状態が不定になるため、
+ * 取り消し処理では実行前の操作の破棄及び結果通知の抑止のみを行います。
+ *
+ * @param <T> 処理結果の型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseExecutor
+ * @see IQueryCallback
+ * @since 1.0
+ */
+public final class QueryTask<T> {
+
+    /**
+     * 処理結果を受け取るコールバック。
+     */
+    private final IQueryCallback<T> callback;
+
+    /**
+     * 実行スレッドへ投入された処理の状態を保持するオブジェクト。
+     */
+    private volatile Future<T> future;
+
+    /**
+     * 取り消し状態。
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param callback 処理結果を受け取るコールバック。
+     */
+    QueryTask(IQueryCallback<T> callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * 実行スレッドへ投入された処理の状態を設定します。
+     *
+     * @param future 実行スレッドへ投入された処理の状態。
+     */
+    void setFuture(Future<T> future) {
+        this.future = future;
+    }
+
+    /**
+     * 処理結果をコールバックへ通知します。
+     * 当該メソッドはメインスレッドで呼び出される必要があります。
+     *
+     * @param result 処理結果。
+     */
+    void deliverSuccess(T result) {
+        if (!cancelled && callback != null) {
+            callback.onSuccess(result);
+        }
+    }
+
+    /**
+     * 処理中に発生した例外をコールバックへ通知します。
+     * 当該メソッドはメインスレッドで呼び出される必要があります。
+     *
+     * @param exception 処理中に発生した例外。
+     */
+    void deliverFailure(Exception exception) {
+        if (!cancelled && callback != null) {
+            callback.onFailure(exception);
+        }
+    }
+
+    /**
+     * 処理を取り消します。
+     * 実行前の処理は破棄され、実行中または実行済みの処理の結果はコールバックへ通知されません。
+     */
+    public void cancel() {
+        cancelled = true;
+
+        Future<T> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * 処理が取り消されているか判定します。
+     *
+     * @return 処理が取り消されている場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 実行スレッドへの投入が拒否されたか判定します。
+     * 投入が拒否された処理は実行されないため、呼び出し元で再度の投入等を行う必要があります。
+     *
+     * @return 投入が拒否された場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isRejected() {
+        return !cancelled && future == null;
+    }
+
+    /**
+     * 処理が終了しているか判定します。
+     *
+     * @return 処理が終了している場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isDone() {
+        Future<T> future = this.future;
+        return cancelled || future == null || future.isDone();
+    }
+
+    /**
+     * 処理の終了を待機し処理結果を返却します。
+     * メインスレッドから当該メソッドを呼び出さないでください。
+     *
+     * @return 処理結果。
+     * @throws InterruptedException 待機中に割り込みが発生した際に発生します。
+     * @throws ExecutionException   処理中に例外が発生した際に発生します。
+     */
+    public T get() throws InterruptedException, ExecutionException {
+
+        Future<T> future = this.future;
+        if (future == null) {
+            // 実行スレッドへの投入が拒否された処理
+            throw new ExecutionException(new RejectedExecutionException());
+        }
+
+        return future.get();
+    }
+}
@@ -0,0 +1,370 @@
+package dev.app.ks.thinkit.onenote.framework.model.executor;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.framework.IBatchWriter;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.StringChecker;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : WriteBehindQueue.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 書き込み要求をメモリ上に蓄積し、まとめてデータベースへ反映する遅延書き込み用のキューです。
+ * 同一のキーに対する書き込み要求は最新のものだけが保持されるため、
+ * 入力の度に書き込みを要求してもトランザクションは一括反映の度に一つだけ発行されます。
+ * <p>
+ * 蓄積された書き込み要求は以下の契機で{@link DatabaseExecutor}のスレッドから一括で反映されます。
+ * <p>
+ * 1, 最初の書き込み要求から一定時間が経過した場合
+ * 2, 蓄積された書き込み要求の件数が上限に達した場合
+ * 3, {@link #flush(IQueryCallback)}が明示的に呼び出された場合
+ * <p>
+ * 一括反映は常に直列に実行され、反映の開始時点で最新の書き込み要求を取り出すため、
+ * 古い書き込み要求が新しい書き込み要求を上書きすることはありません。
+ * また、反映が完了するまでの書き込み要求は{@link #peek(String)}で参照できます。
+ * <p>
+ * 反映に失敗した書き込み要求は一定時間後に再度反映されますが、
+ * 同一の書き込み要求が{@link #MAXIMUM_ATTEMPTS}回続けて失敗した場合は破棄されます。
+ *
+ * @param <H> 書き込み要求を表すデータクラスの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see IBatchWriter
+ * @since 1.0
+ */
+public final class WriteBehindQueue<H> {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = WriteBehindQueue.class.getName();
+
+    /**
+     * 同一の書き込み要求の反映を試行する回数の上限。
+     * 上限に達した書き込み要求は、反映を妨げる内容を含むとみなし破棄する。
+     */
+    static final int MAXIMUM_ATTEMPTS = 3;
+
+    /**
+     * 蓄積された書き込み要求を一括で永続化する処理。
+     */
+    private final IBatchWriter<H> writer;
+
+    /**
+     * 最初の書き込み要求から一括反映を開始するまでのミリ秒。
+     */
+    private final long flushDelayMillis;
+
+    /**
+     * 一括反映を即時に開始する蓄積件数。
+     */
+    private final int flushThreshold;
+
+    /**
+     * 一括反映の開始時刻を管理するメインスレッドのハンドラ。
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * 蓄積された書き込み要求及び反映中の書き込み要求を保護するロック。
+     */
+    private final Object lock = new Object();
+
+    /**
+     * 一括反映を直列に実行するためのロック。
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * 反映を待っている書き込み要求。
+     */
+    private LinkedHashMap<String, H> pending = new LinkedHashMap<>();
+
+    /**
+     * 反映中の書き込み要求。
+     */
+    private final Map<String, H> inFlight = new LinkedHashMap<>();
+
+    /**
+     * 反映に失敗した書き込み要求のキー毎の失敗回数。
+     * 新しい書き込み要求で置き換えられた場合及び反映に成功した場合に除去する。
+     */
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+
+    /**
+     * 一括反映の開始が予約されているか否か。
+     */
+    private boolean flushScheduled = false;
+
+    /**
+     * 時間経過による一括反映を開始する処理。
+     */
+    private final Runnable scheduledFlush = new Runnable() {
+        @Override
+        public void run() {
+            flush(null);
+        }
+    };
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param writer           蓄積された書き込み要求を一括で永続化する処理。
+     * @param flushDelayMillis 最初の書き込み要求から一括反映を開始するまでのミリ秒。
+     * @param flushThreshold   一括反映を即時に開始する蓄積件数。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public WriteBehindQueue(IBatchWriter<H> writer, long flushDelayMillis, int flushThreshold) {
+
+        if (writer == null || flushDelayMillis < 0 || flushThreshold <= 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.writer = writer;
+        this.flushDelayMillis = flushDelayMillis;
+        this.flushThreshold = flushThreshold;
+    }
+
+    /**
+     * 書き込み要求を蓄積します。
+     * 同一のキーで反映を待っている書き込み要求が存在する場合は渡された書き込み要求で置き換えます。
+     *
+     * @param key    書き込み要求を識別するキー。
+     * @param holder 書き込み要求を表すデータクラス。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void enqueue(String key, H holder) {
+
+        if (!StringChecker.isEffectiveString(key) || holder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        boolean reachedThreshold;
+
+        synchronized (lock) {
+            pending.put(key, holder);
+            failedAttempts.remove(key);
+            reachedThreshold = pending.size() >= flushThreshold;
+
+            if (!reachedThreshold && !flushScheduled) {
+                flushScheduled = true;
+                handler.postDelayed(scheduledFlush, flushDelayMillis);
+            }
+        }
+
+        if (reachedThreshold) {
+            flush(null);
+        }
+    }
+
+    /**
+     * 渡されたキーに紐付く未反映の書き込み要求を返却します。
+     * 反映を待っている書き込み要求を反映中の書き込み要求よりも優先して返却します。
+     *
+     * @param key 書き込み要求を識別するキー。
+     * @return 未反映の書き込み要求。存在しない場合は{@code null}。
+     */
+    public H peek(String key) {
+        synchronized (lock) {
+            H holder = pending.get(key);
+            return holder != null ? holder : inFlight.get(key);
+        }
+    }
+
+    /**
+     * 渡されたキーに紐付く反映を待っている書き込み要求を破棄します。
+     * 同一のキーに対して即時の書き込みや削除を行う際に、
+     * 古い書き込み要求で結果が上書きされないよう事前に呼び出します。
+     * 既に反映中の書き込み要求は破棄できません。
+     *
+     * @param key 書き込み要求を識別するキー。
+     */
+    public void discard(String key) {
+        synchronized (lock) {
+            pending.remove(key);
+            failedAttempts.remove(key);
+        }
+    }
+
+    /**
+     * 未反映の書き込み要求が存在するか判定します。
+     *
+     * @return 未反映の書き込み要求が存在する場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean hasPending() {
+        synchronized (lock) {
+            return !pending.isEmpty() || !inFlight.isEmpty();
+        }
+    }
+
+    /**
+     * 蓄積された書き込み要求の一括反映を非同期で開始します。
+     * 書き込み要求は反映の開始時点で取り出されるため、
+     * 当該メソッドの呼び出し後から反映の開始までに蓄積された書き込み要求も反映されます。
+     * 反映に失敗した書き込み要求は、より新しい書き込み要求が存在しない限りキューへ戻されます。
+     * ただし、{@link #MAXIMUM_ATTEMPTS}回続けて反映に失敗した書き込み要求はエラーを記録した上で破棄されます。
+     * 実行スレッドへの投入が拒否された場合は、書き込み要求を保持したまま一定時間後の一括反映を予約します。
+     *
+     * @param callback 処理結果を受け取るコールバック。不要な場合は{@code null}。
+     * @return 実行スレッドへ投入した処理。
+     */
+    public QueryTask<Void> flush(IQueryCallback<Void> callback) {
+        String methodName = "flush";
+
+        synchronized (lock) {
+            if (flushScheduled) {
+                flushScheduled = false;
+                handler.removeCallbacks(scheduledFlush);
+            }
+        }
+
+        QueryTask<Void> queryTask = DatabaseExecutor.getInstance().submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                synchronized (flushLock) {
+                    writeAllPending();
+                }
+
+                return null;
+            }
+        }, callback);
+
+        if (queryTask.isRejected()) {
+            // 呼び出し元はメインスレッドの場合があるため、その場で書き込まずに再度の一括反映を予約する
+            Logger.Warn.write(TAG, methodName, "flush was rejected and rescheduled");
+
+            synchronized (lock) {
+                if (!flushScheduled && !pending.isEmpty()) {
+                    flushScheduled = true;
+                    handler.postDelayed(scheduledFlush, flushDelayMillis);
+                }
+            }
+        }
+
+        return queryTask;
+    }
+
+    /**
+     * 反映を待っている書き込み要求を取り出し一括で永続化します。
+     * 反映に失敗した書き込み要求を含む場合は、失敗の原因となる書き込み要求が他の書き込み要求を巻き込まないよう、
+     * 書き込み要求を一件ずつ永続化します。
+     * 当該メソッドは一括反映用のロックを取得した状態で呼び出す必要があります。
+     */
+    private void writeAllPending() {
+
+        Map<String, H> batch;
+        boolean retrying = false;
+
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            inFlight.putAll(batch);
+
+            for (String key : batch.keySet()) {
+                if (failedAttempts.containsKey(key)) {
+                    retrying = true;
+                    break;
+                }
+            }
+        }
+
+        if (!retrying) {
+            writeBatch(batch);
+            return;
+        }
+
+        RuntimeException failure = null;
+
+        for (Map.Entry<String, H> entry : batch.entrySet()) {
+            try {
+                writeBatch(Collections.singletonMap(entry.getKey(), entry.getValue()));
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 取り出した書き込み要求を単一の処理で永続化します。
+     * 反映に失敗した書き込み要求は、より新しい書き込み要求が存在せず、
+     * 失敗回数が上限に達していない限りキューへ戻されます。
+     *
+     * @param batch 取り出した書き込み要求。
+     */
+    private void writeBatch(Map<String, H> batch) {
+        String methodName = "writeBatch";
+
+        boolean succeeded = false;
+
+        try {
+            writer.writeAll(new ArrayList<>(batch.values()));
+            succeeded = true;
+            Logger.Debug.write(TAG, methodName, "flushed " + batch.size() + " records");
+
+        } finally {
+            synchronized (lock) {
+                for (Map.Entry<String, H> entry : batch.entrySet()) {
+                    String key = entry.getKey();
+
+                    if (inFlight.get(key) == entry.getValue()) {
+                        inFlight.remove(key);
+                    }
+
+                    if (succeeded || pending.containsKey(key)) {
+                        failedAttempts.remove(key);
+                        continue;
+                    }
+
+                    Integer previousAttempts = failedAttempts.get(key);
+                    int attempts = previousAttempts == null ? 1 : previousAttempts + 1;
+
+                    if (attempts >= MAXIMUM_ATTEMPTS) {
+                        // 同一の書き込み要求が失敗し続ける場合、再試行しても同じ結果となるため破棄する
+                        failedAttempts.remove(key);
+                        Logger.Error.write(TAG, methodName, "dropped " + key + " after " + attempts + " failed attempts");
+                        continue;
+                    }
+
+                    failedAttempts.put(key, attempts);
+                    pending.put(key, entry.getValue());
+                }
+
+                if (!succeeded && !pending.isEmpty() && !flushScheduled) {
+                    flushScheduled = true;
+                    handler.postDelayed(scheduledFlush, flushDelayMillis);
+                }
+            }
+        }
+    }
+}
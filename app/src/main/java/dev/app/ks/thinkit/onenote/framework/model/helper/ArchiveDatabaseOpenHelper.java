@@ -0,0 +1,133 @@
+package dev.app.ks.thinkit.onenote.framework.model.helper;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import java.io.File;
+
+import dev.app.ks.thinkit.onenote.framework.Logger;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : ArchiveDatabaseOpenHelper.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 長期間参照されていない行を移動するアーカイブのデータベースへ接続する機能を定義したヘルパークラスです。
+ * <p>
+ * アーカイブは元のデータベースとは別のファイルとして保持されるため、
+ * 頻繁に参照される行のみを保持する元のデータベースの大きさは移動した行の分だけ小さく保たれます。
+ * アーカイブのテーブルはassetファイル内のarchiveに配置されたSQL文を基に作成され、
+ * 既存のアーカイブはarchive_upgrade/バージョン番号に配置されたSQL文で順に移行されます。
+ * <p>
+ * 当該ヘルパーで開いた接続は移動のための書き込みにのみ使用し、
+ * 検索は読み取り専用の接続へアタッチしたアーカイブに対して行います。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseOpenHelper
+ * @since 1.0
+ */
+public final class ArchiveDatabaseOpenHelper extends SQLiteOpenHelper {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = ArchiveDatabaseOpenHelper.class.getCanonicalName();
+
+    /**
+     * アーカイブのデータベース名。
+     */
+    private static final String DATABASE_NAME = "one_note_archive.db";
+
+    /**
+     * アーカイブのデータベースのバージョン。
+     * アーカイブのスキーマは元のデータベースとは独立して管理します。
+     */
+    private static final int DATABASE_VERSION = 2;
+
+    /**
+     * 同期モードを設定するPRAGMA文。
+     * WAL使用時はNORMALでもコミット済みのデータの一貫性は保たれます。
+     */
+    private static final String PRAGMA_SYNCHRONOUS = "PRAGMA synchronous = NORMAL";
+
+    /**
+     * assetファイル内に存在するアーカイブのcreate文を配置したファイル名。
+     */
+    private static final String ASSET_FILE_ARCHIVE_QUERY = "archive";
+
+    /**
+     * assetファイル内に存在するアーカイブの移行用のSQL文を配置したファイル名。
+     */
+    private static final String ASSET_FILE_ARCHIVE_UPGRADE_QUERY = "archive_upgrade";
+
+    /**
+     * assetファイル内に配置されたSQL文を読み込む処理。
+     */
+    private final SchemaMigrator schemaMigrator;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param context アプリケーションの情報。
+     */
+    public ArchiveDatabaseOpenHelper(Context context) {
+        super(context, DATABASE_NAME, new CursorFactoryForDebug(), DATABASE_VERSION);
+        schemaMigrator = new SchemaMigrator(context.getResources().getAssets());
+    }
+
+    /**
+     * アーカイブのデータベースファイルを返却します。
+     * ファイルが存在しない場合は一度も行が移動されていないことを表します。
+     *
+     * @param context アプリケーションの情報。
+     * @return アーカイブのデータベースファイル。
+     */
+    public static File getDatabaseFile(Context context) {
+        return context.getDatabasePath(DATABASE_NAME);
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase database) {
+        String methodName = "onConfigure";
+        Logger.Info.write(TAG, methodName, "START");
+
+        database.enableWriteAheadLogging();
+        database.execSQL(PRAGMA_SYNCHRONOUS);
+
+        Logger.Info.write(TAG, methodName, "END");
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase database) {
+        String methodName = "onCreate";
+        Logger.Info.write(TAG, methodName, "START");
+
+        for (String sql : schemaMigrator.loadStatements(ASSET_FILE_ARCHIVE_QUERY)) {
+            database.execSQL(sql);
+        }
+
+        Logger.Info.write(TAG, methodName, "END");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase database, int oldVersion, int newVersion) {
+        String methodName = "onUpgrade";
+        Logger.Info.write(TAG, methodName, "upgrade from " + oldVersion + " to " + newVersion);
+
+        for (int version = oldVersion + 1; version <= newVersion; version++) {
+            for (String sql : schemaMigrator.loadStatements(SchemaMigrator.createVersionDirectory(ASSET_FILE_ARCHIVE_UPGRADE_QUERY, version))) {
+                database.execSQL(sql);
+            }
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package dev.app.ks.thinkit.onenote.framework.model.helper;
 
 import android.content.Context;
-import android.content.res.AssetManager;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
-import java.io.IOException;
+import java.io.File;
 
-import dev.app.ks.thinkit.onenote.framework.CommonConstants;
-import dev.app.ks.thinkit.onenote.framework.FileHandler;
+import dev.app.ks.thinkit.onenote.BuildConfig;
 import dev.app.ks.thinkit.onenote.framework.Logger;
-import dev.app.ks.thinkit.onenote.framework.StringHandler;
 
 /**
  * ======================================================================
@@ -32,13 +29,25 @@ import dev.app.ks.thinkit.onenote.framework.StringHandler;
  * 当該クラス実行時に指定されたデータベースが存在しない場合に実行されます。
  * 当該メソッドではデータベースの作成を行い、
  * assetファイル内に配置されたSQL文を実行して各テーブルの作成及び初期データの挿入を行います。
+ * なお、ビルド時に生成したデータベースのイメージが同一のバージョンで同梱されている場合は、
+ * データベースを開く前にイメージを配置するため当該メソッドは実行されません。
  * <p>
  * 2, onUpgrade
  * 当該クラス実行時に指定されたバージョンとデータベースのバージョンが異なっていた場合に実行されます。
- * 当該メソッドには新しいバージョンのデータベースに必要なテーブルの作成処理やデータの挿入処理を定義します。
+ * 当該メソッドでは旧バージョンの次のバージョンから新しいバージョンまで順に、
+ * assetファイル内のupgrade/バージョン番号に配置されたSQL文をバージョン毎のトランザクションで実行します。
+ * <p>
+ * 3, onConfigure
+ * データベースへの接続が確立される度に実行されます。
+ * 当該メソッドでは先行書き込みログ(WAL)の有効化及び接続に対するPRAGMAの設定を行います。
+ * <p>
+ * 4, onOpen
+ * データベースが開かれる度に実行されます。
+ * 当該メソッドではassetファイル内のbackfill/バージョン番号に配置された未完了のデータ移行を実行スレッドへ投入します。
  *
  * @author Kato Shinya
  * @version 1.0
+ * @see SchemaMigrator
  * @since 1.0
  */
 public final class DatabaseOpenHelper extends SQLiteOpenHelper {
@@ -55,8 +64,26 @@ public final class DatabaseOpenHelper extends SQLiteOpenHelper {
 
     /**
      * データベースのバージョン。
+     * データベースのイメージと同一のバージョンとするため、ビルドスクリプトで定義した値を使用します。
+     */
+    private static final int DATABASE_VERSION = BuildConfig.DATABASE_VERSION;
+
+    /**
+     * 同期モードを設定するPRAGMA文。
+     * WAL使用時はNORMALでもコミット済みのデータの一貫性は保たれます。
      */
-    private static final int DATABASE_VERSION = 1;
+    private static final String PRAGMA_SYNCHRONOUS = "PRAGMA synchronous = NORMAL";
+
+    /**
+     * ページキャッシュの大きさを設定するPRAGMA文。
+     * 負数はKiB単位での指定を表します。
+     */
+    private static final String PRAGMA_CACHE_SIZE = "PRAGMA cache_size = -4096";
+
+    /**
+     * 一時テーブル及び一時インデックスをメモリ上に保持するPRAGMA文。
+     */
+    private static final String PRAGMA_TEMP_STORE = "PRAGMA temp_store = MEMORY";
 
     /**
      * assetファイル内に存在するcreate文を配置したファイル名。
@@ -73,14 +100,118 @@ public final class DatabaseOpenHelper extends SQLiteOpenHelper {
      */
     private final Context context;
 
+    /**
+     * 当該ヘルパーが開くデータベース名。
+     */
+    private final String databaseName;
+
+    /**
+     * データベースが存在しない場合にデータベースのイメージを配置するか否か。
+     */
+    private final boolean usePrebuiltDatabase;
+
+    /**
+     * データベースのイメージの配置を確認済みであるか否か。
+     */
+    private boolean prebuiltDatabaseChecked = false;
+
+    /**
+     * assetファイル内に配置されたSQL文を基にスキーマを移行する処理。
+     */
+    private final SchemaMigrator schemaMigrator;
+
     /**
      * 当該クラスのコンストラクタです。
      *
      * @param context アプリケーションの情報。
      */
     public DatabaseOpenHelper(Context context) {
-        super(context, DATABASE_NAME, new CursorFactoryForDebug(), DATABASE_VERSION);
+        this(context, DATABASE_NAME, true);
+    }
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 初回起動時の計測で配置の有無による差を比較するために使用します。
+     *
+     * @param context             アプリケーションの情報。
+     * @param databaseName        データベース名。
+     * @param usePrebuiltDatabase データベースのイメージを配置する場合は {@code true}。
+     */
+    DatabaseOpenHelper(Context context, String databaseName, boolean usePrebuiltDatabase) {
+        super(context, databaseName, new CursorFactoryForDebug(), DATABASE_VERSION);
         this.context = context;
+        this.databaseName = databaseName;
+        this.usePrebuiltDatabase = usePrebuiltDatabase;
+        schemaMigrator = new SchemaMigrator(context.getResources().getAssets());
+    }
+
+    /**
+     * 読み取り専用のデータベース接続を新たに開き返却します。
+     * WALを有効化した書き込み用の接続が既に確立されている必要があります。
+     * 読み取り専用の接続は書き込み中のトランザクションの完了を待たずに、
+     * 最後にコミットされた状態を参照します。
+     *
+     * @param context アプリケーションの情報。
+     * @return 読み取り専用のSQLiteデータベースオブジェクト。
+     */
+    public static SQLiteDatabase openReadOnlyDatabase(Context context) {
+        String path = getDatabaseFile(context).getPath();
+        SQLiteDatabase database = SQLiteDatabase.openDatabase(path, new CursorFactoryForDebug(), SQLiteDatabase.OPEN_READONLY);
+
+        database.execSQL(PRAGMA_CACHE_SIZE);
+        database.execSQL(PRAGMA_TEMP_STORE);
+
+        return database;
+    }
+
+    /**
+     * アプリケーションが使用するデータベースファイルを返却します。
+     * データベースファイルを直接複製するとWALに残るコミット済みの更新が失われるため、
+     * 複製が必要な場合はSQL文を介して読み込む必要があります。
+     *
+     * @param context アプリケーションの情報。
+     * @return データベースファイル。
+     */
+    public static File getDatabaseFile(Context context) {
+        return context.getDatabasePath(DATABASE_NAME);
+    }
+
+    @Override
+    public synchronized SQLiteDatabase getWritableDatabase() {
+        installPrebuiltDatabaseIfNeeded();
+        return super.getWritableDatabase();
+    }
+
+    @Override
+    public synchronized SQLiteDatabase getReadableDatabase() {
+        installPrebuiltDatabaseIfNeeded();
+        return super.getReadableDatabase();
+    }
+
+    /**
+     * データベースを初めて開く前に、データベースが存在しない場合はデータベースのイメージを配置します。
+     *
+     * @see PrebuiltDatabaseInstaller#installIfNeeded(Context, String, int)
+     */
+    private void installPrebuiltDatabaseIfNeeded() {
+
+        if (usePrebuiltDatabase && !prebuiltDatabaseChecked) {
+            prebuiltDatabaseChecked = true;
+            PrebuiltDatabaseInstaller.installIfNeeded(context, databaseName, DATABASE_VERSION);
+        }
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase database) {
+        String methodName = "onConfigure";
+        Logger.Info.write(TAG, methodName, "START");
+
+        database.enableWriteAheadLogging();
+        database.execSQL(PRAGMA_SYNCHRONOUS);
+        database.execSQL(PRAGMA_CACHE_SIZE);
+        database.execSQL(PRAGMA_TEMP_STORE);
+
+        Logger.Info.write(TAG, methodName, "END");
     }
 
     @Override
@@ -102,6 +233,19 @@ public final class DatabaseOpenHelper extends SQLiteOpenHelper {
 
         String methodName = "onUpgrade";
         Logger.Info.write(TAG, methodName, "START");
+
+        schemaMigrator.migrate(database, oldVersion, newVersion);
+
+        Logger.Info.write(TAG, methodName, "END");
+    }
+
+    @Override
+    public void onOpen(SQLiteDatabase database) {
+        String methodName = "onOpen";
+        Logger.Info.write(TAG, methodName, "START");
+
+        schemaMigrator.scheduleBackfills(database);
+
         Logger.Info.write(TAG, methodName, "END");
     }
 
@@ -147,24 +291,8 @@ public final class DatabaseOpenHelper extends SQLiteOpenHelper {
         String methodName = "performQuery";
         Logger.Info.write(TAG, methodName, "START");
 
-        AssetManager assetManager = context.getResources().getAssets();
-
-        try {
-            String[] files = assetManager.list(fileName);
-
-            if (files != null) {
-                for (String file : files) {
-                    String fileDirectory = StringHandler.concatSequence(CommonConstants.CHAR_SEPARATOR_SLASH, fileName, file);
-                    String content = FileHandler.read(assetManager.open(fileDirectory));
-                    String[] sqlList = StringHandler.split(content, CommonConstants.CHAR_SEPARATOR_SLASH);
-
-                    for (String sql : sqlList) {
-                        database.execSQL(sql);
-                    }
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        for (String sql : schemaMigrator.loadStatements(fileName)) {
+            database.execSQL(sql);
         }
 
         Logger.Info.write(TAG, methodName, "END");
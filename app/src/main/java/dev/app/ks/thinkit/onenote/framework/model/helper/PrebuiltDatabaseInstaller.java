@@ -0,0 +1,229 @@
+package dev.app.ks.thinkit.onenote.framework.model.helper;
+
+import android.content.Context;
+import android.os.SystemClock;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import dev.app.ks.thinkit.onenote.framework.Logger;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : PrebuiltDatabaseInstaller.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * ビルド時に生成したデータベースのイメージをassetファイルから配置する機能を定義したユーティリティクラスです。
+ * <p>
+ * イメージはビルド時にassetファイル内のcreateに配置されたSQL文を実行して生成され、
+ * データベースのバージョンがuser_versionとして設定されています。
+ * 初回起動時にイメージを配置することで、SQLファイルの読み込み及びSQL文の逐次実行を省略します。
+ * イメージのバージョンが一致しない場合やイメージが存在しない場合は配置を行わず、
+ * 従来通りonCreateでSQL文を実行してデータベースを作成します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseOpenHelper
+ * @since 1.0
+ */
+final class PrebuiltDatabaseInstaller {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = PrebuiltDatabaseInstaller.class.getName();
+
+    /**
+     * assetファイル内に存在するデータベースのイメージのファイル名。
+     */
+    private static final String ASSET_FILE_PREBUILT_DATABASE = "database/one_note.db";
+
+    /**
+     * 配置中のイメージを書き込む一時ファイルの拡張子。
+     */
+    private static final String SUFFIX_TEMPORARY_FILE = ".prebuilt";
+
+    /**
+     * データベースファイルに付随するジャーナル等のファイルの拡張子。
+     */
+    private static final String[] SUFFIXES_COMPANION_FILE = {"-journal", "-wal", "-shm"};
+
+    /**
+     * SQLiteのデータベースファイルのヘッダーの大きさ。
+     */
+    private static final int SIZE_HEADER = 100;
+
+    /**
+     * ヘッダー内のuser_versionの位置。
+     */
+    private static final int OFFSET_USER_VERSION = 60;
+
+    /**
+     * SQLiteのデータベースファイルの先頭に記録されている識別文字列。
+     */
+    private static final byte[] HEADER_MAGIC = "SQLite format 3\0".getBytes(Charset.forName("US-ASCII"));
+
+    /**
+     * 複製時に使用するバッファの大きさ。
+     */
+    private static final int SIZE_BUFFER = 8192;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private PrebuiltDatabaseInstaller() {
+    }
+
+    /**
+     * データベースが存在しない場合に、バージョンが一致するイメージをassetファイルから配置します。
+     * イメージは一時ファイルへ書き込んだ後に名前を変更して配置するため、
+     * 書き込みの途中で中断された場合でも不完全なデータベースが開かれることはありません。
+     *
+     * @param context      アプリケーションの情報。
+     * @param databaseName データベース名。
+     * @param version      データベースのバージョン。
+     * @return イメージを配置した場合は {@code true}、それ以外は{@code false}。
+     */
+    static boolean installIfNeeded(Context context, String databaseName, int version) {
+        String methodName = "installIfNeeded";
+
+        File databaseFile = context.getDatabasePath(databaseName);
+
+        if (databaseFile.exists()) {
+            return false;
+        }
+
+        long start = SystemClock.elapsedRealtime();
+        File temporaryFile = new File(databaseFile.getPath() + SUFFIX_TEMPORARY_FILE);
+        InputStream inputStream = null;
+
+        try {
+            inputStream = context.getAssets().open(ASSET_FILE_PREBUILT_DATABASE);
+
+            byte[] header = new byte[SIZE_HEADER];
+            if (readFully(inputStream, header) < SIZE_HEADER || !isCompatible(header, version)) {
+                Logger.Warn.write(TAG, methodName, "prebuilt database does not match version " + version);
+                return false;
+            }
+
+            File directory = databaseFile.getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                Logger.Warn.write(TAG, methodName, "failed to create " + directory.getPath());
+                return false;
+            }
+
+            FileOutputStream outputStream = new FileOutputStream(temporaryFile);
+            try {
+                outputStream.write(header);
+
+                byte[] buffer = new byte[SIZE_BUFFER];
+                int length;
+                while ((length = inputStream.read(buffer)) > 0) {
+                    outputStream.write(buffer, 0, length);
+                }
+
+                outputStream.getFD().sync();
+            } finally {
+                outputStream.close();
+            }
+
+            // 削除済みのデータベースのジャーナルが残っている場合は配置したイメージへ適用されないよう削除する
+            for (String suffix : SUFFIXES_COMPANION_FILE) {
+                File companionFile = new File(databaseFile.getPath() + suffix);
+
+                if (companionFile.exists() && !companionFile.delete()) {
+                    Logger.Warn.write(TAG, methodName, "failed to delete " + companionFile.getPath());
+                    return false;
+                }
+            }
+
+            if (!temporaryFile.renameTo(databaseFile)) {
+                Logger.Warn.write(TAG, methodName, "failed to rename " + temporaryFile.getPath());
+                return false;
+            }
+
+            Logger.Info.write(TAG, methodName, "prebuilt database installed in " + (SystemClock.elapsedRealtime() - start) + "ms");
+            return true;
+
+        } catch (FileNotFoundException e) {
+            Logger.Info.write(TAG, methodName, "prebuilt database is not bundled");
+            return false;
+        } catch (IOException e) {
+            Logger.Warn.write(TAG, methodName, e.toString());
+            return false;
+        } finally {
+            if (temporaryFile.exists() && !temporaryFile.delete()) {
+                Logger.Warn.write(TAG, methodName, "failed to delete " + temporaryFile.getPath());
+            }
+
+            if (inputStream != null) {
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    Logger.Warn.write(TAG, methodName, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * 渡されたヘッダーがSQLiteのデータベースファイルであり、user_versionが指定されたバージョンと一致するか判定します。
+     *
+     * @param header  データベースファイルの先頭のバイト列。
+     * @param version データベースのバージョン。
+     * @return 一致する場合は {@code true}、それ以外は{@code false}。
+     */
+    private static boolean isCompatible(byte[] header, int version) {
+
+        if (!Arrays.equals(Arrays.copyOf(header, HEADER_MAGIC.length), HEADER_MAGIC)) {
+            return false;
+        }
+
+        // user_versionはビッグエンディアンの4バイトで記録されている
+        int userVersion = ((header[OFFSET_USER_VERSION] & 0xff) << 24)
+                | ((header[OFFSET_USER_VERSION + 1] & 0xff) << 16)
+                | ((header[OFFSET_USER_VERSION + 2] & 0xff) << 8)
+                | (header[OFFSET_USER_VERSION + 3] & 0xff);
+
+        return userVersion == version;
+    }
+
+    /**
+     * 入力ストリームから渡された配列の大きさまで読み込みます。
+     *
+     * @param inputStream 入力ストリーム。
+     * @param buffer      読み込み先の配列。
+     * @return 読み込んだバイト数。ストリームの終端に達した場合は配列の大きさを下回ります。
+     * @throws IOException 読み込みにおいて異常終了した際に発生します。
+     */
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+
+        int offset = 0;
+
+        while (offset < buffer.length) {
+            int length = inputStream.read(buffer, offset, buffer.length - offset);
+
+            if (length < 0) {
+                break;
+            }
+
+            offset += length;
+        }
+
+        return offset;
+    }
+}
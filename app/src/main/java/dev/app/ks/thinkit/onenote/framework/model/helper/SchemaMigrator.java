@@ -0,0 +1,439 @@
+package dev.app.ks.thinkit.onenote.framework.model.helper;
+
+import android.content.res.AssetManager;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.framework.CalendarHandler;
+import dev.app.ks.thinkit.onenote.framework.CommonConstants;
+import dev.app.ks.thinkit.onenote.framework.FileHandler;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.StringHandler;
+import dev.app.ks.thinkit.onenote.framework.model.SqlScriptHandler;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : SchemaMigrator.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * assetファイル内に配置されたバージョン毎のSQLファイルを基にスキーマを移行する機能を定義したクラスです。
+ * <p>
+ * 1, upgrade/バージョン番号
+ * スキーマの変更を行うSQLファイルを配置します。
+ * 各バージョンのSQL文はバージョン毎のトランザクションで実行され、
+ * 実行に要した時間と共にschema_migrationテーブルへ記録されます。
+ * <p>
+ * 2, backfill/バージョン番号
+ * 既存のデータを移行するSQLファイルを配置します。
+ * 当該ディレクトリのSQL文は起動を妨げないよう、データベースを開いた後に実行スレッドで実行されます。
+ * 各SQL文は一度の実行で一定件数のみを処理し、処理対象が無くなった際に変更件数が0となる必要があります。
+ * SQL文は変更件数が0となるまで一度の実行毎にトランザクションを確定しながら繰り返し実行されるため、
+ * 処理の途中でプロセスが終了した場合でも次回の起動時に残りのデータから再開されます。
+ * なお、SQLiteのUPDATE文及びDELETE文はLIMIT句を指定できないため、
+ * {@code WHERE id IN (SELECT id FROM ... LIMIT 500)}のように副問い合わせで件数を制限します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseOpenHelper
+ * @see SqlScriptHandler
+ * @since 1.0
+ */
+final class SchemaMigrator {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = SchemaMigrator.class.getName();
+
+    /**
+     * assetファイル内に存在するバージョン毎の更新用SQL文を配置したファイル名。
+     */
+    private static final String ASSET_FILE_UPGRADE_QUERY = "upgrade";
+
+    /**
+     * assetファイル内に存在するバージョン毎のデータ移行用SQL文を配置したファイル名。
+     */
+    private static final String ASSET_FILE_BACKFILL_QUERY = "backfill";
+
+    /**
+     * 移行の履歴を記録するテーブルを作成するSQL文。
+     * 移行前のバージョンから記録できるよう、各バージョンのSQLファイルではなく当該クラスで作成する。
+     */
+    private static final String SQL_CREATE_MIGRATION_TABLE =
+            "create table if not exists schema_migration("
+                    + " version INTEGER NOT NULL PRIMARY KEY,"
+                    + " applied_datetime TEXT NOT NULL,"
+                    + " duration_millis INTEGER NOT NULL,"
+                    + " backfill_pending INTEGER NOT NULL DEFAULT 0,"
+                    + " backfill_duration_millis INTEGER"
+                    + ")";
+
+    /**
+     * 移行の履歴を記録するSQL文。
+     */
+    private static final String SQL_INSERT_MIGRATION =
+            "INSERT OR REPLACE INTO schema_migration(version, applied_datetime, duration_millis, backfill_pending) VALUES (?, ?, ?, ?)";
+
+    /**
+     * データ移行が完了していないバージョンを取得するSQL文。
+     */
+    private static final String SQL_SELECT_PENDING_BACKFILLS =
+            "SELECT version FROM schema_migration WHERE backfill_pending = 1 ORDER BY version";
+
+    /**
+     * データ移行の完了を記録するSQL文。
+     */
+    private static final String SQL_UPDATE_BACKFILL_COMPLETED =
+            "UPDATE schema_migration SET backfill_pending = 0, backfill_duration_millis = ? WHERE version = ?";
+
+    /**
+     * データ移行の投入が拒否された際に再投入するまでのミリ秒。
+     */
+    private static final long BACKFILL_RETRY_DELAY_MILLIS = 1000L;
+
+    /**
+     * asset情報を管理するオブジェクト。
+     */
+    private final AssetManager assetManager;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param assetManager asset情報を管理するオブジェクト。
+     */
+    SchemaMigrator(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * 旧バージョンの次のバージョンから新しいバージョンまで、
+     * assetファイル内に配置されたバージョンを昇順に移行します。
+     * SQLファイルが配置されていないバージョンは移行を行いません。
+     * onUpgradeから呼び出された場合、各バージョンのトランザクションはSQLiteOpenHelperのトランザクション内で入れ子となるため、
+     * いずれかのバージョンで失敗した際はデータベースのバージョンを含めて全体が取り消され、次回の起動時に旧バージョンから再度移行します。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param oldVersion 旧バージョン。
+     * @param newVersion 新しいバージョン。
+     */
+    void migrate(SQLiteDatabase database, int oldVersion, int newVersion) {
+        String methodName = "migrate";
+
+        database.execSQL(SQL_CREATE_MIGRATION_TABLE);
+
+        for (int version : findVersions(ASSET_FILE_UPGRADE_QUERY)) {
+            if (version > oldVersion && version <= newVersion) {
+                Logger.Info.write(TAG, methodName, "upgrade to version " + version);
+                migrateStep(database, version);
+            }
+        }
+    }
+
+    /**
+     * 指定されたバージョンのSQL文を単一のトランザクションで実行し、実行に要した時間を記録します。
+     * データ移行用のSQLファイルが配置されている場合は、データ移行が未完了であることを併せて記録します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param version  移行するバージョン。
+     */
+    private void migrateStep(SQLiteDatabase database, int version) {
+        String methodName = "migrateStep";
+
+        long start = SystemClock.elapsedRealtime();
+        boolean succeeded = false;
+
+        database.beginTransaction();
+
+        try {
+            for (String sql : loadStatements(createVersionDirectory(ASSET_FILE_UPGRADE_QUERY, version))) {
+                database.execSQL(sql);
+            }
+
+            boolean hasBackfill = !loadStatements(createVersionDirectory(ASSET_FILE_BACKFILL_QUERY, version)).isEmpty();
+
+            SQLiteStatement statement = database.compileStatement(SQL_INSERT_MIGRATION);
+            try {
+                statement.bindLong(1, version);
+                statement.bindString(2, CalendarHandler.getClientDatetime());
+                statement.bindLong(3, SystemClock.elapsedRealtime() - start);
+                statement.bindLong(4, hasBackfill ? 1 : 0);
+                statement.executeInsert();
+            } finally {
+                statement.close();
+            }
+
+            database.setTransactionSuccessful();
+            succeeded = true;
+
+        } finally {
+            database.endTransaction();
+
+            long elapsed = SystemClock.elapsedRealtime() - start;
+
+            if (succeeded) {
+                Logger.Info.write(TAG, methodName, "version " + version + " migrated in " + elapsed + "ms");
+            } else {
+                Logger.Error.write(TAG, methodName, "version " + version + " failed after " + elapsed + "ms");
+            }
+        }
+    }
+
+    /**
+     * データ移行が完了していないバージョンが存在する場合に、データ移行を実行スレッドへ投入します。
+     * データ移行は一度の実行毎に実行スレッドへ再投入されるため、他のデータベース操作を長時間妨げません。
+     *
+     * @param database 書き込み用のデータベース。
+     */
+    void scheduleBackfills(SQLiteDatabase database) {
+
+        database.execSQL(SQL_CREATE_MIGRATION_TABLE);
+
+        List<Integer> versions = new ArrayList<>();
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_PENDING_BACKFILLS, null);
+        try {
+            while (cursor.moveToNext()) {
+                versions.add(cursor.getInt(0));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (!versions.isEmpty()) {
+            new BackfillTask(database, versions).submit();
+        }
+    }
+
+    /**
+     * 指定されたディレクトリに配置された全てのSQLファイルを読み込み、個々のSQL文へ分割し返却します。
+     * SQLファイルはファイル名の昇順に読み込まれます。
+     *
+     * @param directory SQLファイルを配置したディレクトリ名。
+     * @return 記述順に並べたSQL文のリスト。ディレクトリが存在しない場合は空のリスト。
+     */
+    List<String> loadStatements(String directory) {
+        String methodName = "loadStatements";
+
+        List<String> statements = new ArrayList<>();
+
+        try {
+            String[] files = assetManager.list(directory);
+
+            if (files != null) {
+                Arrays.sort(files);
+
+                for (String file : files) {
+                    String fileDirectory = StringHandler.concatSequence(CommonConstants.CHAR_SEPARATOR_SLASH, directory, file);
+                    statements.addAll(SqlScriptHandler.split(FileHandler.read(assetManager.open(fileDirectory))));
+                }
+            }
+        } catch (IOException e) {
+            Logger.Error.write(TAG, methodName, e.toString());
+            throw new IllegalStateException(e);
+        }
+
+        return statements;
+    }
+
+    /**
+     * 指定されたディレクトリ直下に配置されたバージョン番号のディレクトリを検索し、昇順に並べて返却します。
+     * バージョン番号として解釈できないディレクトリは無視します。
+     *
+     * @param directory バージョン番号のディレクトリを配置したディレクトリ名。
+     * @return 昇順に並べたバージョン番号のリスト。
+     */
+    private List<Integer> findVersions(String directory) {
+        String methodName = "findVersions";
+
+        List<Integer> versions = new ArrayList<>();
+
+        try {
+            String[] files = assetManager.list(directory);
+
+            if (files != null) {
+                for (String file : files) {
+                    try {
+                        versions.add(Integer.parseInt(file));
+                    } catch (NumberFormatException e) {
+                        Logger.Warn.write(TAG, methodName, "ignored " + directory + CommonConstants.CHAR_SEPARATOR_SLASH + file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Logger.Error.write(TAG, methodName, e.toString());
+            throw new IllegalStateException(e);
+        }
+
+        Collections.sort(versions);
+
+        return versions;
+    }
+
+    /**
+     * バージョン毎のSQLファイルを配置したディレクトリ名を生成し返却します。
+     *
+     * @param directory 種別毎のディレクトリ名。
+     * @param version   バージョン。
+     * @return バージョン毎のディレクトリ名。
+     */
+    static String createVersionDirectory(String directory, int version) {
+        return StringHandler.concatSequence(CommonConstants.CHAR_SEPARATOR_SLASH, directory, String.valueOf(version));
+    }
+
+    /**
+     * 未完了のデータ移行をバージョンの昇順に一度の実行毎に処理する内部クラスです。
+     * 一度の実行で一つのSQL文を一度だけ実行し、残りの処理は実行スレッドへ再投入します。
+     * 実行スレッドが飽和し投入が拒否された場合は、一定時間後に同じ処理を再投入します。
+     */
+    private final class BackfillTask implements Callable<Void> {
+
+        /**
+         * 再投入の時刻を管理するメインスレッドのハンドラ。
+         */
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        /**
+         * 投入が拒否された処理を再投入する処理。
+         */
+        private final Runnable resubmit = new Runnable() {
+            @Override
+            public void run() {
+                submit();
+            }
+        };
+
+        /**
+         * 書き込み用のデータベース。
+         */
+        private final SQLiteDatabase database;
+
+        /**
+         * データ移行が完了していないバージョン。
+         */
+        private final List<Integer> versions;
+
+        /**
+         * 処理中のバージョンの添字。
+         */
+        private int versionIndex = 0;
+
+        /**
+         * 処理中のバージョンのデータ移行用SQL文。
+         */
+        private List<String> statements = null;
+
+        /**
+         * 処理中のSQL文の添字。
+         */
+        private int statementIndex = 0;
+
+        /**
+         * 処理中のバージョンのデータ移行に要した時間の合計。
+         */
+        private long elapsedMillis = 0;
+
+        /**
+         * 当該クラスのコンストラクタです。
+         *
+         * @param database 書き込み用のデータベース。
+         * @param versions データ移行が完了していないバージョン。
+         */
+        BackfillTask(SQLiteDatabase database, List<Integer> versions) {
+            this.database = database;
+            this.versions = versions;
+        }
+
+        /**
+         * 当該処理を実行スレッドへ投入します。
+         */
+        void submit() {
+            String methodName = "submit";
+
+            if (DatabaseExecutor.getInstance().submit(this, null).isRejected()) {
+                Logger.Warn.write(TAG, methodName, "backfill of version " + versions.get(versionIndex) + " was rejected and rescheduled");
+                handler.postDelayed(resubmit, BACKFILL_RETRY_DELAY_MILLIS);
+            }
+        }
+
+        @Override
+        public Void call() {
+            String methodName = "call";
+
+            int version = versions.get(versionIndex);
+
+            if (statements == null) {
+                statements = loadStatements(createVersionDirectory(ASSET_FILE_BACKFILL_QUERY, version));
+            }
+
+            if (statementIndex < statements.size()) {
+                long start = SystemClock.elapsedRealtime();
+                int countChanged;
+
+                database.beginTransaction();
+                try {
+                    SQLiteStatement statement = database.compileStatement(statements.get(statementIndex));
+                    try {
+                        countChanged = statement.executeUpdateDelete();
+                    } finally {
+                        statement.close();
+                    }
+
+                    database.setTransactionSuccessful();
+
+                } finally {
+                    database.endTransaction();
+                }
+
+                elapsedMillis += SystemClock.elapsedRealtime() - start;
+
+                if (countChanged == 0) {
+                    statementIndex++;
+                }
+            }
+
+            if (statementIndex >= statements.size()) {
+                SQLiteStatement statement = database.compileStatement(SQL_UPDATE_BACKFILL_COMPLETED);
+                try {
+                    statement.bindLong(1, elapsedMillis);
+                    statement.bindLong(2, version);
+                    statement.executeUpdateDelete();
+                } finally {
+                    statement.close();
+                }
+
+                Logger.Info.write(TAG, methodName, "version " + version + " backfilled in " + elapsedMillis + "ms");
+
+                versionIndex++;
+                statements = null;
+                statementIndex = 0;
+                elapsedMillis = 0;
+            }
+
+            if (versionIndex < versions.size()) {
+                submit();
+            }
+
+            return null;
+        }
+    }
+}
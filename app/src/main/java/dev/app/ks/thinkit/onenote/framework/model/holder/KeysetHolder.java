@@ -0,0 +1,171 @@
+package dev.app.ks.thinkit.onenote.framework.model.holder;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.model.query.Condition;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : KeysetHolder.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * キーセット方式のページングで検索処理を行う際の条件を保持するデータクラスです。
+ * 各ページは直前のページの最終行のキーを起点に検索されるため、
+ * OFFSETを使用したページングと異なり読み飛ばす行の走査が発生しません。
+ * <p>
+ * 並び順は並び替えキーと一意キーの組み合わせで決定されます。
+ * 並び替えキーが設定されていない場合は一意キーのみで並び替えます。
+ * <p>
+ * 保存層を横断する検索を指定した場合は、アーカイブへ移動した行も検索の対象となります。
+ * <p>
+ * 追加の条件は{@link Condition}で指定し、条件の値は条件のプレースホルダの順に渡します。
+ *
+ * @param <E> カラムのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @since 1.0
+ */
+public final class KeysetHolder<E extends Enum<E> & IModelMapKey> extends QueryHolder {
+
+    /**
+     * 一ページあたりの行数の既定値。
+     */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    private E[] columns = null;
+    private Condition<E> condition = null;
+    private Object[] conditionArgs = null;
+    private E sortKey = null;
+    private E uniqueKey = null;
+    private boolean descending = false;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    private boolean allTiers = false;
+
+    public E[] getColumns() {
+        return columns;
+    }
+
+    @SafeVarargs
+    public final void setColumns(E... columns) {
+        this.columns = columns;
+    }
+
+    public Condition<E> getCondition() {
+        return condition;
+    }
+
+    public void setCondition(Condition<E> condition) {
+        this.condition = condition;
+    }
+
+    public Object[] getConditionArgs() {
+        return conditionArgs;
+    }
+
+    public void setConditionArgs(Object... conditionArgs) {
+        this.conditionArgs = conditionArgs;
+    }
+
+    public E getSortKey() {
+        return sortKey;
+    }
+
+    public void setSortKey(E sortKey) {
+        this.sortKey = sortKey;
+    }
+
+    public E getUniqueKey() {
+        return uniqueKey;
+    }
+
+    public void setUniqueKey(E uniqueKey) {
+        this.uniqueKey = uniqueKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public boolean isAllTiers() {
+        return allTiers;
+    }
+
+    public void setAllTiers(boolean allTiers) {
+        this.allTiers = allTiers;
+    }
+
+    @Override
+    public void clearAll() {
+        this.columns = null;
+        setCondition(null);
+        this.conditionArgs = null;
+        setSortKey(null);
+        setUniqueKey(null);
+        setDescending(false);
+        setPageSize(DEFAULT_PAGE_SIZE);
+        setAllTiers(false);
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetHolder{" +
+                "columns=" + Arrays.toString(columns) +
+                ", condition=" + condition +
+                ", conditionArgs=" + Arrays.toString(conditionArgs) +
+                ", sortKey=" + sortKey +
+                ", uniqueKey=" + uniqueKey +
+                ", descending=" + descending +
+                ", pageSize=" + pageSize +
+                ", allTiers=" + allTiers +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        KeysetHolder<?> that = (KeysetHolder<?>) o;
+        return isDescending() == that.isDescending() &&
+                getPageSize() == that.getPageSize() &&
+                isAllTiers() == that.isAllTiers() &&
+                Arrays.equals(getColumns(), that.getColumns()) &&
+                Objects.equals(getCondition(), that.getCondition()) &&
+                Arrays.equals(getConditionArgs(), that.getConditionArgs()) &&
+                Objects.equals(getSortKey(), that.getSortKey()) &&
+                Objects.equals(getUniqueKey(), that.getUniqueKey());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(getCondition(), getSortKey(), getUniqueKey(), isDescending(), getPageSize(), isAllTiers());
+        result = 31 * result + Arrays.hashCode(getColumns());
+        result = 31 * result + Arrays.hashCode(getConditionArgs());
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package dev.app.ks.thinkit.onenote.framework.model.monitor;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : LatencyHistogram.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * テーブル及び操作毎の所要時間を集計するヒストグラムです。
+ * <p>
+ * 区間は1ミリ秒未満から2倍ずつ広がる固定の区間とし、
+ * 記録の度に区間毎の件数を加算するのみであるため、記録件数に関わらず使用するメモリは一定です。
+ * 当該クラスは同期を行わないため、{@link QueryMonitor}の同期の下で使用する必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryMonitor
+ * @since 1.0
+ */
+final class LatencyHistogram {
+
+    /**
+     * 各区間の上限のミリ秒。最後の区間は上限を持ちません。
+     */
+    static final long[] BUCKET_UPPER_BOUNDS_MILLIS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    /**
+     * 区間毎の件数。
+     */
+    private final long[] bucketCounts = new long[BUCKET_UPPER_BOUNDS_MILLIS.length + 1];
+
+    /**
+     * 記録した件数。
+     */
+    private long count = 0L;
+
+    /**
+     * 所要時間の合計のナノ秒。
+     */
+    private long totalNanos = 0L;
+
+    /**
+     * 所要時間の最大のナノ秒。
+     */
+    private long maxNanos = 0L;
+
+    /**
+     * 取得または更新した行数の合計。
+     */
+    private long rowCount = 0L;
+
+    /**
+     * 一件の所要時間を記録します。
+     *
+     * @param elapsedNanos 所要時間のナノ秒。
+     * @param rows         取得または更新した行数。
+     */
+    void record(long elapsedNanos, int rows) {
+
+        long elapsedMillis = elapsedNanos / 1000000L;
+        int bucket = 0;
+
+        while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length && elapsedMillis >= BUCKET_UPPER_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+
+        bucketCounts[bucket]++;
+        count++;
+        totalNanos += elapsedNanos;
+        maxNanos = Math.max(maxNanos, elapsedNanos);
+        rowCount += Math.max(rows, 0);
+    }
+
+    /**
+     * 現在の集計結果を不変の統計情報として返却します。
+     *
+     * @param tableName テーブル名。
+     * @param operation 操作の種類。
+     * @return 統計情報。
+     */
+    QueryStatistics toStatistics(String tableName, QueryMonitor.Operation operation) {
+        return new QueryStatistics(
+                tableName,
+                operation,
+                count,
+                totalNanos,
+                maxNanos,
+                rowCount,
+                bucketCounts.clone(),
+                getPercentileMillis(0.5),
+                getPercentileMillis(0.95),
+                getPercentileMillis(0.99));
+    }
+
+    /**
+     * 区間毎の件数から百分位の所要時間を推定します。
+     * 百分位が含まれる区間の上限を返却するため、実際の値以上の値となります。
+     *
+     * @param percentile 0より大きく1以下の百分位。
+     * @return 百分位の所要時間のミリ秒。記録が存在しない場合は0。
+     */
+    private long getPercentileMillis(double percentile) {
+
+        if (count == 0) {
+            return 0L;
+        }
+
+        long threshold = (long) Math.ceil(count * percentile);
+        long accumulated = 0L;
+
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+            accumulated += bucketCounts[i];
+
+            if (accumulated >= threshold) {
+                return BUCKET_UPPER_BOUNDS_MILLIS[i];
+            }
+        }
+
+        // 上限を持たない区間の場合は最大値を返却する
+        return maxNanos / 1000000L;
+    }
+}
@@ -0,0 +1,403 @@
+package dev.app.ks.thinkit.onenote.framework.model.monitor;
+
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import dev.app.ks.thinkit.onenote.BuildConfig;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : QueryMonitor.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * データベース操作の所要時間をテーブル及び操作毎に集計するクラスです。
+ * <p>
+ * 検索、挿入系、削除及びトランザクションの所要時間と行数をヒストグラムへ記録し、
+ * 閾値を超えた処理は低速な処理として直近の一定件数を保持します。
+ * デバッグビルドの場合は低速な処理の実行計画を取得し、併せて保持します。
+ * 集計結果はアプリ内から参照でき、JSON形式で書き出すことができます。
+ * <p>
+ * 当該クラスはプロセス全体で単一のインスタンスを共有し、複数のスレッドから同時に記録できます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryStatistics
+ * @see SlowQuery
+ * @since 1.0
+ */
+public final class QueryMonitor {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = QueryMonitor.class.getName();
+
+    /**
+     * 低速な処理とみなす所要時間の既定のミリ秒。
+     */
+    public static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 100L;
+
+    /**
+     * 保持する低速な処理の最大件数。
+     */
+    private static final int MAXIMUM_SLOW_QUERIES = 50;
+
+    /**
+     * 実行計画を取得するSQL文の接頭辞。
+     */
+    private static final String PREFIX_EXPLAIN_QUERY_PLAN = "EXPLAIN QUERY PLAN ";
+
+    /**
+     * 書き出すJSONの形式名。
+     */
+    static final String FORMAT = "one_note_query_statistics";
+
+    /**
+     * 書き出すJSONの形式のバージョン。
+     */
+    static final int VERSION = 1;
+
+    /**
+     * 当該クラスのインスタンス。
+     */
+    private static QueryMonitor thisInstance = null;
+
+    /**
+     * テーブル名及び操作の種類に紐付くヒストグラム。テーブル名の順に保持します。
+     */
+    private final Map<String, EnumMap<Operation, LatencyHistogram>> histograms = new TreeMap<>();
+
+    /**
+     * 直近の低速な処理。
+     */
+    private final ArrayDeque<SlowQuery> slowQueries = new ArrayDeque<>(MAXIMUM_SLOW_QUERIES);
+
+    /**
+     * 低速な処理とみなす所要時間のナノ秒。
+     */
+    private volatile long slowQueryThresholdNanos = DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS * 1000000L;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスにシングルトンパターンを適用するため修飾子をprivate指定します。
+     *
+     * @see #getInstance()
+     */
+    private QueryMonitor() {
+    }
+
+    /**
+     * 当該クラスのインスタンスを返却します。
+     * 初回呼び出し時のみ当該クラスのインスタンスを生成します。
+     *
+     * @return 当該クラスのインスタンス。
+     */
+    public static synchronized QueryMonitor getInstance() {
+
+        if (thisInstance == null) {
+            thisInstance = new QueryMonitor();
+        }
+
+        return thisInstance;
+    }
+
+    /**
+     * 低速な処理とみなす所要時間を設定します。
+     *
+     * @param thresholdMillis 所要時間のミリ秒。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void setSlowQueryThresholdMillis(long thresholdMillis) {
+
+        if (thresholdMillis < 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        slowQueryThresholdNanos = thresholdMillis * 1000000L;
+    }
+
+    /**
+     * 低速な処理とみなす所要時間を返却します。
+     *
+     * @return 所要時間のミリ秒。
+     */
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdNanos / 1000000L;
+    }
+
+    /**
+     * 一件の処理の所要時間を記録します。
+     * 所要時間が閾値以上の場合は低速な処理として保持し、警告を出力します。
+     * 実行計画を取得するため、当該メソッドは処理に使用した接続を返却する前に呼び出す必要があります。
+     *
+     * @param tableName    テーブル名。
+     * @param operation    操作の種類。
+     * @param sql          実行したSQL文。トランザクションの場合は{@code null}。
+     * @param elapsedNanos 所要時間のナノ秒。
+     * @param rowCount     取得または更新した行数。
+     * @param database     処理に使用した接続。実行計画を取得しない場合は{@code null}。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void record(
+            String tableName,
+            Operation operation,
+            String sql,
+            long elapsedNanos,
+            int rowCount,
+            SQLiteDatabase database) {
+        String methodName = "record";
+
+        if (tableName == null
+                || operation == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        synchronized (this) {
+            EnumMap<Operation, LatencyHistogram> operationMap = histograms.get(tableName);
+
+            if (operationMap == null) {
+                operationMap = new EnumMap<>(Operation.class);
+                histograms.put(tableName, operationMap);
+            }
+
+            LatencyHistogram histogram = operationMap.get(operation);
+
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                operationMap.put(operation, histogram);
+            }
+
+            histogram.record(elapsedNanos, rowCount);
+        }
+
+        if (elapsedNanos < slowQueryThresholdNanos) {
+            return;
+        }
+
+        // 実行計画の取得は検索を伴うため、同期の外で行う
+        String queryPlan = BuildConfig.DEBUG && sql != null && database != null
+                ? explainQueryPlan(database, sql)
+                : null;
+
+        SlowQuery slowQuery = new SlowQuery(System.currentTimeMillis(), tableName, operation, sql, elapsedNanos, rowCount, queryPlan);
+        Logger.Warn.write(TAG, methodName, "slow query: " + slowQuery);
+
+        synchronized (this) {
+            if (slowQueries.size() == MAXIMUM_SLOW_QUERIES) {
+                slowQueries.removeFirst();
+            }
+
+            slowQueries.addLast(slowQuery);
+        }
+    }
+
+    /**
+     * テーブル及び操作毎の統計情報を返却します。
+     *
+     * @return テーブル名及び操作の順に並べた統計情報の変更不可のリスト。
+     */
+    public synchronized List<QueryStatistics> getStatistics() {
+
+        List<QueryStatistics> statistics = new ArrayList<>();
+
+        for (Map.Entry<String, EnumMap<Operation, LatencyHistogram>> tableEntry : histograms.entrySet()) {
+            for (Map.Entry<Operation, LatencyHistogram> operationEntry : tableEntry.getValue().entrySet()) {
+                statistics.add(operationEntry.getValue().toStatistics(tableEntry.getKey(), operationEntry.getKey()));
+            }
+        }
+
+        return Collections.unmodifiableList(statistics);
+    }
+
+    /**
+     * 直近の低速な処理を返却します。
+     *
+     * @return 古い順に並べた低速な処理の変更不可のリスト。
+     */
+    public synchronized List<SlowQuery> getSlowQueries() {
+        return Collections.unmodifiableList(new ArrayList<>(slowQueries));
+    }
+
+    /**
+     * 全ての集計結果及び低速な処理を破棄します。
+     */
+    public synchronized void reset() {
+        histograms.clear();
+        slowQueries.clear();
+    }
+
+    /**
+     * 現在の集計結果及び低速な処理を渡されたライターへJSON形式で書き出します。
+     * ライターは呼び出し元で閉じる必要があります。
+     *
+     * @param writer 書き出し先のライター。
+     * @throws IOException              書き出しにおいて異常終了した際に発生します。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public void export(Writer writer) throws IOException {
+
+        if (writer == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        List<QueryStatistics> statisticsList = getStatistics();
+        List<SlowQuery> slowQueryList = getSlowQueries();
+
+        JsonWriter jsonWriter = new JsonWriter(new BufferedWriter(writer));
+
+        jsonWriter.beginObject();
+        jsonWriter.name("format").value(FORMAT);
+        jsonWriter.name("version").value(VERSION);
+        jsonWriter.name("slow_query_threshold_millis").value(getSlowQueryThresholdMillis());
+
+        jsonWriter.name("bucket_upper_bounds_millis").beginArray();
+        for (long upperBound : QueryStatistics.getBucketUpperBoundsMillis()) {
+            jsonWriter.value(upperBound);
+        }
+        jsonWriter.endArray();
+
+        jsonWriter.name("statistics").beginArray();
+        for (QueryStatistics statistics : statisticsList) {
+            jsonWriter.beginObject();
+            jsonWriter.name("table").value(statistics.getTableName());
+            jsonWriter.name("operation").value(statistics.getOperation().name());
+            jsonWriter.name("count").value(statistics.getCount());
+            jsonWriter.name("rows").value(statistics.getRowCount());
+            jsonWriter.name("total_millis").value(statistics.getTotalMillis());
+            jsonWriter.name("max_millis").value(statistics.getMaxMillis());
+            jsonWriter.name("p50_millis").value(statistics.getP50Millis());
+            jsonWriter.name("p95_millis").value(statistics.getP95Millis());
+            jsonWriter.name("p99_millis").value(statistics.getP99Millis());
+
+            jsonWriter.name("buckets").beginArray();
+            for (long bucketCount : statistics.getBucketCounts()) {
+                jsonWriter.value(bucketCount);
+            }
+            jsonWriter.endArray();
+
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+
+        jsonWriter.name("slow_queries").beginArray();
+        for (SlowQuery slowQuery : slowQueryList) {
+            jsonWriter.beginObject();
+            jsonWriter.name("recorded_datetime").value(slowQuery.getRecordedDatetime());
+            jsonWriter.name("table").value(slowQuery.getTableName());
+            jsonWriter.name("operation").value(slowQuery.getOperation().name());
+            jsonWriter.name("sql").value(slowQuery.getSql());
+            jsonWriter.name("elapsed_millis").value(slowQuery.getElapsedMillis());
+            jsonWriter.name("rows").value(slowQuery.getRowCount());
+            jsonWriter.name("query_plan").value(slowQuery.getQueryPlan());
+            jsonWriter.endObject();
+        }
+        jsonWriter.endArray();
+
+        jsonWriter.endObject();
+        jsonWriter.flush();
+    }
+
+    /**
+     * SQL文の実行計画を取得します。
+     * プレースホルダへは値を設定せずに取得するため、全ての値は{@code null}として計画されます。
+     * 実行計画の取得に失敗した場合でも元の処理には影響させず、警告を出力します。
+     *
+     * @param database 処理に使用した接続。
+     * @param sql      実行したSQL文。
+     * @return 実行計画の各行を改行で連結した文字列。取得に失敗した場合は{@code null}。
+     */
+    private static String explainQueryPlan(SQLiteDatabase database, String sql) {
+        String methodName = "explainQueryPlan";
+
+        Cursor cursor = null;
+
+        try {
+            cursor = database.rawQuery(PREFIX_EXPLAIN_QUERY_PLAN + sql, null);
+
+            int detailIndex = cursor.getColumnIndexOrThrow("detail");
+            StringBuilder queryPlan = new StringBuilder();
+
+            while (cursor.moveToNext()) {
+                if (queryPlan.length() > 0) {
+                    queryPlan.append('\n');
+                }
+
+                queryPlan.append(cursor.getString(detailIndex));
+            }
+
+            return queryPlan.toString();
+
+        } catch (SQLException | IllegalArgumentException e) {
+            Logger.Warn.write(TAG, methodName, String.format(Locale.ROOT, "failed to explain %s: %s", sql, e.getMessage()));
+            return null;
+
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * 記録する操作の種類を定義したEnumクラスです。
+     */
+    public enum Operation {
+
+        /**
+         * 検索処理を表す項目です。
+         */
+        Select,
+
+        /**
+         * 挿入処理を表す項目です。
+         */
+        Insert,
+
+        /**
+         * 置換処理を表す項目です。
+         */
+        Replace,
+
+        /**
+         * 更新処理を表す項目です。
+         */
+        Update,
+
+        /**
+         * 削除処理を表す項目です。
+         */
+        Delete,
+
+        /**
+         * トランザクションの開始から終了までを表す項目です。
+         */
+        Transaction
+    }
+}
@@ -0,0 +1,232 @@
+package dev.app.ks.thinkit.onenote.framework.model.monitor;
+
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : QueryStatistics.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * テーブル及び操作毎の所要時間の統計情報を保持するデータクラスです。
+ * 取得した時点の値を保持し、以降の記録によって値は変わりません。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryMonitor#getStatistics()
+ * @since 1.0
+ */
+public final class QueryStatistics {
+
+    /**
+     * テーブル名。
+     */
+    private final String tableName;
+
+    /**
+     * 操作の種類。
+     */
+    private final QueryMonitor.Operation operation;
+
+    /**
+     * 記録した件数。
+     */
+    private final long count;
+
+    /**
+     * 所要時間の合計のナノ秒。
+     */
+    private final long totalNanos;
+
+    /**
+     * 所要時間の最大のナノ秒。
+     */
+    private final long maxNanos;
+
+    /**
+     * 取得または更新した行数の合計。
+     */
+    private final long rowCount;
+
+    /**
+     * 区間毎の件数。
+     */
+    private final long[] bucketCounts;
+
+    /**
+     * 所要時間の中央値のミリ秒。
+     */
+    private final long p50Millis;
+
+    /**
+     * 所要時間の95パーセンタイルのミリ秒。
+     */
+    private final long p95Millis;
+
+    /**
+     * 所要時間の99パーセンタイルのミリ秒。
+     */
+    private final long p99Millis;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param tableName    テーブル名。
+     * @param operation    操作の種類。
+     * @param count        記録した件数。
+     * @param totalNanos   所要時間の合計のナノ秒。
+     * @param maxNanos     所要時間の最大のナノ秒。
+     * @param rowCount     取得または更新した行数の合計。
+     * @param bucketCounts 区間毎の件数。
+     * @param p50Millis    所要時間の中央値のミリ秒。
+     * @param p95Millis    所要時間の95パーセンタイルのミリ秒。
+     * @param p99Millis    所要時間の99パーセンタイルのミリ秒。
+     */
+    QueryStatistics(
+            String tableName,
+            QueryMonitor.Operation operation,
+            long count,
+            long totalNanos,
+            long maxNanos,
+            long rowCount,
+            long[] bucketCounts,
+            long p50Millis,
+            long p95Millis,
+            long p99Millis) {
+        this.tableName = tableName;
+        this.operation = operation;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.rowCount = rowCount;
+        this.bucketCounts = bucketCounts;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+    }
+
+    /**
+     * テーブル名を返却します。
+     *
+     * @return テーブル名。
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 操作の種類を返却します。
+     *
+     * @return 操作の種類。
+     */
+    public QueryMonitor.Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * 記録した件数を返却します。
+     *
+     * @return 記録した件数。
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 所要時間の合計を返却します。
+     *
+     * @return 所要時間の合計のミリ秒。
+     */
+    public double getTotalMillis() {
+        return totalNanos / 1000000.0;
+    }
+
+    /**
+     * 所要時間の平均を返却します。
+     *
+     * @return 所要時間の平均のミリ秒。記録が存在しない場合は0。
+     */
+    public double getAverageMillis() {
+        return count == 0 ? 0.0 : getTotalMillis() / count;
+    }
+
+    /**
+     * 所要時間の最大を返却します。
+     *
+     * @return 所要時間の最大のミリ秒。
+     */
+    public double getMaxMillis() {
+        return maxNanos / 1000000.0;
+    }
+
+    /**
+     * 取得または更新した行数の合計を返却します。
+     *
+     * @return 行数の合計。
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 区間毎の件数を返却します。
+     * 各区間の上限は{@link #getBucketUpperBoundsMillis()}の同じ位置の値であり、最後の区間は上限を持ちません。
+     *
+     * @return 区間毎の件数の複製。
+     */
+    public long[] getBucketCounts() {
+        return bucketCounts.clone();
+    }
+
+    /**
+     * 各区間の上限のミリ秒を返却します。
+     *
+     * @return 各区間の上限のミリ秒の複製。
+     */
+    public static long[] getBucketUpperBoundsMillis() {
+        return LatencyHistogram.BUCKET_UPPER_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * 所要時間の中央値を返却します。
+     * 値は中央値が含まれる区間の上限です。
+     *
+     * @return 所要時間の中央値のミリ秒。
+     */
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * 所要時間の95パーセンタイルを返却します。
+     * 値は95パーセンタイルが含まれる区間の上限です。
+     *
+     * @return 所要時間の95パーセンタイルのミリ秒。
+     */
+    public long getP95Millis() {
+        return p95Millis;
+    }
+
+    /**
+     * 所要時間の99パーセンタイルを返却します。
+     * 値は99パーセンタイルが含まれる区間の上限です。
+     *
+     * @return 所要時間の99パーセンタイルのミリ秒。
+     */
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s %s count=%d rows=%d avg=%.3fms max=%.3fms p50<=%dms p95<=%dms p99<=%dms",
+                tableName, operation, count, rowCount, getAverageMillis(), getMaxMillis(), p50Millis, p95Millis, p99Millis);
+    }
+}
@@ -0,0 +1,159 @@
+package dev.app.ks.thinkit.onenote.framework.model.monitor;
+
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : SlowQuery.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 閾値を超えた一件の処理を表す不変のデータクラスです。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryMonitor#getSlowQueries()
+ * @since 1.0
+ */
+public final class SlowQuery {
+
+    /**
+     * 記録した日時のエポックミリ秒。
+     */
+    private final long recordedDatetime;
+
+    /**
+     * テーブル名。
+     */
+    private final String tableName;
+
+    /**
+     * 操作の種類。
+     */
+    private final QueryMonitor.Operation operation;
+
+    /**
+     * 実行したSQL文。トランザクションの場合は{@code null}。
+     */
+    private final String sql;
+
+    /**
+     * 所要時間のナノ秒。
+     */
+    private final long elapsedNanos;
+
+    /**
+     * 取得または更新した行数。
+     */
+    private final int rowCount;
+
+    /**
+     * 実行計画。取得していない場合は{@code null}。
+     */
+    private final String queryPlan;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param recordedDatetime 記録した日時のエポックミリ秒。
+     * @param tableName        テーブル名。
+     * @param operation        操作の種類。
+     * @param sql              実行したSQL文。
+     * @param elapsedNanos     所要時間のナノ秒。
+     * @param rowCount         取得または更新した行数。
+     * @param queryPlan        実行計画。
+     */
+    SlowQuery(
+            long recordedDatetime,
+            String tableName,
+            QueryMonitor.Operation operation,
+            String sql,
+            long elapsedNanos,
+            int rowCount,
+            String queryPlan) {
+        this.recordedDatetime = recordedDatetime;
+        this.tableName = tableName;
+        this.operation = operation;
+        this.sql = sql;
+        this.elapsedNanos = elapsedNanos;
+        this.rowCount = rowCount;
+        this.queryPlan = queryPlan;
+    }
+
+    /**
+     * 記録した日時を返却します。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getRecordedDatetime() {
+        return recordedDatetime;
+    }
+
+    /**
+     * テーブル名を返却します。
+     *
+     * @return テーブル名。
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 操作の種類を返却します。
+     *
+     * @return 操作の種類。
+     */
+    public QueryMonitor.Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * 実行したSQL文を返却します。
+     *
+     * @return SQL文。トランザクションの場合は{@code null}。
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 所要時間を返却します。
+     *
+     * @return 所要時間のミリ秒。
+     */
+    public double getElapsedMillis() {
+        return elapsedNanos / 1000000.0;
+    }
+
+    /**
+     * 取得または更新した行数を返却します。
+     *
+     * @return 行数。
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 実行計画を返却します。
+     * 実行計画はデバッグビルドの場合に限り取得されます。
+     *
+     * @return 実行計画の各行を改行で連結した文字列。取得していない場合は{@code null}。
+     */
+    public String getQueryPlan() {
+        return queryPlan;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s %s %.3fms rows=%d sql=%s plan=%s",
+                tableName, operation, getElapsedMillis(), rowCount, sql, queryPlan);
+    }
+}
@@ -0,0 +1,342 @@
+package dev.app.ks.thinkit.onenote.framework.model.query;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : Condition.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 検索条件及び削除条件の形を表す不変のクラスです。
+ * <p>
+ * 条件は値を保持せず、値を設定する位置をプレースホルダで表します。
+ * 値は実行時に{@link Query}の引数として渡すため、
+ * 同一の形の条件からは値に関わらず同一のSQL文が生成されます。
+ * 複合条件は常に括弧で囲まれるため、演算子の優先順位に依存しません。
+ * <pre>
+ * Condition.and(
+ *         Condition.equal(MemoColumnKey.MemoName),
+ *         Condition.or(Condition.isNull(MemoColumnKey.Memo), Condition.greaterThan(MemoColumnKey.ChunkCount)))
+ * // (memo_name = ? AND (memo IS NULL OR chunk_count &gt; ?))
+ * </pre>
+ *
+ * @param <E> カラムのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryBuilder#where(Condition)
+ * @since 1.0
+ */
+public final class Condition<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * 論理積の演算子。
+     */
+    private static final String OPERATOR_AND = " AND ";
+
+    /**
+     * 論理和の演算子。
+     */
+    private static final String OPERATOR_OR = " OR ";
+
+    /**
+     * 条件のSQL文の断片。
+     */
+    private final String sql;
+
+    /**
+     * 条件に含まれるプレースホルダの数。
+     */
+    private final int parameterCount;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 条件は当該クラスの静的メソッドで生成します。
+     *
+     * @param sql            条件のSQL文の断片。
+     * @param parameterCount 条件に含まれるプレースホルダの数。
+     */
+    private Condition(String sql, int parameterCount) {
+        this.sql = sql;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * カラムの値が引数と等しい条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> equal(E key) {
+        return compare(key, " = ?");
+    }
+
+    /**
+     * カラムの値が引数と等しくない条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> notEqual(E key) {
+        return compare(key, " <> ?");
+    }
+
+    /**
+     * カラムの値が引数より小さい条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> lessThan(E key) {
+        return compare(key, " < ?");
+    }
+
+    /**
+     * カラムの値が引数以下である条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> lessThanOrEqual(E key) {
+        return compare(key, " <= ?");
+    }
+
+    /**
+     * カラムの値が引数より大きい条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> greaterThan(E key) {
+        return compare(key, " > ?");
+    }
+
+    /**
+     * カラムの値が引数以上である条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> greaterThanOrEqual(E key) {
+        return compare(key, " >= ?");
+    }
+
+    /**
+     * カラムの値が二つの引数の範囲内である条件を生成します。
+     * 範囲は下限及び上限を含みます。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。引数は下限、上限の順に渡します。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> between(E key) {
+
+        if (key == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return new Condition<>(key.getKeyName() + " BETWEEN ? AND ?", 2);
+    }
+
+    /**
+     * カラムの値が指定された数の引数のいずれかと等しい条件を生成します。
+     * 引数の数が異なる条件は異なるSQL文となるため、
+     * 引数の数が変動する場合は上限の数で生成し、余る引数に重複した値を渡すことで形を揃えられます。
+     *
+     * @param key   カラムのキー。
+     * @param count 引数の数。
+     * @param <E>   カラムのキーの型。
+     * @return 条件。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> in(E key, int count) {
+
+        if (key == null
+                || count <= 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        StringBuilder sql = new StringBuilder(key.getKeyName()).append(" IN (");
+
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+
+        return new Condition<>(sql.append(')').toString(), count);
+    }
+
+    /**
+     * カラムの値が存在しない条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> isNull(E key) {
+        return compare(key, " IS NULL", 0);
+    }
+
+    /**
+     * カラムの値が存在する条件を生成します。
+     *
+     * @param key カラムのキー。
+     * @param <E> カラムのキーの型。
+     * @return 条件。
+     */
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> isNotNull(E key) {
+        return compare(key, " IS NOT NULL", 0);
+    }
+
+    /**
+     * 渡された全ての条件を満たす条件を生成します。
+     *
+     * @param conditions 条件。
+     * @param <E>        カラムのキーの型。
+     * @return 条件。
+     */
+    @SafeVarargs
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> and(Condition<E>... conditions) {
+        return combine(OPERATOR_AND, conditions);
+    }
+
+    /**
+     * 渡された条件のいずれかを満たす条件を生成します。
+     *
+     * @param conditions 条件。
+     * @param <E>        カラムのキーの型。
+     * @return 条件。
+     */
+    @SafeVarargs
+    public static <E extends Enum<E> & IModelMapKey> Condition<E> or(Condition<E>... conditions) {
+        return combine(OPERATOR_OR, conditions);
+    }
+
+    /**
+     * 条件のSQL文の断片を返却します。
+     *
+     * @return 条件のSQL文の断片。
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 条件に含まれるプレースホルダの数を返却します。
+     *
+     * @return プレースホルダの数。
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * 引数を一つ取る比較条件を生成します。
+     *
+     * @param key      カラムのキー。
+     * @param operator 比較演算子及びプレースホルダ。
+     * @param <E>      カラムのキーの型。
+     * @return 条件。
+     */
+    private static <E extends Enum<E> & IModelMapKey> Condition<E> compare(E key, String operator) {
+        return compare(key, operator, 1);
+    }
+
+    /**
+     * 比較条件を生成します。
+     *
+     * @param key            カラムのキー。
+     * @param operator       比較演算子及びプレースホルダ。
+     * @param parameterCount プレースホルダの数。
+     * @param <E>            カラムのキーの型。
+     * @return 条件。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    private static <E extends Enum<E> & IModelMapKey> Condition<E> compare(E key, String operator, int parameterCount) {
+
+        if (key == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return new Condition<>(key.getKeyName() + operator, parameterCount);
+    }
+
+    /**
+     * 渡された条件を演算子で結合した条件を生成します。
+     * 条件が一つのみの場合は当該条件をそのまま返却します。
+     *
+     * @param operator   論理演算子。
+     * @param conditions 条件。
+     * @param <E>        カラムのキーの型。
+     * @return 条件。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    @SafeVarargs
+    private static <E extends Enum<E> & IModelMapKey> Condition<E> combine(String operator, Condition<E>... conditions) {
+
+        if (conditions == null
+                || conditions.length == 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        if (conditions.length == 1) {
+            return conditions[0];
+        }
+
+        StringBuilder sql = new StringBuilder("(");
+        int parameterCount = 0;
+
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i] == null) {
+                // should not be happened
+                throw new IllegalArgumentException();
+            }
+
+            sql.append(i == 0 ? "" : operator).append(conditions[i].sql);
+            parameterCount += conditions[i].parameterCount;
+        }
+
+        return new Condition<>(sql.append(')').toString(), parameterCount);
+    }
+
+    @Override
+    public String toString() {
+        return "Condition{" +
+                "sql='" + sql + '\'' +
+                ", parameterCount=" + parameterCount +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Condition<?> that = (Condition<?>) o;
+        return sql.equals(that.sql);
+    }
+
+    @Override
+    public int hashCode() {
+        return sql.hashCode();
+    }
+}
@@ -0,0 +1,211 @@
+package dev.app.ks.thinkit.onenote.framework.model.query;
+
+import android.database.sqlite.SQLiteStatement;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : Query.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * {@link QueryBuilder}で組み立てた検索または削除の形を表す不変のクラスです。
+ * <p>
+ * SQL文は組み立て時に一度だけ生成され、値は全てプレースホルダで表されます。
+ * 同一の形からは常に同一のSQL文が生成されるため、
+ * 検索は接続毎のステートメントキャッシュにより、削除は共有接続のステートメントキャッシュにより、
+ * 値が異なる実行であっても同一のSQL文が再解析されることはありません。
+ * モデルは当該クラスのインスタンスを定数として保持し、実行毎に値のみを渡すことを想定しています。
+ *
+ * @param <E> カラムのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see QueryBuilder
+ * @since 1.0
+ */
+public final class Query<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * 操作の種類。
+     */
+    private final Kind kind;
+
+    /**
+     * 生成したSQL文。
+     */
+    private final String sql;
+
+    /**
+     * SQL文に含まれるプレースホルダの数。
+     */
+    private final int parameterCount;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * インスタンスは{@link QueryBuilder#build()}で生成します。
+     *
+     * @param kind           操作の種類。
+     * @param sql            生成したSQL文。
+     * @param parameterCount SQL文に含まれるプレースホルダの数。
+     */
+    Query(Kind kind, String sql, int parameterCount) {
+        this.kind = kind;
+        this.sql = sql;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * 操作の種類を返却します。
+     *
+     * @return 操作の種類。
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * 生成したSQL文を返却します。
+     *
+     * @return SQL文。
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * SQL文に含まれるプレースホルダの数を返却します。
+     *
+     * @return プレースホルダの数。
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * 渡された値をカーソルによる検索の引数へ変換します。
+     * 値は条件、LIMIT、OFFSETの順に渡す必要があります。
+     *
+     * @param args プレースホルダへ設定する値。
+     * @return 文字列へ変換した値。値が存在しない場合は{@code null}。
+     * @throws IllegalArgumentException 値の数がプレースホルダの数と一致しない場合、または値に{@code null}が含まれる場合に発生します。
+     */
+    public String[] toSelectionArgs(Object... args) {
+
+        checkArgs(args);
+
+        if (parameterCount == 0) {
+            return null;
+        }
+
+        String[] selectionArgs = new String[parameterCount];
+
+        for (int i = 0; i < parameterCount; i++) {
+            if (args[i] == null) {
+                // カーソルによる検索ではnullを設定できないため、isNullの条件を使用する必要がある
+                throw new IllegalArgumentException();
+            }
+
+            selectionArgs[i] = String.valueOf(args[i]);
+        }
+
+        return selectionArgs;
+    }
+
+    /**
+     * 渡された値を型に応じてステートメントへ設定します。
+     * 値は条件、LIMIT、OFFSETの順に渡す必要があります。
+     *
+     * @param statement 当該SQL文をコンパイルしたステートメント。
+     * @param args      プレースホルダへ設定する値。
+     * @throws IllegalArgumentException 値の数がプレースホルダの数と一致しない場合、または値の型に対応していない場合に発生します。
+     */
+    public void bind(SQLiteStatement statement, Object... args) {
+
+        checkArgs(args);
+
+        for (int i = 0; i < parameterCount; i++) {
+            Object value = args[i];
+            int index = i + 1;
+
+            if (value == null) {
+                statement.bindNull(index);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                statement.bindLong(index, ((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                statement.bindDouble(index, ((Number) value).doubleValue());
+            } else if (value instanceof byte[]) {
+                statement.bindBlob(index, (byte[]) value);
+            } else if (value instanceof String) {
+                statement.bindString(index, (String) value);
+            } else {
+                // should not be happened
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+
+    /**
+     * 渡された値の数がプレースホルダの数と一致するか検査します。
+     *
+     * @param args プレースホルダへ設定する値。
+     * @throws IllegalArgumentException 値の数がプレースホルダの数と一致しない場合に発生します。
+     */
+    private void checkArgs(Object[] args) {
+
+        int countArgs = args == null ? 0 : args.length;
+
+        if (countArgs != parameterCount) {
+            throw new IllegalArgumentException("expected " + parameterCount + " args but " + countArgs + " for " + sql);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Query{" +
+                "kind=" + kind +
+                ", sql='" + sql + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Query<?> that = (Query<?>) o;
+        return kind == that.kind &&
+                sql.equals(that.sql);
+    }
+
+    @Override
+    public int hashCode() {
+        return sql.hashCode();
+    }
+
+    /**
+     * 操作の種類を定義したEnumクラスです。
+     */
+    public enum Kind {
+
+        /**
+         * 検索処理を表す項目です。
+         */
+        Select,
+
+        /**
+         * 削除処理を表す項目です。
+         */
+        Delete
+    }
+}
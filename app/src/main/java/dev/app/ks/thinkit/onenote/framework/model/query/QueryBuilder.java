@@ -0,0 +1,299 @@
+package dev.app.ks.thinkit.onenote.framework.model.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+
+/**
+ * ======================================================================
+ * Project Name    : Common
+ * File Name       : QueryBuilder.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * カラムのキーを基に検索または削除の形を組み立てるビルダークラスです。
+ * <p>
+ * 組み立てたSQL文は以下の順序の正規の形となり、同一の組み立てからは常に同一のSQL文が生成されます。
+ * <pre>
+ * SELECT カラム FROM テーブル WHERE 条件 ORDER BY カラム 方向, ... LIMIT ? OFFSET ?
+ * DELETE FROM テーブル WHERE 条件
+ * </pre>
+ * LIMIT及びOFFSETもプレースホルダで表すため、件数の異なる実行でも同一のSQL文を使用します。
+ * <pre>
+ * private static final Query&lt;MemoColumnKey&gt; QUERY_RECENT = QueryBuilder.select(Table.MemoInformation, MemoColumnKey.class)
+ *         .columns(MemoColumnKey.MemoName, MemoColumnKey.UpdatedDatetime)
+ *         .where(Condition.greaterThanOrEqual(MemoColumnKey.UpdatedDatetime))
+ *         .orderByDescending(MemoColumnKey.UpdatedDatetime)
+ *         .limit()
+ *         .build();
+ * </pre>
+ *
+ * @param <E> カラムのキーの型。
+ * @author Kato Shinya
+ * @version 1.0
+ * @see Query
+ * @see Condition
+ * @since 1.0
+ */
+public final class QueryBuilder<E extends Enum<E> & IModelMapKey> {
+
+    /**
+     * 操作の種類。
+     */
+    private final Query.Kind kind;
+
+    /**
+     * 操作するテーブル名。
+     */
+    private final String tableName;
+
+    /**
+     * 取得するカラムの物理名。空の場合は全てのカラムを取得します。
+     */
+    private final List<String> columnNames = new ArrayList<>();
+
+    /**
+     * 並び替えの句。
+     */
+    private final List<String> orderings = new ArrayList<>();
+
+    /**
+     * 条件。条件を指定しない場合は{@code null}。
+     */
+    private Condition<E> condition = null;
+
+    /**
+     * 取得する件数を制限するか否か。
+     */
+    private boolean limited = false;
+
+    /**
+     * 取得を開始する位置を指定するか否か。
+     */
+    private boolean offset = false;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param kind  操作の種類。
+     * @param table 操作するテーブル。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    private QueryBuilder(Query.Kind kind, ITableInfo table) {
+
+        if (table == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.kind = kind;
+        this.tableName = table.getName();
+    }
+
+    /**
+     * 検索の組み立てを開始します。
+     *
+     * @param table   検索するテーブル。
+     * @param keyType カラムのキーの型。
+     * @param <E>     カラムのキーの型。
+     * @return ビルダー。
+     */
+    public static <E extends Enum<E> & IModelMapKey> QueryBuilder<E> select(ITableInfo table, Class<E> keyType) {
+        return new QueryBuilder<>(Query.Kind.Select, table);
+    }
+
+    /**
+     * 削除の組み立てを開始します。
+     *
+     * @param table   削除するテーブル。
+     * @param keyType カラムのキーの型。
+     * @param <E>     カラムのキーの型。
+     * @return ビルダー。
+     */
+    public static <E extends Enum<E> & IModelMapKey> QueryBuilder<E> delete(ITableInfo table, Class<E> keyType) {
+        return new QueryBuilder<>(Query.Kind.Delete, table);
+    }
+
+    /**
+     * 取得するカラムを追加します。
+     * 当該メソッドを呼び出さない場合は全てのカラムを取得します。
+     *
+     * @param keys カラムのキー。
+     * @return 当該ビルダー。
+     * @throws IllegalStateException 検索以外の組み立てで呼び出した際に発生します。
+     */
+    @SafeVarargs
+    public final QueryBuilder<E> columns(E... keys) {
+
+        checkKind(Query.Kind.Select);
+
+        for (E key : keys) {
+            columnNames.add(key.getKeyName());
+        }
+
+        return this;
+    }
+
+    /**
+     * 条件を追加します。
+     * 複数回呼び出した場合は全ての条件を満たす条件となります。
+     *
+     * @param condition 条件。
+     * @return 当該ビルダー。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public QueryBuilder<E> where(Condition<E> condition) {
+
+        if (condition == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.condition = this.condition == null ? condition : Condition.and(this.condition, condition);
+
+        return this;
+    }
+
+    /**
+     * 昇順の並び替えを追加します。
+     *
+     * @param key カラムのキー。
+     * @return 当該ビルダー。
+     * @throws IllegalStateException 検索以外の組み立てで呼び出した際に発生します。
+     */
+    public QueryBuilder<E> orderBy(E key) {
+        checkKind(Query.Kind.Select);
+        orderings.add(key.getKeyName() + " ASC");
+
+        return this;
+    }
+
+    /**
+     * 降順の並び替えを追加します。
+     *
+     * @param key カラムのキー。
+     * @return 当該ビルダー。
+     * @throws IllegalStateException 検索以外の組み立てで呼び出した際に発生します。
+     */
+    public QueryBuilder<E> orderByDescending(E key) {
+        checkKind(Query.Kind.Select);
+        orderings.add(key.getKeyName() + " DESC");
+
+        return this;
+    }
+
+    /**
+     * 取得する件数を制限します。件数は実行時に条件の値の後に渡します。
+     *
+     * @return 当該ビルダー。
+     * @throws IllegalStateException 検索以外の組み立てで呼び出した際に発生します。
+     */
+    public QueryBuilder<E> limit() {
+        checkKind(Query.Kind.Select);
+        limited = true;
+
+        return this;
+    }
+
+    /**
+     * 取得を開始する位置を指定します。位置は実行時に件数の後に渡します。
+     * 件数を制限していない場合は指定できません。
+     *
+     * @return 当該ビルダー。
+     * @throws IllegalStateException 検索以外の組み立て、または件数を制限していない状態で呼び出した際に発生します。
+     */
+    public QueryBuilder<E> offset() {
+        checkKind(Query.Kind.Select);
+
+        if (!limited) {
+            // should not be happened
+            throw new IllegalStateException();
+        }
+
+        offset = true;
+
+        return this;
+    }
+
+    /**
+     * 組み立てた内容からSQL文を生成します。
+     *
+     * @return 検索または削除の形。
+     */
+    public Query<E> build() {
+
+        StringBuilder sql = new StringBuilder();
+        int parameterCount = 0;
+
+        if (kind == Query.Kind.Select) {
+            sql.append("SELECT ");
+            appendList(sql, columnNames, "*");
+            sql.append(" FROM ").append(tableName);
+        } else {
+            sql.append("DELETE FROM ").append(tableName);
+        }
+
+        if (condition != null) {
+            sql.append(" WHERE ").append(condition.getSql());
+            parameterCount += condition.getParameterCount();
+        }
+
+        if (!orderings.isEmpty()) {
+            sql.append(" ORDER BY ");
+            appendList(sql, orderings, "");
+        }
+
+        if (limited) {
+            sql.append(" LIMIT ?");
+            parameterCount++;
+        }
+
+        if (offset) {
+            sql.append(" OFFSET ?");
+            parameterCount++;
+        }
+
+        return new Query<>(kind, sql.toString(), parameterCount);
+    }
+
+    /**
+     * 要素をカンマ区切りで連結します。
+     *
+     * @param sql          連結先。
+     * @param elements     要素。
+     * @param defaultValue 要素が存在しない場合に連結する値。
+     */
+    private static void appendList(StringBuilder sql, List<String> elements, String defaultValue) {
+
+        if (elements.isEmpty()) {
+            sql.append(defaultValue);
+            return;
+        }
+
+        for (int i = 0; i < elements.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(elements.get(i));
+        }
+    }
+
+    /**
+     * 組み立て中の操作の種類が期待する種類であるか検査します。
+     *
+     * @param expected 期待する操作の種類。
+     * @throws IllegalStateException 操作の種類が異なる場合に発生します。
+     */
+    private void checkKind(Query.Kind expected) {
+
+        if (kind != expected) {
+            // should not be happened
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.Locale;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : BackupStatistics.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 一回のバックアップの処理量及び所要時間を保持するデータクラスです。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoBackup
+ * @since 1.0
+ */
+public final class BackupStatistics {
+
+    /**
+     * 前回のスナップショットから追加または更新されたために複製したメモの件数。
+     */
+    private final int copiedCount;
+
+    /**
+     * 前回のスナップショットから削除されたためにスナップショットから削除したメモの件数。
+     */
+    private final int deletedCount;
+
+    /**
+     * 出力先へ書き込んだバイト数。
+     */
+    private final long bytesWritten;
+
+    /**
+     * バックアップ全体の所要時間のミリ秒。
+     */
+    private final long elapsedMillis;
+
+    /**
+     * 最も時間を要した処理単位の所要時間のミリ秒。
+     */
+    private final long longestStepMillis;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param copiedCount       複製したメモの件数。
+     * @param deletedCount      削除したメモの件数。
+     * @param bytesWritten      出力先へ書き込んだバイト数。
+     * @param elapsedMillis     バックアップ全体の所要時間のミリ秒。
+     * @param longestStepMillis 最も時間を要した処理単位の所要時間のミリ秒。
+     */
+    BackupStatistics(int copiedCount, int deletedCount, long bytesWritten, long elapsedMillis, long longestStepMillis) {
+        this.copiedCount = copiedCount;
+        this.deletedCount = deletedCount;
+        this.bytesWritten = bytesWritten;
+        this.elapsedMillis = elapsedMillis;
+        this.longestStepMillis = longestStepMillis;
+    }
+
+    /**
+     * 複製したメモの件数を返却します。
+     *
+     * @return 前回のスナップショットから追加または更新されたメモの件数。
+     */
+    public int getCopiedCount() {
+        return copiedCount;
+    }
+
+    /**
+     * 削除したメモの件数を返却します。
+     *
+     * @return 前回のスナップショットから削除されたメモの件数。
+     */
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * 出力先へ書き込んだバイト数を返却します。
+     *
+     * @return 出力先へ書き込んだバイト数。出力先を指定していない場合は0。
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * バックアップ全体の所要時間を返却します。
+     *
+     * @return 所要時間のミリ秒。
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 最も時間を要した処理単位の所要時間を返却します。
+     * バックアップ中も書き込みは妨げられないため、
+     * 当該値はバックアップが実行スレッドを連続して占有した時間の上限を表します。
+     *
+     * @return 所要時間のミリ秒。
+     */
+    public long getLongestStepMillis() {
+        return longestStepMillis;
+    }
+
+    /**
+     * 一秒あたりに複製したメモの件数を返却します。
+     *
+     * @return 一秒あたりの件数。所要時間が0の場合は0。
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? 0.0 : copiedCount * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 一秒あたりに出力先へ書き込んだバイト数を返却します。
+     *
+     * @return 一秒あたりのバイト数。所要時間が0の場合は0。
+     */
+    public double getBytesPerSecond() {
+        return elapsedMillis == 0 ? 0.0 : bytesWritten * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "copied=%d deleted=%d bytes=%d elapsed=%dms longestStep=%dms rows/s=%.1f bytes/s=%.1f",
+                copiedCount, deletedCount, bytesWritten, elapsedMillis, longestStepMillis, getRowsPerSecond(), getBytesPerSecond());
+    }
+}
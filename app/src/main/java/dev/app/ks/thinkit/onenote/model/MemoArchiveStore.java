@@ -0,0 +1,283 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
+import dev.app.ks.thinkit.onenote.framework.ICursorReader;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.DatabaseConnectionManager;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+import dev.app.ks.thinkit.onenote.model.property.Table;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoArchiveStore.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 長期間更新されていないメモを版と共にアーカイブへ移動及び参照する機能を定義したユーティリティクラスです。
+ * <p>
+ * アーカイブへの書き込みはアーカイブのデータベースへ直接開いた接続で行い、
+ * 参照は読み取り専用の接続へアタッチしたアーカイブに対して行います。
+ * そのため、書き込み処理のSQL文はスキーマ名で修飾せず、参照するSQL文のみをアーカイブのスキーマ名で修飾します。
+ * <p>
+ * 分割して保存されたメモは移動しないため、アーカイブのメモは分割単位を持ちません。
+ * アーカイブへ複製したメモはアーカイブの全文検索用の索引へ登録します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see DatabaseConnectionManager#ARCHIVE_SCHEMA_NAME
+ * @since 1.0
+ */
+final class MemoArchiveStore {
+
+    /**
+     * アーカイブへ一度に移動するメモの件数。
+     */
+    static final int ARCHIVE_BATCH_SIZE = 64;
+
+    /**
+     * アーカイブのテーブルが保持するカラム。
+     * 分割して保存されたメモは移動しないため、分割単位の数は保持しない。
+     */
+    private static final String ARCHIVE_COLUMNS =
+            "id, memo_name, memo, registered_datetime, updated_datetime, memo_format, memo_compressed, memo_snippet";
+
+    /**
+     * 指定された日時より前に更新され、分割されていないメモをID順に取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVE_TARGETS = String.format(
+            "SELECT %s FROM %s WHERE id > ? AND updated_datetime < ? AND chunk_count = 0 ORDER BY id LIMIT %d",
+            ARCHIVE_COLUMNS,
+            Table.MemoInformation.getName(),
+            ARCHIVE_BATCH_SIZE);
+
+    /**
+     * メモに紐付く全ての版の全カラムを取得するSQL文。
+     */
+    static final String SQL_SELECT_REVISION_ROWS = String.format(
+            "SELECT * FROM %s WHERE memo_id = ?",
+            Table.MemoRevision.getName());
+
+    /**
+     * アーカイブへ複製した後に更新されていないメモに限り、元のテーブルから削除するSQL文。
+     */
+    private static final String SQL_DELETE_SOURCE = String.format(
+            "DELETE FROM %s WHERE id = ? AND updated_datetime = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブへ移動したメモの一覧の表示に必要なカラムのみを更新日時の新しい順に取得するSQL文。
+     * 元のテーブルに戻されたメモは、アーカイブから削除されるまでの間も元のテーブルの行を優先する。
+     */
+    static final String SQL_SELECT_ARCHIVED_SUMMARIES = String.format(
+            "SELECT %s, %s, %s, %s FROM %s.%s ORDER BY %s DESC, %s DESC",
+            MemoColumnKey.Id.getKeyName(),
+            MemoColumnKey.MemoName.getKeyName(),
+            MemoColumnKey.UpdatedDatetime.getKeyName(),
+            MemoColumnKey.MemoSnippet.getKeyName(),
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME,
+            Table.MemoInformation.getName(),
+            MemoColumnKey.UpdatedDatetime.getKeyName(),
+            MemoColumnKey.Id.getKeyName());
+
+    /**
+     * アーカイブからIDに紐付くメモを取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_MEMO_BY_ID = String.format(
+            "SELECT %s FROM %s.%s WHERE id = ?",
+            ARCHIVE_COLUMNS,
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME,
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブからメモ名に紐付くメモを取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_MEMO_BY_NAME = String.format(
+            "SELECT %s FROM %s.%s WHERE memo_name = ?",
+            ARCHIVE_COLUMNS,
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME,
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブからIDに紐付くメモの本文を取得するSQL文。
+     * アーカイブのメモは分割されていないため、分割単位の数は常に0とする。
+     *
+     * @see MemoChunkStore#SQL_SELECT_CHUNK_STATE
+     */
+    static final String SQL_SELECT_ARCHIVED_CHUNK_STATE = String.format(
+            "SELECT id, 0, memo, memo_format, memo_compressed FROM %s.%s WHERE id = ?",
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME,
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブからメモに紐付く全ての版の全カラムを取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_REVISION_ROWS =
+            MemoRevisionStore.qualify(SQL_SELECT_REVISION_ROWS, DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+
+    /**
+     * アーカイブからIDに紐付く全ての版を古い順に取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_REVISIONS =
+            MemoRevisionStore.qualify(MemoRevisionStore.SQL_SELECT_REVISIONS, DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+
+    /**
+     * アーカイブから版の復元に必要な行を取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_CHAIN =
+            MemoRevisionStore.qualify(MemoRevisionStore.SQL_SELECT_CHAIN, DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+
+    /**
+     * アーカイブからIDに紐付く全ての版が保持している文字数の合計を取得するSQL文。
+     */
+    static final String SQL_SELECT_ARCHIVED_PAYLOAD_LENGTH =
+            MemoRevisionStore.qualify(MemoRevisionStore.SQL_SELECT_PAYLOAD_LENGTH, DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+
+    /**
+     * 検索結果の全行を型を維持したまま読み取る処理。
+     * 保存層の間で行を複製する際に使用する。
+     */
+    static final ICursorReader<List<ContentValues>> ROWS_READER = new ICursorReader<List<ContentValues>>() {
+        @Override
+        public List<ContentValues> read(Cursor cursor) {
+
+            List<ContentValues> rows = new ArrayList<>(cursor.getCount());
+            String[] columnNames = cursor.getColumnNames();
+
+            while (cursor.moveToNext()) {
+                ContentValues row = new ContentValues(columnNames.length);
+
+                for (int i = 0; i < columnNames.length; i++) {
+                    switch (cursor.getType(i)) {
+                        case Cursor.FIELD_TYPE_INTEGER:
+                            row.put(columnNames[i], cursor.getLong(i));
+                            break;
+                        case Cursor.FIELD_TYPE_FLOAT:
+                            row.put(columnNames[i], cursor.getDouble(i));
+                            break;
+                        case Cursor.FIELD_TYPE_STRING:
+                            row.put(columnNames[i], cursor.getString(i));
+                            break;
+                        case Cursor.FIELD_TYPE_BLOB:
+                            row.put(columnNames[i], cursor.getBlob(i));
+                            break;
+                        default:
+                            row.putNull(columnNames[i]);
+                            break;
+                    }
+                }
+
+                rows.add(row);
+            }
+
+            return rows;
+        }
+    };
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private MemoArchiveStore() {
+    }
+
+    /**
+     * 渡されたメモを版と共にアーカイブへ複製します。
+     * 以前に複製したメモが残っている場合は、メモ及び版を置き換えます。
+     * 複製したメモはアーカイブの全文検索用の索引へ登録します。
+     * 当該メソッドはアーカイブのトランザクション内で呼び出す必要があります。
+     *
+     * @param archiveDatabase アーカイブの書き込み用のデータベース。
+     * @param memo            メモの全カラム。
+     * @param revisions       メモに紐付く全ての版の全カラム。
+     */
+    static void insert(SQLiteDatabase archiveDatabase, ContentValues memo, List<ContentValues> revisions) {
+
+        long memoId = memo.getAsLong(MemoColumnKey.Id.getKeyName());
+
+        MemoSearchIndex.unindex(archiveDatabase, MemoSearchIndex.selectArchivedIndexedMemo(archiveDatabase, memoId));
+        MemoRevisionStore.deleteAll(archiveDatabase, memoId);
+        archiveDatabase.insertWithOnConflict(Table.MemoInformation.getName(), null, memo, SQLiteDatabase.CONFLICT_REPLACE);
+        MemoSearchIndex.index(archiveDatabase, memoId, memo.getAsString(MemoColumnKey.MemoName.getKeyName()), readPlainMemo(memo));
+
+        for (ContentValues revision : revisions) {
+            archiveDatabase.insertOrThrow(Table.MemoRevision.getName(), null, revision);
+        }
+    }
+
+    /**
+     * アーカイブへ複製したメモが複製後に更新されていない場合に限り、元のテーブルからメモ及び版を削除します。
+     * 削除したメモは全文検索用の索引からも削除します。
+     * 当該メソッドは元のデータベースのトランザクション内で呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memo     アーカイブへ複製したメモの全カラム。
+     * @return 削除した場合は {@code true}、複製後に更新されていた場合は{@code false}。
+     */
+    static boolean deleteSource(SQLiteDatabase database, ContentValues memo) {
+
+        long memoId = memo.getAsLong(MemoColumnKey.Id.getKeyName());
+        MemoSearchIndex.IndexedMemo indexedMemo = MemoSearchIndex.selectIndexedMemo(database, memoId);
+
+        SQLiteStatement statement = database.compileStatement(SQL_DELETE_SOURCE);
+        try {
+            statement.bindLong(1, memoId);
+            statement.bindLong(2, memo.getAsLong(MemoColumnKey.UpdatedDatetime.getKeyName()));
+
+            if (statement.executeUpdateDelete() == 0) {
+                return false;
+            }
+        } finally {
+            statement.close();
+        }
+
+        MemoSearchIndex.unindex(database, indexedMemo);
+        MemoRevisionStore.deleteAll(database, memoId);
+
+        return true;
+    }
+
+    /**
+     * IDに紐付くメモ及び版をアーカイブから削除します。
+     * 削除したメモはアーカイブの全文検索用の索引からも削除します。
+     * 当該メソッドはアーカイブのトランザクション内で呼び出す必要があります。
+     *
+     * @param archiveDatabase アーカイブの書き込み用のデータベース。
+     * @param memoId          メモのID。
+     */
+    static void delete(SQLiteDatabase archiveDatabase, long memoId) {
+        MemoSearchIndex.unindex(archiveDatabase, MemoSearchIndex.selectArchivedIndexedMemo(archiveDatabase, memoId));
+        archiveDatabase.delete(Table.MemoInformation.getName(), MemoColumnKey.Id.getKeyName() + " = ?", new String[]{String.valueOf(memoId)});
+        MemoRevisionStore.deleteAll(archiveDatabase, memoId);
+    }
+
+    /**
+     * 全カラムを保持したメモから索引に登録するメモの平文を返却します。
+     * 圧縮して保存されたメモは展開して返却します。
+     *
+     * @param memo メモの全カラム。
+     * @return メモの平文。
+     * @see MemoSearchIndex#readPlainMemo(Cursor, int)
+     */
+    static String readPlainMemo(ContentValues memo) {
+
+        Integer format = memo.getAsInteger(MemoColumnKey.MemoFormat.getKeyName());
+
+        return format != null && format == MemoColumnKey.FORMAT_DEFLATE
+                ? CompressionHandler.decompress(memo.getAsByteArray(MemoColumnKey.MemoCompressed.getKeyName()))
+                : memo.getAsString(MemoColumnKey.Memo.getKeyName());
+    }
+}
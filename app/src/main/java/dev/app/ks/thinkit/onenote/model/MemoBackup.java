@@ -0,0 +1,587 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.net.Uri;
+import android.os.SystemClock;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.BuildConfig;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.DatabaseConnectionManager;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+import dev.app.ks.thinkit.onenote.framework.model.helper.ArchiveDatabaseOpenHelper;
+import dev.app.ks.thinkit.onenote.framework.model.helper.DatabaseOpenHelper;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoBackup.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * アプリケーションの実行中にメモのバックアップを取得する機能を定義したクラスです。
+ * <p>
+ * バックアップはアプリケーション専用の領域に保持するスナップショットのデータベースへ、
+ * 前回のスナップショットから追加、更新及び削除されたメモのみを反映する差分方式で取得します。
+ * 差分はIDと更新日時の組を更新日時のインデックスのみで比較して抽出し、一定件数毎に複製します。
+ * <p>
+ * 反映は全体を単一の遅延トランザクションで行うため、
+ * スナップショットは反映を開始した時点でコミットされていたメモの状態と一致します。
+ * WALを有効化した元のデータベースに対しては読み取りのみを行うため、
+ * 反映中もアプリケーションによるメモの保存は待たされません。
+ * なお、全文検索用のテーブルはメモから再構築できるため複製の対象外です。
+ * <p>
+ * アーカイブへ移動したメモ及び版も元のデータベースのメモと同様に複製します。
+ * 両方に存在するメモは元のデータベースの行を複製します。
+ * <p>
+ * 反映したスナップショットはファイルとして完結しているため、
+ * 利用者が選択した出力先へそのまま書き出すことができます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see BackupStatistics
+ * @since 1.0
+ */
+public final class MemoBackup {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = MemoBackup.class.getName();
+
+    /**
+     * スナップショットのデータベース名。
+     */
+    private static final String SNAPSHOT_DATABASE_NAME = "one_note_snapshot.db";
+
+    /**
+     * 一度に複製するメモの件数。
+     */
+    private static final int BATCH_SIZE = 200;
+
+    /**
+     * 書き出し時に使用するバッファの大きさ。
+     */
+    private static final int SIZE_BUFFER = 8192;
+
+    /**
+     * 出力先を切り詰めて書き込むモード。
+     * 既存のファイルを選択された場合に古い内容が末尾に残らないよう切り詰めを指定します。
+     */
+    private static final String MODE_WRITE_TRUNCATE = "wt";
+
+    /**
+     * スナップショットへの反映を直列化するためのロック。
+     */
+    private static final Object SNAPSHOT_LOCK = new Object();
+
+    /**
+     * スナップショットのテーブルを作成するSQL文。
+     * 元のデータベースのIDをそのまま保持するため、メモ情報のIDは自動採番しません。
+     */
+    private static final String[] SQL_CREATE_SNAPSHOT = {
+            "CREATE TABLE IF NOT EXISTS memo_information ("
+                    + "id INTEGER NOT NULL PRIMARY KEY, "
+                    + "memo_name TEXT NOT NULL, "
+                    + "memo TEXT, "
+                    + "registered_datetime INTEGER NOT NULL, "
+                    + "updated_datetime INTEGER NOT NULL, "
+                    + "chunk_count INTEGER NOT NULL, "
+                    + "memo_format INTEGER NOT NULL, "
+                    + "memo_compressed BLOB, "
+                    + "memo_snippet TEXT)",
+            "CREATE TABLE IF NOT EXISTS memo_chunk ("
+                    + "memo_id INTEGER NOT NULL, "
+                    + "sequence INTEGER NOT NULL, "
+                    + "chunk TEXT NOT NULL, "
+                    + "length INTEGER NOT NULL, "
+                    + "crc INTEGER NOT NULL, "
+                    + "PRIMARY KEY (memo_id, sequence))",
+            "CREATE TABLE IF NOT EXISTS memo_revision ("
+                    + "memo_id INTEGER NOT NULL, "
+                    + "revision INTEGER NOT NULL, "
+                    + "checkpoint_revision INTEGER NOT NULL, "
+                    + "prefix_length INTEGER NOT NULL, "
+                    + "suffix_length INTEGER NOT NULL, "
+                    + "payload TEXT NOT NULL, "
+                    + "registered_datetime TEXT NOT NULL, "
+                    + "PRIMARY KEY (memo_id, revision))"
+    };
+
+    /**
+     * 元のデータベースをアタッチするSQL文。
+     */
+    private static final String SQL_ATTACH_LIVE = "ATTACH DATABASE ? AS live";
+
+    /**
+     * 元のデータベースをデタッチするSQL文。
+     */
+    private static final String SQL_DETACH_LIVE = "DETACH DATABASE live";
+
+    /**
+     * アーカイブをアタッチするSQL文。
+     */
+    private static final String SQL_ATTACH_ARCHIVE = "ATTACH DATABASE ? AS archive";
+
+    /**
+     * アーカイブをデタッチするSQL文。
+     */
+    private static final String SQL_DETACH_ARCHIVE = "DETACH DATABASE archive";
+
+    /**
+     * 元のデータベースのメモのみを複製元とするビューを作成するSQL文。
+     */
+    private static final String[] SQL_CREATE_SOURCE = {
+            "CREATE TEMP VIEW IF NOT EXISTS source_memo AS "
+                    + "SELECT id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_format, memo_compressed, memo_snippet "
+                    + "FROM live.memo_information",
+            "CREATE TEMP VIEW IF NOT EXISTS source_revision AS "
+                    + "SELECT memo_id, revision, checkpoint_revision, prefix_length, suffix_length, payload, registered_datetime "
+                    + "FROM live.memo_revision"
+    };
+
+    /**
+     * 元のデータベースとアーカイブのメモを複製元とするビューを作成するSQL文。
+     * アーカイブのメモは分割されていないため、分割単位の数は常に0とします。
+     */
+    private static final String[] SQL_CREATE_SOURCE_WITH_ARCHIVE = {
+            "CREATE TEMP VIEW IF NOT EXISTS source_memo AS "
+                    + "SELECT id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_format, memo_compressed, memo_snippet "
+                    + "FROM live.memo_information "
+                    + "UNION ALL "
+                    + "SELECT id, memo_name, memo, registered_datetime, updated_datetime, 0, memo_format, memo_compressed, memo_snippet "
+                    + "FROM archive.memo_information WHERE id NOT IN (SELECT id FROM live.memo_information)",
+            "CREATE TEMP VIEW IF NOT EXISTS source_revision AS "
+                    + "SELECT memo_id, revision, checkpoint_revision, prefix_length, suffix_length, payload, registered_datetime "
+                    + "FROM live.memo_revision "
+                    + "UNION ALL "
+                    + "SELECT memo_id, revision, checkpoint_revision, prefix_length, suffix_length, payload, registered_datetime "
+                    + "FROM archive.memo_revision WHERE memo_id NOT IN (SELECT id FROM live.memo_information)"
+    };
+
+    /**
+     * 複製の対象となるIDを保持する一時テーブルを作成するSQL文。
+     */
+    private static final String SQL_CREATE_TARGET =
+            "CREATE TEMP TABLE IF NOT EXISTS snapshot_target (id INTEGER NOT NULL PRIMARY KEY)";
+
+    /**
+     * 複製の対象となるIDを破棄するSQL文。
+     */
+    private static final String SQL_CLEAR_TARGET = "DELETE FROM temp.snapshot_target";
+
+    /**
+     * 遅延トランザクションを開始するSQL文。
+     */
+    private static final String SQL_SAVEPOINT = "SAVEPOINT memo_snapshot";
+
+    /**
+     * 遅延トランザクションを確定するSQL文。
+     */
+    private static final String SQL_RELEASE = "RELEASE memo_snapshot";
+
+    /**
+     * 削除されたメモの分割単位をスナップショットから削除するSQL文。
+     */
+    private static final String SQL_DELETE_REMOVED_CHUNKS =
+            "DELETE FROM memo_chunk WHERE memo_id NOT IN (SELECT id FROM temp.source_memo)";
+
+    /**
+     * 削除されたメモをスナップショットから削除するSQL文。
+     */
+    private static final String SQL_DELETE_REMOVED_MEMOS =
+            "DELETE FROM memo_information WHERE id NOT IN (SELECT id FROM temp.source_memo)";
+
+    /**
+     * 追加または更新されたメモのIDを抽出するSQL文。
+     * 元のデータベース及びアーカイブは更新日時のインデックスのみを走査し、本文を含む行は読み込みません。
+     */
+    private static final String SQL_SELECT_TARGETS =
+            "INSERT INTO temp.snapshot_target (id) "
+                    + "SELECT l.id FROM temp.source_memo l "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM memo_information s WHERE s.id = l.id AND s.updated_datetime = l.updated_datetime)";
+
+    /**
+     * 渡されたIDより後の一定件数の複製対象のうち、最大のIDを取得するSQL文。
+     */
+    private static final String SQL_SELECT_BATCH_UPPER_BOUND =
+            "SELECT IFNULL(MAX(id), 0) FROM (SELECT id FROM temp.snapshot_target WHERE id > ? ORDER BY id LIMIT ?)";
+
+    /**
+     * 範囲内の複製対象のメモを複製するSQL文。
+     */
+    private static final String SQL_COPY_MEMOS =
+            "INSERT OR REPLACE INTO memo_information "
+                    + "(id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_format, memo_compressed, memo_snippet) "
+                    + "SELECT id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_format, memo_compressed, memo_snippet "
+                    + "FROM temp.source_memo "
+                    + "WHERE id IN (SELECT id FROM temp.snapshot_target WHERE id > ? AND id <= ?)";
+
+    /**
+     * 範囲内の複製対象のメモの古い分割単位を削除するSQL文。
+     */
+    private static final String SQL_CLEAR_CHUNKS =
+            "DELETE FROM memo_chunk WHERE memo_id IN (SELECT id FROM temp.snapshot_target WHERE id > ? AND id <= ?)";
+
+    /**
+     * 範囲内の複製対象のメモの分割単位を複製するSQL文。
+     */
+    private static final String SQL_COPY_CHUNKS =
+            "INSERT INTO memo_chunk (memo_id, sequence, chunk, length, crc) "
+                    + "SELECT memo_id, sequence, chunk, length, crc FROM live.memo_chunk "
+                    + "WHERE memo_id IN (SELECT id FROM temp.snapshot_target WHERE id > ? AND id <= ?)";
+
+    /**
+     * 削除された版をスナップショットから削除するSQL文。
+     */
+    private static final String SQL_DELETE_REMOVED_REVISIONS =
+            "DELETE FROM memo_revision WHERE NOT EXISTS ("
+                    + "SELECT 1 FROM temp.source_revision l WHERE l.memo_id = memo_revision.memo_id AND l.revision = memo_revision.revision)";
+
+    /**
+     * 追加された版を複製するSQL文。
+     * 版は記録後に変更されないため、主キーが存在しない版のみを複製します。
+     */
+    private static final String SQL_COPY_REVISIONS =
+            "INSERT INTO memo_revision "
+                    + "SELECT l.memo_id, l.revision, l.checkpoint_revision, l.prefix_length, l.suffix_length, l.payload, l.registered_datetime "
+                    + "FROM temp.source_revision l "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM memo_revision s WHERE s.memo_id = l.memo_id AND s.revision = l.revision)";
+
+    /**
+     * アプリケーションの情報。
+     */
+    private final Context context;
+
+    /**
+     * スナップショットのデータベースファイル。
+     */
+    private final File snapshotFile;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param context アプリケーションの情報。
+     */
+    public MemoBackup(Context context) {
+        this.context = context.getApplicationContext();
+        snapshotFile = context.getDatabasePath(SNAPSHOT_DATABASE_NAME);
+    }
+
+    /**
+     * スナップショットのデータベースファイルを返却します。
+     *
+     * @return スナップショットのデータベースファイル。
+     */
+    public File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * 前回のスナップショットからの差分をスナップショットへ反映します。
+     *
+     * @return 反映の処理量及び所要時間。
+     */
+    public BackupStatistics updateSnapshot() {
+        synchronized (SNAPSHOT_LOCK) {
+            return updateSnapshotLocked();
+        }
+    }
+
+    /**
+     * スナップショットへ差分を反映し、反映したスナップショットを渡された出力先へ書き出します。
+     *
+     * @param destination 利用者が選択した出力先。
+     * @return 反映及び書き出しの処理量及び所要時間。
+     * @throws IOException              書き出しにおいて異常終了した際に発生します。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public BackupStatistics backup(Uri destination) throws IOException {
+        String methodName = "backup";
+
+        if (destination == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        synchronized (SNAPSHOT_LOCK) {
+            long start = SystemClock.elapsedRealtime();
+            BackupStatistics snapshotStatistics = updateSnapshotLocked();
+
+            long stepStart = SystemClock.elapsedRealtime();
+            long bytesWritten = writeSnapshot(destination);
+            long writeMillis = SystemClock.elapsedRealtime() - stepStart;
+
+            BackupStatistics statistics = new BackupStatistics(
+                    snapshotStatistics.getCopiedCount(),
+                    snapshotStatistics.getDeletedCount(),
+                    bytesWritten,
+                    SystemClock.elapsedRealtime() - start,
+                    Math.max(snapshotStatistics.getLongestStepMillis(), writeMillis));
+
+            Logger.Info.write(TAG, methodName, statistics.toString());
+            return statistics;
+        }
+    }
+
+    /**
+     * スナップショットへ差分を反映し、反映したスナップショットを渡された出力先へ非同期で書き出します。
+     *
+     * @param destination 利用者が選択した出力先。
+     * @param callback    処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #backup(Uri)
+     */
+    public QueryTask<BackupStatistics> backupAsync(final Uri destination, IQueryCallback<BackupStatistics> callback) {
+        return DatabaseExecutor.getInstance().submit(new Callable<BackupStatistics>() {
+            @Override
+            public BackupStatistics call() throws IOException {
+                return backup(destination);
+            }
+        }, callback);
+    }
+
+    /**
+     * 前回のスナップショットからの差分をスナップショットへ反映します。
+     * 当該メソッドは{@link #SNAPSHOT_LOCK}を取得した状態で呼び出す必要があります。
+     *
+     * @return 反映の処理量及び所要時間。
+     */
+    private BackupStatistics updateSnapshotLocked() {
+        String methodName = "updateSnapshotLocked";
+
+        long start = SystemClock.elapsedRealtime();
+
+        // 元のデータベースの作成及びスキーマの移行を完了させ、反映中に閉じられないよう接続を借りておく
+        DatabaseConnectionManager connectionManager = DatabaseConnectionManager.getInstance(context);
+        connectionManager.acquire();
+
+        try {
+            SQLiteDatabase snapshot = openSnapshot();
+
+            try {
+                BackupStatistics statistics = copyChanges(snapshot, start);
+                Logger.Info.write(TAG, methodName, statistics.toString());
+
+                return statistics;
+
+            } finally {
+                // 反映の途中で異常終了した場合は、接続を閉じることで未確定の変更を破棄する
+                snapshot.close();
+            }
+
+        } finally {
+            connectionManager.release();
+        }
+    }
+
+    /**
+     * スナップショットのデータベースを開きます。
+     * スナップショットのバージョンが元のデータベースと異なる場合は、差分の基準として使用できないため作り直します。
+     *
+     * @return スナップショットのデータベース。
+     */
+    private SQLiteDatabase openSnapshot() {
+        String methodName = "openSnapshot";
+
+        SQLiteDatabase snapshot = SQLiteDatabase.openOrCreateDatabase(snapshotFile, null);
+
+        if (snapshot.getVersion() != BuildConfig.DATABASE_VERSION) {
+            Logger.Info.write(TAG, methodName, "recreate snapshot of version " + snapshot.getVersion());
+
+            snapshot.close();
+            SQLiteDatabase.deleteDatabase(snapshotFile);
+            snapshot = SQLiteDatabase.openOrCreateDatabase(snapshotFile, null);
+
+            for (String sql : SQL_CREATE_SNAPSHOT) {
+                snapshot.execSQL(sql);
+            }
+
+            snapshot.setVersion(BuildConfig.DATABASE_VERSION);
+        }
+
+        // セーブポイント及び一時テーブルは接続毎の状態であるため、単一の接続のみを使用する
+        snapshot.disableWriteAheadLogging();
+
+        return snapshot;
+    }
+
+    /**
+     * 元のデータベースをアタッチし、前回のスナップショットからの差分を単一の遅延トランザクションで反映します。
+     * <p>
+     * {@link SQLiteDatabase#beginTransaction()}はアタッチした元のデータベースにも書き込みのロックを取得し、
+     * アプリケーションによる保存を反映が完了するまで待たせるため使用しません。
+     * 代わりに遅延トランザクションとして開始されるセーブポイントを使用し、
+     * 元のデータベースに対しては最初の読み込み時点の読み取りのスナップショットのみを取得します。
+     *
+     * @param snapshot スナップショットのデータベース。
+     * @param start    反映を開始した時刻。
+     * @return 反映の処理量及び所要時間。
+     */
+    private BackupStatistics copyChanges(SQLiteDatabase snapshot, long start) {
+
+        snapshot.execSQL(SQL_ATTACH_LIVE, new Object[]{DatabaseOpenHelper.getDatabaseFile(context).getPath()});
+
+        File archiveFile = ArchiveDatabaseOpenHelper.getDatabaseFile(context);
+        boolean hasArchive = archiveFile.exists();
+
+        if (hasArchive) {
+            snapshot.execSQL(SQL_ATTACH_ARCHIVE, new Object[]{archiveFile.getPath()});
+        }
+
+        for (String sql : hasArchive ? SQL_CREATE_SOURCE_WITH_ARCHIVE : SQL_CREATE_SOURCE) {
+            snapshot.execSQL(sql);
+        }
+
+        snapshot.execSQL(SQL_CREATE_TARGET);
+        snapshot.execSQL(SQL_SAVEPOINT);
+
+        long stepStart = SystemClock.elapsedRealtime();
+        executeUpdateDelete(snapshot, SQL_DELETE_REMOVED_CHUNKS);
+        int countDeleted = executeUpdateDelete(snapshot, SQL_DELETE_REMOVED_MEMOS);
+        executeUpdateDelete(snapshot, SQL_SELECT_TARGETS);
+        long longestStep = SystemClock.elapsedRealtime() - stepStart;
+
+        SQLiteStatement upperBoundStatement = snapshot.compileStatement(SQL_SELECT_BATCH_UPPER_BOUND);
+        SQLiteStatement copyMemosStatement = snapshot.compileStatement(SQL_COPY_MEMOS);
+        SQLiteStatement clearChunksStatement = snapshot.compileStatement(SQL_CLEAR_CHUNKS);
+        SQLiteStatement copyChunksStatement = snapshot.compileStatement(SQL_COPY_CHUNKS);
+
+        int countCopied = 0;
+
+        try {
+            long lowerBound = 0L;
+
+            while (true) {
+                stepStart = SystemClock.elapsedRealtime();
+
+                upperBoundStatement.bindLong(1, lowerBound);
+                upperBoundStatement.bindLong(2, BATCH_SIZE);
+                long upperBound = upperBoundStatement.simpleQueryForLong();
+
+                if (upperBound <= lowerBound) {
+                    break;
+                }
+
+                countCopied += executeRange(copyMemosStatement, lowerBound, upperBound);
+                executeRange(clearChunksStatement, lowerBound, upperBound);
+                executeRange(copyChunksStatement, lowerBound, upperBound);
+
+                longestStep = Math.max(longestStep, SystemClock.elapsedRealtime() - stepStart);
+                lowerBound = upperBound;
+            }
+
+        } finally {
+            upperBoundStatement.close();
+            copyMemosStatement.close();
+            clearChunksStatement.close();
+            copyChunksStatement.close();
+        }
+
+        stepStart = SystemClock.elapsedRealtime();
+        executeUpdateDelete(snapshot, SQL_DELETE_REMOVED_REVISIONS);
+        executeUpdateDelete(snapshot, SQL_COPY_REVISIONS);
+        executeUpdateDelete(snapshot, SQL_CLEAR_TARGET);
+
+        snapshot.execSQL(SQL_RELEASE);
+
+        if (hasArchive) {
+            snapshot.execSQL(SQL_DETACH_ARCHIVE);
+        }
+
+        snapshot.execSQL(SQL_DETACH_LIVE);
+        longestStep = Math.max(longestStep, SystemClock.elapsedRealtime() - stepStart);
+
+        return new BackupStatistics(countCopied, countDeleted, 0L, SystemClock.elapsedRealtime() - start, longestStep);
+    }
+
+    /**
+     * スナップショットのデータベースファイルを渡された出力先へ書き出します。
+     * スナップショットは反映後に閉じられており、ジャーナルを含まない完結したファイルです。
+     *
+     * @param destination 利用者が選択した出力先。
+     * @return 書き込んだバイト数。
+     * @throws IOException 書き出しにおいて異常終了した際に発生します。
+     */
+    private long writeSnapshot(Uri destination) throws IOException {
+
+        OutputStream outputStream = context.getContentResolver().openOutputStream(destination, MODE_WRITE_TRUNCATE);
+
+        if (outputStream == null) {
+            throw new IOException("failed to open " + destination);
+        }
+
+        long bytesWritten = 0L;
+
+        try {
+            InputStream inputStream = new FileInputStream(snapshotFile);
+
+            try {
+                byte[] buffer = new byte[SIZE_BUFFER];
+                int length;
+                while ((length = inputStream.read(buffer)) > 0) {
+                    outputStream.write(buffer, 0, length);
+                    bytesWritten += length;
+                }
+            } finally {
+                inputStream.close();
+            }
+
+            outputStream.flush();
+
+        } finally {
+            outputStream.close();
+        }
+
+        return bytesWritten;
+    }
+
+    /**
+     * SQL文をコンパイルして実行し、変更された行数を返却します。
+     *
+     * @param database データベース。
+     * @param sql      実行するSQL文。
+     * @return 変更された行数。
+     */
+    private static int executeUpdateDelete(SQLiteDatabase database, String sql) {
+
+        SQLiteStatement statement = database.compileStatement(sql);
+
+        try {
+            return statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * IDの範囲を束縛してステートメントを実行し、変更された行数を返却します。
+     *
+     * @param statement  実行するステートメント。
+     * @param lowerBound 範囲の下限。当該IDは範囲に含みません。
+     * @param upperBound 範囲の上限。当該IDは範囲に含みます。
+     * @return 変更された行数。
+     */
+    private static int executeRange(SQLiteStatement statement, long lowerBound, long upperBound) {
+        statement.bindLong(1, lowerBound);
+        statement.bindLong(2, upperBound);
+
+        return statement.executeUpdateDelete();
+    }
+}
@@ -0,0 +1,146 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoChunkReader.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモ本文を分割単位で読み込むためのクラスです。
+ * 分割して保存されたメモは要求された分割単位だけをデータベースから読み込むため、
+ * 本文全体をメモリへ展開せずに画面へ順次表示できます。
+ * 分割されずに保存されたメモ及び自動保存の反映待ちのメモは、
+ * 保持している本文を同じ大きさの分割単位に区切って返却します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#openChunkReader(long)
+ * @since 1.0
+ */
+public final class MemoChunkReader {
+
+    /**
+     * 分割単位を読み込むメモ情報のモデル。
+     */
+    private final MemoInformation memoInformation;
+
+    /**
+     * 分割して保存されたメモのID。
+     */
+    private final long memoId;
+
+    /**
+     * 分割単位の数。
+     */
+    private final int chunkCount;
+
+    /**
+     * メモリ上に保持している分割単位。分割して保存されたメモの場合は{@code null}。
+     */
+    private final List<String> inMemoryChunks;
+
+    /**
+     * 分割して保存されたメモを読み込む場合のコンストラクタです。
+     *
+     * @param memoInformation 分割単位を読み込むメモ情報のモデル。
+     * @param memoId          分割して保存されたメモのID。
+     * @param chunkCount      分割単位の数。
+     */
+    MemoChunkReader(MemoInformation memoInformation, long memoId, int chunkCount) {
+        this.memoInformation = memoInformation;
+        this.memoId = memoId;
+        this.chunkCount = chunkCount;
+        this.inMemoryChunks = null;
+    }
+
+    /**
+     * メモリ上の本文を分割単位で返却する場合のコンストラクタです。
+     *
+     * @param inMemoryChunks 本文を区切った分割単位。
+     */
+    MemoChunkReader(List<String> inMemoryChunks) {
+        this.memoInformation = null;
+        this.memoId = 0;
+        this.chunkCount = inMemoryChunks.size();
+        this.inMemoryChunks = inMemoryChunks;
+    }
+
+    /**
+     * 分割単位の数を返却します。
+     *
+     * @return 分割単位の数。
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * 指定された順序の分割単位を読み込み返却します。
+     * 分割して保存されたメモの場合は呼び出しの度にデータベースから読み込みます。
+     *
+     * @param sequence 分割単位の順序。0から始まります。
+     * @return 分割単位の本文。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public String readChunk(int sequence) {
+
+        if (sequence < 0 || sequence >= chunkCount) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        if (inMemoryChunks != null) {
+            return inMemoryChunks.get(sequence);
+        }
+
+        return memoInformation.readChunk(memoId, sequence);
+    }
+
+    /**
+     * 指定された順序の分割単位を非同期で読み込みます。
+     * 読み込んだ本文はメインスレッドでコールバックへ通知されます。
+     *
+     * @param sequence 分割単位の順序。0から始まります。
+     * @param callback 読み込んだ本文を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #readChunk(int)
+     */
+    public QueryTask<String> readChunkAsync(final int sequence, IQueryCallback<String> callback) {
+        return DatabaseExecutor.getInstance().submit(new Callable<String>() {
+            @Override
+            public String call() {
+                return readChunk(sequence);
+            }
+        }, callback);
+    }
+
+    /**
+     * 全ての分割単位を読み込み本文全体を返却します。
+     * 本文全体がメモリへ展開されるため、画面への表示には{@link #readChunk(int)}の使用を推奨します。
+     *
+     * @return 本文全体。
+     */
+    public String readAll() {
+        StringBuilder sb = new StringBuilder();
+
+        for (int sequence = 0; sequence < chunkCount; sequence++) {
+            sb.append(readChunk(sequence));
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,347 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+import dev.app.ks.thinkit.onenote.model.property.Table;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoChunkStore.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 閾値を超える本文を持つメモをmemo_chunkテーブルへ分割して保存する機能を定義したユーティリティクラスです。
+ * <p>
+ * 本文は固定長の分割単位に区切られ、保存済みの分割単位とは長さ及びCRC32による検査値で比較されます。
+ * 一致する分割単位は書き込みを行わないため、長い本文の一部を編集した場合は変更された分割単位のみが書き込まれます。
+ * <p>
+ * 当該クラスの書き込み処理は全てメモ情報の書き込みと同一のトランザクション内で呼び出す必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoChunkReader
+ * @since 1.0
+ */
+final class MemoChunkStore {
+
+    /**
+     * メモ本文を分割して保存する際の分割単位の文字数。
+     * 分割単位の一行がCursorWindowの上限を十分に下回る大きさとする。
+     */
+    static final int CHUNK_SIZE = 32 * 1024;
+
+    /**
+     * メモ本文を分割して保存する文字数の閾値。
+     * 閾値以下のメモは全文検索の対象とするため分割せずに保存する。
+     */
+    static final int CHUNK_THRESHOLD = 8 * CHUNK_SIZE;
+
+    /**
+     * 分割単位の検査値を算出する際の文字コード。
+     */
+    private static final Charset CHARSET_CHUNK = Charset.forName("UTF-8");
+
+    /**
+     * IDに紐付くメモの分割単位の数を取得するSQL文。
+     * 分割されていないメモの本文は分割単位の数が0の場合に限り、保存形式と共に取得する。
+     */
+    static final String SQL_SELECT_CHUNK_STATE = String.format(
+            "SELECT id, chunk_count, CASE WHEN chunk_count = 0 THEN memo END, memo_format,"
+                    + " CASE WHEN chunk_count = 0 THEN memo_compressed END FROM %s WHERE id = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * 分割単位の本文を取得するSQL文。
+     */
+    static final String SQL_SELECT_CHUNK = String.format(
+            "SELECT chunk FROM %s WHERE memo_id = ? AND sequence = ?",
+            Table.MemoChunk.getName());
+
+    /**
+     * 保存済みの分割単位の長さと検査値を取得するSQL文。
+     */
+    private static final String SQL_SELECT_CHUNK_CHECKSUMS = String.format(
+            "SELECT sequence, length, crc FROM %s WHERE memo_id = ?",
+            Table.MemoChunk.getName());
+
+    /**
+     * 分割して保存するメモを新規に登録するSQL文。
+     */
+    private static final String SQL_INSERT_CHUNKED_MEMO = String.format(
+            "INSERT INTO %s(id, memo_name, memo, registered_datetime, updated_datetime, chunk_count, memo_snippet)"
+                    + " VALUES (?, ?, NULL, ?, ?, ?, ?)",
+            Table.MemoInformation.getName());
+
+    /**
+     * 登録済みのメモを分割して保存する形式に更新するSQL文。
+     */
+    private static final String SQL_UPDATE_CHUNKED_MEMO = String.format(
+            "UPDATE %s SET memo = NULL, memo_format = 0, memo_compressed = NULL, updated_datetime = ?, chunk_count = ?,"
+                    + " memo_snippet = ? WHERE id = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * 分割して保存していたメモを分割せずに保存する形式へ戻すSQL文。
+     * 分割していないメモは更新の対象とならないため、通常の保存では書き込みを伴わない。
+     */
+    private static final String SQL_RESET_CHUNK_COUNT = String.format(
+            "UPDATE %s SET chunk_count = 0 WHERE id = ? AND chunk_count > 0",
+            Table.MemoInformation.getName());
+
+    /**
+     * IDに紐付く全ての分割単位を削除するSQL文。
+     */
+    private static final String SQL_DELETE_CHUNKS = String.format(
+            "DELETE FROM %s WHERE memo_id = ?",
+            Table.MemoChunk.getName());
+
+    /**
+     * 分割単位を登録または置換するSQL文。
+     */
+    private static final String SQL_REPLACE_CHUNK = String.format(
+            "INSERT OR REPLACE INTO %s(memo_id, sequence, chunk, length, crc) VALUES (?, ?, ?, ?, ?)",
+            Table.MemoChunk.getName());
+
+    /**
+     * 不要となった末尾の分割単位を削除するSQL文。
+     */
+    private static final String SQL_DELETE_TRAILING_CHUNKS = String.format(
+            "DELETE FROM %s WHERE memo_id = ? AND sequence >= ?",
+            Table.MemoChunk.getName());
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private MemoChunkStore() {
+    }
+
+    /**
+     * 渡されたメモの本文を分割して保存する必要があるか判定します。
+     *
+     * @param memoHolder メモ情報。
+     * @return 分割して保存する場合は {@code true}、それ以外は{@code false}。
+     */
+    static boolean isChunkTarget(MemoHolder memoHolder) {
+        return memoHolder.getMemo().length() > CHUNK_THRESHOLD;
+    }
+
+    /**
+     * 渡されたメモの本文を固定長の分割単位に区切り、変更された分割単位だけを書き込みます。
+     * 保存済みの分割単位とは長さ及びCRC32による検査値で比較し、
+     * 一致する分割単位は書き込みを行いません。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @param memoId     更新する既存のメモのID。新規に登録する場合は{@link MemoHolder#ID_UNASSIGNED}。
+     * @return 保存したメモのID。IDを保持するメモの更新の対象が存在しなかった場合は{@link MemoHolder#ID_UNASSIGNED}。
+     * @throws SQLiteConstraintException 新規に登録する際に同名のメモが既に存在する際に発生します。
+     */
+    static long write(SQLiteDatabase database, MemoHolder memoHolder, long memoId) {
+
+        List<String> chunks = splitIntoChunks(memoHolder.getMemo());
+        String snippet = MemoColumnKey.createSnippet(memoHolder.getMemo());
+        long registeredDatetime = MemoColumnKey.resolveDatetime(memoHolder.getRegisteredDatetime());
+        long updatedDatetime = MemoColumnKey.resolveDatetime(memoHolder.getUpdatedDatetime());
+        long[][] checksums = new long[0][];
+
+        if (memoId != MemoHolder.ID_UNASSIGNED) {
+            checksums = selectChunkChecksums(database, memoId);
+
+            SQLiteStatement statement = database.compileStatement(SQL_UPDATE_CHUNKED_MEMO);
+            try {
+                statement.bindLong(1, updatedDatetime);
+                statement.bindLong(2, chunks.size());
+                statement.bindString(3, snippet);
+                statement.bindLong(4, memoId);
+
+                if (statement.executeUpdateDelete() == 0) {
+                    memoId = MemoHolder.ID_UNASSIGNED;
+                }
+            } finally {
+                statement.close();
+            }
+
+            // IDを保持するメモは削除済みであっても再び挿入しない
+            if (memoId == MemoHolder.ID_UNASSIGNED && memoHolder.hasId()) {
+                return MemoHolder.ID_UNASSIGNED;
+            }
+        }
+
+        if (memoId == MemoHolder.ID_UNASSIGNED) {
+            // 同名のメモが存在する場合はメモ名の一意制約により挿入が失敗する
+            SQLiteStatement statement = database.compileStatement(SQL_INSERT_CHUNKED_MEMO);
+            try {
+                if (memoHolder.hasId()) {
+                    statement.bindLong(1, memoHolder.getId());
+                } else {
+                    statement.bindNull(1);
+                }
+
+                statement.bindString(2, memoHolder.getMemoName());
+                statement.bindLong(3, registeredDatetime);
+                statement.bindLong(4, updatedDatetime);
+                statement.bindLong(5, chunks.size());
+                statement.bindString(6, snippet);
+                memoId = statement.executeInsert();
+            } finally {
+                statement.close();
+            }
+        }
+
+        SQLiteStatement replaceStatement = database.compileStatement(SQL_REPLACE_CHUNK);
+
+        try {
+            for (int sequence = 0; sequence < chunks.size(); sequence++) {
+                String chunk = chunks.get(sequence);
+                long crc = computeChecksum(chunk);
+
+                if (sequence < checksums.length
+                        && checksums[sequence] != null
+                        && checksums[sequence][0] == chunk.length()
+                        && checksums[sequence][1] == crc) {
+                    continue;
+                }
+
+                replaceStatement.bindLong(1, memoId);
+                replaceStatement.bindLong(2, sequence);
+                replaceStatement.bindString(3, chunk);
+                replaceStatement.bindLong(4, chunk.length());
+                replaceStatement.bindLong(5, crc);
+                replaceStatement.executeInsert();
+                replaceStatement.clearBindings();
+            }
+        } finally {
+            replaceStatement.close();
+        }
+
+        if (checksums.length > chunks.size()) {
+            SQLiteStatement statement = database.compileStatement(SQL_DELETE_TRAILING_CHUNKS);
+            try {
+                statement.bindLong(1, memoId);
+                statement.bindLong(2, chunks.size());
+                statement.executeUpdateDelete();
+            } finally {
+                statement.close();
+            }
+        }
+
+        return memoId;
+    }
+
+    /**
+     * 分割して保存していたメモを分割せずに保存する形式へ戻し、不要となった分割単位を削除します。
+     * 分割して保存していないメモに対しては何も行いません。
+     * 当該メソッドは分割せずに本文を保存した後に呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     */
+    static void clear(SQLiteDatabase database, long memoId) {
+
+        SQLiteStatement statement = database.compileStatement(SQL_RESET_CHUNK_COUNT);
+        try {
+            statement.bindLong(1, memoId);
+
+            if (statement.executeUpdateDelete() == 0) {
+                return;
+            }
+        } finally {
+            statement.close();
+        }
+
+        statement = database.compileStatement(SQL_DELETE_CHUNKS);
+        try {
+            statement.bindLong(1, memoId);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * 本文を固定長の分割単位に区切り返却します。
+     * サロゲートペアが分割単位の境界で分断されないよう、境界の直前が上位サロゲートの場合は一文字手前で区切ります。
+     *
+     * @param memo 本文。
+     * @return 分割単位のリスト。
+     */
+    static List<String> splitIntoChunks(String memo) {
+
+        List<String> chunks = new ArrayList<>(memo.length() / CHUNK_SIZE + 1);
+        int start = 0;
+
+        while (start < memo.length()) {
+            int end = Math.min(start + CHUNK_SIZE, memo.length());
+
+            if (end < memo.length() && Character.isHighSurrogate(memo.charAt(end - 1))) {
+                end--;
+            }
+
+            chunks.add(memo.substring(start, end));
+            start = end;
+        }
+
+        return chunks;
+    }
+
+    /**
+     * 保存済みの分割単位の長さと検査値を順序毎に取得し返却します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @return 順序を添字とし、長さと検査値を要素とする配列。
+     */
+    private static long[][] selectChunkChecksums(SQLiteDatabase database, long memoId) {
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_CHUNK_CHECKSUMS, new String[]{String.valueOf(memoId)});
+
+        try {
+            List<long[]> rows = new ArrayList<>(cursor.getCount());
+            int maximumSequence = -1;
+
+            while (cursor.moveToNext()) {
+                rows.add(new long[]{cursor.getLong(0), cursor.getLong(1), cursor.getLong(2)});
+                maximumSequence = Math.max(maximumSequence, cursor.getInt(0));
+            }
+
+            long[][] checksums = new long[maximumSequence + 1][];
+            for (long[] row : rows) {
+                checksums[(int) row[0]] = new long[]{row[1], row[2]};
+            }
+
+            return checksums;
+
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 分割単位の検査値をCRC32で算出し返却します。
+     *
+     * @param chunk 分割単位の本文。
+     * @return 検査値。
+     */
+    private static long computeChecksum(String chunk) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(chunk.getBytes(CHARSET_CHUNK));
+        return crc32.getValue();
+    }
+}
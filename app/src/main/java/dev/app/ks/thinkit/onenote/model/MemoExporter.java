@@ -0,0 +1,245 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.framework.IProgressListener;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.IRecordVisitor;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.ProgressReporter;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoExporter.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 登録されている全てのメモをJSON形式で書き出す機能を定義したクラスです。
+ * <p>
+ * メモはキーセット方式のページングでID順に読み込みながら一件ずつ書き出すため、
+ * メモの件数に関わらず保持するメモは一ページ分に限られます。
+ * 書き出す形式は以下の通りで、{@link MemoImporter}で取り込むことができます。
+ * <pre>
+ * {
+ *   "format": "one_note_memos",
+ *   "version": 1,
+ *   "count": 2,
+ *   "memos": [
+ *     {"memo_name": "...", "memo": "...", "registered_datetime": 1571454000000, "updated_datetime": 1577804400000},
+ *     ...
+ *   ]
+ * }
+ * </pre>
+ * 日時はエポックミリ秒で書き出されます。
+ * countは書き出しを開始した時点の件数であり、進捗の表示にのみ使用されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoImporter
+ * @since 1.0
+ */
+public final class MemoExporter {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = MemoExporter.class.getName();
+
+    /**
+     * 形式の識別子を表す項目名。
+     */
+    static final String NAME_FORMAT = "format";
+
+    /**
+     * 形式の版を表す項目名。
+     */
+    static final String NAME_VERSION = "version";
+
+    /**
+     * メモの件数を表す項目名。
+     */
+    static final String NAME_COUNT = "count";
+
+    /**
+     * メモの配列を表す項目名。
+     */
+    static final String NAME_MEMOS = "memos";
+
+    /**
+     * メモ名を表す項目名。
+     */
+    static final String NAME_MEMO_NAME = "memo_name";
+
+    /**
+     * メモを表す項目名。
+     */
+    static final String NAME_MEMO = "memo";
+
+    /**
+     * 登録日時を表す項目名。
+     */
+    static final String NAME_REGISTERED_DATETIME = "registered_datetime";
+
+    /**
+     * 更新日時を表す項目名。
+     */
+    static final String NAME_UPDATED_DATETIME = "updated_datetime";
+
+    /**
+     * 形式の識別子。
+     */
+    static final String FORMAT = "one_note_memos";
+
+    /**
+     * 形式の版。
+     */
+    static final int VERSION = 1;
+
+    /**
+     * 進捗を通知する間隔の件数。
+     */
+    private static final int PROGRESS_INTERVAL = 100;
+
+    /**
+     * 書き出すメモを読み込むモデル。
+     */
+    private final MemoInformation memoInformation;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param context アプリケーション情報。
+     */
+    public MemoExporter(Context context) {
+        memoInformation = MemoInformation.getInstance(context);
+    }
+
+    /**
+     * 登録されている全てのメモを渡されたライターへJSON形式で書き出します。
+     * ライターは書き出しの完了後にフラッシュされますが、閉じられません。
+     *
+     * @param writer   書き出し先のライター。
+     * @param listener 進捗を受け取るリスナー。不要な場合は{@code null}。
+     * @return 書き出したメモの件数。
+     * @throws IOException              書き出しにおいて異常終了した際に発生します。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public int export(Writer writer, IProgressListener listener) throws IOException {
+        String methodName = "export";
+
+        if (writer == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        final ProgressReporter reporter = new ProgressReporter(listener);
+        final int total = memoInformation.countMemos();
+        final JsonWriter jsonWriter = new JsonWriter(new BufferedWriter(writer));
+
+        jsonWriter.beginObject();
+        jsonWriter.name(NAME_FORMAT).value(FORMAT);
+        jsonWriter.name(NAME_VERSION).value(VERSION);
+        jsonWriter.name(NAME_COUNT).value(total);
+        jsonWriter.name(NAME_MEMOS).beginArray();
+
+        final int[] countExported = {0};
+        final IOException[] failure = {null};
+
+        memoInformation.selectEachRow(new IRecordVisitor<MemoRowCursor>() {
+            @Override
+            public boolean visit(MemoRowCursor record) {
+                try {
+                    writeMemo(jsonWriter, record);
+                } catch (IOException e) {
+                    failure[0] = e;
+                    return false;
+                }
+
+                countExported[0]++;
+
+                if (countExported[0] % PROGRESS_INTERVAL == 0) {
+                    reporter.report(countExported[0], total);
+                }
+
+                return true;
+            }
+        });
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+
+        jsonWriter.endArray();
+        jsonWriter.endObject();
+        jsonWriter.flush();
+
+        reporter.report(countExported[0], total);
+        Logger.Info.write(TAG, methodName, "exported " + countExported[0] + " memos");
+
+        return countExported[0];
+    }
+
+    /**
+     * 登録されている全てのメモを渡されたライターへJSON形式で非同期に書き出します。
+     * 書き出した件数はメインスレッドでコールバックへ通知されるため、ライターはコールバックで閉じる必要があります。
+     *
+     * @param writer   書き出し先のライター。
+     * @param listener 進捗を受け取るリスナー。不要な場合は{@code null}。
+     * @param callback 処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #export(Writer, IProgressListener)
+     */
+    public QueryTask<Integer> exportAsync(
+            final Writer writer,
+            final IProgressListener listener,
+            IQueryCallback<Integer> callback) {
+
+        return DatabaseExecutor.getInstance().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                return export(writer, listener);
+            }
+        }, callback);
+    }
+
+    /**
+     * 現在行のメモを一件のJSONオブジェクトとして書き出します。
+     * 分割して保存されたメモは全ての分割単位を連結した本文を書き出します。
+     *
+     * @param jsonWriter 書き出し先のライター。
+     * @param record     現在行のメモ。
+     * @throws IOException 書き出しにおいて異常終了した際に発生します。
+     */
+    private void writeMemo(JsonWriter jsonWriter, MemoRowCursor record) throws IOException {
+
+        String memoName = record.getMemoName();
+        String memo = record.getMemo();
+
+        if (memo == null) {
+            memo = memoInformation.readMemo(record.getId());
+        }
+
+        jsonWriter.beginObject();
+        jsonWriter.name(NAME_MEMO_NAME).value(memoName);
+        jsonWriter.name(NAME_MEMO).value(memo != null ? memo : "");
+        jsonWriter.name(NAME_REGISTERED_DATETIME).value(record.getRegisteredDatetime());
+        jsonWriter.name(NAME_UPDATED_DATETIME).value(record.getUpdatedDatetime());
+        jsonWriter.endObject();
+    }
+}
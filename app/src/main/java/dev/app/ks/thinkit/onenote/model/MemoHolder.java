@@ -1,8 +1,12 @@
 package dev.app.ks.thinkit.onenote.model;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
 
 /**
  * ======================================================================
@@ -20,6 +24,11 @@ import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
  * 論理モデル名「メモ情報」を操作する際に使用するデータクラスです。
  * 当該データクラスの値の設定及び取得は、
  * GetterメソッドとSetterメソッドを介して行われます。
+ * <p>
+ * 保存済みのメモはIDで識別し、IDを保持しない場合に限りメモ名で識別します。
+ * 保存時に書き換えるカラムを変更されたカラムとして保持し、
+ * 既存のメモを更新する際は変更されたカラムのみを更新します。
+ * メモ名の変更や更新日時のみの更新では本文のカラムは書き換えられません。
  *
  * @author Kato Shinya
  * @version 1.0
@@ -28,6 +37,48 @@ import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
  */
 public final class MemoHolder extends ModelAccessor {
 
+    /**
+     * IDが採番されていないことを表す値です。
+     * IDは1から採番されるため、採番済みのIDと重複しません。
+     */
+    public static final long ID_UNASSIGNED = 0L;
+
+    /**
+     * 日時を指定せず、保存時の日時を使用することを表す値です。
+     */
+    public static final long DATETIME_UNSPECIFIED = 0L;
+
+    /**
+     * 本文を保存する際に変更されるカラムです。
+     * 保存形式、圧縮した本文及び先頭部分は本文から生成されるため本文と共に変更されます。
+     */
+    private static final Set<MemoColumnKey> COLUMNS_SAVE_MEMO = Collections.unmodifiableSet(EnumSet.of(
+            MemoColumnKey.Memo,
+            MemoColumnKey.MemoFormat,
+            MemoColumnKey.MemoCompressed,
+            MemoColumnKey.MemoSnippet,
+            MemoColumnKey.UpdatedDatetime));
+
+    /**
+     * メモ名を変更する際に変更されるカラムです。
+     */
+    private static final Set<MemoColumnKey> COLUMNS_RENAME = Collections.unmodifiableSet(EnumSet.of(
+            MemoColumnKey.MemoName,
+            MemoColumnKey.UpdatedDatetime));
+
+    /**
+     * 更新日時のみを更新する際に変更されるカラムです。
+     */
+    private static final Set<MemoColumnKey> COLUMNS_TOUCH = Collections.unmodifiableSet(EnumSet.of(
+            MemoColumnKey.UpdatedDatetime));
+
+    /**
+     * IDを格納するフィールドです。
+     *
+     * @see #getId()
+     */
+    private final long id;
+
     /**
      * メモ名を格納するフィールドです。
      *
@@ -42,27 +93,176 @@ public final class MemoHolder extends ModelAccessor {
      */
     private final String memo;
 
+    /**
+     * 登録日時を格納するフィールドです。
+     *
+     * @see #getRegisteredDatetime()
+     */
+    private final long registeredDatetime;
+
+    /**
+     * 更新日時を格納するフィールドです。
+     *
+     * @see #getUpdatedDatetime()
+     */
+    private final long updatedDatetime;
+
+    /**
+     * 変更されたカラムを格納するフィールドです。
+     *
+     * @see #getModifiedColumns()
+     */
+    private final Set<MemoColumnKey> modifiedColumns;
+
     /**
      * 当該データクラスのコンストラクタ。
      * 当該コンストラクタで各フィールドに値を設定します。
+     * 登録日時及び更新日時には保存時の日時が使用されます。
+     * IDを保持しないため、保存済みのメモはメモ名で識別されます。
      *
      * @param memoName メモ名。
      * @param memo     メモ。
      */
     public MemoHolder(String memoName, String memo) {
+        this(memoName, memo, DATETIME_UNSPECIFIED, DATETIME_UNSPECIFIED);
+    }
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     * 取り込んだメモのように、保存時の日時ではなく元の日時を維持する場合に使用します。
+     * IDを保持しないため、保存済みのメモはメモ名で識別されます。
+     *
+     * @param memoName           メモ名。
+     * @param memo               メモ。
+     * @param registeredDatetime 登録日時のエポックミリ秒。保存時の日時を使用する場合は{@link #DATETIME_UNSPECIFIED}。
+     * @param updatedDatetime    更新日時のエポックミリ秒。保存時の日時を使用する場合は{@link #DATETIME_UNSPECIFIED}。
+     */
+    public MemoHolder(String memoName, String memo, long registeredDatetime, long updatedDatetime) {
+        this(ID_UNASSIGNED, memoName, memo, registeredDatetime, updatedDatetime, createSaveColumns(registeredDatetime));
+
         if (memoName == null || memo == null) {
             // should not be happened
             throw new IllegalArgumentException();
         }
+    }
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     * 編集中のメモのように、IDが採番済みのメモの本文を保存する場合に使用します。
+     * 更新日時には保存時の日時が使用されます。
+     *
+     * @param id       ID。
+     * @param memoName メモ名。
+     * @param memo     メモ。
+     */
+    public MemoHolder(long id, String memoName, String memo) {
+        this(id, memoName, memo, DATETIME_UNSPECIFIED, DATETIME_UNSPECIFIED, COLUMNS_SAVE_MEMO);
+
+        if (id == ID_UNASSIGNED || memoName == null || memo == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     *
+     * @param id                 ID。採番されていない場合は{@link #ID_UNASSIGNED}。
+     * @param memoName           メモ名。メモ名を変更しない場合は{@code null}。
+     * @param memo               メモ。本文を変更しない場合は{@code null}。
+     * @param registeredDatetime 登録日時のエポックミリ秒。
+     * @param updatedDatetime    更新日時のエポックミリ秒。
+     * @param modifiedColumns    変更されたカラム。
+     */
+    private MemoHolder(
+            long id,
+            String memoName,
+            String memo,
+            long registeredDatetime,
+            long updatedDatetime,
+            Set<MemoColumnKey> modifiedColumns) {
 
+        this.id = id;
         this.memoName = memoName;
         this.memo = memo;
+        this.registeredDatetime = registeredDatetime;
+        this.updatedDatetime = updatedDatetime;
+        this.modifiedColumns = modifiedColumns;
+    }
+
+    /**
+     * メモ名のみを変更するデータクラスを生成します。
+     * 本文は変更されず、更新日時には保存時の日時が使用されます。
+     *
+     * @param id          ID。
+     * @param newMemoName 変更後のメモ名。
+     * @return メモ名のみを変更するデータクラス。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static MemoHolder rename(long id, String newMemoName) {
+
+        if (id == ID_UNASSIGNED || newMemoName == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return new MemoHolder(id, newMemoName, null, DATETIME_UNSPECIFIED, DATETIME_UNSPECIFIED, COLUMNS_RENAME);
+    }
+
+    /**
+     * 更新日時のみを更新するデータクラスを生成します。
+     * 本文は変更されず、更新日時には保存時の日時が使用されます。
+     *
+     * @param id ID。
+     * @return 更新日時のみを更新するデータクラス。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public static MemoHolder touch(long id) {
+
+        if (id == ID_UNASSIGNED) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return new MemoHolder(id, null, null, DATETIME_UNSPECIFIED, DATETIME_UNSPECIFIED, COLUMNS_TOUCH);
+    }
+
+    /**
+     * 本文を保存する際に変更されるカラムを返却します。
+     * 登録日時は指定された場合に限り変更し、既存のメモの登録日時を維持します。
+     *
+     * @param registeredDatetime 登録日時のエポックミリ秒。
+     * @return 変更されるカラム。
+     */
+    private static Set<MemoColumnKey> createSaveColumns(long registeredDatetime) {
+
+        if (registeredDatetime == DATETIME_UNSPECIFIED) {
+            return COLUMNS_SAVE_MEMO;
+        }
+
+        EnumSet<MemoColumnKey> columns = EnumSet.copyOf(COLUMNS_SAVE_MEMO);
+        columns.add(MemoColumnKey.RegisteredDatetime);
+
+        return Collections.unmodifiableSet(columns);
+    }
+
+    /**
+     * IDを返却するGetterメソッドです。
+     *
+     * @return ID。採番されていない場合は{@link #ID_UNASSIGNED}。
+     * @see #hasId()
+     */
+    public long getId() {
+        return id;
     }
 
     /**
      * メモ名を返却するGetterメソッドです。
      *
-     * @return メモ名。
+     * @return メモ名。IDのみで識別し、メモ名を変更しない場合は{@code null}。
      */
     public String getMemoName() {
         return memoName;
@@ -71,17 +271,68 @@ public final class MemoHolder extends ModelAccessor {
     /**
      * メモを返却するメソッドです。
      *
-     * @return メモ。
+     * @return メモ。本文を変更しない場合は{@code null}。
+     * @see #hasMemo()
      */
     public String getMemo() {
         return memo;
     }
 
+    /**
+     * 登録日時を返却するGetterメソッドです。
+     *
+     * @return エポックミリ秒。保存時の日時を使用する場合は{@link #DATETIME_UNSPECIFIED}。
+     */
+    public long getRegisteredDatetime() {
+        return registeredDatetime;
+    }
+
+    /**
+     * 更新日時を返却するGetterメソッドです。
+     *
+     * @return エポックミリ秒。保存時の日時を使用する場合は{@link #DATETIME_UNSPECIFIED}。
+     */
+    public long getUpdatedDatetime() {
+        return updatedDatetime;
+    }
+
+    /**
+     * 変更されたカラムを返却するGetterメソッドです。
+     *
+     * @return 変更されたカラム。返却した集合は変更できません。
+     */
+    public Set<MemoColumnKey> getModifiedColumns() {
+        return modifiedColumns;
+    }
+
+    /**
+     * IDを保持しているか判定します。
+     *
+     * @return IDを保持している場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean hasId() {
+        return id != ID_UNASSIGNED;
+    }
+
+    /**
+     * 本文を保持しているか判定します。
+     * 本文を保持していない場合は既存のメモの更新にのみ使用でき、新規に登録することはできません。
+     *
+     * @return 本文を保持している場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean hasMemo() {
+        return memo != null;
+    }
+
     @Override
     public String toString() {
         return "MemoHolder{" +
-                "memoName='" + memoName + '\'' +
+                "id=" + id +
+                ", memoName='" + memoName + '\'' +
                 ", memo='" + memo + '\'' +
+                ", registeredDatetime=" + registeredDatetime +
+                ", updatedDatetime=" + updatedDatetime +
+                ", modifiedColumns=" + modifiedColumns +
                 '}';
     }
 
@@ -94,12 +345,16 @@ public final class MemoHolder extends ModelAccessor {
             return false;
         }
         MemoHolder that = (MemoHolder) o;
-        return Objects.equals(getMemoName(), that.getMemoName()) &&
-                Objects.equals(getMemo(), that.getMemo());
+        return getId() == that.getId() &&
+                getRegisteredDatetime() == that.getRegisteredDatetime() &&
+                getUpdatedDatetime() == that.getUpdatedDatetime() &&
+                Objects.equals(getMemoName(), that.getMemoName()) &&
+                Objects.equals(getMemo(), that.getMemo()) &&
+                Objects.equals(getModifiedColumns(), that.getModifiedColumns());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getMemoName(), getMemo());
+        return Objects.hash(getId(), getMemoName(), getMemo(), getRegisteredDatetime(), getUpdatedDatetime(), getModifiedColumns());
     }
 }
@@ -0,0 +1,237 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.content.Context;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import dev.app.ks.thinkit.onenote.framework.IProgressListener;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.Logger;
+import dev.app.ks.thinkit.onenote.framework.ProgressReporter;
+import dev.app.ks.thinkit.onenote.framework.model.executor.DatabaseExecutor;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoImporter.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * {@link MemoExporter}で書き出したJSON形式のメモを取り込む機能を定義したクラスです。
+ * <p>
+ * メモは一件ずつ読み込み、指定された件数に達する毎に単一のトランザクションで保存します。
+ * 保持するメモは一度に保存する件数分に限られるため、取り込むメモの件数に関わらず使用するメモリは一定です。
+ * 同一のメモ名のメモが既に存在する場合は取り込んだメモで置き換えられ、
+ * 取り込んだメモの登録日時及び更新日時は書き出した時点の日時が維持されます。
+ * <p>
+ * 途中で異常終了した場合、それまでに確定したトランザクションのメモは取り込まれた状態となります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoExporter
+ * @since 1.0
+ */
+public final class MemoImporter {
+
+    /**
+     * クラス名。
+     */
+    private static final String TAG = MemoImporter.class.getName();
+
+    /**
+     * 単一のトランザクションで保存するメモの件数の既定値。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 取り込んだメモを保存するモデル。
+     */
+    private final MemoInformation memoInformation;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param context アプリケーション情報。
+     */
+    public MemoImporter(Context context) {
+        memoInformation = MemoInformation.getInstance(context);
+    }
+
+    /**
+     * 渡されたリーダーからJSON形式のメモを読み込み保存します。
+     * リーダーは閉じられません。
+     *
+     * @param reader    読み込み元のリーダー。
+     * @param batchSize 単一のトランザクションで保存するメモの件数。
+     * @param listener  進捗を受け取るリスナー。不要な場合は{@code null}。
+     * @return 取り込んだメモの件数。
+     * @throws IOException              読み込みにおいて異常終了した際、または形式が不正な場合に発生します。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see #DEFAULT_BATCH_SIZE
+     */
+    public int importFrom(Reader reader, int batchSize, IProgressListener listener) throws IOException {
+        String methodName = "importFrom";
+
+        if (reader == null
+                || batchSize <= 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        ProgressReporter reporter = new ProgressReporter(listener);
+        JsonReader jsonReader = new JsonReader(new BufferedReader(reader));
+        List<MemoHolder> batch = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+        int total = 0;
+        int countImported = 0;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (MemoExporter.NAME_FORMAT.equals(name)) {
+                String format = jsonReader.nextString();
+
+                if (!MemoExporter.FORMAT.equals(format)) {
+                    throw new IOException("unsupported format " + format);
+                }
+
+            } else if (MemoExporter.NAME_VERSION.equals(name)) {
+                int version = jsonReader.nextInt();
+
+                if (version > MemoExporter.VERSION) {
+                    throw new IOException("unsupported version " + version);
+                }
+
+            } else if (MemoExporter.NAME_COUNT.equals(name)) {
+                total = jsonReader.nextInt();
+
+            } else if (MemoExporter.NAME_MEMOS.equals(name)) {
+                jsonReader.beginArray();
+
+                while (jsonReader.hasNext()) {
+                    batch.add(readMemo(jsonReader));
+
+                    if (batch.size() >= batchSize) {
+                        countImported += writeBatch(batch);
+                        reporter.report(countImported, total);
+                    }
+                }
+
+                jsonReader.endArray();
+
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+
+        jsonReader.endObject();
+
+        countImported += writeBatch(batch);
+        reporter.report(countImported, total);
+        Logger.Info.write(TAG, methodName, "imported " + countImported + " memos");
+
+        return countImported;
+    }
+
+    /**
+     * 渡されたリーダーからJSON形式のメモを非同期で読み込み保存します。
+     * 取り込んだ件数はメインスレッドでコールバックへ通知されるため、リーダーはコールバックで閉じる必要があります。
+     *
+     * @param reader    読み込み元のリーダー。
+     * @param batchSize 単一のトランザクションで保存するメモの件数。
+     * @param listener  進捗を受け取るリスナー。不要な場合は{@code null}。
+     * @param callback  処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #importFrom(Reader, int, IProgressListener)
+     */
+    public QueryTask<Integer> importFromAsync(
+            final Reader reader,
+            final int batchSize,
+            final IProgressListener listener,
+            IQueryCallback<Integer> callback) {
+
+        return DatabaseExecutor.getInstance().submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws IOException {
+                return importFrom(reader, batchSize, listener);
+            }
+        }, callback);
+    }
+
+    /**
+     * 一件のJSONオブジェクトからメモ情報を読み込みます。
+     * 未知の項目は読み飛ばし、日時が存在しない場合は保存時の日時を使用します。
+     *
+     * @param jsonReader 読み込み元のリーダー。
+     * @return 読み込んだメモ情報。
+     * @throws IOException 読み込みにおいて異常終了した際、またはメモ名が存在しない場合に発生します。
+     */
+    private static MemoHolder readMemo(JsonReader jsonReader) throws IOException {
+
+        String memoName = null;
+        String memo = "";
+        long registeredDatetime = MemoHolder.DATETIME_UNSPECIFIED;
+        long updatedDatetime = MemoHolder.DATETIME_UNSPECIFIED;
+
+        jsonReader.beginObject();
+
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+
+            if (MemoExporter.NAME_MEMO_NAME.equals(name)) {
+                memoName = jsonReader.nextString();
+            } else if (MemoExporter.NAME_MEMO.equals(name)) {
+                memo = jsonReader.nextString();
+            } else if (MemoExporter.NAME_REGISTERED_DATETIME.equals(name)) {
+                registeredDatetime = jsonReader.nextLong();
+            } else if (MemoExporter.NAME_UPDATED_DATETIME.equals(name)) {
+                updatedDatetime = jsonReader.nextLong();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+
+        jsonReader.endObject();
+
+        if (memoName == null || memoName.isEmpty()) {
+            throw new IOException("memo_name is missing at " + jsonReader.getPath());
+        }
+
+        return new MemoHolder(memoName, memo, registeredDatetime, updatedDatetime);
+    }
+
+    /**
+     * 蓄積したメモを単一のトランザクションで保存し、蓄積したメモを破棄します。
+     *
+     * @param batch 蓄積したメモ。
+     * @return 保存したメモの件数。
+     * @see MemoInformation#replace(List)
+     */
+    private int writeBatch(List<MemoHolder> batch) {
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int countWritten = batch.size();
+        memoInformation.replace(batch);
+        batch.clear();
+
+        return countWritten;
+    }
+}
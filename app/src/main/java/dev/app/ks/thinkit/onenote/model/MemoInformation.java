@@ -3,17 +3,46 @@ package dev.app.ks.thinkit.onenote.model;
 import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteConstraintException;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 
-import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
+import dev.app.ks.thinkit.onenote.framework.IBatchWriter;
+import dev.app.ks.thinkit.onenote.framework.ICursorReader;
+import dev.app.ks.thinkit.onenote.framework.IQueryCallback;
+import dev.app.ks.thinkit.onenote.framework.IRecordBinder;
+import dev.app.ks.thinkit.onenote.framework.IRecordVisitor;
+import dev.app.ks.thinkit.onenote.framework.IRowVisitor;
+import dev.app.ks.thinkit.onenote.framework.IStatementBinder;
+import dev.app.ks.thinkit.onenote.framework.ITransaction;
 import dev.app.ks.thinkit.onenote.framework.ModelList;
 import dev.app.ks.thinkit.onenote.framework.ModelMap;
+import dev.app.ks.thinkit.onenote.framework.StringChecker;
 import dev.app.ks.thinkit.onenote.framework.model.BaseModel;
-import dev.app.ks.thinkit.onenote.framework.model.holder.InsertHolder;
-import dev.app.ks.thinkit.onenote.framework.model.holder.SelectHolder;
+import dev.app.ks.thinkit.onenote.framework.model.ModelCache;
+import dev.app.ks.thinkit.onenote.framework.model.ModelResult;
+import dev.app.ks.thinkit.onenote.framework.model.FullTextSearchHandler;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.StatementKey;
+import dev.app.ks.thinkit.onenote.framework.model.executor.QueryTask;
+import dev.app.ks.thinkit.onenote.framework.model.executor.WriteBehindQueue;
+import dev.app.ks.thinkit.onenote.framework.model.holder.KeysetHolder;
 import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
 import dev.app.ks.thinkit.onenote.model.property.Table;
 
-public final class MemoInformation extends BaseModel {
+public final class MemoInformation extends BaseModel<MemoColumnKey> {
 
     /**
      * クラス名を保持する。
@@ -28,6 +57,230 @@ public final class MemoInformation extends BaseModel {
      */
     private static MemoInformation thisInstance = null;
 
+    /**
+     * メモ情報の全カラムを保持する。
+     * ステートメントのカラム順序と値の設定順序は当該配列の順序に従う。
+     */
+    private static final MemoColumnKey[] MEMO_COLUMN_KEYS = MemoColumnKey.values();
+
+    /**
+     * コンパイル済みのステートメントへメモ情報を設定する処理を保持する。
+     */
+    private static final IStatementBinder<MemoHolder> MEMO_STATEMENT_BINDER = new IStatementBinder<MemoHolder>() {
+        @Override
+        public void bind(SQLiteStatement statement, MemoHolder memoHolder) {
+            for (int i = 0; i < MEMO_COLUMN_KEYS.length; i++) {
+                MEMO_COLUMN_KEYS[i].bindStatement(statement, i + 1, memoHolder);
+            }
+        }
+    };
+
+    /**
+     * 更新処理のステートメントへメモ情報を設定する処理を保持する。
+     * 更新対象のIDを1番目に、変更されたカラムの値を2番目以降に設定する。
+     * IDを保持しないメモ情報はIDの代わりにメモ名を1番目に設定する。
+     *
+     * @see MemoHolder#getModifiedColumns()
+     */
+    private static final IStatementBinder<MemoHolder> MEMO_UPDATE_BINDER = new IStatementBinder<MemoHolder>() {
+        @Override
+        public void bind(SQLiteStatement statement, MemoHolder memoHolder) {
+            if (memoHolder.hasId()) {
+                statement.bindLong(1, memoHolder.getId());
+            } else {
+                statement.bindString(1, memoHolder.getMemoName());
+            }
+
+            int index = 2;
+            for (MemoColumnKey column : memoHolder.getModifiedColumns()) {
+                column.bindStatement(statement, index++, memoHolder);
+            }
+        }
+    };
+
+    /**
+     * アーカイブを含めて全レコードを取得するSQL文の書式を保持する。
+     */
+    private static final String FORMAT_SQL_SELECT_ALL = "SELECT * FROM %s";
+
+    /**
+     * アーカイブを含めて全レコードをID順に取得するSQL文の書式を保持する。
+     */
+    private static final String FORMAT_SQL_SELECT_ALL_ORDER_BY_ID = String.format(
+            "SELECT * FROM %%s ORDER BY %s",
+            MemoColumnKey.Id.getKeyName());
+
+    /**
+     * 一覧の表示に必要なカラムのみを更新日時の新しい順に取得するSQL文を保持する。
+     * 本文を読み込まないため、件数に関わらず一件あたりの読み込み量は先頭部分の長さに限られる。
+     * 並び替えは更新日時のインデックスを逆順に走査して行われ、一時的な並び替えを必要としない。
+     */
+    private static final String SQL_SELECT_SUMMARIES = String.format(
+            "SELECT %s, %s, %s, %s FROM %s ORDER BY %s DESC, %s DESC",
+            MemoColumnKey.Id.getKeyName(),
+            MemoColumnKey.MemoName.getKeyName(),
+            MemoColumnKey.UpdatedDatetime.getKeyName(),
+            MemoColumnKey.MemoSnippet.getKeyName(),
+            Table.MemoInformation.getName(),
+            MemoColumnKey.UpdatedDatetime.getKeyName(),
+            MemoColumnKey.Id.getKeyName());
+
+    /**
+     * アーカイブを含めてメモの件数を取得するSQL文の書式を保持する。
+     */
+    private static final String FORMAT_SQL_COUNT_MEMOS = "SELECT COUNT(*) FROM %s";
+
+    /**
+     * 全文検索で一度に取得できる件数の上限を保持する。
+     * 抜粋の取得時にIDをプレースホルダで渡すため、SQLiteの変数の上限を超えない値とする。
+     */
+    public static final int MAXIMUM_SEARCH_LIMIT = 100;
+
+    /**
+     * 全文検索の結果を関連度の高い順に並べる比較処理を保持する。
+     */
+    private static final Comparator<MemoSearchResult> SEARCH_RESULT_COMPARATOR = new Comparator<MemoSearchResult>() {
+        @Override
+        public int compare(MemoSearchResult result1, MemoSearchResult result2) {
+            int compared = Double.compare(result2.getScore(), result1.getScore());
+            return compared != 0 ? compared : Long.compare(result1.getId(), result2.getId());
+        }
+    };
+
+    /**
+     * メモ名に紐付くメモのIDを取得するSQL文を保持する。
+     */
+    private static final String SQL_SELECT_MEMO_ID = String.format(
+            "SELECT id FROM %s WHERE memo_name = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * 圧縮せずに保存された既存のメモを一度のトランザクションで圧縮する件数を保持する。
+     * 圧縮対象の本文を一括で読み込むため、分割の閾値以下の本文でもメモリを圧迫しない件数とする。
+     */
+    private static final int COMPRESSION_BATCH_SIZE = 16;
+
+    /**
+     * 圧縮せずに保存された既存のメモのうち、圧縮の対象となるメモを取得するSQL文を保持する。
+     */
+    private static final String SQL_SELECT_COMPRESSION_TARGETS = String.format(
+            "SELECT id, memo FROM %s WHERE memo_format = %d AND chunk_count = 0 AND LENGTH(memo) > %d"
+                    + " ORDER BY id LIMIT %d",
+            Table.MemoInformation.getName(),
+            MemoColumnKey.FORMAT_TEXT,
+            MemoColumnKey.THRESHOLD_COMPRESSION,
+            COMPRESSION_BATCH_SIZE);
+
+    /**
+     * 既存のメモを圧縮した本文に置き換えるSQL文を保持する。
+     */
+    private static final String SQL_UPDATE_TO_COMPRESSED = String.format(
+            "UPDATE %s SET memo = NULL, memo_format = ?, memo_compressed = ? WHERE id = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * 圧縮して保存された既存のメモのうち、先頭部分が生成されていないメモを取得するSQL文を保持する。
+     */
+    private static final String SQL_SELECT_SNIPPET_TARGETS = String.format(
+            "SELECT id, memo_compressed FROM %s WHERE memo_format = %d AND memo_snippet IS NULL"
+                    + " ORDER BY id LIMIT %d",
+            Table.MemoInformation.getName(),
+            MemoColumnKey.FORMAT_DEFLATE,
+            COMPRESSION_BATCH_SIZE);
+
+    /**
+     * 既存のメモの先頭部分を設定するSQL文を保持する。
+     */
+    private static final String SQL_UPDATE_SNIPPET = String.format(
+            "UPDATE %s SET memo_snippet = ? WHERE id = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブへ移動する対象とする、最後に更新されてからの経過ミリ秒を保持する。
+     */
+    static final long ARCHIVE_AGE_MILLIS = 180L * 24L * 60L * 60L * 1000L;
+
+    /**
+     * アーカイブに同名のメモが存在する場合に発生させる例外のメッセージを保持する。
+     * 元のテーブルのメモ名の一意制約に違反した場合と同一のメッセージとする。
+     */
+    private static final String MESSAGE_DUPLICATE_MEMO_NAME = String.format(
+            "UNIQUE constraint failed: %s.%s",
+            Table.MemoInformation.getName(),
+            MemoColumnKey.MemoName.getKeyName());
+
+    /**
+     * IDに紐付くメモが存在するか確認するSQL文を保持する。
+     */
+    private static final String SQL_EXISTS_MEMO = String.format(
+            "SELECT 1 FROM %s WHERE id = ?",
+            Table.MemoInformation.getName());
+
+    /**
+     * 長期間更新されていないメモのアーカイブへの移動を実行スレッドへ投入済みであるかを保持する。
+     */
+    private final AtomicBoolean archiveScheduled = new AtomicBoolean(false);
+
+    /**
+     * 既存のメモの圧縮を実行スレッドへ投入済みであるかを保持する。
+     */
+    private final AtomicBoolean compressionScheduled = new AtomicBoolean(false);
+
+    /**
+     * 自動保存の最初の要求から一括反映を開始するまでのミリ秒を保持する。
+     */
+    private static final long AUTOSAVE_DELAY_MILLIS = 2000L;
+
+    /**
+     * 自動保存の一括反映を即時に開始する蓄積件数を保持する。
+     */
+    private static final int AUTOSAVE_THRESHOLD = 16;
+
+    /**
+     * メモ名による検索結果のキャッシュが保持できる文字数の上限。
+     */
+    private static final int MAXIMUM_CACHE_SIZE = 1024 * 1024;
+
+    /**
+     * 自動保存の要求をメモのID毎にまとめて反映する遅延書き込み用のキューを保持する。
+     */
+    private final WriteBehindQueue<MemoHolder> autosaveQueue;
+
+    /**
+     * メモの版の保存及び保持に関する方針を保持する。
+     */
+    private volatile RevisionPolicy revisionPolicy = RevisionPolicy.DEFAULT;
+
+    /**
+     * カーソルの現在行をメモ情報として参照するオブジェクトを生成する処理を保持する。
+     */
+    private final IRecordBinder<MemoRowCursor> memoRowBinder = new IRecordBinder<MemoRowCursor>() {
+        @Override
+        public MemoRowCursor bind(Cursor cursor) {
+            return new MemoRowCursor(cursor, autosaveQueue);
+        }
+    };
+
+    /**
+     * 挿入処理のステートメントキーを保持する。
+     */
+    private final StatementKey insertStatementKey;
+
+    /**
+     * 更新対象を特定するカラムと変更されたカラムの組み合わせ毎に更新処理のステートメントキーを保持する。
+     */
+    private final Map<List<MemoColumnKey>, StatementKey> updateStatementKeys = new ConcurrentHashMap<>();
+
+    /**
+     * メモ名による検索のステートメントキーを保持する。
+     */
+    private final StatementKey selectByPrimaryKeyStatementKey;
+
+    /**
+     * IDによる検索のステートメントキーを保持する。
+     */
+    private final StatementKey selectByIdStatementKey;
+
     /**
      * 当該クラスのコンストラクタ。
      * 当該クラスにシングルトンパターンを適用するため修飾子をprivate指定する。
@@ -36,19 +289,33 @@ public final class MemoInformation extends BaseModel {
      * @see #getInstance(Context)
      */
     private MemoInformation(Context context) {
-        super(context, Table.MemoInformation);
+        super(context, Table.MemoInformation, MemoColumnKey.class);
+
+        insertStatementKey = createStatementKey(StatementKey.Operation.Insert, MEMO_COLUMN_KEYS);
+        selectByPrimaryKeyStatementKey = createStatementKey(StatementKey.Operation.SelectByPrimaryKey, MemoColumnKey.MemoName);
+        selectByIdStatementKey = createStatementKey(StatementKey.Operation.SelectByPrimaryKey, MemoColumnKey.Id);
+        setModelCache(new ModelCache<>(MemoColumnKey.class, MAXIMUM_CACHE_SIZE));
+        enableArchiveTier(MemoColumnKey.Id);
+
+        autosaveQueue = new WriteBehindQueue<>(new IBatchWriter<MemoHolder>() {
+            @Override
+            public void writeAll(List<MemoHolder> memoHolderList) {
+                replace(memoHolderList);
+            }
+        }, AUTOSAVE_DELAY_MILLIS, AUTOSAVE_THRESHOLD);
     }
 
     /**
      * 当該クラスのインスタンスを返却する。
      * 初回実行時に当該クラスのインスタンスを生成した後に返却し、
      * 初回以降に実行された際には初回時に生成されたインスタンスを返却する。
+     * 複数のスレッドから同時に初回の実行が行われた場合でもインスタンスは一つのみ生成する。
      *
      * @param context アプリケーション情報。
      * @return 当該クラスのインスタンス。
      * @see #MemoInformation(Context)
      */
-    public static MemoInformation getInstance(Context context) {
+    public static synchronized MemoInformation getInstance(Context context) {
 
         if (thisInstance == null) {
             thisInstance = new MemoInformation(context);
@@ -58,33 +325,107 @@ public final class MemoInformation extends BaseModel {
     }
 
     /**
-     * 渡された引数の情報を基にレコードの検索処理を実行します。
-     * 検索結果はモデルリストに格納され、
-     * {@code getModelInfo()}を実行することで取得できます。
+     * 自動保存の要求を識別するキーを返却します。
+     * 要求はメモのID毎に最新の内容だけが保持されます。
+     *
+     * @param memoId メモのID。
+     * @return 自動保存の要求を識別するキー。
+     */
+    static String toAutosaveKey(long memoId) {
+        return String.valueOf(memoId);
+    }
+
+    /**
+     * アーカイブへ移動したメモを含めて全レコードの検索処理を実行し、検索結果を返却します。
      *
-     * @see BaseModel#select(SelectHolder)
+     * @return 呼び出し毎に生成された検索結果。
+     * @see BaseModel#rawQueryAllTiers(String, String[], ICursorReader)
      * @see #onPostSelect(Cursor)
-     * @see #getModelInfo()
      */
-    public void selectAll() {
-        SelectHolder selectHolder = new SelectHolder();
-        selectHolder.setColumns(null);
+    public ModelResult<MemoColumnKey> selectAll() {
+        return super.rawQueryAllTiers(FORMAT_SQL_SELECT_ALL, null, new ICursorReader<ModelResult<MemoColumnKey>>() {
+            @Override
+            public ModelResult<MemoColumnKey> read(Cursor cursor) {
+                return createResult(onPostSelect(cursor));
+            }
+        });
+    }
+
+    /**
+     * 全レコードの検索処理を非同期で実行します。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param callback 検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #selectAll()
+     */
+    public QueryTask<ModelResult<MemoColumnKey>> selectAllAsync(IQueryCallback<ModelResult<MemoColumnKey>> callback) {
+        return super.executeAsync(new Callable<ModelResult<MemoColumnKey>>() {
+            @Override
+            public ModelResult<MemoColumnKey> call() {
+                return selectAll();
+            }
+        }, callback);
+    }
 
-        super.select(selectHolder);
+    /**
+     * IDを基にレコードの検索処理を行い、検索結果を返却します。
+     * <p>
+     * 自動保存の反映を待っているメモは反映待ちの内容を検索結果とします。
+     * 検索結果はID毎にキャッシュされ、保存、自動保存の要求及び削除によって無効化されます。
+     * アーカイブへ移動したメモも検索の対象となります。
+     *
+     * @param memoId メモのID。
+     * @return 呼び出し毎に生成された検索結果。
+     * @see BaseModel#selectById(StatementKey, long)
+     * @see #onPostSelectRow(Cursor)
+     */
+    public ModelResult<MemoColumnKey> selectById(long memoId) {
+        return super.selectById(selectByIdStatementKey, memoId);
     }
 
     /**
-     * プライマリキーを基にレコードの検索処理を行います。
-     * 検索結果はモデルリストに格納され、
-     * {@code getModelInfo()}を実行することで取得できます。
+     * IDを基にレコードの検索処理を非同期で行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
      *
-     * @param primaryKey 主キー。
-     * @see BaseModel#selectByPrimaryKey(IModelMapKey, String)
-     * @see #onPostSelect(Cursor)
-     * @see #getModelInfo()
+     * @param memoId   メモのID。
+     * @param callback 検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see BaseModel#selectByIdAsync(StatementKey, long, IQueryCallback)
+     */
+    public QueryTask<ModelResult<MemoColumnKey>> selectByIdAsync(
+            long memoId,
+            IQueryCallback<ModelResult<MemoColumnKey>> callback) {
+        return super.selectByIdAsync(selectByIdStatementKey, memoId, callback);
+    }
+
+    /**
+     * メモ名を基にレコードの検索処理を行い、検索結果を返却します。
+     * 取り込み時の重複の確認など、IDが不明なメモの検索に使用します。
+     * 検索結果はキャッシュされません。アーカイブへ移動したメモも検索の対象となります。
+     *
+     * @param primaryKey メモ名。
+     * @return 呼び出し毎に生成された検索結果。
+     * @see BaseModel#selectByPrimaryKey(StatementKey, String)
+     * @see #selectById(long)
+     */
+    public ModelResult<MemoColumnKey> selectByPrimaryKey(String primaryKey) {
+        return super.selectByPrimaryKey(selectByPrimaryKeyStatementKey, primaryKey);
+    }
+
+    /**
+     * メモ名を基にレコードの検索処理を非同期で行います。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param primaryKey メモ名。
+     * @param callback   検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see BaseModel#selectByPrimaryKeyAsync(StatementKey, String, IQueryCallback)
      */
-    public void selectByPrimaryKey(String primaryKey) {
-        super.selectByPrimaryKey(MemoColumnKey.MemoName, primaryKey);
+    public QueryTask<ModelResult<MemoColumnKey>> selectByPrimaryKeyAsync(
+            String primaryKey,
+            IQueryCallback<ModelResult<MemoColumnKey>> callback) {
+        return super.selectByPrimaryKeyAsync(selectByPrimaryKeyStatementKey, primaryKey, callback);
     }
 
     @Override
@@ -93,16 +434,8 @@ public final class MemoInformation extends BaseModel {
         ModelList<ModelMap<MemoColumnKey, Object>> modelInfo = new ModelList<>(cursor.getCount());
 
         if (cursor.moveToFirst()) {
-            MemoColumnKey[] overviewColumnKeys = MemoColumnKey.values();
-
             for (int i = 0, countRecords = cursor.getCount(); i < countRecords; i++) {
-                ModelMap<MemoColumnKey, Object> modelMap = new ModelMap<>(MemoColumnKey.class);
-
-                for (MemoColumnKey column : overviewColumnKeys) {
-                    column.setModelMap(cursor, modelMap);
-                }
-
-                modelInfo.add(modelMap);
+                modelInfo.add(onPostSelectRow(cursor));
                 cursor.moveToNext();
             }
         }
@@ -110,50 +443,1574 @@ public final class MemoInformation extends BaseModel {
         return modelInfo;
     }
 
+    @Override
+    protected ModelMap<MemoColumnKey, Object> onPostSelectRow(Cursor cursor) {
+
+        ModelMap<MemoColumnKey, Object> modelMap = new ModelMap<>(MemoColumnKey.class);
+
+        for (MemoColumnKey column : MEMO_COLUMN_KEYS) {
+            column.setModelMap(cursor, modelMap);
+        }
+
+        // 自動保存の反映を待っているメモは反映待ちの内容を優先する
+        MemoHolder pendingMemo = autosaveQueue.peek(toAutosaveKey(modelMap.getLong(MemoColumnKey.Id)));
+
+        if (pendingMemo != null) {
+            modelMap.put(MemoColumnKey.Memo, pendingMemo.getMemo());
+        }
+
+        return modelMap;
+    }
+
+    /**
+     * アーカイブへ移動したメモを含めて全レコードをID順に一行ずつビジターへ渡します。
+     * 検索結果はモデルリストへ格納されないため、
+     * レコード数に関わらず一定のメモリで全レコードを走査できます。
+     *
+     * @param visitor 検索結果を受け取るビジター。
+     * @see BaseModel#selectEach(KeysetHolder, IRowVisitor)
+     */
+    public void selectEach(IRowVisitor<MemoColumnKey> visitor) {
+        KeysetHolder<MemoColumnKey> keysetHolder = new KeysetHolder<>();
+        keysetHolder.setUniqueKey(MemoColumnKey.Id);
+        keysetHolder.setAllTiers(true);
+
+        super.selectEach(keysetHolder, visitor);
+    }
+
+    /**
+     * 全レコードを更新日時の新しい順に一行ずつビジターへ渡します。
+     * 更新日時が同一のレコードはIDの降順に並びます。
+     * 最近のメモの参照に使用するため、アーカイブへ移動したメモは対象外となります。
+     *
+     * @param visitor 検索結果を受け取るビジター。
+     * @see BaseModel#selectEach(KeysetHolder, IRowVisitor)
+     */
+    public void selectRecentEach(IRowVisitor<MemoColumnKey> visitor) {
+        KeysetHolder<MemoColumnKey> keysetHolder = new KeysetHolder<>();
+        keysetHolder.setSortKey(MemoColumnKey.UpdatedDatetime);
+        keysetHolder.setUniqueKey(MemoColumnKey.Id);
+        keysetHolder.setDescending(true);
+
+        super.selectEach(keysetHolder, visitor);
+    }
+
+    /**
+     * アーカイブへ移動したメモを含めて全レコードをID順に一行ずつ型付きの行としてビジターへ渡します。
+     * ビジターへ渡される行はページ毎に再利用されるため、行毎のオブジェクトの生成及びカラムの位置の解決は発生しません。
+     *
+     * @param visitor 検索結果を受け取るビジター。
+     * @see BaseModel#selectEach(KeysetHolder, IRecordBinder, IRecordVisitor)
+     * @see MemoRowCursor
+     */
+    public void selectEachRow(IRecordVisitor<MemoRowCursor> visitor) {
+        KeysetHolder<MemoColumnKey> keysetHolder = new KeysetHolder<>();
+        keysetHolder.setUniqueKey(MemoColumnKey.Id);
+        keysetHolder.setAllTiers(true);
+
+        super.selectEach(keysetHolder, memoRowBinder, visitor);
+    }
+
+    /**
+     * 全レコードを更新日時の新しい順に一行ずつ型付きの行としてビジターへ渡します。
+     * 更新日時が同一のレコードはIDの降順に並びます。
+     * 最近のメモの参照に使用するため、アーカイブへ移動したメモは対象外となります。
+     *
+     * @param visitor 検索結果を受け取るビジター。
+     * @see BaseModel#selectEach(KeysetHolder, IRecordBinder, IRecordVisitor)
+     * @see MemoRowCursor
+     */
+    public void selectRecentEachRow(IRecordVisitor<MemoRowCursor> visitor) {
+        KeysetHolder<MemoColumnKey> keysetHolder = new KeysetHolder<>();
+        keysetHolder.setSortKey(MemoColumnKey.UpdatedDatetime);
+        keysetHolder.setUniqueKey(MemoColumnKey.Id);
+        keysetHolder.setDescending(true);
+
+        super.selectEach(keysetHolder, memoRowBinder, visitor);
+    }
+
     /**
-     * 渡された引数の情報を基にレコードの挿入処理を実行します。
+     * アーカイブへ移動したメモを含めて全レコードをID順に型付きの行として取得し返却します。
+     * カラムの位置の解決はカーソル毎に一度だけ行われます。
      * 当該処理に依ってモデルリストは更新されません。
      *
-     * @param memoHolder 挿入処理を行う際に必要な情報が格納されたデータクラス。
-     * @see BaseModel#insert(InsertHolder)
+     * @return ID順に並べたメモ情報の行のリスト。
+     * @see MemoRow
+     */
+    public List<MemoRow> selectAllRows() {
+        return super.rawQueryAllTiers(FORMAT_SQL_SELECT_ALL_ORDER_BY_ID, null, new ICursorReader<List<MemoRow>>() {
+            @Override
+            public List<MemoRow> read(Cursor cursor) {
+
+                List<MemoRow> rows = new ArrayList<>(cursor.getCount());
+                MemoRowCursor record = memoRowBinder.bind(cursor);
+
+                while (cursor.moveToNext()) {
+                    rows.add(record.toRow());
+                }
+
+                return rows;
+            }
+        });
+    }
+
+    /**
+     * アーカイブへ移動したメモを含めて登録されているメモの件数を返却します。
+     *
+     * @return メモの件数。
+     */
+    public int countMemos() {
+        return super.rawQueryAllTiers(FORMAT_SQL_COUNT_MEMOS, null, new ICursorReader<Integer>() {
+            @Override
+            public Integer read(Cursor cursor) {
+                return cursor.moveToFirst() ? cursor.getInt(0) : 0;
+            }
+        });
+    }
+
+    /**
+     * 全レコードを一覧の表示に必要な項目のみで更新日時の新しい順に取得し返却します。
+     * 本文は読み込まず、保存時に生成したメモの先頭部分を返却します。
+     * 自動保存の反映を待っているメモは反映待ちの内容から先頭部分を生成します。
+     * 当該処理に依ってモデルリストは更新されません。
+     * <p>
+     * 元のテーブルとアーカイブはそれぞれ更新日時のインデックスを使用して個別に取得し、
+     * 並び順を維持したまま結合します。アーカイブが存在しない場合は元のテーブルのみを検索します。
+     *
+     * @return 更新日時の新しい順に並べたメモの一覧。
+     * @see MemoSummary
+     * @see MemoColumnKey#createSnippet(String)
+     */
+    public List<MemoSummary> selectAllSummaries() {
+
+        ICursorReader<List<MemoSummary>> summaryReader = new ICursorReader<List<MemoSummary>>() {
+            @Override
+            public List<MemoSummary> read(Cursor cursor) {
+
+                List<MemoSummary> summaries = new ArrayList<>(cursor.getCount());
+
+                while (cursor.moveToNext()) {
+                    long memoId = cursor.getLong(0);
+                    MemoHolder pendingMemo = autosaveQueue.peek(toAutosaveKey(memoId));
+                    String snippet = pendingMemo != null
+                            ? MemoColumnKey.createSnippet(pendingMemo.getMemo())
+                            : cursor.isNull(3) ? "" : cursor.getString(3);
+
+                    summaries.add(new MemoSummary(memoId, cursor.getString(1), cursor.getLong(2), snippet));
+                }
+
+                return summaries;
+            }
+        };
+
+        List<MemoSummary> summaries = super.rawQuery(SQL_SELECT_SUMMARIES, null, summaryReader);
+        List<MemoSummary> archivedSummaries = super.rawQueryArchive(MemoArchiveStore.SQL_SELECT_ARCHIVED_SUMMARIES, null, summaryReader);
+
+        if (archivedSummaries == null || archivedSummaries.isEmpty()) {
+            return summaries;
+        }
+
+        return mergeSummaries(summaries, archivedSummaries);
+    }
+
+    /**
+     * 更新日時の新しい順に並べた元のテーブルとアーカイブのメモの一覧を、並び順を維持したまま結合します。
+     * 両方に存在するメモは元のテーブルの行のみを返却します。
+     *
+     * @param summaries         元のテーブルのメモの一覧。
+     * @param archivedSummaries アーカイブのメモの一覧。
+     * @return 更新日時の新しい順に並べたメモの一覧。
      */
-    public void insert(MemoHolder memoHolder) {
+    private static List<MemoSummary> mergeSummaries(List<MemoSummary> summaries, List<MemoSummary> archivedSummaries) {
+
+        Set<Long> memoIds = new HashSet<>(summaries.size() * 2);
+
+        for (MemoSummary summary : summaries) {
+            memoIds.add(summary.getId());
+        }
+
+        List<MemoSummary> merged = new ArrayList<>(summaries.size() + archivedSummaries.size());
+        int index = 0;
+
+        for (MemoSummary archivedSummary : archivedSummaries) {
+            if (memoIds.contains(archivedSummary.getId())) {
+                continue;
+            }
 
-        InsertHolder insertHolder = new InsertHolder();
-        ContentValues contentValues = insertHolder.getContentValues();
+            while (index < summaries.size() && isNewer(summaries.get(index), archivedSummary)) {
+                merged.add(summaries.get(index++));
+            }
+
+            merged.add(archivedSummary);
+        }
+
+        merged.addAll(summaries.subList(index, summaries.size()));
 
-        MemoColumnKey[] memoColumnKeys = MemoColumnKey.values();
+        return merged;
+    }
+
+    /**
+     * 更新日時の新しい順において、渡された一件目のメモが二件目のメモより前に並ぶか判定します。
+     * 更新日時が同一の場合はIDの降順に並べます。
+     *
+     * @param summary1 一件目のメモ。
+     * @param summary2 二件目のメモ。
+     * @return 一件目のメモが前に並ぶ場合は {@code true}、それ以外は{@code false}。
+     */
+    private static boolean isNewer(MemoSummary summary1, MemoSummary summary2) {
 
-        for (MemoColumnKey column : memoColumnKeys) {
-            column.setContentValues(contentValues, memoHolder);
+        if (summary1.getUpdatedDatetime() != summary2.getUpdatedDatetime()) {
+            return summary1.getUpdatedDatetime() > summary2.getUpdatedDatetime();
         }
 
-        super.insert(insertHolder);
+        return summary1.getId() > summary2.getId();
+    }
+
+    /**
+     * 全レコードを一覧の表示に必要な項目のみで非同期に取得します。
+     * 取得結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param callback 取得結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #selectAllSummaries()
+     */
+    public QueryTask<List<MemoSummary>> selectAllSummariesAsync(IQueryCallback<List<MemoSummary>> callback) {
+        return super.executeAsync(new Callable<List<MemoSummary>>() {
+            @Override
+            public List<MemoSummary> call() {
+                return selectAllSummaries();
+            }
+        }, callback);
     }
 
     /**
-     * 渡された引数の情報を基にレコードの挿入処理を実行します。
+     * 入力された文字列でメモ名及びメモを全文検索し、関連度の高い順に返却します。
+     * 空白で区切られた単語は全てを含むメモを検索し、各単語は前方一致で検索されます。
+     * 関連度はmatchinfo関数の戻り値からBM25で算出し、上位の行に限りメモの先頭部分を抜粋として取得します。
+     * 全文検索用の索引は本文を保持しないため、抜粋はメモの先頭部分に含まれる適合箇所に限り強調されます。
+     * アーカイブへ移動したメモはアーカイブの索引から検索し、元のテーブルの検索結果と関連度の高い順に結合します。
+     * 関連度は索引毎の統計値で算出されるため、元のテーブルとアーカイブの間では近似的な比較となります。
      * 当該処理に依ってモデルリストは更新されません。
      *
-     * @param memoHolder 挿入処理を行う際に必要な情報が格納されたデータクラス。
-     * @see BaseModel#replace(InsertHolder)
+     * @param input 入力された文字列。
+     * @param limit 取得する件数の上限。
+     * @return 関連度の高い順に並べた検索結果。検索可能な単語が存在しない場合は空のリスト。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see FullTextSearchHandler
      */
-    public void replace(MemoHolder memoHolder) {
+    public List<MemoSearchResult> search(final String input, final int limit) {
+
+        if (limit <= 0 || limit > MAXIMUM_SEARCH_LIMIT) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        final String matchExpression = FullTextSearchHandler.createMatchExpression(input);
+
+        if (matchExpression.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        ICursorReader<Map<Long, Double>> scoreReader = new ICursorReader<Map<Long, Double>>() {
+            @Override
+            public Map<Long, Double> read(Cursor cursor) {
+                return MemoSearchIndex.rankTopDocuments(cursor, limit);
+            }
+        };
 
-        InsertHolder insertHolder = new InsertHolder();
-        ContentValues contentValues = insertHolder.getContentValues();
+        String[] matchArgs = new String[]{matchExpression};
+        Map<Long, Double> scores = super.rawQuery(MemoSearchIndex.SQL_SEARCH_MATCH_INFO, matchArgs, scoreReader);
+        Map<Long, Double> archivedScores = super.rawQueryArchive(MemoSearchIndex.SQL_SEARCH_ARCHIVED_MATCH_INFO, matchArgs, scoreReader);
 
-        MemoColumnKey[] memoColumnKeys = MemoColumnKey.values();
+        List<MemoSearchResult> results = new ArrayList<>();
 
-        for (MemoColumnKey column : memoColumnKeys) {
-            column.setContentValues(contentValues, memoHolder);
+        if (!scores.isEmpty()) {
+            results.addAll(selectSearchResults(MemoSearchIndex.FORMAT_SQL_SEARCH_SNIPPET, scores, input, false));
         }
 
-        super.replace(insertHolder);
+        if (archivedScores != null && !archivedScores.isEmpty()) {
+            results.addAll(selectSearchResults(MemoSearchIndex.FORMAT_SQL_SEARCH_ARCHIVED_SNIPPET, archivedScores, input, true));
+        }
+
+        Collections.sort(results, SEARCH_RESULT_COMPARATOR);
+
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
     }
 
-    @Override
-    public ModelList<ModelMap<MemoColumnKey, Object>> getModelInfo() {
-        return super.modelInfo;
+    /**
+     * 関連度を算出した行に限定してメモ名とメモの先頭部分を取得し、検索結果を生成します。
+     *
+     * @param format   IDのプレースホルダを埋め込む抜粋取得用のSQL文のフォーマット。
+     * @param scores   IDと関連度の組。
+     * @param input    入力された文字列。
+     * @param archived アーカイブを検索する場合は {@code true}。
+     * @return 検索結果。アーカイブが存在しない場合は空のリスト。
+     */
+    private List<MemoSearchResult> selectSearchResults(String format, final Map<Long, Double> scores, final String input, boolean archived) {
+
+        String[] selectionArgs = new String[scores.size()];
+        StringBuilder placeholders = new StringBuilder();
+
+        int index = 0;
+        for (Long docId : scores.keySet()) {
+            if (index > 0) {
+                placeholders.append(',');
+            }
+
+            placeholders.append('?');
+            selectionArgs[index++] = String.valueOf(docId);
+        }
+
+        ICursorReader<List<MemoSearchResult>> resultReader = new ICursorReader<List<MemoSearchResult>>() {
+            @Override
+            public List<MemoSearchResult> read(Cursor cursor) {
+                List<MemoSearchResult> results = new ArrayList<>(cursor.getCount());
+
+                while (cursor.moveToNext()) {
+                    long id = cursor.getLong(0);
+                    String snippet = cursor.getString(2);
+
+                    results.add(new MemoSearchResult(
+                            id,
+                            cursor.getString(1),
+                            FullTextSearchHandler.highlight(
+                                    snippet != null ? snippet : "", input, MemoSearchResult.HIGHLIGHT_START, MemoSearchResult.HIGHLIGHT_END),
+                            scores.get(id)));
+                }
+
+                return results;
+            }
+        };
+
+        String sql = String.format(format, placeholders);
+
+        if (!archived) {
+            return super.rawQuery(sql, selectionArgs, resultReader);
+        }
+
+        List<MemoSearchResult> results = super.rawQueryArchive(sql, selectionArgs, resultReader);
+
+        return results != null ? results : new ArrayList<MemoSearchResult>(0);
+    }
+
+    /**
+     * 入力された文字列による全文検索を非同期で実行します。
+     * 検索結果はメインスレッドでコールバックへ通知されます。
+     *
+     * @param input    入力された文字列。
+     * @param limit    取得する件数の上限。
+     * @param callback 検索結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #search(String, int)
+     */
+    public QueryTask<List<MemoSearchResult>> searchAsync(
+            final String input,
+            final int limit,
+            IQueryCallback<List<MemoSearchResult>> callback) {
+
+        return super.executeAsync(new Callable<List<MemoSearchResult>>() {
+            @Override
+            public List<MemoSearchResult> call() {
+                return search(input, limit);
+            }
+        }, callback);
+    }
+
+    /**
+     * 渡された引数の情報を基にレコードの挿入処理を実行し、採番されたIDを返却します。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * @param memoHolder 挿入処理を行う際に必要な情報が格納されたデータクラス。
+     * @return 挿入したメモのID。
+     * @throws IllegalArgumentException  不正な入力を検知した際に発生します。
+     * @throws SQLiteConstraintException 同名のメモがアーカイブを含めて既に存在する際に発生します。
+     * @see BaseModel#executeInsert(StatementKey, IStatementBinder, Object)
+     */
+    public long insert(MemoHolder memoHolder) {
+
+        if (memoHolder == null
+                || !memoHolder.hasMemo()) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return writeAll(Collections.singletonList(memoHolder), true)[0];
+    }
+
+    /**
+     * 渡された引数の情報を基にレコードの挿入処理を非同期で実行します。
+     * 採番されたIDはメインスレッドでコールバックへ通知されます。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * @param memoHolder 挿入処理を行う際に必要な情報が格納されたデータクラス。
+     * @param callback   採番されたIDを受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #insert(MemoHolder)
+     */
+    public QueryTask<Long> insertAsync(final MemoHolder memoHolder, IQueryCallback<Long> callback) {
+        return super.executeAsync(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return insert(memoHolder);
+            }
+        }, callback);
+    }
+
+    /**
+     * 渡された引数の情報を基にレコードの置換処理を実行します。
+     * IDを保持する場合はIDで、保持しない場合はメモ名で既存のメモを特定します。
+     * 既存のメモが存在する場合は削除せずに変更されたカラムのみを更新し、存在しない場合は挿入します。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * @param memoHolder 置換処理を行う際に必要な情報が格納されたデータクラス。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see BaseModel#executeUpsert(StatementKey, IStatementBinder, StatementKey, IStatementBinder, Object)
+     */
+    public void replace(MemoHolder memoHolder) {
+
+        if (memoHolder == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        if (memoHolder.hasId()) {
+            autosaveQueue.discard(toAutosaveKey(memoHolder.getId()));
+        }
+
+        writeAll(Collections.singletonList(memoHolder), false);
+    }
+
+    /**
+     * 渡された引数の情報を基にレコードの置換処理を非同期で実行します。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * @param memoHolder 置換処理を行う際に必要な情報が格納されたデータクラス。
+     * @param callback   処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #replace(MemoHolder)
+     */
+    public QueryTask<Void> replaceAsync(final MemoHolder memoHolder, IQueryCallback<Void> callback) {
+        return super.executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                replace(memoHolder);
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * 渡された引数の情報を基に複数レコードの置換処理を単一のトランザクションで実行します。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * 閾値を超える本文を持つメモは同一のトランザクション内で分割して保存されます。
+     *
+     * @param memoHolderList 置換処理を行う際に必要な情報が格納されたデータクラスのリスト。
+     * @see #replace(MemoHolder)
+     */
+    public void replace(List<MemoHolder> memoHolderList) {
+
+        if (memoHolderList == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        writeAll(memoHolderList, false);
+    }
+
+    /**
+     * メモ名を変更します。
+     * 本文のカラムは書き換えず、メモ名と更新日時のみを更新します。
+     * 版はIDに紐付くため、メモ名を変更しても版の付け替えは発生しません。
+     * 自動保存の反映を待っている本文は、メモ名の変更前に同一のトランザクションで反映します。
+     *
+     * @param memoId      メモのID。
+     * @param newMemoName 変更後のメモ名。
+     * @throws IllegalArgumentException  不正な入力を検知した際に発生します。
+     * @throws SQLiteConstraintException 変更後のメモ名のメモがアーカイブを含めて既に存在する際に発生します。
+     * @see MemoHolder#rename(long, String)
+     */
+    public void rename(long memoId, String newMemoName) {
+
+        if (memoId == MemoHolder.ID_UNASSIGNED
+                || !StringChecker.isEffectiveString(newMemoName)) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        List<MemoHolder> memoHolderList = new ArrayList<>(2);
+        String autosaveKey = toAutosaveKey(memoId);
+        MemoHolder pendingMemo = autosaveQueue.peek(autosaveKey);
+
+        if (pendingMemo != null) {
+            autosaveQueue.discard(autosaveKey);
+            memoHolderList.add(pendingMemo);
+        }
+
+        memoHolderList.add(MemoHolder.rename(memoId, newMemoName));
+        writeAll(memoHolderList, false);
+    }
+
+    /**
+     * メモ名を非同期で変更します。
+     *
+     * @param memoId      メモのID。
+     * @param newMemoName 変更後のメモ名。
+     * @param callback    処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #rename(long, String)
+     */
+    public QueryTask<Void> renameAsync(final long memoId, final String newMemoName, IQueryCallback<Void> callback) {
+        return super.executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                rename(memoId, newMemoName);
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * メモの更新日時のみを保存時の日時へ更新します。
+     * 本文のカラムは書き換えず、全文検索用の索引も更新されません。
+     *
+     * @param memoId メモのID。
+     * @see MemoHolder#touch(long)
+     */
+    public void touch(long memoId) {
+        writeAll(Collections.singletonList(MemoHolder.touch(memoId)), false);
+    }
+
+    /**
+     * 渡されたメモを単一のトランザクションで保存し、本文を変更したメモは新しい版として記録します。
+     * 閾値を超える本文を持つメモは分割して保存され、版は記録されません。
+     * 新規に登録したメモの本文はメモ情報の行と重複するため版として記録せず、
+     * 版を持たないメモの本文を初めて変更した場合は変更前の本文を最初の版として記録します。
+     * <p>
+     * 既存のメモは削除せずに変更されたカラムのみを更新するため、IDと登録日時は維持されます。
+     * 全文検索用の索引は同一のトランザクションで変更前の内容を削除した後に変更後の内容を登録し、
+     * 本文を変更しない場合はメモ名の変更のみを反映します。索引は本文の複製を保持しません。
+     * 分割して保存されたメモはメモ名のみを索引に登録します。
+     * 本文を保持しないデータクラスは既存のメモの更新にのみ使用され、該当するメモが存在しない場合は何もしません。
+     * <p>
+     * アーカイブへ移動したメモは版と共に元のテーブルへ戻した後に保存し、コミット後にアーカイブから削除します。
+     *
+     * @param memoHolderList 保存するメモ情報のリスト。
+     * @param insertOnly     新規登録に限る場合は {@code true}。
+     * @return 渡されたメモ情報の順に並べた保存したメモのID。更新の対象が存在しなかった場合は{@link MemoHolder#ID_UNASSIGNED}。
+     * @throws IllegalArgumentException 新規登録に限る場合に本文を保持しないデータクラスが渡された際に発生します。
+     * @see MemoRevisionStore#record(SQLiteDatabase, long, String, RevisionPolicy)
+     */
+    private long[] writeAll(final List<MemoHolder> memoHolderList, final boolean insertOnly) {
+
+        final RevisionPolicy policy = revisionPolicy;
+        final boolean hasArchive = super.hasArchive();
+        final List<Long> restoredIds = new ArrayList<>(0);
+
+        try {
+            long[] savedIds = super.executeTransaction(new ITransaction<long[]>() {
+                @Override
+                public long[] execute(SQLiteDatabase database) {
+                    long[] memoIds = new long[memoHolderList.size()];
+
+                    for (int i = 0; i < memoIds.length; i++) {
+                        MemoHolder memoHolder = memoHolderList.get(i);
+
+                        if (hasArchive) {
+                            long restoredId = restoreArchived(database, memoHolder, insertOnly);
+
+                            if (restoredId != MemoHolder.ID_UNASSIGNED) {
+                                restoredIds.add(restoredId);
+                            }
+                        }
+
+                        if (!memoHolder.hasMemo()) {
+                            if (insertOnly) {
+                                // should not be happened
+                                throw new IllegalArgumentException();
+                            }
+
+                            memoIds[i] = updateMemo(database, memoHolder);
+
+                        } else if (MemoChunkStore.isChunkTarget(memoHolder)) {
+                            MemoSearchIndex.IndexedMemo previous = insertOnly ? null : selectIndexedMemo(database, memoHolder);
+                            memoIds[i] = MemoChunkStore.write(database, memoHolder, insertOnly ? MemoHolder.ID_UNASSIGNED : resolveMemoId(database, memoHolder));
+
+                            if (memoIds[i] != MemoHolder.ID_UNASSIGNED) {
+                                MemoSearchIndex.unindex(database, previous);
+                                MemoSearchIndex.index(database, memoIds[i], memoHolder.getMemoName(), null);
+                            }
+
+                        } else {
+                            MemoSearchIndex.IndexedMemo previous = insertOnly ? null : selectIndexedMemo(database, memoHolder);
+                            String baseline = selectBaseline(database, previous);
+
+                            memoIds[i] = insertOnly
+                                    ? executeInsert(insertStatementKey, MEMO_STATEMENT_BINDER, memoHolder)
+                                    : upsertMemo(database, memoHolder);
+
+                            if (memoIds[i] != MemoHolder.ID_UNASSIGNED) {
+                                MemoSearchIndex.unindex(database, previous);
+                                MemoSearchIndex.index(database, memoIds[i], memoHolder.getMemoName(), memoHolder.getMemo());
+
+                                if (baseline != null && !baseline.equals(memoHolder.getMemo())) {
+                                    MemoRevisionStore.recordBaseline(database, memoIds[i], baseline);
+                                }
+                                MemoRevisionStore.record(database, memoIds[i], memoHolder.getMemo(), policy);
+                            }
+                        }
+                    }
+
+                    return memoIds;
+                }
+            });
+
+            if (!restoredIds.isEmpty()) {
+                deleteArchived(restoredIds);
+            }
+
+            return savedIds;
+
+        } finally {
+            // コミット前に無効化すると、並行する検索がコミット前の内容を再びキャッシュする可能性がある
+            boolean invalidateAll = false;
+
+            for (MemoHolder memoHolder : memoHolderList) {
+                if (memoHolder.hasId()) {
+                    invalidateCache(memoHolder.getId());
+                } else {
+                    invalidateAll = true;
+                }
+            }
+
+            if (invalidateAll) {
+                invalidateCache();
+            }
+        }
+    }
+
+    /**
+     * 保存するメモが元のテーブルに存在せずアーカイブに存在する場合に、メモ及び版を元のテーブルへ戻します。
+     * アーカイブは読み取り専用の接続から参照するため、戻した行はコミット後にアーカイブから削除する必要があります。
+     * 当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @param insertOnly 新規登録に限る場合は {@code true}。
+     * @return 元のテーブルへ戻したメモのID。戻していない場合は{@link MemoHolder#ID_UNASSIGNED}。
+     * @throws SQLiteConstraintException 新規登録するメモ名または変更後のメモ名がアーカイブに存在する際に発生します。
+     */
+    private long restoreArchived(SQLiteDatabase database, MemoHolder memoHolder, boolean insertOnly) {
+
+        if (memoHolder.hasId() && memoHolder.getModifiedColumns().contains(MemoColumnKey.MemoName)) {
+            ContentValues namesake = selectArchivedMemo(MemoArchiveStore.SQL_SELECT_ARCHIVED_MEMO_BY_NAME, memoHolder.getMemoName());
+
+            if (namesake != null && namesake.getAsLong(MemoColumnKey.Id.getKeyName()) != memoHolder.getId()) {
+                throw new SQLiteConstraintException(MESSAGE_DUPLICATE_MEMO_NAME);
+            }
+        }
+
+        boolean exists = memoHolder.hasId()
+                ? existsMemo(database, memoHolder.getId())
+                : selectMemoId(database, memoHolder.getMemoName()) != MemoHolder.ID_UNASSIGNED;
+
+        if (exists) {
+            return MemoHolder.ID_UNASSIGNED;
+        }
+
+        ContentValues archivedMemo = memoHolder.hasId()
+                ? selectArchivedMemo(MemoArchiveStore.SQL_SELECT_ARCHIVED_MEMO_BY_ID, String.valueOf(memoHolder.getId()))
+                : selectArchivedMemo(MemoArchiveStore.SQL_SELECT_ARCHIVED_MEMO_BY_NAME, memoHolder.getMemoName());
+
+        if (archivedMemo == null) {
+            return MemoHolder.ID_UNASSIGNED;
+        }
+
+        if (insertOnly) {
+            throw new SQLiteConstraintException(MESSAGE_DUPLICATE_MEMO_NAME);
+        }
+
+        long memoId = archivedMemo.getAsLong(MemoColumnKey.Id.getKeyName());
+        database.insertOrThrow(Table.MemoInformation.getName(), null, archivedMemo);
+
+        MemoSearchIndex.index(database, memoId, archivedMemo.getAsString(MemoColumnKey.MemoName.getKeyName()), MemoArchiveStore.readPlainMemo(archivedMemo));
+
+        List<ContentValues> revisions = super.rawQuery(
+                MemoArchiveStore.SQL_SELECT_ARCHIVED_REVISION_ROWS, new String[]{String.valueOf(memoId)}, MemoArchiveStore.ROWS_READER);
+
+        for (ContentValues revision : revisions) {
+            database.insertOrThrow(Table.MemoRevision.getName(), null, revision);
+        }
+
+        return memoId;
+    }
+
+    /**
+     * アーカイブから条件に一致するメモを一件取得し返却します。
+     *
+     * @param sql          アーカイブのメモを取得するSQL文。
+     * @param selectionArg SQL文のプレースホルダへ設定する値。
+     * @return メモの全カラム。アーカイブまたは該当するメモが存在しない場合は{@code null}。
+     */
+    private ContentValues selectArchivedMemo(String sql, String selectionArg) {
+
+        List<ContentValues> rows = super.rawQueryArchive(sql, new String[]{selectionArg}, MemoArchiveStore.ROWS_READER);
+
+        return rows == null || rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * IDに紐付くメモが元のテーブルに存在するか判定します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @return 存在する場合は {@code true}、それ以外は{@code false}。
+     */
+    private static boolean existsMemo(SQLiteDatabase database, long memoId) {
+
+        Cursor cursor = database.rawQuery(SQL_EXISTS_MEMO, new String[]{String.valueOf(memoId)});
+        try {
+            return cursor.moveToFirst();
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 本文を保持するメモを保存し、保存したメモのIDを返却します。
+     * IDを保持するメモは既存のメモの変更されたカラムのみを更新し、該当するメモが存在しない場合は保存を行いません。
+     * IDを保持しないメモはメモ名に紐付くメモが存在する場合は更新し、存在しない場合は挿入します。
+     * 分割して保存していたメモを更新した場合は、不要となった分割単位を削除します。
+     * 当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @return 保存したメモのID。更新の対象が存在しなかった場合は{@link MemoHolder#ID_UNASSIGNED}。
+     */
+    private long upsertMemo(SQLiteDatabase database, MemoHolder memoHolder) {
+
+        long memoId;
+
+        if (memoHolder.hasId()) {
+            // 並行して削除されたメモを同じIDで再び挿入しないよう、IDを保持する場合は更新のみを行う
+            if (executeUpdate(getUpdateStatementKey(memoHolder), MEMO_UPDATE_BINDER, memoHolder) == 0) {
+                return MemoHolder.ID_UNASSIGNED;
+            }
+
+            memoId = memoHolder.getId();
+
+        } else {
+            boolean updated = executeUpsert(
+                    getUpdateStatementKey(memoHolder), MEMO_UPDATE_BINDER, insertStatementKey, MEMO_STATEMENT_BINDER, memoHolder);
+
+            memoId = selectMemoId(database, memoHolder.getMemoName());
+
+            if (!updated) {
+                return memoId;
+            }
+        }
+
+        MemoChunkStore.clear(database, memoId);
+
+        return memoId;
+    }
+
+    /**
+     * 本文を保持しないメモ情報を基に、既存のメモの変更されたカラムのみを更新します。
+     * メモ名を変更した場合は、索引に登録済みの内容を削除した後に変更後のメモ名で登録します。
+     * 当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @return 更新したメモのID。該当するメモが存在しない場合は{@link MemoHolder#ID_UNASSIGNED}。
+     */
+    private long updateMemo(SQLiteDatabase database, MemoHolder memoHolder) {
+
+        boolean renamed = memoHolder.getModifiedColumns().contains(MemoColumnKey.MemoName);
+        MemoSearchIndex.IndexedMemo previous = renamed ? selectIndexedMemo(database, memoHolder) : null;
+
+        if (executeUpdate(getUpdateStatementKey(memoHolder), MEMO_UPDATE_BINDER, memoHolder) == 0) {
+            return MemoHolder.ID_UNASSIGNED;
+        }
+
+        // 索引に未登録のメモは既存のメモの索引への登録時に変更後のメモ名で登録される
+        if (previous != null && previous.isIndexed()) {
+            MemoSearchIndex.unindex(database, previous);
+            MemoSearchIndex.index(database, previous.getId(), memoHolder.getMemoName(), previous.getMemo());
+        }
+
+        return memoHolder.getId();
+    }
+
+    /**
+     * 渡されたメモ情報に紐付く保存済みのメモについて、全文検索用の索引に登録されている内容を返却します。
+     * 当該メソッドはメモの書き込みより前に同一のトランザクション内で呼び出す必要があります。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @return 索引に登録されている内容。メモが存在しない場合は{@code null}。
+     */
+    private static MemoSearchIndex.IndexedMemo selectIndexedMemo(SQLiteDatabase database, MemoHolder memoHolder) {
+
+        long memoId = resolveMemoId(database, memoHolder);
+
+        return memoId != MemoHolder.ID_UNASSIGNED ? MemoSearchIndex.selectIndexedMemo(database, memoId) : null;
+    }
+
+    /**
+     * 渡されたメモ情報に紐付くメモのIDを返却します。
+     * IDを保持する場合は当該IDを、保持しない場合はメモ名に紐付く保存済みのメモのIDを返却します。
+     *
+     * @param database   書き込み用のデータベース。
+     * @param memoHolder メモ情報。
+     * @return メモのID。IDを保持せず該当するメモも存在しない場合は{@link MemoHolder#ID_UNASSIGNED}。
+     */
+    private static long resolveMemoId(SQLiteDatabase database, MemoHolder memoHolder) {
+        return memoHolder.hasId() ? memoHolder.getId() : selectMemoId(database, memoHolder.getMemoName());
+    }
+
+    /**
+     * メモ名に紐付くメモのIDを返却します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoName メモ名。
+     * @return メモのID。該当するメモが存在しない場合は{@link MemoHolder#ID_UNASSIGNED}。
+     */
+    private static long selectMemoId(SQLiteDatabase database, String memoName) {
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_MEMO_ID, new String[]{memoName});
+        try {
+            return cursor.moveToFirst() ? cursor.getLong(0) : MemoHolder.ID_UNASSIGNED;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 版を持たないメモについて、最初の版として記録する変更前の本文を返却します。
+     * 当該メソッドはメモの書き込みより前に同一のトランザクション内で呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param previous 変更前のメモの索引に登録されている内容。
+     * @return 変更前の本文。メモが存在しない、既に版を持つ、または分割して保存されている場合は{@code null}。
+     * @see #selectIndexedMemo(SQLiteDatabase, MemoHolder)
+     */
+    private static String selectBaseline(SQLiteDatabase database, MemoSearchIndex.IndexedMemo previous) {
+
+        if (previous == null || previous.getMemo() == null || MemoRevisionStore.hasRevisions(database, previous.getId())) {
+            return null;
+        }
+
+        return previous.getMemo();
+    }
+
+    /**
+     * 渡されたメモ情報の更新に使用するステートメントキーを返却します。
+     * IDを保持する場合はIDを、保持しない場合はメモ名を更新対象の特定に使用し、
+     * 変更されたカラムのみを更新するSQL文を組み合わせ毎に一度だけ生成します。
+     *
+     * @param memoHolder メモ情報。
+     * @return 更新処理のステートメントキー。
+     * @see #MEMO_UPDATE_BINDER
+     */
+    private StatementKey getUpdateStatementKey(MemoHolder memoHolder) {
+
+        Set<MemoColumnKey> modifiedColumns = memoHolder.getModifiedColumns();
+        List<MemoColumnKey> columns = new ArrayList<>(modifiedColumns.size() + 1);
+        columns.add(memoHolder.hasId() ? MemoColumnKey.Id : MemoColumnKey.MemoName);
+        columns.addAll(modifiedColumns);
+
+        StatementKey statementKey = updateStatementKeys.get(columns);
+
+        if (statementKey == null) {
+            statementKey = createStatementKey(StatementKey.Operation.Update, columns.toArray(new MemoColumnKey[0]));
+            updateStatementKeys.put(columns, statementKey);
+        }
+
+        return statementKey;
+    }
+
+    /**
+     * メモの版の保存及び保持に関する方針を設定します。
+     * 設定した方針は以降の保存処理から適用されます。
+     *
+     * @param revisionPolicy 版の保存及び保持に関する方針。
+     * @see RevisionPolicy#DEFAULT
+     */
+    public void setRevisionPolicy(RevisionPolicy revisionPolicy) {
+
+        if (revisionPolicy == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.revisionPolicy = revisionPolicy;
+    }
+
+    /**
+     * IDに紐付く全ての版を古い順に返却します。
+     * 元のテーブルに版が存在しない場合はアーカイブから取得します。
+     * 登録後に一度も本文を変更していないメモは版を持ちません。
+     *
+     * @param memoId メモのID。
+     * @return 版の一覧。
+     */
+    public List<MemoRevision> selectRevisions(final long memoId) {
+        String[] selectionArgs = {String.valueOf(memoId)};
+        ICursorReader<List<MemoRevision>> revisionReader = new ICursorReader<List<MemoRevision>>() {
+            @Override
+            public List<MemoRevision> read(Cursor cursor) {
+                List<MemoRevision> revisions = new ArrayList<>(cursor.getCount());
+
+                while (cursor.moveToNext()) {
+                    long revision = cursor.getLong(0);
+                    revisions.add(new MemoRevision(memoId, revision, revision == cursor.getLong(1), cursor.getString(2)));
+                }
+
+                return revisions;
+            }
+        };
+
+        List<MemoRevision> revisions = super.rawQuery(MemoRevisionStore.SQL_SELECT_REVISIONS, selectionArgs, revisionReader);
+
+        if (!revisions.isEmpty()) {
+            return revisions;
+        }
+
+        List<MemoRevision> archivedRevisions = super.rawQueryArchive(MemoArchiveStore.SQL_SELECT_ARCHIVED_REVISIONS, selectionArgs, revisionReader);
+
+        return archivedRevisions != null ? archivedRevisions : revisions;
+    }
+
+    /**
+     * IDと版番号に紐付く版の全文を復元し返却します。
+     * 起点のチェックポイントから指定された版までの行を一度の検索で取得し、順に差分を適用します。
+     * 元のテーブルに版が存在しない場合はアーカイブから復元します。
+     *
+     * @param memoId   メモのID。
+     * @param revision 版番号。
+     * @return 版の全文。版が存在しない場合は{@code null}。
+     */
+    public String readRevision(long memoId, long revision) {
+        String[] selectionArgs = MemoRevisionStore.createChainSelectionArgs(memoId, revision);
+        ICursorReader<String> chainReader = new ICursorReader<String>() {
+            @Override
+            public String read(Cursor cursor) {
+                return MemoRevisionStore.reconstruct(cursor);
+            }
+        };
+
+        String text = super.rawQuery(MemoRevisionStore.SQL_SELECT_CHAIN, selectionArgs, chainReader);
+
+        if (text != null) {
+            return text;
+        }
+
+        return super.rawQueryArchive(MemoArchiveStore.SQL_SELECT_ARCHIVED_CHAIN, selectionArgs, chainReader);
+    }
+
+    /**
+     * IDと版番号に紐付く版の全文を非同期で復元します。
+     *
+     * @param memoId   メモのID。
+     * @param revision 版番号。
+     * @param callback 復元した全文を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #readRevision(long, long)
+     */
+    public QueryTask<String> readRevisionAsync(final long memoId, final long revision, IQueryCallback<String> callback) {
+        return super.executeAsync(new Callable<String>() {
+            @Override
+            public String call() {
+                return readRevision(memoId, revision);
+            }
+        }, callback);
+    }
+
+    /**
+     * IDに紐付く全ての版が保持している文字数の合計を返却します。
+     * 版の保存に要する容量の見積もりに使用します。
+     * 元のテーブルに版が存在しない場合はアーカイブの版を対象とします。
+     *
+     * @param memoId メモのID。
+     * @return 全ての版が保持している文字数の合計。
+     */
+    public long getRevisionPayloadLength(long memoId) {
+        String[] selectionArgs = {String.valueOf(memoId)};
+        ICursorReader<Long> lengthReader = new ICursorReader<Long>() {
+            @Override
+            public Long read(Cursor cursor) {
+                return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+            }
+        };
+
+        long payloadLength = super.rawQuery(MemoRevisionStore.SQL_SELECT_PAYLOAD_LENGTH, selectionArgs, lengthReader);
+
+        if (payloadLength > 0L) {
+            return payloadLength;
+        }
+
+        Long archivedPayloadLength = super.rawQueryArchive(MemoArchiveStore.SQL_SELECT_ARCHIVED_PAYLOAD_LENGTH, selectionArgs, lengthReader);
+
+        return archivedPayloadLength != null ? archivedPayloadLength : payloadLength;
+    }
+
+    /**
+     * IDに紐付くメモの本文を分割単位で読み込むリーダーを返却します。
+     * 自動保存の反映を待っているメモは反映待ちの本文を返却するリーダーとなります。
+     * 元のテーブルに存在しないメモはアーカイブから読み込みます。
+     *
+     * @param memoId メモのID。
+     * @return 分割単位で読み込むリーダー。メモが存在しない場合は{@code null}。
+     * @see MemoChunkReader
+     */
+    public MemoChunkReader openChunkReader(long memoId) {
+
+        MemoHolder pendingMemo = autosaveQueue.peek(toAutosaveKey(memoId));
+
+        if (pendingMemo != null) {
+            return new MemoChunkReader(MemoChunkStore.splitIntoChunks(pendingMemo.getMemo()));
+        }
+
+        String[] selectionArgs = {String.valueOf(memoId)};
+        ICursorReader<MemoChunkReader> chunkStateReader = new ICursorReader<MemoChunkReader>() {
+            @Override
+            public MemoChunkReader read(Cursor cursor) {
+
+                if (!cursor.moveToFirst()) {
+                    return null;
+                }
+
+                int chunkCount = cursor.getInt(1);
+
+                if (chunkCount == 0) {
+                    String memo = cursor.getInt(3) == MemoColumnKey.FORMAT_DEFLATE
+                            ? CompressionHandler.decompress(cursor.getBlob(4))
+                            : cursor.getString(2);
+                    return new MemoChunkReader(MemoChunkStore.splitIntoChunks(memo != null ? memo : ""));
+                }
+
+                return new MemoChunkReader(MemoInformation.this, cursor.getLong(0), chunkCount);
+            }
+        };
+
+        MemoChunkReader reader = super.rawQuery(MemoChunkStore.SQL_SELECT_CHUNK_STATE, selectionArgs, chunkStateReader);
+
+        if (reader != null) {
+            return reader;
+        }
+
+        return super.rawQueryArchive(MemoArchiveStore.SQL_SELECT_ARCHIVED_CHUNK_STATE, selectionArgs, chunkStateReader);
+    }
+
+    /**
+     * IDに紐付くメモの本文全体を読み込み返却します。
+     * 分割して保存されたメモは全ての分割単位を順に読み込み連結します。
+     *
+     * @param memoId メモのID。
+     * @return 本文全体。メモが存在しない場合は{@code null}。
+     * @see #openChunkReader(long)
+     */
+    public String readMemo(long memoId) {
+        MemoChunkReader reader = openChunkReader(memoId);
+        return reader != null ? reader.readAll() : null;
+    }
+
+    /**
+     * 圧縮の導入前に圧縮せずに保存された閾値を超えるメモを圧縮した本文に置き換えます。
+     * 置き換えは一定件数毎に個別のトランザクションで行うため、
+     * 処理の途中で中断された場合でも次回の実行で残りのメモから再開されます。
+     * 全文検索用の索引は本文に依らず語の位置を保持するため、圧縮したメモも引き続き検索の対象となります。
+     *
+     * @return 圧縮したメモの件数。
+     * @see MemoColumnKey#isCompressionTarget(String)
+     */
+    public int compressExistingMemos() {
+
+        int countCompressed = 0;
+        int countBatch;
+
+        do {
+            countBatch = super.executeTransaction(new ITransaction<Integer>() {
+                @Override
+                public Integer execute(SQLiteDatabase database) {
+                    return compressBatch(database);
+                }
+            });
+
+            countCompressed += countBatch;
+
+        } while (countBatch == COMPRESSION_BATCH_SIZE);
+
+        return countCompressed;
+    }
+
+    /**
+     * 圧縮して保存された既存のメモのうち、先頭部分が生成されていないメモの先頭部分を生成します。
+     * 圧縮されていないメモの先頭部分はデータ移行のSQL文で生成されますが、
+     * 圧縮されたメモはSQL文で展開できないため当該メソッドで生成します。
+     * 生成は一定件数毎に個別のトランザクションで行います。
+     *
+     * @return 先頭部分を生成したメモの件数。
+     * @see MemoColumnKey#createSnippet(String)
+     */
+    public int fillMissingSnippets() {
+
+        int countFilled = 0;
+        int countBatch;
+
+        do {
+            countBatch = super.executeTransaction(new ITransaction<Integer>() {
+                @Override
+                public Integer execute(SQLiteDatabase database) {
+                    return fillSnippetBatch(database);
+                }
+            });
+
+            countFilled += countBatch;
+
+        } while (countBatch == COMPRESSION_BATCH_SIZE);
+
+        return countFilled;
+    }
+
+    /**
+     * 既存のメモのうち、全文検索用の索引に登録されていないメモを索引へ登録します。
+     * 索引の内容を元のテーブルから切り離す前に圧縮されたメモはSQL文で展開できないため当該メソッドで登録します。
+     * アーカイブが存在する場合は、アーカイブの索引の作成前に移動したメモもアーカイブの索引へ登録します。
+     * 登録は一定件数毎に個別のトランザクションで行います。
+     *
+     * @return 索引へ登録したメモの件数。
+     */
+    public int fillMissingIndexes() {
+
+        int countFilled = 0;
+        int countBatch;
+
+        do {
+            countBatch = super.executeTransaction(new ITransaction<Integer>() {
+                @Override
+                public Integer execute(SQLiteDatabase database) {
+                    return MemoSearchIndex.indexMissing(database, COMPRESSION_BATCH_SIZE);
+                }
+            });
+
+            countFilled += countBatch;
+
+        } while (countBatch == COMPRESSION_BATCH_SIZE);
+
+        if (!super.hasArchive()) {
+            return countFilled;
+        }
+
+        do {
+            countBatch = super.executeArchiveTransaction(new ITransaction<Integer>() {
+                @Override
+                public Integer execute(SQLiteDatabase database) {
+                    return MemoSearchIndex.indexMissingArchived(database, COMPRESSION_BATCH_SIZE);
+                }
+            });
+
+            countFilled += countBatch;
+
+        } while (countBatch == COMPRESSION_BATCH_SIZE);
+
+        return countFilled;
+    }
+
+    /**
+     * 既存のメモの圧縮、圧縮したメモの先頭部分の生成及び全文検索用の索引への登録を
+     * プロセス毎に一度だけ実行スレッドへ投入します。
+     * 二度目以降の呼び出しでは何も行いません。
+     *
+     * @see #compressExistingMemos()
+     * @see #fillMissingSnippets()
+     * @see #fillMissingIndexes()
+     */
+    public void compressExistingMemosInBackground() {
+
+        if (!compressionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        super.executeAsync(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return compressExistingMemos() + fillMissingSnippets() + fillMissingIndexes();
+            }
+        }, null);
+    }
+
+    /**
+     * 指定された日時より前に更新されたメモを版と共にアーカイブへ移動します。
+     * <p>
+     * 移動は一定件数毎に、アーカイブへの複製をコミットした後に元のテーブルから削除する順で行います。
+     * 複製した後に更新されたメモは元のテーブルから削除せず、アーカイブの複製を破棄します。
+     * 分割して保存されたメモ及び自動保存の反映を待っているメモは移動しません。
+     * 移動したメモは元のテーブルの全文検索用の索引からアーカイブの索引へ移され、全文検索、IDによる検索及び全件の検索で引き続き参照できます。
+     *
+     * @param staleBeforeMillis 移動の対象とする更新日時の上限のエポックミリ秒。
+     * @return アーカイブへ移動したメモの件数。
+     * @see #archiveStaleMemosInBackground()
+     */
+    public int archiveStaleMemos(long staleBeforeMillis) {
+
+        int countArchived = 0;
+        long lastMemoId = MemoHolder.ID_UNASSIGNED;
+        List<ContentValues> targets;
+
+        do {
+            targets = super.rawQuery(
+                    MemoArchiveStore.SQL_SELECT_ARCHIVE_TARGETS,
+                    new String[]{String.valueOf(lastMemoId), String.valueOf(staleBeforeMillis)},
+                    MemoArchiveStore.ROWS_READER);
+
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            lastMemoId = targets.get(targets.size() - 1).getAsLong(MemoColumnKey.Id.getKeyName());
+            countArchived += archiveBatch(targets);
+
+        } while (targets.size() == MemoArchiveStore.ARCHIVE_BATCH_SIZE);
+
+        return countArchived;
+    }
+
+    /**
+     * 一定期間更新されていないメモのアーカイブへの移動をプロセス毎に一度だけ実行スレッドへ投入します。
+     * 二度目以降の呼び出しでは何も行いません。
+     *
+     * @see #archiveStaleMemos(long)
+     * @see #ARCHIVE_AGE_MILLIS
+     */
+    public void archiveStaleMemosInBackground() {
+
+        if (!archiveScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        final long staleBeforeMillis = System.currentTimeMillis() - ARCHIVE_AGE_MILLIS;
+
+        super.executeAsync(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return archiveStaleMemos(staleBeforeMillis);
+            }
+        }, null);
+    }
+
+    /**
+     * 渡されたメモを版と共にアーカイブへ複製した後に、元のテーブルから削除します。
+     *
+     * @param targets 移動するメモの全カラム。
+     * @return アーカイブへ移動したメモの件数。
+     */
+    private int archiveBatch(List<ContentValues> targets) {
+
+        final List<ContentValues> memos = new ArrayList<>(targets.size());
+        final Map<Long, List<ContentValues>> revisions = new HashMap<>(targets.size() * 2);
+
+        for (ContentValues target : targets) {
+            long memoId = target.getAsLong(MemoColumnKey.Id.getKeyName());
+
+            // 反映を待っている本文は元のテーブルへ保存されるため移動しない
+            if (autosaveQueue.peek(toAutosaveKey(memoId)) != null) {
+                continue;
+            }
+
+            memos.add(target);
+            revisions.put(memoId, super.rawQuery(MemoArchiveStore.SQL_SELECT_REVISION_ROWS, new String[]{String.valueOf(memoId)}, MemoArchiveStore.ROWS_READER));
+        }
+
+        if (memos.isEmpty()) {
+            return 0;
+        }
+
+        super.executeArchiveTransaction(new ITransaction<Void>() {
+            @Override
+            public Void execute(SQLiteDatabase database) {
+                for (ContentValues memo : memos) {
+                    MemoArchiveStore.insert(database, memo, revisions.get(memo.getAsLong(MemoColumnKey.Id.getKeyName())));
+                }
+
+                return null;
+            }
+        });
+
+        final List<Long> archivedIds = new ArrayList<>(memos.size());
+        final List<Long> updatedIds = new ArrayList<>(0);
+
+        try {
+            super.executeTransaction(new ITransaction<Void>() {
+                @Override
+                public Void execute(SQLiteDatabase database) {
+                    for (ContentValues memo : memos) {
+                        long memoId = memo.getAsLong(MemoColumnKey.Id.getKeyName());
+
+                        if (MemoArchiveStore.deleteSource(database, memo)) {
+                            archivedIds.add(memoId);
+                        } else {
+                            updatedIds.add(memoId);
+                        }
+                    }
+
+                    return null;
+                }
+            });
+
+        } finally {
+            for (long memoId : archivedIds) {
+                invalidateCache(memoId);
+            }
+        }
+
+        // 複製した後に更新されたメモは元のテーブルの行が最新であるため、古い複製を残さない
+        if (!updatedIds.isEmpty()) {
+            deleteArchived(updatedIds);
+        }
+
+        return archivedIds.size();
+    }
+
+    /**
+     * 渡されたIDに紐付くメモ及び版をアーカイブから削除します。
+     *
+     * @param memoIds メモのID。
+     */
+    private void deleteArchived(final List<Long> memoIds) {
+        super.executeArchiveTransaction(new ITransaction<Void>() {
+            @Override
+            public Void execute(SQLiteDatabase database) {
+                for (long memoId : memoIds) {
+                    MemoArchiveStore.delete(database, memoId);
+                }
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 圧縮の対象となる既存のメモを一定件数取得し、圧縮した本文に置き換えます。
+     * 当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @return 圧縮したメモの件数。
+     */
+    private static int compressBatch(SQLiteDatabase database) {
+
+        List<Long> ids = new ArrayList<>(COMPRESSION_BATCH_SIZE);
+        List<String> memos = new ArrayList<>(COMPRESSION_BATCH_SIZE);
+
+        // 更新対象のテーブルを走査しながら更新しないよう、先に対象の本文を読み込む
+        Cursor cursor = database.rawQuery(SQL_SELECT_COMPRESSION_TARGETS, null);
+        try {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getLong(0));
+                memos.add(cursor.getString(1));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        SQLiteStatement statement = database.compileStatement(SQL_UPDATE_TO_COMPRESSED);
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                statement.bindLong(1, MemoColumnKey.FORMAT_DEFLATE);
+                statement.bindBlob(2, CompressionHandler.compress(memos.get(i)));
+                statement.bindLong(3, ids.get(i));
+                statement.executeUpdateDelete();
+                statement.clearBindings();
+            }
+        } finally {
+            statement.close();
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * 先頭部分が生成されていない圧縮されたメモを一定件数取得し、展開した本文から先頭部分を生成します。
+     * 当該メソッドはトランザクション内で呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @return 先頭部分を生成したメモの件数。
+     */
+    private static int fillSnippetBatch(SQLiteDatabase database) {
+
+        List<Long> ids = new ArrayList<>(COMPRESSION_BATCH_SIZE);
+        List<String> snippets = new ArrayList<>(COMPRESSION_BATCH_SIZE);
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_SNIPPET_TARGETS, null);
+        try {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getLong(0));
+                snippets.add(MemoColumnKey.createSnippet(CompressionHandler.decompress(cursor.getBlob(1))));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        SQLiteStatement statement = database.compileStatement(SQL_UPDATE_SNIPPET);
+        try {
+            for (int i = 0; i < ids.size(); i++) {
+                statement.bindString(1, snippets.get(i));
+                statement.bindLong(2, ids.get(i));
+                statement.executeUpdateDelete();
+                statement.clearBindings();
+            }
+        } finally {
+            statement.close();
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * 分割して保存されたメモの指定された順序の分割単位を読み込み返却します。
+     *
+     * @param memoId   メモのID。
+     * @param sequence 分割単位の順序。
+     * @return 分割単位の本文。存在しない場合は空文字列。
+     */
+    String readChunk(long memoId, int sequence) {
+        return super.rawQuery(MemoChunkStore.SQL_SELECT_CHUNK, new String[]{String.valueOf(memoId), String.valueOf(sequence)}, new ICursorReader<String>() {
+            @Override
+            public String read(Cursor cursor) {
+                return cursor.moveToFirst() ? cursor.getString(0) : "";
+            }
+        });
+    }
+
+    /**
+     * メモの自動保存を要求します。
+     * 要求はメモのID毎に最新の内容だけが保持され、一定時間の経過後にまとめて置換処理が行われます。
+     * 反映されるまでの間もIDによる検索及び全件の検索では要求された内容が参照されます。
+     *
+     * @param memoHolder 自動保存するメモ情報。IDが採番済みである必要があります。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     * @see WriteBehindQueue#enqueue(String, Object)
+     * @see #flushAutosave(IQueryCallback)
+     */
+    public void autosave(MemoHolder memoHolder) {
+
+        if (memoHolder == null
+                || !memoHolder.hasId()
+                || !memoHolder.hasMemo()) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        autosaveQueue.enqueue(toAutosaveKey(memoHolder.getId()), memoHolder);
+        invalidateCache(memoHolder.getId());
+    }
+
+    /**
+     * 自動保存の反映を待っている全てのメモを単一のトランザクションで非同期に反映します。
+     * 画面の一時停止時など、要求された内容を確実に永続化する必要がある場合に呼び出します。
+     *
+     * @param callback 処理結果を受け取るコールバック。不要な場合は{@code null}。
+     * @return 実行スレッドへ投入した処理。
+     * @see WriteBehindQueue#flush(IQueryCallback)
+     */
+    public QueryTask<Void> flushAutosave(IQueryCallback<Void> callback) {
+        return autosaveQueue.flush(callback);
+    }
+
+    /**
+     * IDを基にメモ及びメモに紐付く版の削除処理を単一のトランザクションで行います。
+     * アーカイブが存在する場合は、元のテーブルから削除した後にアーカイブからも削除します。
+     * 当該処理に依ってモデルリストは更新されません。
+     *
+     * @param memoId メモのID。
+     * @see BaseModel#deleteByPrimaryKey(Enum, String)
+     */
+    public void deleteById(final long memoId) {
+        autosaveQueue.discard(toAutosaveKey(memoId));
+
+        super.executeTransaction(new ITransaction<Void>() {
+            @Override
+            public Void execute(SQLiteDatabase database) {
+                MemoSearchIndex.unindex(database, MemoSearchIndex.selectIndexedMemo(database, memoId));
+                deleteByPrimaryKey(MemoColumnKey.Id, String.valueOf(memoId));
+                MemoRevisionStore.deleteAll(database, memoId);
+                return null;
+            }
+        });
+
+        if (super.hasArchive()) {
+            deleteArchived(Collections.singletonList(memoId));
+        }
+
+        invalidateCache(memoId);
+    }
+
+    /**
+     * IDを基にメモの削除処理を非同期で行います。
+     *
+     * @param memoId   メモのID。
+     * @param callback 処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #deleteById(long)
+     */
+    public QueryTask<Void> deleteByIdAsync(final long memoId, IQueryCallback<Void> callback) {
+        autosaveQueue.discard(toAutosaveKey(memoId));
+
+        return super.executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                deleteById(memoId);
+                return null;
+            }
+        }, callback);
+    }
+
+    /**
+     * メモ名を基にメモの削除処理を行います。
+     * メモ名に紐付くIDを解決した後に、IDを基に削除します。
+     * 元のテーブルに存在しないメモ名はアーカイブから解決します。
+     *
+     * @param primaryKey メモ名。
+     * @see #deleteById(long)
+     */
+    public void deleteByPrimaryKey(final String primaryKey) {
+
+        long memoId = super.rawQuery(SQL_SELECT_MEMO_ID, new String[]{primaryKey}, new ICursorReader<Long>() {
+            @Override
+            public Long read(Cursor cursor) {
+                return cursor.moveToFirst() ? cursor.getLong(0) : MemoHolder.ID_UNASSIGNED;
+            }
+        });
+
+        if (memoId == MemoHolder.ID_UNASSIGNED) {
+            ContentValues archivedMemo = selectArchivedMemo(MemoArchiveStore.SQL_SELECT_ARCHIVED_MEMO_BY_NAME, primaryKey);
+
+            if (archivedMemo != null) {
+                memoId = archivedMemo.getAsLong(MemoColumnKey.Id.getKeyName());
+            }
+        }
+
+        if (memoId != MemoHolder.ID_UNASSIGNED) {
+            deleteById(memoId);
+        }
+    }
+
+    /**
+     * メモ名を基にメモの削除処理を非同期で行います。
+     *
+     * @param primaryKey メモ名。
+     * @param callback   処理結果を受け取るコールバック。
+     * @return 実行スレッドへ投入した処理。
+     * @see #deleteByPrimaryKey(String)
+     */
+    public QueryTask<Void> deleteByPrimaryKeyAsync(final String primaryKey, IQueryCallback<Void> callback) {
+        return super.executeAsync(new Callable<Void>() {
+            @Override
+            public Void call() {
+                deleteByPrimaryKey(primaryKey);
+                return null;
+            }
+        }, callback);
     }
 }
@@ -0,0 +1,144 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.Objects;
+
+import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoRevision.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモの版の一覧に表示する一件を表すデータクラスです。
+ * 版の全文は{@link MemoInformation#readRevision(long, long)}で復元します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#selectRevisions(long)
+ * @since 1.0
+ */
+public final class MemoRevision extends ModelAccessor {
+
+    /**
+     * メモのIDを格納するフィールドです。
+     *
+     * @see #getMemoId()
+     */
+    private final long memoId;
+
+    /**
+     * 版番号を格納するフィールドです。
+     *
+     * @see #getRevision()
+     */
+    private final long revision;
+
+    /**
+     * チェックポイントであるか否かを格納するフィールドです。
+     *
+     * @see #isCheckpoint()
+     */
+    private final boolean checkpoint;
+
+    /**
+     * 版の登録日時を格納するフィールドです。
+     *
+     * @see #getRegisteredDatetime()
+     */
+    private final String registeredDatetime;
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     *
+     * @param memoId             メモのID。
+     * @param revision           版番号。
+     * @param checkpoint         チェックポイントであるか否か。
+     * @param registeredDatetime 版の登録日時。
+     */
+    public MemoRevision(long memoId, long revision, boolean checkpoint, String registeredDatetime) {
+        if (registeredDatetime == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.memoId = memoId;
+        this.revision = revision;
+        this.checkpoint = checkpoint;
+        this.registeredDatetime = registeredDatetime;
+    }
+
+    /**
+     * メモのIDを返却するGetterメソッドです。
+     *
+     * @return メモのID。
+     */
+    public long getMemoId() {
+        return memoId;
+    }
+
+    /**
+     * 版番号を返却するGetterメソッドです。
+     *
+     * @return 版番号。
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * 当該版がチェックポイントであるかを返却するGetterメソッドです。
+     *
+     * @return チェックポイントの場合は {@code true}、それ以外は{@code false}。
+     */
+    public boolean isCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * 版の登録日時を返却するGetterメソッドです。
+     *
+     * @return yyyyMMddHHmmss形式の日時。
+     */
+    public String getRegisteredDatetime() {
+        return registeredDatetime;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoRevision{" +
+                "memoId=" + memoId +
+                ", revision=" + revision +
+                ", checkpoint=" + checkpoint +
+                ", registeredDatetime='" + registeredDatetime + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MemoRevision that = (MemoRevision) o;
+        return getMemoId() == that.getMemoId() &&
+                getRevision() == that.getRevision() &&
+                isCheckpoint() == that.isCheckpoint() &&
+                Objects.equals(getRegisteredDatetime(), that.getRegisteredDatetime());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMemoId(), getRevision(), isCheckpoint(), getRegisteredDatetime());
+    }
+}
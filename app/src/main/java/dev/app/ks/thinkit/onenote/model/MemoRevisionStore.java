@@ -0,0 +1,393 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import dev.app.ks.thinkit.onenote.framework.CalendarHandler;
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoRevisionStore.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモの版をmemo_revisionテーブルへ保存及び復元する機能を定義したユーティリティクラスです。
+ * <p>
+ * 版は全文を保持するチェックポイントと、直前の版からの差分で構成されます。
+ * 各版は自身の復元の起点となるチェックポイントの版番号を保持しており、
+ * 任意の版はチェックポイントから当該版までの行を一度の検索で取得し、順に差分を適用することで復元されます。
+ * <p>
+ * 新規に登録したメモの本文はメモ情報の行と重複するため版として保存せず、
+ * 最初に本文を変更した際に変更前の本文を最初のチェックポイントとして保存します。
+ * <p>
+ * 圧縮の閾値を超える全文を保持するチェックポイント及び差分は、メモ本文と同様に圧縮したバイト列を差分のカラムへ保存します。
+ * <p>
+ * 当該クラスの書き込み処理は全てメモ情報の書き込みと同一のトランザクション内で呼び出す必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see RevisionDelta
+ * @see RevisionPolicy
+ * @since 1.0
+ */
+final class MemoRevisionStore {
+
+    /**
+     * 最新の版の版番号と起点のチェックポイントを取得するSQL文。
+     */
+    private static final String SQL_SELECT_HEAD =
+            "SELECT revision, checkpoint_revision FROM memo_revision WHERE memo_id = ? ORDER BY revision DESC LIMIT 1";
+
+    /**
+     * メモに紐付く版が存在するか判定するSQL文。
+     */
+    private static final String SQL_EXISTS_REVISION =
+            "SELECT 1 FROM memo_revision WHERE memo_id = ? LIMIT 1";
+
+    /**
+     * 最も古い版の版番号を取得するSQL文。
+     */
+    private static final String SQL_SELECT_OLDEST =
+            "SELECT MIN(revision) FROM memo_revision WHERE memo_id = ?";
+
+    /**
+     * 指定された版の復元に必要な行を起点のチェックポイントから順に取得するSQL文。
+     */
+    static final String SQL_SELECT_CHAIN =
+            "SELECT prefix_length, suffix_length, payload FROM memo_revision"
+                    + " WHERE memo_id = ? AND revision <= ?"
+                    + " AND revision >= (SELECT checkpoint_revision FROM memo_revision WHERE memo_id = ? AND revision = ?)"
+                    + " ORDER BY revision";
+
+    /**
+     * メモに紐付く全ての版を取得するSQL文。
+     */
+    static final String SQL_SELECT_REVISIONS =
+            "SELECT revision, checkpoint_revision, registered_datetime FROM memo_revision WHERE memo_id = ? ORDER BY revision";
+
+    /**
+     * メモに紐付く全ての版が保持している文字数の合計を取得するSQL文。
+     */
+    static final String SQL_SELECT_PAYLOAD_LENGTH =
+            "SELECT TOTAL(LENGTH(payload)) FROM memo_revision WHERE memo_id = ?";
+
+    /**
+     * 版を登録するSQL文。
+     */
+    private static final String SQL_INSERT_REVISION =
+            "INSERT INTO memo_revision(memo_id, revision, checkpoint_revision, prefix_length, suffix_length, payload, registered_datetime)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 差分の版をチェックポイントへ書き換えるSQL文。
+     */
+    private static final String SQL_UPDATE_TO_CHECKPOINT =
+            "UPDATE memo_revision SET checkpoint_revision = revision, prefix_length = 0, suffix_length = 0, payload = ?"
+                    + " WHERE memo_id = ? AND revision = ?";
+
+    /**
+     * 書き換えたチェックポイント以降の版の起点を付け替えるSQL文。
+     */
+    private static final String SQL_UPDATE_CHECKPOINT_REVISION =
+            "UPDATE memo_revision SET checkpoint_revision = ? WHERE memo_id = ? AND revision > ? AND checkpoint_revision < ?";
+
+    /**
+     * 指定された版より古い版を削除するSQL文。
+     */
+    private static final String SQL_DELETE_OLDER_REVISIONS =
+            "DELETE FROM memo_revision WHERE memo_id = ? AND revision < ?";
+
+    /**
+     * メモに紐付く全ての版を削除するSQL文。
+     */
+    private static final String SQL_DELETE_REVISIONS =
+            "DELETE FROM memo_revision WHERE memo_id = ?";
+
+    /**
+     * 差分の大きさが全文に対して当該割合を超える場合は差分ではなくチェックポイントとして保存する。
+     */
+    private static final double RATIO_CHECKPOINT = 0.5;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private MemoRevisionStore() {
+    }
+
+    /**
+     * メモに紐付く版が存在するか判定します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @return 版が存在する場合は {@code true}、それ以外は{@code false}。
+     */
+    static boolean hasRevisions(SQLiteDatabase database, long memoId) {
+        Cursor cursor = database.rawQuery(SQL_EXISTS_REVISION, new String[]{String.valueOf(memoId)});
+        try {
+            return cursor.moveToFirst();
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 版が存在しないメモについて、変更前の本文を最初のチェックポイントとして保存します。
+     * 当該メソッドは本文の変更を{@link #record(SQLiteDatabase, long, String, RevisionPolicy)}で保存する前に呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @param text     変更前の本文。
+     */
+    static void recordBaseline(SQLiteDatabase database, long memoId, String text) {
+        insertRevision(database, memoId, 1, 1, RevisionDelta.checkpoint(text));
+    }
+
+    /**
+     * 渡された全文をメモの新しい版として保存します。
+     * 最新の版と同一の全文である場合は保存しません。
+     * 版が存在しない場合は全文がメモ情報の行と重複するため保存しません。
+     * 保存後に保持する版の数が方針の上限と猶予を超えた場合は古い版を削除します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @param text     新しい版の全文。
+     * @param policy   版の保存及び保持に関する方針。
+     * @return 新しい版を保存した場合は {@code true}、それ以外は{@code false}。
+     * @see #recordBaseline(SQLiteDatabase, long, String)
+     */
+    static boolean record(SQLiteDatabase database, long memoId, String text, RevisionPolicy policy) {
+
+        long headRevision = 0;
+        long checkpointRevision = 0;
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_HEAD, new String[]{String.valueOf(memoId)});
+        try {
+            if (cursor.moveToFirst()) {
+                headRevision = cursor.getLong(0);
+                checkpointRevision = cursor.getLong(1);
+            }
+        } finally {
+            cursor.close();
+        }
+
+        if (headRevision == 0) {
+            return false;
+        }
+
+        String previous = reconstruct(database, memoId, headRevision);
+
+        if (text.equals(previous)) {
+            return false;
+        }
+
+        long revision = headRevision + 1;
+        RevisionDelta delta;
+
+        if (previous == null || revision - checkpointRevision >= policy.getCheckpointInterval()) {
+            delta = RevisionDelta.checkpoint(text);
+        } else {
+            delta = RevisionDelta.diff(previous, text);
+
+            if (delta.getInsertion().length() > text.length() * RATIO_CHECKPOINT) {
+                delta = RevisionDelta.checkpoint(text);
+            }
+        }
+
+        insertRevision(database, memoId, revision, delta.isCheckpoint() ? revision : checkpointRevision, delta);
+        compactIfNeeded(database, memoId, revision, policy);
+
+        return true;
+    }
+
+    /**
+     * 版を登録します。
+     *
+     * @param database           書き込み用のデータベース。
+     * @param memoId             メモのID。
+     * @param revision           版番号。
+     * @param checkpointRevision 起点のチェックポイントの版番号。
+     * @param delta              版の差分または全文。
+     */
+    private static void insertRevision(SQLiteDatabase database, long memoId, long revision, long checkpointRevision, RevisionDelta delta) {
+        SQLiteStatement statement = database.compileStatement(SQL_INSERT_REVISION);
+        try {
+            statement.bindLong(1, memoId);
+            statement.bindLong(2, revision);
+            statement.bindLong(3, checkpointRevision);
+            statement.bindLong(4, delta.getPrefixLength());
+            statement.bindLong(5, delta.getSuffixLength());
+            bindPayload(statement, 6, delta.getInsertion());
+            statement.bindString(7, CalendarHandler.getClientDatetime());
+            statement.executeInsert();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * 保持する版の数が方針の上限とチェックポイントの間隔の和を超えた場合に古い版を削除します。
+     * 削除後に最も古くなる版が差分である場合は、全文を復元してチェックポイントへ書き換えます。
+     *
+     * @param database     書き込み用のデータベース。
+     * @param memoId       メモのID。
+     * @param headRevision 最新の版番号。
+     * @param policy       版の保存及び保持に関する方針。
+     */
+    private static void compactIfNeeded(SQLiteDatabase database, long memoId, long headRevision, RevisionPolicy policy) {
+
+        long oldestRevision;
+
+        Cursor cursor = database.rawQuery(SQL_SELECT_OLDEST, new String[]{String.valueOf(memoId)});
+        try {
+            oldestRevision = cursor.moveToFirst() ? cursor.getLong(0) : headRevision;
+        } finally {
+            cursor.close();
+        }
+
+        // 版の追加の度に削除が発生しないよう、チェックポイントの間隔分の猶予を設ける
+        if (headRevision - oldestRevision + 1 <= policy.getMaximumRevisions() + policy.getCheckpointInterval()) {
+            return;
+        }
+
+        long newOldestRevision = headRevision - policy.getMaximumRevisions() + 1;
+        String newOldestText = reconstruct(database, memoId, newOldestRevision);
+
+        SQLiteStatement statement = database.compileStatement(SQL_UPDATE_TO_CHECKPOINT);
+        try {
+            bindPayload(statement, 1, newOldestText);
+            statement.bindLong(2, memoId);
+            statement.bindLong(3, newOldestRevision);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+
+        statement = database.compileStatement(SQL_UPDATE_CHECKPOINT_REVISION);
+        try {
+            statement.bindLong(1, newOldestRevision);
+            statement.bindLong(2, memoId);
+            statement.bindLong(3, newOldestRevision);
+            statement.bindLong(4, newOldestRevision);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+
+        statement = database.compileStatement(SQL_DELETE_OLDER_REVISIONS);
+        try {
+            statement.bindLong(1, memoId);
+            statement.bindLong(2, newOldestRevision);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * メモに紐付く全ての版を削除します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     */
+    static void deleteAll(SQLiteDatabase database, long memoId) {
+        SQLiteStatement statement = database.compileStatement(SQL_DELETE_REVISIONS);
+        try {
+            statement.bindLong(1, memoId);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * 渡されたデータベースから指定された版を復元し返却します。
+     *
+     * @param database データベース。
+     * @param memoId   メモのID。
+     * @param revision 版番号。
+     * @return 版の全文。版が存在しない場合は{@code null}。
+     */
+    private static String reconstruct(SQLiteDatabase database, long memoId, long revision) {
+        Cursor cursor = database.rawQuery(SQL_SELECT_CHAIN, createChainSelectionArgs(memoId, revision));
+        try {
+            return reconstruct(cursor);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * {@link #SQL_SELECT_CHAIN}の検索結果に順に差分を適用し、版の全文を返却します。
+     *
+     * @param cursor {@link #SQL_SELECT_CHAIN}の検索結果。
+     * @return 版の全文。検索結果が存在しない場合は{@code null}。
+     */
+    static String reconstruct(Cursor cursor) {
+
+        String text = null;
+
+        while (cursor.moveToNext()) {
+            String payload = cursor.getType(2) == Cursor.FIELD_TYPE_BLOB
+                    ? CompressionHandler.decompress(cursor.getBlob(2))
+                    : cursor.getString(2);
+            RevisionDelta delta = new RevisionDelta(cursor.getInt(0), cursor.getInt(1), payload);
+            text = delta.apply(text);
+        }
+
+        return text;
+    }
+
+    /**
+     * 差分のカラムへ値を設定します。
+     * 圧縮の閾値を超える値は、チェックポイントの全文に限らず圧縮したバイト列を設定します。
+     * 差分のカラムはTEXT型の親和性を持ちますが、バイト列は変換されずにそのまま保存されます。
+     *
+     * @param statement 版を登録または更新するステートメント。
+     * @param index     差分のカラムのプレースホルダの位置。
+     * @param payload   差分または全文。
+     * @see MemoColumnKey#isCompressionTarget(String)
+     */
+    private static void bindPayload(SQLiteStatement statement, int index, String payload) {
+        if (MemoColumnKey.isCompressionTarget(payload)) {
+            statement.bindBlob(index, CompressionHandler.compress(payload));
+        } else {
+            statement.bindString(index, payload);
+        }
+    }
+
+    /**
+     * 版を検索するSQL文を、アタッチしたデータベースの版のテーブルを参照するSQL文へ変換し返却します。
+     * アーカイブへ移動したメモの版を参照する際に使用します。
+     *
+     * @param sql        版を検索するSQL文。
+     * @param schemaName アタッチしたデータベースのスキーマ名。
+     * @return 変換したSQL文。
+     */
+    static String qualify(String sql, String schemaName) {
+        return sql.replace("FROM memo_revision", "FROM " + schemaName + ".memo_revision");
+    }
+
+    /**
+     * {@link #SQL_SELECT_CHAIN}に渡す値を生成し返却します。
+     *
+     * @param memoId   メモのID。
+     * @param revision 版番号。
+     * @return SQL文のプレースホルダへ設定する値。
+     */
+    static String[] createChainSelectionArgs(long memoId, long revision) {
+        String stringMemoId = String.valueOf(memoId);
+        String stringRevision = String.valueOf(revision);
+        return new String[]{stringMemoId, stringRevision, stringMemoId, stringRevision};
+    }
+}
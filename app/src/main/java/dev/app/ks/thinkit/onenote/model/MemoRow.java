@@ -0,0 +1,163 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.Objects;
+
+import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoRow.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモ情報の一行を型付きで保持する不変のデータクラスです。
+ * モデルマップと異なり値をボックス化せずに保持するため、取得時の型変換を必要としません。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoRowCursor#toRow()
+ * @since 1.0
+ */
+public final class MemoRow extends ModelAccessor {
+
+    /**
+     * IDを格納するフィールドです。
+     *
+     * @see #getId()
+     */
+    private final long id;
+
+    /**
+     * メモ名を格納するフィールドです。
+     *
+     * @see #getMemoName()
+     */
+    private final String memoName;
+
+    /**
+     * メモを格納するフィールドです。
+     *
+     * @see #getMemo()
+     */
+    private final String memo;
+
+    /**
+     * 登録日時を格納するフィールドです。
+     *
+     * @see #getRegisteredDatetime()
+     */
+    private final long registeredDatetime;
+
+    /**
+     * 更新日時を格納するフィールドです。
+     *
+     * @see #getUpdatedDatetime()
+     */
+    private final long updatedDatetime;
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     *
+     * @param id                 ID。
+     * @param memoName           メモ名。
+     * @param memo               メモ。分割して保存されたメモの場合は{@code null}。
+     * @param registeredDatetime 登録日時のエポックミリ秒。
+     * @param updatedDatetime    更新日時のエポックミリ秒。
+     */
+    public MemoRow(long id, String memoName, String memo, long registeredDatetime, long updatedDatetime) {
+        if (memoName == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.id = id;
+        this.memoName = memoName;
+        this.memo = memo;
+        this.registeredDatetime = registeredDatetime;
+        this.updatedDatetime = updatedDatetime;
+    }
+
+    /**
+     * IDを返却するGetterメソッドです。
+     *
+     * @return ID。
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * メモ名を返却するGetterメソッドです。
+     *
+     * @return メモ名。
+     */
+    public String getMemoName() {
+        return memoName;
+    }
+
+    /**
+     * メモを返却するGetterメソッドです。
+     *
+     * @return メモ。分割して保存されたメモの場合は{@code null}。
+     */
+    public String getMemo() {
+        return memo;
+    }
+
+    /**
+     * 登録日時を返却するGetterメソッドです。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getRegisteredDatetime() {
+        return registeredDatetime;
+    }
+
+    /**
+     * 更新日時を返却するGetterメソッドです。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getUpdatedDatetime() {
+        return updatedDatetime;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoRow{" +
+                "id=" + id +
+                ", memoName='" + memoName + '\'' +
+                ", registeredDatetime=" + registeredDatetime +
+                ", updatedDatetime=" + updatedDatetime +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MemoRow that = (MemoRow) o;
+        return getId() == that.getId() &&
+                Objects.equals(getMemoName(), that.getMemoName()) &&
+                getRegisteredDatetime() == that.getRegisteredDatetime() &&
+                getUpdatedDatetime() == that.getUpdatedDatetime() &&
+                Objects.equals(getMemo(), that.getMemo());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getMemoName(), getMemo(), getRegisteredDatetime(), getUpdatedDatetime());
+    }
+}
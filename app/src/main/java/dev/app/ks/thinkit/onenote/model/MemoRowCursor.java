@@ -0,0 +1,170 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.database.Cursor;
+
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
+import dev.app.ks.thinkit.onenote.framework.model.executor.WriteBehindQueue;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoRowCursor.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * カーソルの現在行をメモ情報として型付きで参照するクラスです。
+ * <p>
+ * カラムの位置は生成時に一度だけ解決され、以降はカーソルの移動に従って参照する行が切り替わります。
+ * 当該クラスは行毎にオブジェクトを生成しないため、全行を走査する際のメモリ確保を抑えられます。
+ * 値を保持する場合は{@link #toRow()}で不変の{@link MemoRow}へ変換する必要があります。
+ * <p>
+ * 自動保存の反映を待っているメモは、モデルマップへ格納する場合と同様に反映待ちの内容を優先します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#selectEachRow(dev.app.ks.thinkit.onenote.framework.IRecordVisitor)
+ * @since 1.0
+ */
+public final class MemoRowCursor {
+
+    /**
+     * 参照するカーソル。
+     */
+    private final Cursor cursor;
+
+    /**
+     * 自動保存の反映を待っているメモを保持するキュー。
+     */
+    private final WriteBehindQueue<MemoHolder> autosaveQueue;
+
+    /**
+     * IDのカラムの位置。
+     */
+    private final int idIndex;
+
+    /**
+     * メモ名のカラムの位置。
+     */
+    private final int memoNameIndex;
+
+    /**
+     * メモのカラムの位置。
+     */
+    private final int memoIndex;
+
+    /**
+     * 登録日時のカラムの位置。
+     */
+    private final int registeredDatetimeIndex;
+
+    /**
+     * 更新日時のカラムの位置。
+     */
+    private final int updatedDatetimeIndex;
+
+    /**
+     * メモの保存形式のカラムの位置。検索結果に含まれない場合は-1。
+     */
+    private final int memoFormatIndex;
+
+    /**
+     * 圧縮したメモのカラムの位置。検索結果に含まれない場合は-1。
+     */
+    private final int memoCompressedIndex;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 渡されたカーソルのカラムの位置を解決します。
+     *
+     * @param cursor        参照するカーソル。
+     * @param autosaveQueue 自動保存の反映を待っているメモを保持するキュー。
+     * @throws IllegalArgumentException 必須のカラムが検索結果に含まれない場合に発生します。
+     */
+    MemoRowCursor(Cursor cursor, WriteBehindQueue<MemoHolder> autosaveQueue) {
+        this.cursor = cursor;
+        this.autosaveQueue = autosaveQueue;
+
+        idIndex = cursor.getColumnIndexOrThrow(MemoColumnKey.Id.getKeyName());
+        memoNameIndex = cursor.getColumnIndexOrThrow(MemoColumnKey.MemoName.getKeyName());
+        memoIndex = cursor.getColumnIndexOrThrow(MemoColumnKey.Memo.getKeyName());
+        registeredDatetimeIndex = cursor.getColumnIndexOrThrow(MemoColumnKey.RegisteredDatetime.getKeyName());
+        updatedDatetimeIndex = cursor.getColumnIndexOrThrow(MemoColumnKey.UpdatedDatetime.getKeyName());
+        memoFormatIndex = cursor.getColumnIndex(MemoColumnKey.MemoFormat.getKeyName());
+        memoCompressedIndex = cursor.getColumnIndex(MemoColumnKey.MemoCompressed.getKeyName());
+    }
+
+    /**
+     * 現在行のIDを返却します。
+     *
+     * @return ID。
+     */
+    public long getId() {
+        return cursor.getLong(idIndex);
+    }
+
+    /**
+     * 現在行のメモ名を返却します。
+     *
+     * @return メモ名。
+     */
+    public String getMemoName() {
+        return cursor.getString(memoNameIndex);
+    }
+
+    /**
+     * 現在行のメモを返却します。
+     * 圧縮して保存されたメモは展開して返却します。
+     *
+     * @return メモ。分割して保存されたメモの場合は{@code null}。
+     */
+    public String getMemo() {
+
+        MemoHolder pendingMemo = autosaveQueue.peek(MemoInformation.toAutosaveKey(getId()));
+
+        if (pendingMemo != null) {
+            return pendingMemo.getMemo();
+        }
+
+        if (memoFormatIndex >= 0
+                && memoCompressedIndex >= 0
+                && cursor.getInt(memoFormatIndex) == MemoColumnKey.FORMAT_DEFLATE) {
+            return CompressionHandler.decompress(cursor.getBlob(memoCompressedIndex));
+        }
+
+        return cursor.getString(memoIndex);
+    }
+
+    /**
+     * 現在行の登録日時を返却します。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getRegisteredDatetime() {
+        return cursor.getLong(registeredDatetimeIndex);
+    }
+
+    /**
+     * 現在行の更新日時を返却します。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getUpdatedDatetime() {
+        return cursor.getLong(updatedDatetimeIndex);
+    }
+
+    /**
+     * 現在行の値を不変の{@link MemoRow}へ変換し返却します。
+     *
+     * @return 現在行の値を保持するデータクラス。
+     */
+    public MemoRow toRow() {
+        return new MemoRow(getId(), getMemoName(), getMemo(), getRegisteredDatetime(), getUpdatedDatetime());
+    }
+}
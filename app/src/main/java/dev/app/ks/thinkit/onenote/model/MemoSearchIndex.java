@@ -0,0 +1,523 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
+import dev.app.ks.thinkit.onenote.framework.model.FullTextSearchHandler;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.DatabaseConnectionManager;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+import dev.app.ks.thinkit.onenote.model.property.Table;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoSearchIndex.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモの全文検索用の索引への登録、削除及び検索結果の順位付けを定義したユーティリティクラスです。
+ * <p>
+ * 索引は語の位置のみを保持し、圧縮または分割して保存するメモの平文の複製は保持しません。
+ * 索引から削除する際は登録時の内容を索引の内容とするテーブルへ一時的に配置し、削除する語を特定させます。
+ * <p>
+ * アーカイブも同一の構成の索引を保持し、アーカイブへ移動したメモはアーカイブの索引に登録されます。
+ * アーカイブの索引への書き込みはアーカイブの接続で行うため、書き込み処理のSQL文は元のデータベースと共通です。
+ * <p>
+ * 当該クラスの書き込み処理は全てメモ情報の書き込みと同一のトランザクション内で呼び出す必要があります。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see FullTextSearchHandler
+ * @since 1.0
+ */
+final class MemoSearchIndex {
+
+    /**
+     * 全文検索の関連度を算出する際のカラム毎の重み。
+     * 全文検索用の仮想テーブルのカラム順(メモ名、メモ)に対応し、メモ名への適合を優先する。
+     */
+    private static final double[] SEARCH_COLUMN_WEIGHTS = {2.0, 1.0};
+
+    /**
+     * 全文検索に適合した全行のIDと関連度の算出に必要な情報を取得するSQL文。
+     */
+    static final String SQL_SEARCH_MATCH_INFO = String.format(
+            "SELECT docid, matchinfo(%1$s, '%2$s') FROM %1$s WHERE %1$s MATCH ?",
+            Table.MemoInformationFts.getName(),
+            FullTextSearchHandler.MATCH_INFO_FORMAT);
+
+    /**
+     * 関連度の上位の行に限定してメモ名とメモの先頭部分を取得するSQL文のフォーマット。
+     * 全文検索用の索引は本文を保持せずsnippet関数を使用できないため、保存済みの先頭部分を抜粋として使用する。
+     */
+    static final String FORMAT_SQL_SEARCH_SNIPPET = String.format(
+            "SELECT %s, %s, %s FROM %s WHERE %s IN (%%s)",
+            MemoColumnKey.Id.getKeyName(),
+            MemoColumnKey.MemoName.getKeyName(),
+            MemoColumnKey.MemoSnippet.getKeyName(),
+            Table.MemoInformation.getName(),
+            MemoColumnKey.Id.getKeyName());
+
+    /**
+     * アーカイブの全文検索に適合した全行のIDと関連度の算出に必要な情報を取得するSQL文。
+     *
+     * @see #SQL_SEARCH_MATCH_INFO
+     */
+    static final String SQL_SEARCH_ARCHIVED_MATCH_INFO = String.format(
+            "SELECT docid, matchinfo(%1$s, '%2$s') FROM %3$s.%1$s WHERE %1$s MATCH ?",
+            Table.MemoInformationFts.getName(),
+            FullTextSearchHandler.MATCH_INFO_FORMAT,
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME);
+
+    /**
+     * アーカイブの関連度の上位の行に限定してメモ名とメモの先頭部分を取得するSQL文のフォーマット。
+     * 元のテーブルに戻された後にアーカイブから削除されていないメモは、元のテーブルの検索結果のみを返却する。
+     *
+     * @see #FORMAT_SQL_SEARCH_SNIPPET
+     */
+    static final String FORMAT_SQL_SEARCH_ARCHIVED_SNIPPET = String.format(
+            "SELECT %1$s, %2$s, %3$s FROM %4$s.%5$s a WHERE %1$s IN (%%s)"
+                    + " AND NOT EXISTS (SELECT 1 FROM main.%5$s m WHERE m.%1$s = a.%1$s)",
+            MemoColumnKey.Id.getKeyName(),
+            MemoColumnKey.MemoName.getKeyName(),
+            MemoColumnKey.MemoSnippet.getKeyName(),
+            DatabaseConnectionManager.ARCHIVE_SCHEMA_NAME,
+            Table.MemoInformation.getName());
+
+    /**
+     * 索引から削除するメモの登録時の内容を一時的に配置するSQL文。
+     * 索引は配置された内容から削除する語を特定するため、登録時と同じ内容を配置する。
+     */
+    private static final String SQL_STAGE = String.format(
+            "INSERT INTO %s(id, memo_name, memo) VALUES (?, ?, ?)",
+            Table.MemoInformationFtsStaging.getName());
+
+    /**
+     * 索引からメモを削除するSQL文。
+     */
+    private static final String SQL_DELETE = String.format(
+            "DELETE FROM %s WHERE docid = ?",
+            Table.MemoInformationFts.getName());
+
+    /**
+     * 索引からの削除のために配置した内容を取り除くSQL文。
+     */
+    private static final String SQL_UNSTAGE = String.format(
+            "DELETE FROM %s WHERE id = ?",
+            Table.MemoInformationFtsStaging.getName());
+
+    /**
+     * 索引へメモを登録するSQL文。
+     */
+    private static final String SQL_INSERT = String.format(
+            "INSERT INTO %s(docid, memo_name, memo) VALUES (?, ?, ?)",
+            Table.MemoInformationFts.getName());
+
+    /**
+     * IDに紐付くメモの索引に登録されている内容と、索引への登録の有無を取得するSQL文。
+     * 索引の登録の有無は索引が語数を保持する補助テーブルから判定する。
+     */
+    private static final String SQL_SELECT_INDEXED_MEMO = String.format(
+            "SELECT memo_name, chunk_count, memo, memo_format, memo_compressed,"
+                    + " EXISTS (SELECT 1 FROM %s_docsize WHERE docid = m.id) FROM %s m WHERE id = ?",
+            Table.MemoInformationFts.getName(),
+            Table.MemoInformation.getName());
+
+    /**
+     * アーカイブの接続からIDに紐付くメモの索引に登録されている内容と、索引への登録の有無を取得するSQL文。
+     * アーカイブのメモは分割されていないため、分割単位の数は常に0とする。
+     */
+    private static final String SQL_SELECT_ARCHIVED_INDEXED_MEMO = String.format(
+            "SELECT memo_name, 0, memo, memo_format, memo_compressed,"
+                    + " EXISTS (SELECT 1 FROM %s_docsize WHERE docid = m.id) FROM %s m WHERE id = ?",
+            Table.MemoInformationFts.getName(),
+            Table.MemoInformation.getName());
+
+    /**
+     * 索引に登録されていないメモを一定件数取得するSQL文。
+     * 索引の内容を元のテーブルから切り離す前に圧縮または分割されたメモが対象となる。
+     */
+    private static final String SQL_SELECT_INDEX_TARGETS = String.format(
+            "SELECT id, memo_name, chunk_count, memo, memo_format, memo_compressed FROM %s m"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM %s_docsize WHERE docid = m.id) ORDER BY id LIMIT ?",
+            Table.MemoInformation.getName(),
+            Table.MemoInformationFts.getName());
+
+    /**
+     * アーカイブの接続から索引に登録されていないメモを一定件数取得するSQL文。
+     * 索引の作成前にアーカイブへ移動したメモが対象となる。
+     */
+    private static final String SQL_SELECT_ARCHIVED_INDEX_TARGETS = String.format(
+            "SELECT id, memo_name, 0, memo, memo_format, memo_compressed FROM %s m"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM %s_docsize WHERE docid = m.id) ORDER BY id LIMIT ?",
+            Table.MemoInformation.getName(),
+            Table.MemoInformationFts.getName());
+
+    /**
+     * 当該クラスのコンストラクタです。
+     * 当該クラスはインスタンス生成を必要としないため修飾子をprivate指定しています。
+     */
+    private MemoSearchIndex() {
+    }
+
+    /**
+     * 索引へメモの平文を登録します。
+     * 索引は語の位置のみを保持するため、登録済みの場合は事前に{@link #unindex(SQLiteDatabase, IndexedMemo)}で削除する必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @param memoName メモ名。
+     * @param memo     メモの平文。本文を索引に登録しない場合は{@code null}。
+     */
+    static void index(SQLiteDatabase database, long memoId, String memoName, String memo) {
+        SQLiteStatement statement = database.compileStatement(SQL_INSERT);
+        try {
+            statement.bindLong(1, memoId);
+            statement.bindString(2, memoName);
+            bindNullableString(statement, 3, memo);
+            statement.executeInsert();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * 索引からメモの登録済みの内容を削除します。
+     * 索引は削除する語を内容のテーブルから特定するため、登録時の内容を一時的に配置した上で削除します。
+     *
+     * @param database    書き込み用のデータベース。
+     * @param indexedMemo 索引に登録されている内容。メモが存在しない場合は{@code null}。
+     * @see #selectIndexedMemo(SQLiteDatabase, long)
+     */
+    static void unindex(SQLiteDatabase database, IndexedMemo indexedMemo) {
+
+        if (indexedMemo == null || !indexedMemo.isIndexed()) {
+            return;
+        }
+
+        SQLiteStatement statement = database.compileStatement(SQL_STAGE);
+        try {
+            statement.bindLong(1, indexedMemo.getId());
+            statement.bindString(2, indexedMemo.getMemoName());
+            bindNullableString(statement, 3, indexedMemo.getMemo());
+            statement.executeInsert();
+        } finally {
+            statement.close();
+        }
+
+        deleteById(database, SQL_DELETE, indexedMemo.getId());
+        deleteById(database, SQL_UNSTAGE, indexedMemo.getId());
+    }
+
+    /**
+     * IDに紐付く保存済みのメモについて、索引に登録されている内容を返却します。
+     * 分割して保存されたメモは本文を索引に登録しないため、本文を読み込みません。
+     * 当該メソッドはメモの書き込みより前に同一のトランザクション内で呼び出す必要があります。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param memoId   メモのID。
+     * @return 索引に登録されている内容。メモが存在しない場合は{@code null}。
+     */
+    static IndexedMemo selectIndexedMemo(SQLiteDatabase database, long memoId) {
+        return selectIndexedMemo(database, SQL_SELECT_INDEXED_MEMO, memoId);
+    }
+
+    /**
+     * IDに紐付くアーカイブのメモについて、アーカイブの索引に登録されている内容を返却します。
+     * 当該メソッドはアーカイブの書き込みより前に同一のトランザクション内で呼び出す必要があります。
+     *
+     * @param archiveDatabase アーカイブの書き込み用のデータベース。
+     * @param memoId          メモのID。
+     * @return 索引に登録されている内容。メモが存在しない場合は{@code null}。
+     */
+    static IndexedMemo selectArchivedIndexedMemo(SQLiteDatabase archiveDatabase, long memoId) {
+        return selectIndexedMemo(archiveDatabase, SQL_SELECT_ARCHIVED_INDEXED_MEMO, memoId);
+    }
+
+    /**
+     * 渡されたSQL文でIDに紐付くメモを検索し、索引に登録されている内容を返却します。
+     *
+     * @param database データベース。
+     * @param sql      メモ名、分割単位の数、メモ、保存形式、圧縮したメモ、索引への登録の有無の順に取得するSQL文。
+     * @param memoId   メモのID。
+     * @return 索引に登録されている内容。メモが存在しない場合は{@code null}。
+     */
+    private static IndexedMemo selectIndexedMemo(SQLiteDatabase database, String sql, long memoId) {
+
+        Cursor cursor = database.rawQuery(sql, new String[]{String.valueOf(memoId)});
+        try {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+
+            return new IndexedMemo(memoId, cursor.getString(0), readPlainMemo(cursor, 1), cursor.getInt(5) != 0);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    /**
+     * 索引に登録されていないメモを一定件数取得し、圧縮されたメモは展開した本文を索引へ登録します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param limit    一度に登録する件数の上限。
+     * @return 索引へ登録したメモの件数。
+     */
+    static int indexMissing(SQLiteDatabase database, int limit) {
+        return indexMissing(database, SQL_SELECT_INDEX_TARGETS, limit);
+    }
+
+    /**
+     * アーカイブの索引に登録されていないメモを一定件数取得し、アーカイブの索引へ登録します。
+     *
+     * @param archiveDatabase アーカイブの書き込み用のデータベース。
+     * @param limit           一度に登録する件数の上限。
+     * @return 索引へ登録したメモの件数。
+     */
+    static int indexMissingArchived(SQLiteDatabase archiveDatabase, int limit) {
+        return indexMissing(archiveDatabase, SQL_SELECT_ARCHIVED_INDEX_TARGETS, limit);
+    }
+
+    /**
+     * 渡されたSQL文で索引に登録されていないメモを一定件数取得し、索引へ登録します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param sql      ID、メモ名、分割単位の数、メモ、保存形式、圧縮したメモの順に取得するSQL文。
+     * @param limit    一度に登録する件数の上限。
+     * @return 索引へ登録したメモの件数。
+     */
+    private static int indexMissing(SQLiteDatabase database, String sql, int limit) {
+
+        List<Long> ids = new ArrayList<>(limit);
+        List<String> memoNames = new ArrayList<>(limit);
+        List<String> memos = new ArrayList<>(limit);
+
+        // 索引へ登録しながら対象を走査しないよう、先に対象を読み込む
+        Cursor cursor = database.rawQuery(sql, new String[]{String.valueOf(limit)});
+        try {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getLong(0));
+                memoNames.add(cursor.getString(1));
+                memos.add(readPlainMemo(cursor, 2));
+            }
+        } finally {
+            cursor.close();
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            index(database, ids.get(i), memoNames.get(i), memos.get(i));
+        }
+
+        return ids.size();
+    }
+
+    /**
+     * 分割単位の数、メモ、保存形式、圧縮したメモの順に並んだカラムから、索引に登録するメモの平文を返却します。
+     *
+     * @param cursor      読み取り位置のカーソル。
+     * @param columnIndex 分割単位の数のカラムの位置。
+     * @return メモの平文。分割して保存されたメモの場合は{@code null}。
+     */
+    static String readPlainMemo(Cursor cursor, int columnIndex) {
+
+        if (cursor.getInt(columnIndex) > 0) {
+            return null;
+        }
+
+        return cursor.getInt(columnIndex + 2) == MemoColumnKey.FORMAT_DEFLATE
+                ? CompressionHandler.decompress(cursor.getBlob(columnIndex + 3))
+                : cursor.getString(columnIndex + 1);
+    }
+
+    /**
+     * 全文検索に適合した全行の関連度を算出し、関連度の上位の行のIDと関連度を返却します。
+     * 上位の行は件数の上限を大きさとする最小ヒープで選択するため、
+     * 適合した行数に関わらず全件の並べ替えは行いません。
+     *
+     * @param cursor 全文検索に適合した行のIDとmatchinfo関数の戻り値を保持するカーソル。
+     * @param limit  取得する件数の上限。
+     * @return 関連度の上位の行のIDと関連度。
+     * @see #SQL_SEARCH_MATCH_INFO
+     */
+    static Map<Long, Double> rankTopDocuments(Cursor cursor, int limit) {
+
+        PriorityQueue<RankedDocument> ranking = new PriorityQueue<>(limit + 1, new Comparator<RankedDocument>() {
+            @Override
+            public int compare(RankedDocument document1, RankedDocument document2) {
+                return Double.compare(document1.score, document2.score);
+            }
+        });
+
+        while (cursor.moveToNext()) {
+            double score = FullTextSearchHandler.computeBm25(cursor.getBlob(1), SEARCH_COLUMN_WEIGHTS);
+
+            if (ranking.size() < limit) {
+                ranking.add(new RankedDocument(cursor.getLong(0), score));
+            } else if (ranking.peek().score < score) {
+                ranking.poll();
+                ranking.add(new RankedDocument(cursor.getLong(0), score));
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>(ranking.size() * 2);
+
+        for (RankedDocument document : ranking) {
+            scores.put(document.docId, document.score);
+        }
+
+        return scores;
+    }
+
+    /**
+     * IDをプレースホルダとする削除のSQL文を実行します。
+     *
+     * @param database 書き込み用のデータベース。
+     * @param sql      削除のSQL文。
+     * @param memoId   メモのID。
+     */
+    private static void deleteById(SQLiteDatabase database, String sql, long memoId) {
+        SQLiteStatement statement = database.compileStatement(sql);
+        try {
+            statement.bindLong(1, memoId);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * ステートメントの指定された位置へ文字列を設定します。
+     * 文字列が{@code null}の場合はNULLを設定します。
+     *
+     * @param statement ステートメント。
+     * @param index     プレースホルダの位置。
+     * @param value     設定する文字列。
+     */
+    private static void bindNullableString(SQLiteStatement statement, int index, String value) {
+        if (value != null) {
+            statement.bindString(index, value);
+        } else {
+            statement.bindNull(index);
+        }
+    }
+
+    /**
+     * 全文検索用の索引に登録されているメモの内容を保持するクラス。
+     * 索引は本文を保持しないため、索引から削除する際に登録時の内容を再現するために使用します。
+     */
+    static final class IndexedMemo {
+
+        /**
+         * メモのID。
+         */
+        private final long id;
+
+        /**
+         * メモ名。
+         */
+        private final String memoName;
+
+        /**
+         * メモの平文。分割して保存されたメモの場合は{@code null}。
+         */
+        private final String memo;
+
+        /**
+         * 索引に登録されている場合は {@code true}。
+         */
+        private final boolean indexed;
+
+        /**
+         * 当該クラスのコンストラクタ。
+         *
+         * @param id       メモのID。
+         * @param memoName メモ名。
+         * @param memo     メモの平文。分割して保存されたメモの場合は{@code null}。
+         * @param indexed  索引に登録されている場合は {@code true}。
+         */
+        private IndexedMemo(long id, String memoName, String memo, boolean indexed) {
+            this.id = id;
+            this.memoName = memoName;
+            this.memo = memo;
+            this.indexed = indexed;
+        }
+
+        /**
+         * メモのIDを返却します。
+         *
+         * @return メモのID。
+         */
+        long getId() {
+            return id;
+        }
+
+        /**
+         * メモ名を返却します。
+         *
+         * @return メモ名。
+         */
+        String getMemoName() {
+            return memoName;
+        }
+
+        /**
+         * メモの平文を返却します。
+         *
+         * @return メモの平文。分割して保存されたメモの場合は{@code null}。
+         */
+        String getMemo() {
+            return memo;
+        }
+
+        /**
+         * 索引に登録されているか判定します。
+         *
+         * @return 索引に登録されている場合は {@code true}、それ以外は{@code false}。
+         */
+        boolean isIndexed() {
+            return indexed;
+        }
+    }
+
+    /**
+     * 全文検索に適合した行のIDと関連度を保持するクラス。
+     */
+    private static final class RankedDocument {
+
+        /**
+         * 全文検索用の仮想テーブルの行ID。
+         */
+        private final long docId;
+
+        /**
+         * 関連度。
+         */
+        private final double score;
+
+        /**
+         * 当該クラスのコンストラクタ。
+         *
+         * @param docId 全文検索用の仮想テーブルの行ID。
+         * @param score 関連度。
+         */
+        private RankedDocument(long docId, double score) {
+            this.docId = docId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.Objects;
+
+import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoSearchResult.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモ情報の全文検索で適合した一件を表すデータクラスです。
+ * 抜粋にはメモの先頭部分が格納され、先頭部分のうち検索語に適合した箇所が{@link #HIGHLIGHT_START}と{@link #HIGHLIGHT_END}で囲まれます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#search(String, int)
+ * @since 1.0
+ */
+public final class MemoSearchResult extends ModelAccessor {
+
+    /**
+     * 抜粋中の適合箇所の開始を表す文字列です。
+     */
+    public static final String HIGHLIGHT_START = "<b>";
+
+    /**
+     * 抜粋中の適合箇所の終了を表す文字列です。
+     */
+    public static final String HIGHLIGHT_END = "</b>";
+
+    /**
+     * IDを格納するフィールドです。
+     *
+     * @see #getId()
+     */
+    private final long id;
+
+    /**
+     * メモ名を格納するフィールドです。
+     *
+     * @see #getMemoName()
+     */
+    private final String memoName;
+
+    /**
+     * 適合箇所を強調した抜粋を格納するフィールドです。
+     *
+     * @see #getSnippet()
+     */
+    private final String snippet;
+
+    /**
+     * 検索条件に対する関連度を格納するフィールドです。
+     *
+     * @see #getScore()
+     */
+    private final double score;
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     *
+     * @param id       ID。
+     * @param memoName メモ名。
+     * @param snippet  適合箇所を強調した抜粋。
+     * @param score    関連度。
+     */
+    public MemoSearchResult(long id, String memoName, String snippet, double score) {
+        if (memoName == null || snippet == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.id = id;
+        this.memoName = memoName;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    /**
+     * IDを返却するGetterメソッドです。
+     *
+     * @return ID。
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * メモ名を返却するGetterメソッドです。
+     *
+     * @return メモ名。
+     */
+    public String getMemoName() {
+        return memoName;
+    }
+
+    /**
+     * 適合箇所を強調した抜粋を返却するGetterメソッドです。
+     *
+     * @return 抜粋。
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * 関連度を返却するGetterメソッドです。
+     * 値が大きい程検索条件に適合します。
+     *
+     * @return 関連度。
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoSearchResult{" +
+                "id=" + id +
+                ", memoName='" + memoName + '\'' +
+                ", snippet='" + snippet + '\'' +
+                ", score=" + score +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MemoSearchResult that = (MemoSearchResult) o;
+        return getId() == that.getId() &&
+                Double.compare(that.getScore(), getScore()) == 0 &&
+                Objects.equals(getMemoName(), that.getMemoName()) &&
+                Objects.equals(getSnippet(), that.getSnippet());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getMemoName(), getSnippet(), getScore());
+    }
+}
@@ -0,0 +1,144 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import java.util.Objects;
+
+import dev.app.ks.thinkit.onenote.framework.model.holder.ModelAccessor;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : MemoSummary.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモの一覧に表示する一件を表す不変のデータクラスです。
+ * 本文は保持せず、保存時に生成したメモの先頭部分のみを保持します。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#selectAllSummaries()
+ * @since 1.0
+ */
+public final class MemoSummary extends ModelAccessor {
+
+    /**
+     * IDを格納するフィールドです。
+     *
+     * @see #getId()
+     */
+    private final long id;
+
+    /**
+     * メモ名を格納するフィールドです。
+     *
+     * @see #getMemoName()
+     */
+    private final String memoName;
+
+    /**
+     * 更新日時を格納するフィールドです。
+     *
+     * @see #getUpdatedDatetime()
+     */
+    private final long updatedDatetime;
+
+    /**
+     * メモの先頭部分を格納するフィールドです。
+     *
+     * @see #getSnippet()
+     */
+    private final String snippet;
+
+    /**
+     * 当該データクラスのコンストラクタ。
+     * 当該コンストラクタで各フィールドに値を設定します。
+     *
+     * @param id              ID。
+     * @param memoName        メモ名。
+     * @param updatedDatetime 更新日時のエポックミリ秒。
+     * @param snippet         メモの先頭部分。
+     */
+    public MemoSummary(long id, String memoName, long updatedDatetime, String snippet) {
+        if (memoName == null || snippet == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.id = id;
+        this.memoName = memoName;
+        this.updatedDatetime = updatedDatetime;
+        this.snippet = snippet;
+    }
+
+    /**
+     * IDを返却するGetterメソッドです。
+     *
+     * @return ID。
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * メモ名を返却するGetterメソッドです。
+     *
+     * @return メモ名。
+     */
+    public String getMemoName() {
+        return memoName;
+    }
+
+    /**
+     * 更新日時を返却するGetterメソッドです。
+     *
+     * @return エポックミリ秒。
+     */
+    public long getUpdatedDatetime() {
+        return updatedDatetime;
+    }
+
+    /**
+     * メモの先頭部分を返却するGetterメソッドです。
+     *
+     * @return 改行を空白に置き換えたメモの先頭部分。生成前の場合は空文字列。
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoSummary{" +
+                "id=" + id +
+                ", memoName='" + memoName + '\'' +
+                ", updatedDatetime=" + updatedDatetime +
+                ", snippet='" + snippet + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MemoSummary that = (MemoSummary) o;
+        return getId() == that.getId() &&
+                getUpdatedDatetime() == that.getUpdatedDatetime() &&
+                Objects.equals(getMemoName(), that.getMemoName()) &&
+                Objects.equals(getSnippet(), that.getSnippet());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getMemoName(), getUpdatedDatetime(), getSnippet());
+    }
+}
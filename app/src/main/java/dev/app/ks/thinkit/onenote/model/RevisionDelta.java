@@ -0,0 +1,174 @@
+package dev.app.ks.thinkit.onenote.model;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : RevisionDelta.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * 直前の版から次の版を復元するための差分を表すクラスです。
+ * 差分は直前の版と共通する先頭の文字数、共通する末尾の文字数、及びその間に挿入される文字列で表されます。
+ * 編集は通常カーソル位置の周辺に限られるため、一箇所の編集であれば差分は編集された文字列のみとなります。
+ * <p>
+ * 先頭及び末尾の文字数が共に0の差分は直前の版に依存しないため、版の全文を保持するチェックポイントとして扱います。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoRevisionStore
+ * @since 1.0
+ */
+final class RevisionDelta {
+
+    /**
+     * 直前の版と共通する先頭の文字数。
+     */
+    private final int prefixLength;
+
+    /**
+     * 直前の版と共通する末尾の文字数。
+     */
+    private final int suffixLength;
+
+    /**
+     * 共通する先頭と末尾の間に挿入される文字列。
+     */
+    private final String insertion;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param prefixLength 直前の版と共通する先頭の文字数。
+     * @param suffixLength 直前の版と共通する末尾の文字数。
+     * @param insertion    共通する先頭と末尾の間に挿入される文字列。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    RevisionDelta(int prefixLength, int suffixLength, String insertion) {
+
+        if (prefixLength < 0 || suffixLength < 0 || insertion == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.prefixLength = prefixLength;
+        this.suffixLength = suffixLength;
+        this.insertion = insertion;
+    }
+
+    /**
+     * 渡された版の全文を保持するチェックポイントを生成し返却します。
+     *
+     * @param text 版の全文。
+     * @return チェックポイント。
+     */
+    static RevisionDelta checkpoint(String text) {
+        return new RevisionDelta(0, 0, text);
+    }
+
+    /**
+     * 直前の版から次の版を復元するための差分を算出し返却します。
+     *
+     * @param previous 直前の版の全文。
+     * @param current  次の版の全文。
+     * @return 差分。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    static RevisionDelta diff(String previous, String current) {
+
+        if (previous == null || current == null) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        final int maximumLength = Math.min(previous.length(), current.length());
+
+        int prefixLength = 0;
+        while (prefixLength < maximumLength
+                && previous.charAt(prefixLength) == current.charAt(prefixLength)) {
+            prefixLength++;
+        }
+
+        // 先頭と重複して数えないよう末尾の比較は先頭の一致箇所の手前までとする
+        int suffixLength = 0;
+        while (suffixLength < maximumLength - prefixLength
+                && previous.charAt(previous.length() - 1 - suffixLength) == current.charAt(current.length() - 1 - suffixLength)) {
+            suffixLength++;
+        }
+
+        return new RevisionDelta(prefixLength, suffixLength, current.substring(prefixLength, current.length() - suffixLength));
+    }
+
+    /**
+     * 直前の版に差分を適用し次の版を返却します。
+     *
+     * @param previous 直前の版の全文。チェックポイントの場合は参照されません。
+     * @return 次の版の全文。
+     * @throws IllegalArgumentException 直前の版が差分と一致しない場合に発生します。
+     */
+    String apply(String previous) {
+
+        if (isCheckpoint()) {
+            return insertion;
+        }
+
+        if (previous == null || previous.length() < prefixLength + suffixLength) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        return previous.substring(0, prefixLength)
+                + insertion
+                + previous.substring(previous.length() - suffixLength);
+    }
+
+    /**
+     * 当該差分がチェックポイントであるか判定します。
+     *
+     * @return チェックポイントの場合は {@code true}、それ以外は{@code false}。
+     */
+    boolean isCheckpoint() {
+        return prefixLength == 0 && suffixLength == 0;
+    }
+
+    /**
+     * 直前の版と共通する先頭の文字数を返却します。
+     *
+     * @return 先頭の文字数。
+     */
+    int getPrefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * 直前の版と共通する末尾の文字数を返却します。
+     *
+     * @return 末尾の文字数。
+     */
+    int getSuffixLength() {
+        return suffixLength;
+    }
+
+    /**
+     * 共通する先頭と末尾の間に挿入される文字列を返却します。
+     *
+     * @return 挿入される文字列。
+     */
+    String getInsertion() {
+        return insertion;
+    }
+
+    @Override
+    public String toString() {
+        return "RevisionDelta{" +
+                "prefixLength=" + prefixLength +
+                ", suffixLength=" + suffixLength +
+                ", insertion='" + insertion + '\'' +
+                '}';
+    }
+}
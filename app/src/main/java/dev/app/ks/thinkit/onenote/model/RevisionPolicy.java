@@ -0,0 +1,91 @@
+package dev.app.ks.thinkit.onenote.model;
+
+/**
+ * ======================================================================
+ * Project Name    : One Note
+ * File Name       : RevisionPolicy.java
+ * Encoding        : UTF-8
+ * Creation Date   : 2026/10/18
+ * <p>
+ * Copyright © 2019 Kato Shinya. All rights reserved.
+ * <p>
+ * This source code or any portion thereof must not be
+ * reproduced or used in any manner whatsoever.
+ * ======================================================================
+ * <p>
+ * メモの版の保存及び保持に関する方針を表すクラスです。
+ * <p>
+ * 1, チェックポイントの間隔
+ * 全文を保持するチェックポイントを何版毎に作成するかを表します。
+ * 任意の版の復元に必要な差分の適用回数は当該間隔未満に抑えられます。
+ * <p>
+ * 2, 保持する版の数
+ * メモ毎に保持する版の上限を表します。
+ * 上限を超えた古い版は、チェックポイントの間隔を猶予として超過した際にまとめて削除されます。
+ *
+ * @author Kato Shinya
+ * @version 1.0
+ * @see MemoInformation#setRevisionPolicy(RevisionPolicy)
+ * @since 1.0
+ */
+public final class RevisionPolicy {
+
+    /**
+     * 既定の方針。
+     */
+    public static final RevisionPolicy DEFAULT = new RevisionPolicy(32, 1000);
+
+    /**
+     * チェックポイントの間隔。
+     */
+    private final int checkpointInterval;
+
+    /**
+     * 保持する版の数。
+     */
+    private final int maximumRevisions;
+
+    /**
+     * 当該クラスのコンストラクタです。
+     *
+     * @param checkpointInterval チェックポイントの間隔。
+     * @param maximumRevisions   保持する版の数。
+     * @throws IllegalArgumentException 不正な入力を検知した際に発生します。
+     */
+    public RevisionPolicy(int checkpointInterval, int maximumRevisions) {
+
+        if (checkpointInterval <= 0 || maximumRevisions <= 0) {
+            // should not be happened
+            throw new IllegalArgumentException();
+        }
+
+        this.checkpointInterval = checkpointInterval;
+        this.maximumRevisions = maximumRevisions;
+    }
+
+    /**
+     * チェックポイントの間隔を返却します。
+     *
+     * @return チェックポイントの間隔。
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * 保持する版の数を返却します。
+     *
+     * @return 保持する版の数。
+     */
+    public int getMaximumRevisions() {
+        return maximumRevisions;
+    }
+
+    @Override
+    public String toString() {
+        return "RevisionPolicy{" +
+                "checkpointInterval=" + checkpointInterval +
+                ", maximumRevisions=" + maximumRevisions +
+                '}';
+    }
+}
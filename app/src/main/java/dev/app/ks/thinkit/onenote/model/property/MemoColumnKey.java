@@ -2,8 +2,10 @@ package dev.app.ks.thinkit.onenote.model.property;
 
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteStatement;
 
 import dev.app.ks.thinkit.onenote.framework.CalendarHandler;
+import dev.app.ks.thinkit.onenote.framework.CompressionHandler;
 import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
 import dev.app.ks.thinkit.onenote.framework.ModelMap;
 import dev.app.ks.thinkit.onenote.framework.model.CursorHandler;
@@ -31,6 +33,47 @@ import dev.app.ks.thinkit.onenote.model.MemoHolder;
  */
 public enum MemoColumnKey implements IModelMapKey {
 
+    /**
+     * 物理カラム名「id」を表す項目です。
+     * 当該項目では以下の処理が定義されています。
+     * <p>
+     * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
+     * -> モデルオブジェクトのselect操作をした際に取得結果をモデルマップへ格納する処理です。
+     * <p>
+     * 2, setContentValues(ContentValues, MemoHolder)
+     * -> 採番済みのIDを保持する場合に限り挿入情報を設定します。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> 採番済みのIDを保持する場合はIDを、それ以外はデータベースで採番されるようnullを設定します。
+     *
+     * @see #setModelMap(Cursor, ModelMap)
+     * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
+     * @see Key#id
+     */
+    Id(Key.id) {
+        @Override
+        public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
+            modelMap.put(this, CursorHandler.getLongOrThrow(cursor, getKeyName()));
+        }
+
+        @Override
+        public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
+            if (memoHolder.hasId()) {
+                contentValues.put(getKeyName(), memoHolder.getId());
+            }
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            if (memoHolder.hasId()) {
+                statement.bindLong(index, memoHolder.getId());
+            } else {
+                statement.bindNull(index);
+            }
+        }
+    },
+
     /**
      * 物理カラム名「memo_name」を表す項目です。
      * 当該項目では以下の処理が定義されています。
@@ -40,9 +83,13 @@ public enum MemoColumnKey implements IModelMapKey {
      * <p>
      * 2, setContentValues(ContentValues, MemoHolder)
      * -> モデルオブジェクトの挿入処理をする際に挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> コンパイル済みのステートメントへ挿入情報を設定する処理です。
      *
      * @see #setModelMap(Cursor, ModelMap)
      * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
      * @see Key#memo_name
      */
     MemoName(Key.memo_name) {
@@ -55,6 +102,11 @@ public enum MemoColumnKey implements IModelMapKey {
         public void setContentValues(ContentValues contentValues, MemoHolder overviewHolder) {
             contentValues.put(getKeyName(), overviewHolder.getMemoName());
         }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            statement.bindString(index, memoHolder.getMemoName());
+        }
     },
 
     /**
@@ -63,28 +115,57 @@ public enum MemoColumnKey implements IModelMapKey {
      * <p>
      * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
      * -> モデルオブジェクトのselect操作をした際に取得結果をモデルマップへ格納する処理です。
+     * 圧縮して保存されたメモは展開した後に格納します。
      * <p>
      * 2, setContentValues(ContentValues, MemoHolder)
      * -> モデルオブジェクトの挿入処理をする際に挿入情報を設定する処理です。
+     * 圧縮の対象となるメモはnullを設定します。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> コンパイル済みのステートメントへ挿入情報を設定する処理です。
+     * 圧縮の対象となるメモはnullを設定します。
      *
      * @see #setModelMap(Cursor, ModelMap)
      * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
+     * @see #isCompressionTarget(String)
      * @see Key#memo
      */
     Memo(Key.memo) {
         @Override
         public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
-            modelMap.put(this, CursorHandler.getStringOrThrow(cursor, getKeyName()));
+            int formatIndex = cursor.getColumnIndex(MemoFormat.getKeyName());
+
+            if (formatIndex >= 0 && cursor.getInt(formatIndex) == FORMAT_DEFLATE) {
+                int compressedIndex = cursor.getColumnIndexOrThrow(MemoCompressed.getKeyName());
+                modelMap.put(this, CompressionHandler.decompress(cursor.getBlob(compressedIndex)));
+            } else {
+                modelMap.put(this, CursorHandler.getStringOrThrow(cursor, getKeyName()));
+            }
         }
 
         @Override
         public void setContentValues(ContentValues contentValues, MemoHolder overviewHolder) {
-            contentValues.put(getKeyName(), overviewHolder.getMemo());
+            if (isCompressionTarget(overviewHolder.getMemo())) {
+                contentValues.putNull(getKeyName());
+            } else {
+                contentValues.put(getKeyName(), overviewHolder.getMemo());
+            }
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            if (isCompressionTarget(memoHolder.getMemo())) {
+                statement.bindNull(index);
+            } else {
+                statement.bindString(index, memoHolder.getMemo());
+            }
         }
     },
 
     /**
      * 物理カラム名「registered_datetime」を表す項目です。
+     * 登録日時をエポックミリ秒で保持します。
      * 当該項目では以下の処理が定義されています。
      * <p>
      * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
@@ -92,26 +173,35 @@ public enum MemoColumnKey implements IModelMapKey {
      * <p>
      * 2, setContentValues(ContentValues, MemoHolder)
      * -> モデルオブジェクトの挿入処理をする際に挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> コンパイル済みのステートメントへ挿入情報を設定する処理です。
      *
      * @see #setModelMap(Cursor, ModelMap)
      * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
      * @see Key#registered_datetime
      */
     RegisteredDatetime(Key.registered_datetime) {
         @Override
         public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
-            modelMap.put(this, CursorHandler.getStringOrThrow(cursor, getKeyName()));
+            modelMap.put(this, CursorHandler.getLongOrThrow(cursor, getKeyName()));
         }
 
         @Override
         public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
-            String currentClientDatetime = CalendarHandler.getClientDatetime();
-            contentValues.put(getKeyName(), currentClientDatetime);
+            contentValues.put(getKeyName(), resolveDatetime(memoHolder.getRegisteredDatetime()));
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            statement.bindLong(index, resolveDatetime(memoHolder.getRegisteredDatetime()));
         }
     },
 
     /**
      * 物理カラム名「updated_datetime」を表す項目です。
+     * 更新日時をエポックミリ秒で保持します。
      * 当該項目では以下の処理が定義されています。
      * <p>
      * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
@@ -119,12 +209,132 @@ public enum MemoColumnKey implements IModelMapKey {
      * <p>
      * 2, setContentValues(ContentValues, MemoHolder)
      * -> モデルオブジェクトの挿入処理をする際に挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> コンパイル済みのステートメントへ挿入情報を設定する処理です。
      *
      * @see #setModelMap(Cursor, ModelMap)
      * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
      * @see Key#updated_datetime
      */
     UpdatedDatetime(Key.updated_datetime) {
+        @Override
+        public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
+            modelMap.put(this, CursorHandler.getLongOrThrow(cursor, getKeyName()));
+        }
+
+        @Override
+        public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
+            contentValues.put(getKeyName(), resolveDatetime(memoHolder.getUpdatedDatetime()));
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            statement.bindLong(index, resolveDatetime(memoHolder.getUpdatedDatetime()));
+        }
+    },
+
+    /**
+     * 物理カラム名「memo_format」を表す項目です。
+     * メモの保存形式を表し、{@link #FORMAT_TEXT}または{@link #FORMAT_DEFLATE}のいずれかとなります。
+     * 当該項目では以下の処理が定義されています。
+     * <p>
+     * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
+     * -> モデルオブジェクトのselect操作をした際に取得結果をモデルマップへ格納する処理です。
+     * <p>
+     * 2, setContentValues(ContentValues, MemoHolder)
+     * -> メモの長さから保存形式を判定し挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> メモの長さから保存形式を判定しコンパイル済みのステートメントへ設定する処理です。
+     *
+     * @see #setModelMap(Cursor, ModelMap)
+     * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
+     * @see Key#memo_format
+     */
+    MemoFormat(Key.memo_format) {
+        @Override
+        public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
+            modelMap.put(this, CursorHandler.getIntegerOrThrow(cursor, getKeyName()));
+        }
+
+        @Override
+        public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
+            contentValues.put(getKeyName(), isCompressionTarget(memoHolder.getMemo()) ? FORMAT_DEFLATE : FORMAT_TEXT);
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            statement.bindLong(index, isCompressionTarget(memoHolder.getMemo()) ? FORMAT_DEFLATE : FORMAT_TEXT);
+        }
+    },
+
+    /**
+     * 物理カラム名「memo_compressed」を表す項目です。
+     * 圧縮して保存されたメモの本文を保持します。
+     * 当該項目では以下の処理が定義されています。
+     * <p>
+     * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
+     * -> 展開した本文は{@link #Memo}へ格納されるため値は格納しません。
+     * <p>
+     * 2, setContentValues(ContentValues, MemoHolder)
+     * -> 圧縮の対象となるメモを圧縮し挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> 圧縮の対象となるメモを圧縮しコンパイル済みのステートメントへ設定する処理です。
+     *
+     * @see #setModelMap(Cursor, ModelMap)
+     * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
+     * @see Key#memo_compressed
+     */
+    MemoCompressed(Key.memo_compressed) {
+        @Override
+        public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
+        }
+
+        @Override
+        public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
+            if (isCompressionTarget(memoHolder.getMemo())) {
+                contentValues.put(getKeyName(), CompressionHandler.compress(memoHolder.getMemo()));
+            } else {
+                contentValues.putNull(getKeyName());
+            }
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            if (isCompressionTarget(memoHolder.getMemo())) {
+                statement.bindBlob(index, CompressionHandler.compress(memoHolder.getMemo()));
+            } else {
+                statement.bindNull(index);
+            }
+        }
+    },
+
+    /**
+     * 物理カラム名「memo_snippet」を表す項目です。
+     * 一覧の表示に使用するメモの先頭部分を保持し、本文の保存時に合わせて更新されます。
+     * 当該項目では以下の処理が定義されています。
+     * <p>
+     * 1, setModelMap(Cursor, ModelMap<MemoColumnKey>, Object)
+     * -> モデルオブジェクトのselect操作をした際に取得結果をモデルマップへ格納する処理です。
+     * <p>
+     * 2, setContentValues(ContentValues, MemoHolder)
+     * -> メモから先頭部分を生成し挿入情報を設定する処理です。
+     * <p>
+     * 3, bindStatement(SQLiteStatement, int, MemoHolder)
+     * -> メモから先頭部分を生成しコンパイル済みのステートメントへ設定する処理です。
+     *
+     * @see #setModelMap(Cursor, ModelMap)
+     * @see #setContentValues(ContentValues, MemoHolder)
+     * @see #bindStatement(SQLiteStatement, int, MemoHolder)
+     * @see #createSnippet(String)
+     * @see Key#memo_snippet
+     */
+    MemoSnippet(Key.memo_snippet) {
         @Override
         public void setModelMap(Cursor cursor, ModelMap<MemoColumnKey, Object> modelMap) {
             modelMap.put(this, CursorHandler.getStringOrThrow(cursor, getKeyName()));
@@ -132,28 +342,62 @@ public enum MemoColumnKey implements IModelMapKey {
 
         @Override
         public void setContentValues(ContentValues contentValues, MemoHolder memoHolder) {
-            String currentClientDatetime = CalendarHandler.getClientDatetime();
-            contentValues.put(getKeyName(), currentClientDatetime);
+            contentValues.put(getKeyName(), createSnippet(memoHolder.getMemo()));
+        }
+
+        @Override
+        public void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder) {
+            statement.bindString(index, createSnippet(memoHolder.getMemo()));
         }
     };
 
+    /**
+     * メモを圧縮せずに文字列として保存していることを表す保存形式。
+     */
+    public static final int FORMAT_TEXT = 0;
+
+    /**
+     * メモをDeflate形式で圧縮して保存していることを表す保存形式。
+     */
+    public static final int FORMAT_DEFLATE = 1;
+
+    /**
+     * メモを圧縮して保存する文字数の閾値。
+     * 圧縮及び展開の負荷が削減量に見合う大きなメモに限り圧縮する。
+     */
+    public static final int THRESHOLD_COMPRESSION = 32 * 1024;
+
+    /**
+     * 一覧の表示に使用するメモの先頭部分の文字数。
+     * 既存のメモに対するデータ移行のSQL文と同一の値とする必要がある。
+     */
+    public static final int SNIPPET_LENGTH = 100;
+
     /**
      * カラムの物理名を格納するフィールドです。
      *
+     * @see Key#id
      * @see Key#memo_name
      * @see Key#memo
      * @see Key#registered_datetime
      * @see Key#updated_datetime
+     * @see Key#memo_format
+     * @see Key#memo_compressed
+     * @see Key#memo_snippet
      */
     private final Key key;
 
     /**
      * 当該Enumのコンストラクタです。
      *
+     * @see Key#id
      * @see Key#memo_name
      * @see Key#memo
      * @see Key#registered_datetime
      * @see Key#updated_datetime
+     * @see Key#memo_format
+     * @see Key#memo_compressed
+     * @see Key#memo_snippet
      */
     MemoColumnKey(Key key) {
         this.key = key;
@@ -164,6 +408,59 @@ public enum MemoColumnKey implements IModelMapKey {
         return key.name();
     }
 
+    /**
+     * 渡されたメモを圧縮して保存する必要があるか判定します。
+     *
+     * @param memo メモ。
+     * @return 圧縮して保存する場合は {@code true}、それ以外は{@code false}。
+     * @see #THRESHOLD_COMPRESSION
+     */
+    public static boolean isCompressionTarget(String memo) {
+        return memo != null && memo.length() > THRESHOLD_COMPRESSION;
+    }
+
+    /**
+     * メモ情報に指定された日時を保存する日時へ解決します。
+     *
+     * @param datetime メモ情報に指定された日時のエポックミリ秒。
+     * @return 指定が無い場合は現在の日時、それ以外は指定された日時。
+     * @see MemoHolder#DATETIME_UNSPECIFIED
+     */
+    public static long resolveDatetime(long datetime) {
+        return datetime == MemoHolder.DATETIME_UNSPECIFIED ? CalendarHandler.getClientMillis() : datetime;
+    }
+
+    /**
+     * 渡されたメモから一覧の表示に使用する先頭部分を生成します。
+     * 改行及びタブは空白に置き換え、サロゲートペアを分断しないよう文字単位で切り詰めます。
+     *
+     * @param memo メモ。
+     * @return メモの先頭部分。メモが{@code null}の場合は空文字列。
+     * @see #SNIPPET_LENGTH
+     */
+    public static String createSnippet(String memo) {
+
+        if (memo == null) {
+            return "";
+        }
+
+        StringBuilder snippet = new StringBuilder(Math.min(memo.length(), SNIPPET_LENGTH));
+
+        for (int index = 0, count = 0; index < memo.length() && count < SNIPPET_LENGTH; count++) {
+            int codePoint = memo.codePointAt(index);
+
+            if (codePoint == '\r' || codePoint == '\n' || codePoint == '\t') {
+                snippet.append(' ');
+            } else {
+                snippet.appendCodePoint(codePoint);
+            }
+
+            index += Character.charCount(codePoint);
+        }
+
+        return snippet.toString();
+    }
+
     /**
      * モデルオブジェクトのselect操作をした際に取得結果をモデルマップへ格納する処理です。
      * 当該Enumクラスの項目は当該抽象メソッドを必ず実装する必要があります。
@@ -182,6 +479,16 @@ public enum MemoColumnKey implements IModelMapKey {
      */
     public abstract void setContentValues(ContentValues contentValues, MemoHolder memoHolder);
 
+    /**
+     * コンパイル済みのステートメントへ挿入情報を設定する処理です。
+     * 当該Enumクラスの項目は当該抽象メソッドを必ず実装する必要があります。
+     *
+     * @param statement  コンパイル済みのステートメント。
+     * @param index      値を設定するインデックス。インデックスは1から始まります。
+     * @param memoHolder メモ情報を保持するオブジェクト。
+     */
+    public abstract void bindStatement(SQLiteStatement statement, int index, MemoHolder memoHolder);
+
     /**
      * 論理モデル名「メモ情報」のカラムに紐付く物理名を定義したEnumクラスです。
      * 概要情報のカラムに紐付く物理名は必ず当該Enumクラスへ定義する必要があります。
@@ -189,9 +496,13 @@ public enum MemoColumnKey implements IModelMapKey {
      * @see #getKeyName()
      */
     private enum Key {
+        id,
         memo_name,
         memo,
         registered_datetime,
         updated_datetime,
+        memo_format,
+        memo_compressed,
+        memo_snippet,
     }
 }
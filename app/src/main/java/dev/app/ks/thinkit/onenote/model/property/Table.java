@@ -4,7 +4,11 @@ import dev.app.ks.thinkit.onenote.framework.ITableInfo;
 
 public enum Table implements ITableInfo {
     CurrentApplicationInformation(TableName.current_application_information),
-    MemoInformation(TableName.memo_information);
+    MemoInformation(TableName.memo_information),
+    MemoInformationFts(TableName.memo_information_fts),
+    MemoInformationFtsStaging(TableName.memo_information_fts_staging),
+    MemoChunk(TableName.memo_chunk),
+    MemoRevision(TableName.memo_revision);
 
     private final TableName key;
 
@@ -19,6 +23,10 @@ public enum Table implements ITableInfo {
 
     private enum TableName {
         current_application_information,
-        memo_information
+        memo_information,
+        memo_information_fts,
+        memo_information_fts_staging,
+        memo_chunk,
+        memo_revision
     }
 }
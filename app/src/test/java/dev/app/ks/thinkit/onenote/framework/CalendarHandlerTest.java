@@ -0,0 +1,69 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 日時とエポックミリ秒の相互変換を検証するテストです。
+ */
+public class CalendarHandlerTest {
+
+    private TimeZone defaultTimeZone;
+
+    @Before
+    public void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void convertsDatetimeToMillisInClientTimeZone() {
+        assertEquals(1577804400000L, CalendarHandler.toMillis("20200101000000"));
+    }
+
+    @Test
+    public void convertsMillisToDatetimeInClientTimeZone() {
+        assertEquals("20200101000000", CalendarHandler.toDatetime(1577804400000L));
+    }
+
+    @Test
+    public void roundTripsAcrossMonthsAndLeapDay() {
+        for (String datetime : new String[]{"20200229235959", "19991231120000", "20261018093005"}) {
+            assertEquals(datetime, CalendarHandler.toDatetime(CalendarHandler.toMillis(datetime)));
+        }
+    }
+
+    @Test
+    public void followsDefaultTimeZoneChanges() {
+        CalendarHandler.toDatetime(0L);
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+        assertEquals("19700101000000", CalendarHandler.toDatetime(0L));
+        assertEquals(0L, CalendarHandler.toMillis("19700101000000"));
+    }
+
+    @Test
+    public void matchesCalendar() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2019, Calendar.OCTOBER, 19, 12, 34, 56);
+
+        assertEquals(calendar.getTimeInMillis(), CalendarHandler.toMillis("20191019123456"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMalformedDatetime() {
+        CalendarHandler.toMillis("2019101912345x");
+    }
+}
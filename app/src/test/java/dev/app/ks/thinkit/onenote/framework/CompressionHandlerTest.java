@@ -0,0 +1,42 @@
+package dev.app.ks.thinkit.onenote.framework;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 文字列の圧縮及び展開を検証するテストです。
+ */
+public class CompressionHandlerTest {
+
+    @Test
+    public void roundTripKeepsMultibyteCharacters() {
+        String source = "メモ帳 memo 🍣 " + new String(new char[1000]).replace('\0', 'あ');
+
+        assertEquals(source, CompressionHandler.decompress(CompressionHandler.compress(source)));
+    }
+
+    @Test
+    public void roundTripOfEmptyString() {
+        assertEquals("", CompressionHandler.decompress(CompressionHandler.compress("")));
+    }
+
+    @Test
+    public void repetitiveTextIsSmallerThanEncodedText() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 4096; i++) {
+            source.append("line ").append(i % 16).append('\n');
+        }
+
+        assertTrue(CompressionHandler.compress(source.toString()).length * 4 < source.length());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void truncatedInputIsRejected() {
+        byte[] compressed = CompressionHandler.compress("truncated compressed memo body");
+        CompressionHandler.decompress(Arrays.copyOf(compressed, compressed.length / 2));
+    }
+}
@@ -0,0 +1,43 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 全文検索の検索式の生成及び適合箇所の強調を検証するテストです。
+ */
+public class FullTextSearchHandlerTest {
+
+    @Test
+    public void matchExpressionQuotesEachTerm() {
+        assertEquals("\"memo*\" \"会議*\"", FullTextSearchHandler.createMatchExpression("  me\"mo 会議 "));
+    }
+
+    @Test
+    public void matchExpressionOfBlankInputIsEmpty() {
+        assertEquals("", FullTextSearchHandler.createMatchExpression(" \"  "));
+    }
+
+    @Test
+    public void highlightWrapsTokensStartingWithTerm() {
+        assertEquals("<b>Memo</b>-<b>memos</b> remember",
+                FullTextSearchHandler.highlight("Memo-memos remember", "mem", "<b>", "</b>"));
+    }
+
+    @Test
+    public void highlightTreatsNonAsciiAsTokenCharacters() {
+        assertEquals("<b>会議の予定</b> meeting",
+                FullTextSearchHandler.highlight("会議の予定 meeting", "会議", "<b>", "</b>"));
+    }
+
+    @Test
+    public void highlightWithoutTermsKeepsText() {
+        assertEquals("memo note", FullTextSearchHandler.highlight("memo note", "", "<b>", "</b>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void highlightRejectsNullText() {
+        FullTextSearchHandler.highlight(null, "memo", "<b>", "</b>");
+    }
+}
@@ -0,0 +1,102 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import org.junit.Test;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ModelMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 検索結果のキャッシュの容量制限及び無効化を検証するテストです。
+ */
+public class ModelCacheTest {
+
+    private enum TestKey implements IModelMapKey {
+        Name,
+        Body;
+
+        @Override
+        public String getKeyName() {
+            return name();
+        }
+    }
+
+    @Test
+    public void returnsCopyOfStoredEntry() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 100);
+        cache.put(1L, row("a", "body"), cache.getGeneration());
+
+        ModelMap<TestKey, Object> cached = cache.get(1L);
+        cached.put(TestKey.Body, "changed");
+
+        assertEquals("body", cache.get(1L).getString(TestKey.Body));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedByCharacterCount() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 20);
+        cache.put(1L, row("a", "12345678"), cache.getGeneration());
+        cache.put(2L, row("b", "12345678"), cache.getGeneration());
+        cache.get(1L);
+        cache.put(3L, row("c", "12345678"), cache.getGeneration());
+
+        assertNull(cache.get(2L));
+        assertEquals("12345678", cache.get(1L).getString(TestKey.Body));
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        assertTrue(cache.getStatistics().getSize() <= 20);
+    }
+
+    @Test
+    public void rejectsEntryLargerThanMaximumSize() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 10);
+
+        assertFalse(cache.put(1L, row("a", "this body is too long"), cache.getGeneration()));
+        assertEquals(0, cache.getStatistics().getEntryCount());
+    }
+
+    @Test
+    public void rejectsEntryQueriedBeforeInvalidation() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 100);
+        long generation = cache.getGeneration();
+
+        cache.invalidate(1L);
+
+        assertFalse(cache.put(1L, row("a", "stale"), generation));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 100);
+        cache.get(1L);
+        cache.put(1L, row("a", "body"), cache.getGeneration());
+        cache.get(1L);
+        cache.get(1L);
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2.0 / 3.0, statistics.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void invalidateAllClearsEntries() {
+        ModelCache<TestKey> cache = new ModelCache<>(TestKey.class, 100);
+        cache.put(1L, row("a", "body"), cache.getGeneration());
+        cache.invalidateAll();
+
+        assertNull(cache.get(1L));
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    private static ModelMap<TestKey, Object> row(String name, String body) {
+        ModelMap<TestKey, Object> modelMap = new ModelMap<>(TestKey.class);
+        modelMap.put(TestKey.Name, name);
+        modelMap.put(TestKey.Body, body);
+        return modelMap;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.app.ks.thinkit.onenote.framework.model;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * SQLファイルの内容の分割を検証するテストです。
+ */
+public class SqlScriptHandlerTest {
+
+    @Test
+    public void splitsOnTrailingSemicolons() {
+        List<String> statements = SqlScriptHandler.split("create table a(id INTEGER)\n;\ncreate table b(id INTEGER);\n");
+
+        assertEquals(Arrays.asList("create table a(id INTEGER)\n;", "create table b(id INTEGER);"), statements);
+    }
+
+    @Test
+    public void keepsTriggerBodyTogether() {
+        String trigger = "create trigger if not exists t after delete on a\n"
+                + "begin\n"
+                + "    delete from b where id = old.id;\n"
+                + "    delete from c where id = old.id;\n"
+                + "end\n"
+                + ";";
+
+        List<String> statements = SqlScriptHandler.split(trigger + "\ncreate index i on a(id);");
+
+        assertEquals(Arrays.asList(trigger, "create index i on a(id);"), statements);
+    }
+
+    @Test
+    public void ignoresSemicolonsInLiteralsAndComments() {
+        List<String> statements = SqlScriptHandler.split(
+                "-- comment; with semicolon\n"
+                        + "insert into a(name) values ('it''s; fine');\n"
+                        + "/* block; comment */ select \"semi;colon\" from a;");
+
+        assertEquals(2, statements.size());
+        assertEquals("insert into a(name) values ('it''s; fine');", statements.get(0));
+        assertEquals("select \"semi;colon\" from a;", statements.get(1));
+    }
+
+    @Test
+    public void columnEndingWithEndDoesNotCloseTrigger() {
+        String trigger = "create temp trigger t after insert on a begin update a set append = 1; end;";
+
+        assertEquals(Arrays.asList(trigger), SqlScriptHandler.split(trigger));
+    }
+
+    @Test
+    public void lastStatementWithoutSemicolon() {
+        assertEquals(Arrays.asList("select 1;", "select 2"), SqlScriptHandler.split("select 1; select 2\n\n"));
+    }
+}
@@ -0,0 +1,75 @@
+package dev.app.ks.thinkit.onenote.framework.model.monitor;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 所要時間のヒストグラムの区間への振り分け及び百分位の推定を検証するテストです。
+ */
+public class LatencyHistogramTest {
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        QueryStatistics statistics = new LatencyHistogram().toStatistics("memo_information", QueryMonitor.Operation.Select);
+
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getP50Millis());
+        assertEquals(0.0, statistics.getAverageMillis(), 0.0);
+    }
+
+    @Test
+    public void assignsBucketsByUpperBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(NANOS_PER_MILLI / 2, 1);
+        histogram.record(NANOS_PER_MILLI, 1);
+        histogram.record(3 * NANOS_PER_MILLI, 1);
+        histogram.record(5000 * NANOS_PER_MILLI, 1);
+
+        long[] bucketCounts = histogram.toStatistics("t", QueryMonitor.Operation.Select).getBucketCounts();
+
+        assertEquals(QueryStatistics.getBucketUpperBoundsMillis().length + 1, bucketCounts.length);
+        assertEquals(1, bucketCounts[0]);
+        assertEquals(1, bucketCounts[1]);
+        assertEquals(1, bucketCounts[2]);
+        assertEquals(1, bucketCounts[bucketCounts.length - 1]);
+    }
+
+    @Test
+    public void estimatesPercentilesFromBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 95; i++) {
+            histogram.record(NANOS_PER_MILLI / 10, 2);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            histogram.record(20 * NANOS_PER_MILLI, 2);
+        }
+
+        histogram.record(3000 * NANOS_PER_MILLI, 2);
+
+        QueryStatistics statistics = histogram.toStatistics("t", QueryMonitor.Operation.Delete);
+
+        assertEquals(100, statistics.getCount());
+        assertEquals(200, statistics.getRowCount());
+        assertEquals(1, statistics.getP50Millis());
+        assertEquals(1, statistics.getP95Millis());
+        assertEquals(32, statistics.getP99Millis());
+        assertEquals(3000.0, statistics.getMaxMillis(), 0.001);
+    }
+
+    @Test
+    public void statisticsAreDetachedFromHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(NANOS_PER_MILLI, 1);
+
+        QueryStatistics statistics = histogram.toStatistics("t", QueryMonitor.Operation.Insert);
+        histogram.record(NANOS_PER_MILLI, 1);
+
+        assertEquals(1, statistics.getCount());
+        assertEquals(1, statistics.getBucketCounts()[1]);
+    }
+}
@@ -0,0 +1,137 @@
+package dev.app.ks.thinkit.onenote.framework.model.query;
+
+import org.junit.Test;
+
+import dev.app.ks.thinkit.onenote.framework.IModelMapKey;
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 組み立てたSQL文が正規の形となり、同一の組み立てから同一のSQL文が生成されることを検証するテストです。
+ */
+public class QueryBuilderTest {
+
+    private static final ITableInfo TABLE = new ITableInfo() {
+        @Override
+        public String getName() {
+            return "test_table";
+        }
+    };
+
+    private enum TestKey implements IModelMapKey {
+        Id("id"),
+        Name("name"),
+        Updated("updated");
+
+        private final String keyName;
+
+        TestKey(String keyName) {
+            this.keyName = keyName;
+        }
+
+        @Override
+        public String getKeyName() {
+            return keyName;
+        }
+    }
+
+    @Test
+    public void selectsAllColumnsWithoutCondition() {
+        Query<TestKey> query = QueryBuilder.select(TABLE, TestKey.class).build();
+
+        assertEquals("SELECT * FROM test_table", query.getSql());
+        assertEquals(0, query.getParameterCount());
+        assertNull(query.toSelectionArgs());
+    }
+
+    @Test
+    public void rendersClausesInCanonicalOrder() {
+        Query<TestKey> query = QueryBuilder.select(TABLE, TestKey.class)
+                .columns(TestKey.Id, TestKey.Name)
+                .where(Condition.greaterThanOrEqual(TestKey.Updated))
+                .where(Condition.or(Condition.equal(TestKey.Name), Condition.in(TestKey.Id, 3)))
+                .orderByDescending(TestKey.Updated)
+                .orderBy(TestKey.Id)
+                .limit()
+                .offset()
+                .build();
+
+        assertEquals("SELECT id, name FROM test_table"
+                + " WHERE (updated >= ? AND (name = ? OR id IN (?, ?, ?)))"
+                + " ORDER BY updated DESC, id ASC LIMIT ? OFFSET ?", query.getSql());
+        assertEquals(7, query.getParameterCount());
+    }
+
+    @Test
+    public void sameShapeProducesSameSql() {
+        Query<TestKey> first = QueryBuilder.select(TABLE, TestKey.class)
+                .where(Condition.between(TestKey.Updated))
+                .limit()
+                .build();
+        Query<TestKey> second = QueryBuilder.select(TABLE, TestKey.class)
+                .where(Condition.between(TestKey.Updated))
+                .limit()
+                .build();
+
+        assertEquals(first.getSql(), second.getSql());
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void deleteRendersConditionOnly() {
+        Query<TestKey> query = QueryBuilder.delete(TABLE, TestKey.class)
+                .where(Condition.equal(TestKey.Name))
+                .where(Condition.isNotNull(TestKey.Updated))
+                .build();
+
+        assertEquals("DELETE FROM test_table WHERE (name = ? AND updated IS NOT NULL)", query.getSql());
+        assertEquals(1, query.getParameterCount());
+        assertEquals(Query.Kind.Delete, query.getKind());
+    }
+
+    @Test
+    public void convertsArgumentsInPlaceholderOrder() {
+        Query<TestKey> query = QueryBuilder.select(TABLE, TestKey.class)
+                .where(Condition.equal(TestKey.Name))
+                .limit()
+                .offset()
+                .build();
+
+        String[] selectionArgs = query.toSelectionArgs("memo", 20, 40L);
+
+        assertEquals(3, selectionArgs.length);
+        assertEquals("memo", selectionArgs[0]);
+        assertEquals("20", selectionArgs[1]);
+        assertEquals("40", selectionArgs[2]);
+    }
+
+    @Test
+    public void rejectsMismatchedArgumentCount() {
+        Query<TestKey> query = QueryBuilder.select(TABLE, TestKey.class)
+                .where(Condition.equal(TestKey.Name))
+                .build();
+
+        try {
+            query.toSelectionArgs("memo", "extra");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains(query.getSql()));
+            return;
+        }
+
+        throw new AssertionError();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void deleteRejectsLimit() {
+        QueryBuilder.delete(TABLE, TestKey.class).limit();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void offsetRequiresLimit() {
+        QueryBuilder.select(TABLE, TestKey.class).offset();
+    }
+}
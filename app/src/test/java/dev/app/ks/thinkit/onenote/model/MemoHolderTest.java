@@ -0,0 +1,116 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import org.junit.Test;
+
+import java.util.EnumSet;
+
+import dev.app.ks.thinkit.onenote.framework.ITableInfo;
+import dev.app.ks.thinkit.onenote.framework.model.adapter.StatementKey;
+import dev.app.ks.thinkit.onenote.model.property.MemoColumnKey;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * メモ情報の変更されたカラムが保存の種類に応じて限定され、更新処理のSQL文が変更されたカラムのみを書き換えることを検証するテストです。
+ */
+public class MemoHolderTest {
+
+    private static final ITableInfo TABLE = new ITableInfo() {
+        @Override
+        public String getName() {
+            return "memo_information";
+        }
+    };
+
+    @Test
+    public void savingMemoKeepsRegisteredDatetime() {
+        MemoHolder memoHolder = new MemoHolder("name", "memo");
+
+        assertTrue(memoHolder.hasMemo());
+        assertFalse(memoHolder.hasId());
+        assertEquals(EnumSet.of(
+                MemoColumnKey.Memo,
+                MemoColumnKey.UpdatedDatetime,
+                MemoColumnKey.MemoFormat,
+                MemoColumnKey.MemoCompressed,
+                MemoColumnKey.MemoSnippet), memoHolder.getModifiedColumns());
+    }
+
+    @Test
+    public void specifiedRegisteredDatetimeIsModified() {
+        MemoHolder memoHolder = new MemoHolder("name", "memo", 1000L, 2000L);
+
+        assertTrue(memoHolder.getModifiedColumns().contains(MemoColumnKey.RegisteredDatetime));
+        assertFalse(memoHolder.getModifiedColumns().contains(MemoColumnKey.MemoName));
+    }
+
+    @Test
+    public void savingByIdNeverTouchesMemoName() {
+        MemoHolder memoHolder = new MemoHolder(5L, "name", "memo");
+
+        assertTrue(memoHolder.hasId());
+        assertEquals(5L, memoHolder.getId());
+        assertFalse(memoHolder.getModifiedColumns().contains(MemoColumnKey.MemoName));
+        assertFalse(memoHolder.getModifiedColumns().contains(MemoColumnKey.RegisteredDatetime));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void savingByIdRequiresAssignedId() {
+        new MemoHolder(MemoHolder.ID_UNASSIGNED, "name", "memo");
+    }
+
+    @Test
+    public void renameNeverTouchesMemo() {
+        MemoHolder memoHolder = MemoHolder.rename(5L, "after");
+
+        assertFalse(memoHolder.hasMemo());
+        assertNull(memoHolder.getMemo());
+        assertEquals(5L, memoHolder.getId());
+        assertEquals("after", memoHolder.getMemoName());
+        assertEquals(EnumSet.of(MemoColumnKey.MemoName, MemoColumnKey.UpdatedDatetime), memoHolder.getModifiedColumns());
+    }
+
+    @Test
+    public void touchModifiesOnlyUpdatedDatetime() {
+        MemoHolder memoHolder = MemoHolder.touch(5L);
+
+        assertFalse(memoHolder.hasMemo());
+        assertNull(memoHolder.getMemoName());
+        assertEquals(EnumSet.of(MemoColumnKey.UpdatedDatetime), memoHolder.getModifiedColumns());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void touchRequiresAssignedId() {
+        MemoHolder.touch(MemoHolder.ID_UNASSIGNED);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void modifiedColumnsAreUnmodifiable() {
+        new MemoHolder("name", "memo").getModifiedColumns().add(MemoColumnKey.Id);
+    }
+
+    @Test
+    public void updateSqlBindsIdFirst() {
+        StatementKey statementKey = new StatementKey(StatementKey.Operation.Update, TABLE,
+                MemoColumnKey.Id, MemoColumnKey.MemoName, MemoColumnKey.UpdatedDatetime);
+
+        assertEquals("UPDATE memo_information SET memo_name = ?2, updated_datetime = ?3 WHERE id = ?1",
+                statementKey.getSql());
+    }
+
+    @Test
+    public void selectOnArchiveQualifiesTable() {
+        StatementKey statementKey = new StatementKey(StatementKey.Operation.SelectByPrimaryKey, TABLE, MemoColumnKey.Id);
+
+        assertEquals("SELECT * FROM memo_information WHERE id = ?", statementKey.getSql());
+        assertEquals("SELECT * FROM archive.memo_information WHERE id = ?", statementKey.getSql("archive"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void updateRequiresColumnToUpdate() {
+        new StatementKey(StatementKey.Operation.Update, TABLE, MemoColumnKey.MemoName);
+    }
+}
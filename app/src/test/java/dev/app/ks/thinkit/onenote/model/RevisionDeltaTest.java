@@ -0,0 +1,80 @@
+package dev.app.ks.thinkit.onenote.model;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 版の差分の算出及び適用を検証するテストです。
+ */
+public class RevisionDeltaTest {
+
+    @Test
+    public void diffOfSingleInsertionKeepsOnlyInsertedText() {
+        RevisionDelta delta = RevisionDelta.diff("hello world", "hello brave world");
+
+        assertEquals("brave ", delta.getInsertion());
+        assertEquals(6, delta.getPrefixLength());
+        assertEquals(5, delta.getSuffixLength());
+        assertEquals("hello brave world", delta.apply("hello world"));
+    }
+
+    @Test
+    public void diffOfDeletionHasEmptyInsertion() {
+        RevisionDelta delta = RevisionDelta.diff("abcdef", "abef");
+
+        assertEquals("", delta.getInsertion());
+        assertEquals("abef", delta.apply("abcdef"));
+    }
+
+    @Test
+    public void diffOfRepeatedCharactersDoesNotOverlap() {
+        RevisionDelta delta = RevisionDelta.diff("aaaa", "aaaaaa");
+
+        assertEquals(4, delta.getPrefixLength() + delta.getSuffixLength());
+        assertEquals("aaaaaa", delta.apply("aaaa"));
+    }
+
+    @Test
+    public void checkpointIgnoresPrevious() {
+        RevisionDelta checkpoint = RevisionDelta.checkpoint("full text");
+
+        assertTrue(checkpoint.isCheckpoint());
+        assertEquals("full text", checkpoint.apply(null));
+        assertEquals("full text", checkpoint.apply("unrelated"));
+    }
+
+    @Test
+    public void identicalTextsProduceEmptyDelta() {
+        RevisionDelta delta = RevisionDelta.diff("same", "same");
+
+        assertFalse(delta.isCheckpoint());
+        assertEquals("", delta.getInsertion());
+        assertEquals("same", delta.apply("same"));
+    }
+
+    @Test
+    public void randomEditsRoundTrip() {
+        Random random = new Random(42);
+        String previous = "";
+
+        for (int i = 0; i < 2000; i++) {
+            int start = previous.isEmpty() ? 0 : random.nextInt(previous.length());
+            int end = Math.min(previous.length(), start + random.nextInt(8));
+
+            StringBuilder insertion = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                insertion.append((char) ('a' + random.nextInt(4)));
+            }
+
+            String current = previous.substring(0, start) + insertion + previous.substring(end);
+
+            assertEquals(current, RevisionDelta.diff(previous, current).apply(previous));
+            previous = current;
+        }
+    }
+}